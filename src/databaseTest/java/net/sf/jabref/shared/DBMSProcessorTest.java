@@ -3,8 +3,10 @@ package net.sf.jabref.shared;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -93,6 +95,44 @@ public class DBMSProcessorTest {
         Assert.assertEquals(expectedFieldMap, actualFieldMap);
     }
 
+    @Test
+    public void testInsertEntries() throws SQLException {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+        secondEntry.setType("book");
+        secondEntry.setField("year", "1995");
+        BibEntry emptyEntry = new BibEntry();
+
+        dbmsProcessor.insertEntries(Arrays.asList(firstEntry, secondEntry, emptyEntry));
+
+        Assert.assertEquals(1, firstEntry.getSharedBibEntryData().getSharedID());
+        Assert.assertEquals(2, secondEntry.getSharedBibEntryData().getSharedID());
+        Assert.assertEquals(3, emptyEntry.getSharedBibEntryData().getSharedID());
+
+        dbmsProcessor.insertEntries(Arrays.asList(firstEntry, secondEntry)); // does not insert, due to same sharedIDs.
+
+        Map<Integer, Map<String, String>> actualFieldMaps = new HashMap<>();
+
+        try (ResultSet entryResultSet = selectFrom("ENTRY")) {
+            int count = 0;
+            while (entryResultSet.next()) {
+                count++;
+            }
+            Assert.assertEquals(3, count);
+
+            try (ResultSet fieldResultSet = selectFrom("FIELD")) {
+                while (fieldResultSet.next()) {
+                    actualFieldMaps.computeIfAbsent(fieldResultSet.getInt("ENTRY_SHARED_ID"), id -> new HashMap<>())
+                            .put(fieldResultSet.getString("NAME"), fieldResultSet.getString("VALUE"));
+                }
+            }
+        }
+
+        Assert.assertEquals(firstEntry.getFieldMap(), actualFieldMaps.get(1));
+        Assert.assertEquals(secondEntry.getFieldMap(), actualFieldMaps.get(2));
+        Assert.assertNull(actualFieldMaps.get(3));
+    }
+
     @Test
     public void testUpdateEntry() throws OfflineLockException, SharedEntryNotPresentException, SQLException {
         BibEntry expectedEntry = getBibEntryExample();
@@ -177,6 +217,37 @@ public class DBMSProcessorTest {
         Assert.assertEquals(expectedEntries, actualEntries);
     }
 
+    @Test
+    public void testGetSeveralSharedEntries() {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExampleWithEmptyFields();
+        secondEntry.getSharedBibEntryData().setSharedID(-1);
+
+        dbmsProcessor.insertEntries(Arrays.asList(firstEntry, secondEntry));
+
+        List<BibEntry> expectedEntries = Arrays.asList(firstEntry, secondEntry);
+        List<BibEntry> actualEntries = dbmsProcessor.getSharedEntries();
+
+        Assert.assertEquals(expectedEntries, actualEntries);
+    }
+
+    @Test
+    public void testGetSharedEntriesByIDs() {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExampleWithEmptyFields();
+        secondEntry.getSharedBibEntryData().setSharedID(-1);
+        BibEntry thirdEntry = new BibEntry();
+
+        dbmsProcessor.insertEntries(Arrays.asList(firstEntry, secondEntry, thirdEntry));
+
+        List<BibEntry> expectedEntries = Arrays.asList(firstEntry, thirdEntry);
+        List<BibEntry> actualEntries = dbmsProcessor.getSharedEntries(
+                Arrays.asList(thirdEntry.getSharedBibEntryData().getSharedID(),
+                        firstEntry.getSharedBibEntryData().getSharedID()));
+
+        Assert.assertEquals(expectedEntries, actualEntries);
+    }
+
     @Test
     public void testGetSharedEntry() {
         BibEntry expectedBibEntry = getBibEntryExampleWithEmptyFields();
@@ -199,6 +270,63 @@ public class DBMSProcessorTest {
         Assert.assertFalse(actualBibEntryOptional.isPresent());
     }
 
+    @Test
+    public void testGetEntryChangesSince() throws OfflineLockException, SharedEntryNotPresentException, SQLException {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+        dbmsProcessor.insertEntries(Arrays.asList(firstEntry, secondEntry));
+        int changeID = dbmsProcessor.getLastChangeID();
+
+        Assert.assertTrue(dbmsProcessor.getEntryChangesSince(changeID).isEmpty());
+
+        firstEntry.setField("year", "1995");
+        dbmsProcessor.updateEntry(firstEntry);
+        dbmsProcessor.removeEntry(secondEntry);
+
+        Assert.assertEquals(Arrays.asList(firstEntry.getSharedBibEntryData().getSharedID(),
+                secondEntry.getSharedBibEntryData().getSharedID()),
+                new ArrayList<>(dbmsProcessor.getEntryChangesSince(changeID).values()));
+        Assert.assertEquals(2, dbmsProcessor.getEntryChangesSince(0).size()); // only the last change of an entry is kept
+    }
+
+    @Test
+    public void testRepeatedUpdatesGetIncreasingChangeIDs() throws OfflineLockException, SharedEntryNotPresentException, SQLException {
+        BibEntry bibEntry = getBibEntryExample();
+        dbmsProcessor.insertEntry(bibEntry);
+        int insertChangeID = dbmsProcessor.getLastChangeID();
+
+        bibEntry.setField("year", "1995");
+        dbmsProcessor.updateEntry(bibEntry);
+        int firstUpdateChangeID = dbmsProcessor.getLastChangeID();
+        bibEntry.getSharedBibEntryData().setVersion(2);
+        bibEntry.setField("year", "1996");
+        dbmsProcessor.updateEntry(bibEntry);
+        int secondUpdateChangeID = dbmsProcessor.getLastChangeID();
+
+        Assert.assertTrue(insertChangeID < firstUpdateChangeID);
+        Assert.assertTrue(firstUpdateChangeID < secondUpdateChangeID);
+        Assert.assertEquals(Collections.singletonMap(secondUpdateChangeID, bibEntry.getSharedBibEntryData().getSharedID()),
+                dbmsProcessor.getEntryChangesSince(0));
+    }
+
+    @Test
+    public void testGetSharedEntriesChangedSince() throws OfflineLockException, SharedEntryNotPresentException, SQLException {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+        BibEntry emptyEntry = new BibEntry();
+        dbmsProcessor.insertEntries(Arrays.asList(firstEntry, secondEntry, emptyEntry));
+
+        Assert.assertEquals(Arrays.asList(firstEntry, secondEntry, emptyEntry),
+                dbmsProcessor.getSharedEntriesChangedSince(0));
+
+        int changeID = dbmsProcessor.getLastChangeID();
+        secondEntry.setField("year", "1995");
+        dbmsProcessor.updateEntry(secondEntry);
+        secondEntry.getSharedBibEntryData().setVersion(2);
+
+        Assert.assertEquals(Arrays.asList(secondEntry), dbmsProcessor.getSharedEntriesChangedSince(changeID));
+    }
+
     @Test
     public void testGetSharedIDVersionMapping() throws OfflineLockException, SharedEntryNotPresentException, SQLException {
         BibEntry firstEntry = getBibEntryExample();
@@ -308,6 +436,8 @@ public class DBMSProcessorTest {
             connection.createStatement().executeUpdate("DROP TABLE IF EXISTS " + escape("FIELD"));
             connection.createStatement().executeUpdate("DROP TABLE IF EXISTS " + escape("ENTRY"));
             connection.createStatement().executeUpdate("DROP TABLE IF EXISTS " + escape("METADATA"));
+            connection.createStatement().executeUpdate("DROP TABLE IF EXISTS " + escape("ENTRY_CHANGE"));
+            connection.createStatement().executeUpdate("DROP TABLE IF EXISTS " + escape("ENTRY_CHANGE_COUNTER"));
         } else if (dbmsType == DBMSType.ORACLE) {
             connection.createStatement().executeUpdate(
                     "BEGIN\n" +
@@ -315,6 +445,9 @@ public class DBMSProcessorTest {
                     "EXECUTE IMMEDIATE 'DROP TABLE " + escape("ENTRY") + "';\n" +
                     "EXECUTE IMMEDIATE 'DROP TABLE " + escape("METADATA") + "';\n" +
                     "EXECUTE IMMEDIATE 'DROP SEQUENCE " + escape("ENTRY_SEQ") + "';\n" +
+                    "EXECUTE IMMEDIATE 'DROP TABLE " + escape("ENTRY_CHANGE") + "';\n" +
+                    "EXECUTE IMMEDIATE 'DROP SEQUENCE " + escape("ENTRY_CHANGE_SEQ") + "';\n" +
+                    "EXECUTE IMMEDIATE 'DROP TABLE " + escape("ENTRY_CHANGE_COUNTER") + "';\n" +
                     "EXCEPTION\n" +
                     "WHEN OTHERS THEN\n" +
                     "IF SQLCODE != -942 THEN\n" +
@@ -1,12 +1,15 @@
 package net.sf.jabref.shared;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import net.sf.jabref.BibDatabaseContext;
 import net.sf.jabref.Globals;
@@ -179,6 +182,84 @@ public class DBMSSynchronizerTest {
         Assert.assertEquals(bibDatabase.getEntries(), dbmsProcessor.getSharedEntries());
     }
 
+    @Test
+    public void testSynchronizeChangedEntries() throws OfflineLockException, SharedEntryNotPresentException, SQLException {
+        BibEntry firstEntry = getBibEntryExample(1);
+        BibEntry secondEntry = getBibEntryExample(2);
+        bibDatabase.insertEntry(firstEntry);
+        bibDatabase.insertEntry(secondEntry);
+
+        BibEntry modifiedBibEntry = getBibEntryExample(1);
+        modifiedBibEntry.setField("custom", "custom value");
+        modifiedBibEntry.clearField("title");
+        dbmsProcessor.updateEntry(modifiedBibEntry);
+        dbmsProcessor.removeEntry(secondEntry);
+        dbmsProcessor.insertEntry(getBibEntryExample(3));
+
+        dbmsSynchronizer.synchronizeChangedEntries(); // testing point
+
+        Assert.assertEquals(dbmsProcessor.getSharedEntries(), bibDatabase.getEntries());
+    }
+
+    @Test
+    public void testSynchronizeChangedEntriesWithoutChanges() {
+        BibEntry bibEntry = getBibEntryExample(1);
+        bibDatabase.insertEntry(bibEntry);
+
+        dbmsSynchronizer.synchronizeChangedEntries();
+
+        Assert.assertEquals(Arrays.asList(bibEntry), bibDatabase.getEntries());
+    }
+
+    @Test
+    public void testSynchronizeChangedEntriesWithInterleavedTransactions() throws Exception {
+        BibEntry firstEntry = getBibEntryExample(1);
+        BibEntry secondEntry = getBibEntryExample(2);
+        bibDatabase.insertEntry(firstEntry);
+        bibDatabase.insertEntry(secondEntry);
+        dbmsSynchronizer.synchronizeChangedEntries();
+
+        // the long transaction logs its change first, but does not commit yet
+        Connection longConnection = TestConnector.getTestConnection(dbmsType);
+        DBMSProcessor longProcessor = DBMSProcessor.getProcessorInstance(longConnection, dbmsType);
+        longConnection.setAutoCommit(false);
+        try (PreparedStatement preparedStatement = longConnection.prepareStatement("UPDATE " + escape("ENTRY")
+                + " SET " + escape("TYPE") + " = 'article', " + escape("VERSION") + " = " + escape("VERSION")
+                + " + 1 WHERE " + escape("SHARED_ID") + " = ?")) {
+            preparedStatement.setInt(1, firstEntry.getSharedBibEntryData().getSharedID());
+            preparedStatement.executeUpdate();
+        }
+        longProcessor.logChanges(Collections.singletonList(firstEntry));
+
+        // the later, shorter transaction
+        DBMSProcessor shortProcessor = DBMSProcessor.getProcessorInstance(TestConnector.getTestConnection(dbmsType),
+                dbmsType);
+        BibEntry modifiedSecondEntry = getBibEntryExample(2);
+        modifiedSecondEntry.setField("custom", "custom value");
+        AtomicReference<Exception> shortException = new AtomicReference<>();
+        Thread shortTransaction = new Thread(() -> {
+            try {
+                shortProcessor.updateEntry(modifiedSecondEntry);
+            } catch (OfflineLockException | SharedEntryNotPresentException | SQLException e) {
+                shortException.set(e);
+            }
+        });
+        shortTransaction.start();
+        shortTransaction.join(1000); // gives the short transaction the chance to commit before the long one
+
+        dbmsSynchronizer.synchronizeChangedEntries();
+
+        longConnection.commit();
+        longConnection.setAutoCommit(true);
+        shortTransaction.join();
+        Assert.assertNull(shortException.get());
+
+        dbmsSynchronizer.synchronizeChangedEntries(); // testing point
+
+        Assert.assertEquals(dbmsProcessor.getSharedEntries(), bibDatabase.getEntries());
+        Assert.assertEquals("article", bibDatabase.getEntries().get(0).getType());
+    }
+
     @Test
     public void testApplyMetaData() {
         BibEntry bibEntry = getBibEntryExample(1);
@@ -213,6 +294,8 @@ public class DBMSSynchronizerTest {
             connection.createStatement().executeUpdate("DROP TABLE IF EXISTS " + escape("FIELD"));
             connection.createStatement().executeUpdate("DROP TABLE IF EXISTS " + escape("ENTRY"));
             connection.createStatement().executeUpdate("DROP TABLE IF EXISTS " + escape("METADATA"));
+            connection.createStatement().executeUpdate("DROP TABLE IF EXISTS " + escape("ENTRY_CHANGE"));
+            connection.createStatement().executeUpdate("DROP TABLE IF EXISTS " + escape("ENTRY_CHANGE_COUNTER"));
         } else if (dbmsType == DBMSType.ORACLE) {
             connection.createStatement().executeUpdate(
                     "BEGIN\n" +
@@ -220,6 +303,9 @@ public class DBMSSynchronizerTest {
                     "EXECUTE IMMEDIATE 'DROP TABLE " + escape("ENTRY") + "';\n" +
                     "EXECUTE IMMEDIATE 'DROP TABLE " + escape("METADATA") + "';\n" +
                     "EXECUTE IMMEDIATE 'DROP SEQUENCE " + escape("ENTRY_SEQ") + "';\n" +
+                    "EXECUTE IMMEDIATE 'DROP TABLE " + escape("ENTRY_CHANGE") + "';\n" +
+                    "EXECUTE IMMEDIATE 'DROP SEQUENCE " + escape("ENTRY_CHANGE_SEQ") + "';\n" +
+                    "EXECUTE IMMEDIATE 'DROP TABLE " + escape("ENTRY_CHANGE_COUNTER") + "';\n" +
                     "EXCEPTION\n" +
                     "WHEN OTHERS THEN\n" +
                     "IF SQLCODE != -942 THEN\n" +
@@ -0,0 +1,94 @@
+package net.sf.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import net.sf.jabref.model.entry.AuthorList;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures the throughput of {@link AuthorList#parse(String)} with several threads, as when the main table, the key
+ * generator and background tasks format names at the same time. The statistics of the parse cache are logged
+ * after each trial.
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class AuthorListBenchmarks {
+
+    private static final Log LOGGER = LogFactory.getLog(AuthorListBenchmarks.class);
+
+    private static final String[] FIRST_NAMES = {"John", "Maria", "Wei", "Anna", "Pierre", "Olga", "Kenji", "Laura",
+            "Ahmed", "J. R.", "Hans-Peter", "Emily", "Jose", "Ingrid", "Rajesh", "M."};
+    private static final String[] LAST_NAMES = {"Smith", "Müller", "Zhang", "Rossi", "Dupont", "Ivanova", "Tanaka",
+            "García", "{Van der Waals}", "Nguyen", "O'Neil", "Kowalski", "Johansson", "Patel", "Schmidt", "Brown"};
+
+    /**
+     * Number of different author fields. The largest value does not fit into the cache.
+     */
+    @Param({"1000", "50000", "500000"})
+    private int numberOfAuthorFields;
+
+    private final List<String> authorFields = new ArrayList<>();
+
+
+    @Setup
+    public void init() {
+        Random randomizer = new Random(0);
+        for (int i = 0; i < numberOfAuthorFields; i++) {
+            StringBuilder authors = new StringBuilder();
+            int numberOfAuthors = 1 + randomizer.nextInt(randomizer.nextBoolean() ? 3 : 8);
+            for (int author = 0; author < numberOfAuthors; author++) {
+                if (author > 0) {
+                    authors.append(" and ");
+                }
+                String firstName = FIRST_NAMES[randomizer.nextInt(FIRST_NAMES.length)];
+                String lastName = LAST_NAMES[randomizer.nextInt(LAST_NAMES.length)] + randomizer.nextInt(1000);
+                if (randomizer.nextBoolean()) {
+                    authors.append(lastName).append(", ").append(firstName);
+                } else {
+                    authors.append(firstName).append(' ').append(lastName);
+                }
+            }
+            if ((i % 20) == 0) {
+                authors.append(" and others");
+            }
+            authorFields.add(authors.toString());
+        }
+    }
+
+    @TearDown
+    public void logCacheStats() {
+        LOGGER.info("Author list cache after " + numberOfAuthorFields + " author fields: " + AuthorList.getCacheStats());
+    }
+
+    @Benchmark
+    public AuthorList parse() {
+        // new strings, as the fields of different entries are different instances
+        String authors = authorFields.get(ThreadLocalRandom.current().nextInt(numberOfAuthorFields));
+        return AuthorList.parse(new String(authors));
+    }
+
+    @Benchmark
+    public String parseAndFormat() {
+        String authors = authorFields.get(ThreadLocalRandom.current().nextInt(numberOfAuthorFields));
+        return AuthorList.fixAuthorLastNameFirst(new String(authors));
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -23,6 +23,7 @@ import net.sf.jabref.logic.importer.fileformat.BibtexParser;
 import net.sf.jabref.logic.importer.util.ParseException;
 import net.sf.jabref.logic.layout.format.HTMLChars;
 import net.sf.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import net.sf.jabref.logic.search.FullTextIndex;
 import net.sf.jabref.logic.search.SearchQuery;
 import net.sf.jabref.model.database.BibDatabase;
 import net.sf.jabref.model.database.BibDatabaseMode;
@@ -42,6 +43,7 @@ public class Benchmarks {
 
     private String bibtexString;
     private final BibDatabase database = new BibDatabase();
+    private final FullTextIndex index = new FullTextIndex(database);
     private String latexConversionString;
     private String htmlConversionString;
 
@@ -67,6 +69,9 @@ public class Benchmarks {
                 new SavePreferences());
         bibtexString = saveSession.getStringValue();
 
+        // build the index before measuring
+        index.getMatches(new SearchQuery("", false, false));
+
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
         htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
@@ -98,6 +103,31 @@ public class Benchmarks {
         return matchedEntries;
     }
 
+    @Benchmark
+    public List<BibEntry> searchIndexed() {
+        SearchQuery searchQuery = new SearchQuery("Journal Title 500", false, false);
+        return index.getMatches(searchQuery);
+    }
+
+    @Benchmark
+    public List<BibEntry> searchIndexedPrefix() {
+        SearchQuery searchQuery = new SearchQuery("journ", false, false);
+        return index.getMatches(searchQuery);
+    }
+
+    @Benchmark
+    public List<BibEntry> searchGrammarBased() {
+        SearchQuery searchQuery = new SearchQuery("author = lastnameb500 and year == 1500", false, false);
+        return database.getEntries().stream().filter(searchQuery::isMatch).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<BibEntry> searchGrammarBasedRegularExpression() {
+        SearchQuery searchQuery = new SearchQuery("title|journal = \"title 5[0-9]+\" and not keyword = other", false,
+                true);
+        return database.getEntries().stream().filter(searchQuery::isMatch).collect(Collectors.toList());
+    }
+
     @Benchmark
     public BibDatabaseMode inferBibDatabaseMode() {
         return BibDatabaseModeDetection.inferMode(database);
@@ -0,0 +1,100 @@
+package net.sf.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import net.sf.jabref.model.DuplicateCandidateFinder;
+import net.sf.jabref.model.DuplicateCheck;
+import net.sf.jabref.model.database.BibDatabaseMode;
+import net.sf.jabref.model.entry.BibEntry;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares the exhaustive pairwise duplicate search with the blocking-based {@link DuplicateCandidateFinder}.
+ * The recall of the blocking-based search is logged during setup.
+ */
+@State(Scope.Thread)
+public class DuplicateSearchBenchmarks {
+
+    private static final Log LOGGER = LogFactory.getLog(DuplicateSearchBenchmarks.class);
+
+    private static final String[] WORDS = {"efficient", "bibliography", "management", "duplicate", "detection",
+            "large", "scale", "reference", "library", "analysis", "method", "system", "approach", "data", "model"};
+
+    @Param({"1000", "4000"})
+    private int numberOfEntries;
+
+    private final List<BibEntry> entries = new ArrayList<>();
+
+
+    @Setup
+    public void init() {
+        Random randomizer = new Random(0);
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setType("article");
+            if ((i % 10) == 9) {
+                // every tenth entry is a slightly modified copy of an earlier one
+                BibEntry original = entries.get(randomizer.nextInt(entries.size()));
+                entry.setField(original.getFieldMap());
+                entry.setField("title", "{" + original.getField("title").toUpperCase() + "}");
+                entry.setField("pages", "1--10");
+            } else {
+                StringBuilder title = new StringBuilder();
+                for (int word = 0; word < 6; word++) {
+                    title.append(WORDS[randomizer.nextInt(WORDS.length)]).append(' ');
+                }
+                entry.setField("title", title.toString().trim() + ' ' + i);
+                entry.setField("author", "Firstname Lastname" + randomizer.nextInt(numberOfEntries / 5)
+                        + " and Other Author" + i);
+                entry.setField("journal", "Journal Title " + randomizer.nextInt(50));
+                entry.setField("year", Integer.toString(1990 + randomizer.nextInt(25)));
+            }
+            entries.add(entry);
+        }
+
+        List<List<BibEntry>> expected = exhaustiveSearch();
+        List<List<BibEntry>> found = blockingSearch();
+        LOGGER.info("Recall of blocking search: " + found.size() + " of " + expected.size()
+                + " duplicate pairs found");
+    }
+
+    @Benchmark
+    public List<List<BibEntry>> exhaustiveSearch() {
+        List<List<BibEntry>> duplicates = new ArrayList<>();
+        for (int i = 0; i < (entries.size() - 1); i++) {
+            for (int j = i + 1; j < entries.size(); j++) {
+                if (DuplicateCheck.isDuplicate(entries.get(i), entries.get(j), BibDatabaseMode.BIBTEX)) {
+                    duplicates.add(Arrays.asList(entries.get(i), entries.get(j)));
+                }
+            }
+        }
+        return duplicates;
+    }
+
+    @Benchmark
+    public List<List<BibEntry>> blockingSearch() {
+        return new DuplicateCandidateFinder(entries).findDuplicates(BibDatabaseMode.BIBTEX, false);
+    }
+
+    @Benchmark
+    public List<List<BibEntry>> parallelBlockingSearch() {
+        return new DuplicateCandidateFinder(entries).findDuplicates(BibDatabaseMode.BIBTEX, true);
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,131 @@
+package net.sf.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.model.entry.SharedBibEntryData;
+
+import com.google.common.eventbus.EventBus;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap used by entries.
+ * <p>
+ * Run {@link #main(String[])} to log the retained bytes per entry, both for {@link BibEntry} and for the layout
+ * used before, where every entry had its own hash maps for the fields and the words of the fields, its own copies of
+ * the field names as created by the parser, an event bus and a {@link SharedBibEntryData}. Run the benchmark with
+ * {@code -prof gc} to compare the allocations while creating the entries.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EntryMemoryBenchmarks {
+
+    private static final Log LOGGER = LogFactory.getLog(EntryMemoryBenchmarks.class);
+
+    private static final String[] FIELD_NAMES = {"author", "title", "journal", "year", "volume", "pages",
+            "keywords", "doi", "owner", "timestamp"};
+
+    @Param({"100000"})
+    private int numberOfEntries;
+
+
+    @Benchmark
+    public List<BibEntry> createEntries() {
+        return create(numberOfEntries, EntryMemoryBenchmarks::createEntry);
+    }
+
+    @Benchmark
+    public List<PreviousEntryLayout> createPreviousEntryLayout() {
+        return create(numberOfEntries, PreviousEntryLayout::new);
+    }
+
+    private static <T> List<T> create(int numberOfEntries, IntFunction<T> factory) {
+        List<T> entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            entries.add(factory.apply(i));
+        }
+        return entries;
+    }
+
+    private static BibEntry createEntry(int number) {
+        BibEntry entry = new BibEntry();
+        entry.setType("article");
+        entry.setCiteKey("key" + number);
+        for (String field : FIELD_NAMES) {
+            // the parser creates new strings for the field names
+            entry.setField(new String(field), field + " of entry " + number);
+        }
+        return entry;
+    }
+
+    private static long getUsedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static <T> long getBytesPerEntry(int numberOfEntries, IntFunction<T> factory) {
+        long before = getUsedMemory();
+        List<T> entries = create(numberOfEntries, factory);
+        long after = getUsedMemory();
+        if (entries.size() != numberOfEntries) {
+            throw new IllegalStateException();
+        }
+        return (after - before) / numberOfEntries;
+    }
+
+    public static void main(String[] args) {
+        int numberOfEntries = 100000;
+        // create all classes and strings needed before measuring
+        getBytesPerEntry(1000, EntryMemoryBenchmarks::createEntry);
+        getBytesPerEntry(1000, PreviousEntryLayout::new);
+
+        LOGGER.info("Bytes per entry, including the field values: BibEntry "
+                + getBytesPerEntry(numberOfEntries, EntryMemoryBenchmarks::createEntry) + ", previous entry layout "
+                + getBytesPerEntry(numberOfEntries, PreviousEntryLayout::new));
+    }
+
+
+    /**
+     * The entry as it was before, i.e., a {@link BibEntry} with the parts it used to create for every entry.
+     */
+    public static class PreviousEntryLayout {
+
+        private final BibEntry entry;
+        private final Map<String, String> fields = new HashMap<>();
+        private final Map<String, Set<String>> fieldsAsWords = new HashMap<>();
+        private final EventBus eventBus = new EventBus();
+        private final SharedBibEntryData sharedBibEntryData = new SharedBibEntryData();
+
+
+        PreviousEntryLayout(int number) {
+            // an entry without fields, as its fields are stored in the hash map
+            entry = new BibEntry();
+            entry.setType("article");
+            fields.put(new String(BibEntry.KEY_FIELD), "key" + number);
+            for (String field : FIELD_NAMES) {
+                fields.put(new String(field), field + " of entry " + number);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package net.sf.jabref.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import net.sf.jabref.BibDatabaseContext;
+import net.sf.jabref.Globals;
+import net.sf.jabref.logic.exporter.ExportFormat;
+import net.sf.jabref.logic.journals.JournalAbbreviationLoader;
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures exporting 100k entries with the template based HTML and CSV export formats.
+ */
+@State(Scope.Thread)
+public class ExportBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 100000;
+
+    private BibDatabaseContext databaseContext;
+    private final List<BibEntry> entries = new ArrayList<>();
+    private final ExportFormat htmlExportFormat = new ExportFormat("HTML", "html", "html", null, ".html");
+    private final ExportFormat csvExportFormat = new ExportFormat("OpenOffice/LibreOffice CSV", "oocsv",
+            "openoffice-csv", "openoffice", ".csv");
+    private File exportFile;
+
+
+    @Setup
+    public void init() throws IOException {
+        Globals.prefs = JabRefPreferences.getInstance();
+        Globals.journalAbbreviationLoader = new JournalAbbreviationLoader();
+        databaseContext = new BibDatabaseContext();
+
+        Random randomizer = new Random(0);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setCiteKey("key" + i);
+            entry.setField("author", "Firstname Lastname" + randomizer.nextInt(1000) + " and FirstnameA LastnameA"
+                    + randomizer.nextInt(1000) + " and {\\\"{O}}zg\\\"{u}r Kaya");
+            entry.setField("title", "This is my {Title} " + i);
+            entry.setField("journal", "Journal Title " + randomizer.nextInt(100));
+            entry.setField("year", String.valueOf(1950 + randomizer.nextInt(70)));
+            entry.setField("abstract", "An abstract with some {\\LaTeX} commands like \\emph{this} one " + i);
+            entries.add(entry);
+            databaseContext.getDatabase().insertEntry(entry);
+        }
+        exportFile = File.createTempFile("export", null);
+    }
+
+    @TearDown
+    public void deleteExportFile() {
+        exportFile.delete();
+    }
+
+    @Benchmark
+    public File exportHtml() throws Exception {
+        htmlExportFormat.performExport(databaseContext, exportFile.getPath(), StandardCharsets.UTF_8, entries);
+        return exportFile;
+    }
+
+    @Benchmark
+    public File exportCsv() throws Exception {
+        csvExportFormat.performExport(databaseContext, exportFile.getPath(), StandardCharsets.UTF_8, entries);
+        return exportFile;
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
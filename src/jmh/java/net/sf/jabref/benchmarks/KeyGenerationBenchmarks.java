@@ -0,0 +1,74 @@
+package net.sf.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+
+import net.sf.jabref.Globals;
+import net.sf.jabref.MetaData;
+import net.sf.jabref.logic.bibtexkeypattern.BibtexKeyGenerator;
+import net.sf.jabref.logic.bibtexkeypattern.BibtexKeyPatternPreferences;
+import net.sf.jabref.logic.bibtexkeypattern.BibtexKeyPatternUtil;
+import net.sf.jabref.model.FieldChange;
+import net.sf.jabref.model.bibtexkeypattern.AbstractBibtexKeyPattern;
+import net.sf.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
+import net.sf.jabref.model.database.BibDatabase;
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures generating the keys of all entries of a database with 70k entries, one entry after the other and at once.
+ */
+@State(Scope.Thread)
+public class KeyGenerationBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 70000;
+
+    private static final String KEY_PATTERN = "[auth:lower][year][shorttitle]";
+
+    private final BibDatabase database = new BibDatabase();
+    private MetaData metaData;
+    private final BibtexKeyPatternPreferences preferences = new BibtexKeyPatternPreferences(KEY_PATTERN, "", "",
+            false, true, true);
+
+
+    @Setup
+    public void init() {
+        Globals.prefs = JabRefPreferences.getInstance();
+        metaData = new MetaData();
+        metaData.setBibtexKeyPattern(new GlobalBibtexKeyPattern(AbstractBibtexKeyPattern.split(KEY_PATTERN)));
+
+        Random randomizer = new Random(0);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setField("author", "Firstname Lastname" + randomizer.nextInt(5000) + " and FirstnameA LastnameA");
+            entry.setField("year", String.valueOf(1950 + randomizer.nextInt(70)));
+            entry.setField("title", "On the {Theory} of Topic " + randomizer.nextInt(100));
+            database.insertEntry(entry);
+        }
+    }
+
+    @Benchmark
+    public BibDatabase generateKeysOneAfterTheOther() {
+        for (BibEntry entry : database.getEntries()) {
+            BibtexKeyPatternUtil.makeLabel(metaData, database, entry, preferences);
+        }
+        return database;
+    }
+
+    @Benchmark
+    public List<FieldChange> generateKeysAtOnce() {
+        return new BibtexKeyGenerator(metaData, database, preferences).generateKeys(database.getEntries());
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,62 @@
+package net.sf.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import net.sf.jabref.model.database.BibDatabase;
+import net.sf.jabref.model.entry.BibEntry;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Shows that looking up entries by their bibtex key does not depend on the size of the database.
+ */
+@State(Scope.Thread)
+public class KeyLookupBenchmarks {
+
+    @Param({"1000", "10000", "60000"})
+    private int numberOfEntries;
+
+    private final BibDatabase database = new BibDatabase();
+    private String lastKey;
+
+
+    @Setup
+    public void init() {
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setCiteKey("id" + i);
+            entry.setField("title", "This is my title " + i);
+            entry.setField("crossref", "id" + (i / 2));
+            database.insertEntry(entry);
+        }
+        lastKey = "id" + (numberOfEntries - 1);
+    }
+
+    @Benchmark
+    public Optional<BibEntry> getEntryByKey() {
+        return database.getEntryByKey(lastKey);
+    }
+
+    @Benchmark
+    public List<BibEntry> getEntriesByKey() {
+        return database.getEntriesByKey(lastKey);
+    }
+
+    @Benchmark
+    public Optional<String> resolveCrossrefField() {
+        BibEntry entry = database.getEntries().get(numberOfEntries - 1);
+        return BibDatabase.getResolvedField("journal", entry, database);
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
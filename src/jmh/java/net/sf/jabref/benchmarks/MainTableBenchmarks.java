@@ -0,0 +1,87 @@
+package net.sf.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import net.sf.jabref.Globals;
+import net.sf.jabref.gui.maintable.CellValueCache;
+import net.sf.jabref.gui.maintable.MainTableColumn;
+import net.sf.jabref.model.database.BibDatabase;
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures computing the cell values of a main table with 50k rows, as done when scrolling through the whole table.
+ * The cell values are cached, thus only the first scroll through the table computes them.
+ */
+@State(Scope.Thread)
+public class MainTableBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 50000;
+
+    private final BibDatabase database = new BibDatabase();
+    private List<MainTableColumn> columns;
+    private CellValueCache cellValues;
+
+
+    @Setup
+    public void init() {
+        Globals.prefs = JabRefPreferences.getInstance();
+
+        Random randomizer = new Random(0);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setCiteKey("key" + i);
+            entry.setField("author", "Firstname Lastname" + randomizer.nextInt(1000) + " and FirstnameA LastnameA"
+                    + randomizer.nextInt(1000) + " and {\\\"{O}}zg\\\"{u}r Kaya");
+            entry.setField("editor", "Firstname Editor" + randomizer.nextInt(1000));
+            entry.setField("title", "This is my title " + i);
+            entry.setField("journal", "Journal Title " + randomizer.nextInt(100));
+            entry.setField("year", String.valueOf(1950 + randomizer.nextInt(70)));
+            database.insertEntry(entry);
+        }
+
+        columns = new ArrayList<>();
+        columns.add(new MainTableColumn("entrytype", Collections.singletonList(BibEntry.TYPE_HEADER), database));
+        columns.add(new MainTableColumn("author/editor", Arrays.asList("author", "editor"), database));
+        columns.add(new MainTableColumn("title", Collections.singletonList("title"), database));
+        columns.add(new MainTableColumn("year", Collections.singletonList("year"), database));
+        columns.add(new MainTableColumn("journal", Collections.singletonList("journal"), database));
+        cellValues = new CellValueCache(columns);
+    }
+
+    @Benchmark
+    public List<Object> scrollTable() {
+        return getCellValues(cellValues);
+    }
+
+    @Benchmark
+    public List<Object> scrollTableForTheFirstTime() {
+        return getCellValues(new CellValueCache(columns));
+    }
+
+    private List<Object> getCellValues(CellValueCache cache) {
+        List<Object> cells = new ArrayList<>(NUMBER_OF_ENTRIES * columns.size());
+        for (BibEntry entry : database.getEntries()) {
+            for (int column = 0; column < columns.size(); column++) {
+                cells.add(cache.getValue(entry, column));
+            }
+        }
+        return cells;
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
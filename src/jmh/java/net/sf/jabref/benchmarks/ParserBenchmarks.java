@@ -0,0 +1,116 @@
+package net.sf.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.sf.jabref.Globals;
+import net.sf.jabref.logic.importer.ImportFormatPreferences;
+import net.sf.jabref.logic.importer.ParserResult;
+import net.sf.jabref.logic.importer.fileformat.BibtexParser;
+import net.sf.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares parsing a large synthetic BibTeX file into a database with streaming its entries to a listener.
+ * The file is generated while it is read, so that only the parser itself occupies the heap.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rates, or with a small heap (e.g. {@code -jvmArgs -Xmx256m})
+ * to see that only the streaming parser can handle one million entries.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ParserBenchmarks {
+
+    @Param({"100000", "1000000"})
+    private int numberOfEntries;
+
+    private ImportFormatPreferences importFormatPreferences;
+
+
+    @Setup
+    public void init() {
+        Globals.prefs = JabRefPreferences.getInstance();
+        importFormatPreferences = ImportFormatPreferences.fromPreferences(Globals.prefs);
+    }
+
+    @Benchmark
+    public ParserResult parseIntoDatabase() throws IOException {
+        return new BibtexParser(new SyntheticBibtexReader(numberOfEntries), importFormatPreferences).parse();
+    }
+
+    @Benchmark
+    public int streamEntries() throws IOException {
+        AtomicInteger count = new AtomicInteger();
+        new BibtexParser(new SyntheticBibtexReader(numberOfEntries), importFormatPreferences)
+                .parse(entry -> count.incrementAndGet());
+        return count.get();
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+
+
+    /**
+     * Generates the given number of entries on the fly.
+     */
+    private static class SyntheticBibtexReader extends Reader {
+
+        private final int numberOfEntries;
+        private int nextEntry;
+        private String current = "";
+        private int position;
+
+
+        SyntheticBibtexReader(int numberOfEntries) {
+            this.numberOfEntries = numberOfEntries;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (position == current.length()) {
+                if (nextEntry == numberOfEntries) {
+                    return -1;
+                }
+                current = createEntry(nextEntry++);
+                position = 0;
+            }
+            int count = Math.min(length, current.length() - position);
+            current.getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        private static String createEntry(int number) {
+            return "@Article{key" + number + ",\n"
+                    + "  author  = {Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + number
+                    + "},\n"
+                    + "  title   = {This is my title " + number + "},\n"
+                    + "  journal = {Journal Title " + (number % 100) + "},\n"
+                    + "  year    = {" + (1950 + (number % 70)) + "},\n"
+                    + "  keyword = {testkeyword}\n"
+                    + "}\n\n";
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    }
+}
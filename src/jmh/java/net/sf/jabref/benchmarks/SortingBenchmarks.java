@@ -0,0 +1,110 @@
+package net.sf.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import net.sf.jabref.BibDatabaseContext;
+import net.sf.jabref.Defaults;
+import net.sf.jabref.Globals;
+import net.sf.jabref.MetaData;
+import net.sf.jabref.logic.bibtex.comparator.FieldComparator;
+import net.sf.jabref.logic.bibtex.comparator.FieldComparatorStack;
+import net.sf.jabref.logic.config.SaveOrderConfig;
+import net.sf.jabref.logic.exporter.BibDatabaseWriter;
+import net.sf.jabref.logic.exporter.SavePreferences;
+import net.sf.jabref.model.database.BibDatabase;
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures sorting 100k entries by author, year and title, as done by the main table and when saving a database with
+ * a save order.
+ */
+@State(Scope.Thread)
+public class SortingBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 100000;
+
+    private static final String[] LAST_NAMES = {"Smith", "Müller", "Zhang", "Rossi", "Dupont", "Ivanova", "Tanaka",
+            "García", "{Van der Waals}", "Nguyen", "O'Neil", "Kowalski", "Johansson", "Patel", "Schmidt", "Brown"};
+    private static final String[] MONTHS = {"#jan#", "#feb#", "#mar#", "#apr#", "#may#", "#jun#", "#jul#", "#aug#",
+            "#sep#", "#oct#", "#nov#", "#dec#"};
+
+    private final BibDatabase database = new BibDatabase();
+    private BibDatabaseContext databaseContext;
+    private List<BibEntry> entries;
+    private int numberOfEdits;
+    private final SavePreferences savePreferences = new SavePreferences().withSaveInOriginalOrder(false);
+    private final FieldComparatorStack<BibEntry> tableComparator = new FieldComparatorStack<>(
+            Arrays.asList(new FieldComparator("author/editor"), new FieldComparator("year", true),
+                    new FieldComparator("month"), new FieldComparator("title")));
+
+
+    @Setup
+    public void init() {
+        Globals.prefs = JabRefPreferences.getInstance();
+
+        Random randomizer = new Random(0);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setCiteKey("key" + i);
+            StringBuilder authors = new StringBuilder();
+            int numberOfAuthors = 1 + randomizer.nextInt(4);
+            for (int author = 0; author < numberOfAuthors; author++) {
+                if (author > 0) {
+                    authors.append(" and ");
+                }
+                authors.append(LAST_NAMES[randomizer.nextInt(LAST_NAMES.length)]).append(randomizer.nextInt(100))
+                        .append(", A.");
+            }
+            entry.setField(randomizer.nextInt(10) == 0 ? "editor" : "author", authors.toString());
+            entry.setField("year", String.valueOf(1950 + randomizer.nextInt(70)));
+            entry.setField("month", MONTHS[randomizer.nextInt(MONTHS.length)]);
+            entry.setField("title", "On the Theory of Topic " + randomizer.nextInt(NUMBER_OF_ENTRIES));
+            database.insertEntry(entry);
+        }
+        entries = new ArrayList<>(database.getEntries());
+
+        MetaData metaData = new MetaData();
+        metaData.setSaveOrderConfig(new SaveOrderConfig(false, new SaveOrderConfig.SortCriterion("author", false),
+                new SaveOrderConfig.SortCriterion("year", true), new SaveOrderConfig.SortCriterion("title", false)));
+        databaseContext = new BibDatabaseContext(database, metaData, new Defaults());
+    }
+
+    @Benchmark
+    public List<BibEntry> sortTable() {
+        List<BibEntry> sorted = new ArrayList<>(entries);
+        Collections.shuffle(sorted, new Random(0));
+        sorted.sort(tableComparator);
+        return sorted;
+    }
+
+    @Benchmark
+    public List<BibEntry> sortOnSave() {
+        return BibDatabaseWriter.getSortedEntries(databaseContext, entries, savePreferences);
+    }
+
+    @Benchmark
+    public List<BibEntry> sortAfterEditingOneEntry() {
+        // only the sort keys of the edited entry are computed again
+        entries.get(42).setField("title", "Edited Title " + (numberOfEdits++ % 2));
+        List<BibEntry> sorted = new ArrayList<>(entries);
+        sorted.sort(tableComparator);
+        return sorted;
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
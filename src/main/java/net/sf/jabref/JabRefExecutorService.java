@@ -25,6 +25,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import net.sf.jabref.gui.undo.UndoableInsertEntry;
+import net.sf.jabref.logic.util.io.FileSystemIndex;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -150,6 +151,7 @@ public class JabRefExecutorService implements Executor {
             thread.interrupt();
         }
         startedThreads.clear();
+        FileSystemIndex.getInstance().shutdown();
         // timer doesn't need to be canceled as it is run in daemon mode, which ensures that it is stopped if the application is shut down
     }
 
@@ -21,8 +21,8 @@ import net.sf.jabref.external.AutoSetLinks;
 import net.sf.jabref.gui.importer.fetcher.EntryFetcher;
 import net.sf.jabref.gui.importer.fetcher.EntryFetchers;
 import net.sf.jabref.logic.CustomEntryTypesManager;
+import net.sf.jabref.logic.bibtexkeypattern.BibtexKeyGenerator;
 import net.sf.jabref.logic.bibtexkeypattern.BibtexKeyPatternPreferences;
-import net.sf.jabref.logic.bibtexkeypattern.BibtexKeyPatternUtil;
 import net.sf.jabref.logic.exporter.BibDatabaseWriter;
 import net.sf.jabref.logic.exporter.BibtexDatabaseWriter;
 import net.sf.jabref.logic.exporter.ExportFormats;
@@ -433,11 +433,8 @@ public class ArgumentProcessor {
             MetaData metaData = parserResult.getMetaData();
             if (metaData != null) {
                 LOGGER.info(Localization.lang("Regenerating BibTeX keys according to metadata"));
-                for (BibEntry entry : database.getEntries()) {
-                    // try to make a new label
-                    BibtexKeyPatternUtil.makeLabel(metaData, database, entry,
-                            BibtexKeyPatternPreferences.fromPreferences(Globals.prefs));
-                }
+                new BibtexKeyGenerator(metaData, database, BibtexKeyPatternPreferences.fromPreferences(Globals.prefs))
+                        .generateKeys(database.getEntries());
             } else {
                 LOGGER.info(Localization.lang("No meta data present in BIB_file. Cannot regenerate BibTeX keys"));
             }
@@ -0,0 +1,190 @@
+package net.sf.jabref.collab;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import net.sf.jabref.model.DuplicateCheck;
+import net.sf.jabref.model.entry.BibEntry;
+
+/**
+ * Finds the entries which have been modified, deleted or added in a file changed by another program.
+ * <p>
+ * The entries of the file as it was last saved or loaded ("tmp") are matched against the entries of the changed file
+ * ("disk"). Unchanged entries are matched by their content in a hash map, so the scan takes linear time if only a few
+ * entries changed. A remaining entry is matched with the most similar remaining entry having the same BibTeX key. Only
+ * if there is none, it is compared with all remaining entries using
+ * {@link DuplicateCheck#compareEntriesStrictly(BibEntry, BibEntry)}. The entries in memory corresponding to the "tmp"
+ * entries are found in the same way.
+ */
+class EntryMatcher {
+
+    private static final double MATCH_THRESHOLD = 0.4;
+    private static final int PROGRESS_STEP = 1000;
+
+
+    interface MatchListener {
+
+        void entryModified(BibEntry memEntry, BibEntry tmpEntry, BibEntry diskEntry);
+
+        void entryDeleted(BibEntry memEntry, BibEntry tmpEntry);
+
+        void entryAdded(BibEntry diskEntry);
+    }
+
+
+    private final List<BibEntry> inMem;
+    private final List<BibEntry> inTemp;
+    private final List<BibEntry> onDisk;
+    private final Map<Map<String, String>, BibEntry> memByContent = new HashMap<>();
+    private final Map<String, List<BibEntry>> memByKey = new HashMap<>();
+
+
+    EntryMatcher(List<BibEntry> inMem, List<BibEntry> inTemp, List<BibEntry> onDisk) {
+        this.inMem = Objects.requireNonNull(inMem);
+        this.inTemp = Objects.requireNonNull(inTemp);
+        this.onDisk = Objects.requireNonNull(onDisk);
+    }
+
+    /**
+     * Returns the number of steps reported to the progress consumer of {@link #match(MatchListener, IntConsumer)}.
+     */
+    int getWorkload() {
+        return inTemp.size() + onDisk.size();
+    }
+
+    /**
+     * Reports all changes to the given listener. The "tmp" entries are reported in their order, followed by the added
+     * entries in the order of the changed file.
+     *
+     * @param progress receives the number of steps done so far
+     */
+    void match(MatchListener listener, IntConsumer progress) {
+        index(inMem, memByContent, memByKey);
+
+        Map<Map<String, String>, Deque<BibEntry>> diskByContent = new HashMap<>();
+        for (BibEntry entry : onDisk) {
+            diskByContent.computeIfAbsent(getContent(entry), content -> new ArrayDeque<>()).add(entry);
+        }
+
+        // Find all exact matches first, so that an exact match cannot be "stolen" by a near match
+        Set<BibEntry> used = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<BibEntry> notMatched = new ArrayList<>();
+        int done = 0;
+        for (BibEntry tmp : inTemp) {
+            Deque<BibEntry> identical = diskByContent.get(getContent(tmp));
+            if ((identical == null) || identical.isEmpty()) {
+                notMatched.add(tmp);
+            } else {
+                used.add(identical.poll());
+            }
+            done = reportProgress(progress, done);
+        }
+
+        List<BibEntry> remaining = new ArrayList<>();
+        Map<String, List<BibEntry>> remainingByKey = new HashMap<>();
+        for (BibEntry disk : onDisk) {
+            if (!used.contains(disk)) {
+                remaining.add(disk);
+                disk.getCiteKeyOptional().ifPresent(
+                        key -> remainingByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(disk));
+            }
+        }
+
+        // Look for close matches of the remaining entries. An entry with the same key is taken as modified version
+        for (BibEntry tmp : notMatched) {
+            BibEntry bestMatch = null;
+            double bestScore = 0;
+            List<BibEntry> sameKey = tmp.getCiteKeyOptional().map(remainingByKey::get).orElse(null);
+            if (sameKey != null) {
+                for (BibEntry disk : sameKey) {
+                    double score = used.contains(disk) ? -1 : DuplicateCheck.compareEntriesStrictly(tmp, disk);
+                    if ((score >= 0) && ((bestMatch == null) || (score > bestScore))) {
+                        bestScore = score;
+                        bestMatch = disk;
+                    }
+                }
+            }
+            boolean sameKeyMatch = bestMatch != null;
+            if (!sameKeyMatch) {
+                for (BibEntry disk : remaining) {
+                    double score = used.contains(disk) ? -1 : DuplicateCheck.compareEntriesStrictly(tmp, disk);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        bestMatch = disk;
+                    }
+                }
+            }
+
+            if ((bestMatch != null) && ((bestScore > MATCH_THRESHOLD) || sameKeyMatch)) {
+                used.add(bestMatch);
+                listener.entryModified(findInMemory(tmp), tmp, bestMatch);
+            } else {
+                listener.entryDeleted(findInMemory(tmp), tmp);
+            }
+        }
+
+        // Finally, the untouched entries on disk may have been added, unless they are already in memory
+        for (BibEntry disk : onDisk) {
+            if (!used.contains(disk) && !memByContent.containsKey(getContent(disk))) {
+                listener.entryAdded(disk);
+            }
+            done = reportProgress(progress, done);
+        }
+        progress.accept(done);
+    }
+
+    private static int reportProgress(IntConsumer progress, int done) {
+        int next = done + 1;
+        if ((next % PROGRESS_STEP) == 0) {
+            progress.accept(next);
+        }
+        return next;
+    }
+
+    /**
+     * Finds the entry in memory best fitting the given entry. If no entry gets a score above zero, an entry is still
+     * returned.
+     */
+    private BibEntry findInMemory(BibEntry tmp) {
+        BibEntry identical = memByContent.get(getContent(tmp));
+        if (identical != null) {
+            return identical;
+        }
+
+        List<BibEntry> candidates = tmp.getCiteKeyOptional().map(memByKey::get).orElse(inMem);
+        BibEntry bestFit = candidates.isEmpty() ? null : candidates.get(0);
+        double bestScore = -1;
+        for (BibEntry mem : candidates) {
+            double score = DuplicateCheck.compareEntriesStrictly(tmp, mem);
+            if (score > bestScore) {
+                bestScore = score;
+                bestFit = mem;
+            }
+        }
+        return bestFit;
+    }
+
+    private static void index(List<BibEntry> entries, Map<Map<String, String>, BibEntry> byContent,
+            Map<String, List<BibEntry>> byKey) {
+        for (BibEntry entry : entries) {
+            byContent.putIfAbsent(getContent(entry), entry);
+            entry.getCiteKeyOptional().ifPresent(key -> byKey.computeIfAbsent(key, k -> new ArrayList<>()).add(entry));
+        }
+    }
+
+    /**
+     * Returns the fields of the entry, which are compared by {@link DuplicateCheck#compareEntriesStrictly}.
+     */
+    private static Map<String, String> getContent(BibEntry entry) {
+        return new HashMap<>(entry.getFieldMap());
+    }
+}
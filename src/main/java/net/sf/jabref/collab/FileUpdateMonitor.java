@@ -17,10 +17,18 @@ package net.sf.jabref.collab;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import net.sf.jabref.logic.util.io.FileUtil;
 
@@ -29,39 +37,211 @@ import org.apache.commons.logging.LogFactory;
 
 /**
  * This thread monitors a set of files, each associated with a FileUpdateListener, for changes
- * in the file's last modification time stamp. The
+ * in the file's last modification time stamp or size.
+ * <p>
+ * The directories of the files are registered with a {@link WatchService}, so that the thread sleeps until a file
+ * in one of them changes. Symbolic links are resolved first, as only the directory of the link target notices changes
+ * of the target. Editors often write a file in several steps (e.g., write a temporary file, delete the
+ * original file, and rename), so a file is only checked after it did not change for {@link #QUIET_PERIOD} ms. Files
+ * in directories which cannot be watched, e.g., on some network file systems, are polled every {@link #WAIT} ms. All files are polled if the platform has no
+ * native watch service, as the JDK's fallback polls each watched directory only every 10 s. Even if all files are
+ * watched, the thread wakes up every {@link #WAIT} ms to make the checks requested by {@link #perturbTimestamp(String)}.
+ * <p>
+ * The watch service is closed when the thread is interrupted.
  */
 public class FileUpdateMonitor implements Runnable {
 
     private static final Log LOGGER = LogFactory.getLog(FileUpdateMonitor.class);
 
     private static final int WAIT = 4000;
+    private static final int QUIET_PERIOD = 500;
 
     private int numberOfUpdateListener;
-    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // null if the file system does not support watching
+    private final WatchService watchService;
+    private final Map<Path, WatchKey> watchedDirectories = new HashMap<>();
+
+
+    public FileUpdateMonitor() {
+        watchService = createWatchService();
+    }
+
+    private static WatchService createWatchService() {
+        try {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            if (service.getClass().getSimpleName().equals("PollingWatchService")) {
+                // The JDK emulates the watch service on this platform, more slowly than we poll ourselves
+                LOGGER.info("No native watch service available, polling for changes instead");
+                service.close();
+                return null;
+            }
+            return service;
+        } catch (IOException | UnsupportedOperationException ex) {
+            LOGGER.info("Cannot watch files, polling for changes instead", ex);
+            return null;
+        }
+    }
 
     @Override
     public void run() {
-        // The running variable is used to make the thread stop when needed.
-        while (true) {
-            for(Entry e : entries.values()) {
-                try {
-                    if (e.hasBeenUpdated()) {
-                        e.notifyListener();
+        long nextPoll = System.currentTimeMillis() + WAIT;
+        try {
+            while (true) {
+                long timeout = getNextCheck(nextPoll) - System.currentTimeMillis();
+                WatchKey key = waitForChanges(Math.max(timeout, 1));
+                long now = System.currentTimeMillis();
+                if (key != null) {
+                    handleEvents(key, now);
+                }
+
+                // Check the files which have not changed again during the quiet period
+                for (Entry e : entries.values()) {
+                    if (e.isChanged() && ((now - e.getChangeTime()) >= QUIET_PERIOD)) {
+                        e.resetChange();
+                        check(e);
                     }
-                } catch (IOException ex) {
-                    e.notifyFileRemoved();
+                }
+
+                if (now >= nextPoll) {
+                    for (Entry e : entries.values()) {
+                        if (!e.isWatched()) {
+                            check(e);
+                        }
+                    }
+                    nextPoll = now + WAIT;
                 }
             }
+        } catch (InterruptedException | ClosedWatchServiceException ex) {
+            LOGGER.debug("FileUpdateMonitor has been interrupted. Terminating...", ex);
+        } finally {
+            closeWatchService();
+        }
+    }
 
-            // Sleep for a while before starting a new polling round.
-            try {
-                Thread.sleep(WAIT);
-            } catch (InterruptedException ex) {
-                LOGGER.debug("FileUpdateMonitor has been interrupted. Terminating...", ex);
+    private synchronized void closeWatchService() {
+        if (watchService == null) {
+            return;
+        }
+        watchedDirectories.clear();
+        try {
+            watchService.close();
+        } catch (IOException ex) {
+            LOGGER.info("Cannot close watch service", ex);
+        }
+    }
+
+    /**
+     * Returns the time at which the files have to be checked next, even if no file changes.
+     */
+    private long getNextCheck(long nextPoll) {
+        long nextCheck = nextPoll;
+        for (Entry e : entries.values()) {
+            if (!e.isWatched()) {
+                nextCheck = Math.min(nextCheck, nextPoll);
+            }
+            if (e.isChanged()) {
+                nextCheck = Math.min(nextCheck, e.getChangeTime() + QUIET_PERIOD);
+            }
+        }
+        return nextCheck;
+    }
+
+    /**
+     * Waits until a watched directory changes or the timeout elapses.
+     *
+     * @return the key of the changed directory, or null if the timeout elapsed
+     */
+    private WatchKey waitForChanges(long timeout) throws InterruptedException {
+        if (watchService == null) {
+            Thread.sleep(timeout);
+            return null;
+        }
+        return watchService.poll(timeout, TimeUnit.MILLISECONDS);
+    }
+
+    private void handleEvents(WatchKey key, long now) {
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events got lost, so any file in the directory might have changed
+                markChanged(directory, null, now);
+            } else {
+                markChanged(directory, directory.resolve((Path) event.context()), now);
+            }
+        }
+
+        if (!key.reset()) {
+            // The directory is not accessible anymore, so check its files and poll them from now on
+            synchronized (this) {
+                watchedDirectories.remove(directory);
+            }
+            for (Entry e : entries.values()) {
+                if (directory.equals(e.getDirectory())) {
+                    e.setWatched(false);
+                }
+            }
+            markChanged(directory, null, now);
+        }
+    }
+
+    /**
+     * Marks the entries of the given file as changed, or all entries in the directory if the file is null.
+     */
+    private void markChanged(Path directory, Path file, long now) {
+        for (Entry e : entries.values()) {
+            if (directory.equals(e.getDirectory()) && ((file == null) || file.equals(e.getPath()))) {
+                e.markChanged(now);
+            }
+        }
+    }
+
+    private static void check(Entry e) {
+        try {
+            if (e.hasBeenUpdated()) {
+                e.notifyListener();
+            }
+        } catch (IOException ex) {
+            e.notifyFileRemoved();
+        }
+    }
+
+    /**
+     * Registers the directory with the watch service, if this has not been done before.
+     *
+     * @return true if the directory is watched, false if its files have to be polled
+     */
+    private synchronized boolean watch(Path directory) {
+        if (watchService == null) {
+            return false;
+        }
+        if (watchedDirectories.containsKey(directory)) {
+            return true;
+        }
+        try {
+            watchedDirectories.put(directory, directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY));
+            return true;
+        } catch (IOException | UnsupportedOperationException | ClosedWatchServiceException ex) {
+            LOGGER.info("Cannot watch directory '" + directory + "', polling for changes instead", ex);
+            return false;
+        }
+    }
+
+    /**
+     * Stops watching the directory if no monitored file is left in it.
+     */
+    private synchronized void unwatchIfUnused(Path directory) {
+        for (Entry e : entries.values()) {
+            if (directory.equals(e.getDirectory())) {
                 return;
             }
         }
+        WatchKey key = watchedDirectories.remove(directory);
+        if (key != null) {
+            key.cancel();
+        }
     }
 
     /**
@@ -70,13 +250,15 @@ public class FileUpdateMonitor implements Runnable {
      * @param file File The file to monitor.
      * @throws IOException if the file does not exist.
      */
-    public String addUpdateListener(FileUpdateListener ul, File file) throws IOException {
+    public synchronized String addUpdateListener(FileUpdateListener ul, File file) throws IOException {
         if (!file.exists()) {
             throw new IOException("File not found");
         }
         numberOfUpdateListener++;
         String key = String.valueOf(numberOfUpdateListener);
-        entries.put(key, new Entry(ul, file));
+        Entry entry = new Entry(ul, file);
+        entry.setWatched(watch(entry.getDirectory()));
+        entries.put(key, entry);
         return key;
     }
 
@@ -102,12 +284,15 @@ public class FileUpdateMonitor implements Runnable {
      * the file's timestamp on disk, after this call the file will appear to
      * have been modified. Used if a file has been modified, and the change
      * scan fails, in order to ensure successive checks.
+     * <p>
+     * The file is checked again within {@link #WAIT} ms, also if it is watched and does not change anymore.
      * @param handle the handle to the correct file.
      */
     public void perturbTimestamp(String handle) {
         Entry entry = entries.get(handle);
         if (entry != null) {
             entry.decreaseTimeStamp();
+            entry.markChanged(System.currentTimeMillis());
         }
     }
 
@@ -115,8 +300,11 @@ public class FileUpdateMonitor implements Runnable {
      * Removes a listener from the monitor.
      * @param handle String The handle for the listener to remove.
      */
-    public void removeUpdateListener(String handle) {
-        entries.remove(handle);
+    public synchronized void removeUpdateListener(String handle) {
+        Entry entry = entries.remove(handle);
+        if (entry != null) {
+            unwatchIfUnused(entry.getDirectory());
+        }
     }
 
     public void updateTimeStamp(String key) {
@@ -149,14 +337,19 @@ public class FileUpdateMonitor implements Runnable {
 
         private final FileUpdateListener listener;
         private final File file;
+        private final Path path;
         private final Path tmpFile;
         private long timeStamp;
         private long fileSize;
+        private volatile boolean watched;
+        // the time of the last change notified by the watch service which has not been checked yet, or 0
+        private volatile long changeTime;
 
 
         public Entry(FileUpdateListener ul, File f) {
             listener = ul;
             file = f;
+            path = toRealPath(file.toPath());
             timeStamp = file.lastModified();
             fileSize = file.length();
             tmpFile = FileUpdateMonitor.getTempFile();
@@ -166,6 +359,15 @@ public class FileUpdateMonitor implements Runnable {
             }
         }
 
+        private static Path toRealPath(Path path) {
+            try {
+                return path.toRealPath();
+            } catch (IOException ex) {
+                LOGGER.debug("Cannot resolve '" + path + "', using its absolute path", ex);
+                return path.toAbsolutePath().normalize();
+            }
+        }
+
         /**
          * Check if time stamp or the file size has changed.
          * @throws IOException if the file does no longer exist.
@@ -222,6 +424,38 @@ public class FileUpdateMonitor implements Runnable {
             return tmpFile;
         }
 
+        public Path getPath() {
+            return path;
+        }
+
+        public Path getDirectory() {
+            return path.getParent();
+        }
+
+        public boolean isWatched() {
+            return watched;
+        }
+
+        public void setWatched(boolean watched) {
+            this.watched = watched;
+        }
+
+        public boolean isChanged() {
+            return changeTime != 0L;
+        }
+
+        public long getChangeTime() {
+            return changeTime;
+        }
+
+        public void markChanged(long time) {
+            changeTime = time;
+        }
+
+        public void resetChange() {
+            changeTime = 0L;
+        }
+
         public void decreaseTimeStamp() {
             timeStamp--;
         }
@@ -23,11 +23,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import net.sf.jabref.logic.bibtexkeypattern.BibtexKeyPatternUtil;
+import net.sf.jabref.logic.util.io.FileSystemIndex;
+import net.sf.jabref.logic.util.io.FileSystemIndex.IndexedDirectory;
 import net.sf.jabref.logic.util.strings.StringUtil;
 import net.sf.jabref.model.database.BibDatabase;
 import net.sf.jabref.model.entry.BibEntry;
@@ -55,7 +59,7 @@ public class RegExpFileSearch {
 
     /**
      * Search for file links for a set of entries using regexp. Lists of extensions and directories
-     * are given.
+     * are given. The directories are walked only once, see {@link FileSystemIndex}.
      * @param entries The entries to search for.
      * @param extensions The extensions that are acceptable.
      * @param directories The root directories to search.
@@ -65,9 +69,10 @@ public class RegExpFileSearch {
     public static Map<BibEntry, List<File>> findFilesForSet(List<BibEntry> entries, List<String> extensions,
             List<File> directories, String regExp) {
 
+        List<IndexedDirectory> indexedDirectories = FileSystemIndex.getInstance().getDirectories(directories);
         Map<BibEntry, List<File>> res = new HashMap<>();
         for (BibEntry entry : entries) {
-            res.put(entry, findFiles(entry, extensions, directories, regExp));
+            res.put(entry, findFiles(entry, extensions, indexedDirectories, regExp));
         }
         return res;
     }
@@ -81,8 +86,8 @@ public class RegExpFileSearch {
      * @param regularExpression The expression deciding which names are acceptable.
      * @return A list of files paths matching the given criteria.
      */
-    private static List<File> findFiles(BibEntry entry, List<String> extensions, List<File> directories,
-            String regularExpression) {
+    private static List<File> findFiles(BibEntry entry, List<String> extensions,
+            List<IndexedDirectory> directories, String regularExpression) {
 
         String extensionRegExp = '(' + String.join("|", extensions) + ')';
 
@@ -127,10 +132,11 @@ public class RegExpFileSearch {
      * @return Will return the first file found to match the given criteria or
      *         null if none was found.
      */
-    private static List<File> findFile(BibEntry entry, List<File> dirs, String file, String extensionRegExp) {
+    private static List<File> findFile(BibEntry entry, List<IndexedDirectory> dirs, String file,
+            String extensionRegExp) {
         List<File> res = new ArrayList<>();
-        for (File directory : dirs) {
-            res.addAll(findFile(entry, directory.getPath(), file, extensionRegExp));
+        for (IndexedDirectory directory : dirs) {
+            res.addAll(findFile(entry, directory, file, extensionRegExp));
         }
         return res;
     }
@@ -140,18 +146,11 @@ public class RegExpFileSearch {
      * base the search on.
      *
      */
-    private static List<File> findFile(BibEntry entry, String directory, String file, String extensionRegExp) {
+    private static List<File> findFile(BibEntry entry, IndexedDirectory directory, String file,
+            String extensionRegExp) {
 
-        File root;
-        if (directory == null) {
-            root = new File(".");
-        } else {
-            root = new File(directory);
-        }
-        if (!root.exists()) {
-            return Collections.emptyList();
-        }
-        List<File> fileList = RegExpFileSearch.findFile(entry, root, file, extensionRegExp);
+        File root = directory.getDirectory();
+        List<File> fileList = RegExpFileSearch.findFile(entry, root, file, extensionRegExp, directory);
 
         List<File> result = new ArrayList<>();
         for (File tmpFile : fileList) {
@@ -179,8 +178,10 @@ public class RegExpFileSearch {
     /**
      * The actual work-horse. Will find absolute filepaths starting from the
      * given directory using the given regular expression string for search.
+     * The directories below the root are listed using its index.
      */
-    private static List<File> findFile(BibEntry entry, File directory, String file, String extensionRegExp) {
+    private static List<File> findFile(BibEntry entry, File directory, String file, String extensionRegExp,
+            IndexedDirectory root) {
 
         List<File> res = new ArrayList<>();
 
@@ -223,39 +224,37 @@ public class RegExpFileSearch {
                 continue;
             }
             if ("*".equals(dirToProcess)) { // Do for all direct subdirs
-
-                File[] subDirs = actualDirectory.listFiles();
-                if (subDirs != null) {
-                    String restOfFileString = StringUtil.join(fileParts, "/", i + 1, fileParts.length);
-                    for (File subDir : subDirs) {
-                        if (subDir.isDirectory()) {
-                            res.addAll(findFile(entry, subDir, restOfFileString, extensionRegExp));
-                        }
-                    }
+                String restOfFileString = StringUtil.join(fileParts, "/", i + 1, fileParts.length);
+                for (File subDir : getSubdirectories(actualDirectory, root)) {
+                    res.addAll(findFile(entry, subDir, restOfFileString, extensionRegExp, root));
                 }
             }
             // Do for all direct and indirect subdirs
             if ("**".equals(dirToProcess)) {
-                List<File> toDo = new LinkedList<>();
-                toDo.add(actualDirectory);
-
                 String restOfFileString = StringUtil.join(fileParts, "/", i + 1, fileParts.length);
 
-                while (!toDo.isEmpty()) {
-
-                    // Get all subdirs of each of the elements found in toDo
-                    File[] subDirs = toDo.remove(0).listFiles();
-                    if (subDirs == null) {
-                        continue;
+                if ((i == (fileParts.length - 2)) && root.containsDirectory(actualDirectory)) {
+                    // Only the file name is left: look it up in the index instead of visiting every subdir
+                    Pattern toMatch = getFileNamePattern(entry, restOfFileString, extensionRegExp);
+                    String nameContains = getRequiredText(toMatch.pattern()).orElse("");
+                    for (File candidate : root.getFilesBelow(actualDirectory, nameContains)) {
+                        if (toMatch.matcher(candidate.getName()).matches()) {
+                            res.add(candidate);
+                        }
                     }
+                } else {
+                    List<File> toDo = new LinkedList<>();
+                    toDo.add(actualDirectory);
+
+                    while (!toDo.isEmpty()) {
 
-                    toDo.addAll(Arrays.asList(subDirs));
+                        // Get all subdirs of each of the elements found in toDo
+                        List<File> subDirs = getSubdirectories(toDo.remove(0), root);
+                        toDo.addAll(subDirs);
 
-                    for (File subDir : subDirs) {
-                        if (!subDir.isDirectory()) {
-                            continue;
+                        for (File subDir : subDirs) {
+                            res.addAll(findFile(entry, subDir, restOfFileString, extensionRegExp, root));
                         }
-                        res.addAll(findFile(entry, subDir, restOfFileString, extensionRegExp));
                     }
                 }
 
@@ -263,18 +262,101 @@ public class RegExpFileSearch {
         }
 
         // Last step: check if the given file can be found in this directory
-        String filePart = fileParts[fileParts.length - 1].replace("[extension]", EXT_MARKER);
+        final Pattern toMatch = getFileNamePattern(entry, fileParts[fileParts.length - 1], extensionRegExp);
+
+        if (root.containsDirectory(actualDirectory)) {
+            for (File candidate : root.getFilesIn(actualDirectory)) {
+                if (toMatch.matcher(candidate.getName()).matches()) {
+                    res.add(candidate);
+                }
+            }
+        } else {
+            File[] matches = actualDirectory.listFiles((arg0, arg1) -> {
+                return toMatch.matcher(arg1).matches();
+            });
+            if ((matches != null) && (matches.length > 0)) {
+                Collections.addAll(res, matches);
+            }
+        }
+        return res;
+    }
+
+    private static Pattern getFileNamePattern(BibEntry entry, String fileNamePart, String extensionRegExp) {
+        String filePart = fileNamePart.replace("[extension]", EXT_MARKER);
         String filenameToLookFor = expandBrackets(filePart, entry, null).replaceAll(EXT_MARKER, extensionRegExp);
-        final Pattern toMatch = Pattern.compile('^' + filenameToLookFor.replaceAll("\\\\\\\\", "\\\\") + '$',
+        return Pattern.compile('^' + filenameToLookFor.replaceAll("\\\\\\\\", "\\\\") + '$',
                 Pattern.CASE_INSENSITIVE);
+    }
 
-        File[] matches = actualDirectory.listFiles((arg0, arg1) -> {
-            return toMatch.matcher(arg1).matches();
-        });
-        if ((matches != null) && (matches.length > 0)) {
-            Collections.addAll(res, matches);
+    /**
+     * Returns the subdirectories of the given directory, using the index of the root if the directory is below it.
+     * Directories outside the root can be reached with "..".
+     */
+    private static List<File> getSubdirectories(File directory, IndexedDirectory root) {
+        if (root.containsDirectory(directory)) {
+            return root.getSubdirectories(directory);
         }
-        return res;
+
+        File[] subDirs = directory.listFiles(File::isDirectory);
+        if (subDirs == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(subDirs);
+    }
+
+    /**
+     * Returns the longest text (in lower case) which is contained in every string matched by the given regular
+     * expression, or an empty Optional if there is no such text or it cannot be determined easily. Only letters and
+     * digits outside of groups, character classes and escapes are taken as literal text.
+     */
+    static Optional<String> getRequiredText(String regularExpression) {
+        String longest = "";
+        StringBuilder current = new StringBuilder();
+        int depth = 0;
+        boolean inClass = false;
+        for (int i = 0; i < regularExpression.length(); i++) {
+            char c = regularExpression.charAt(i);
+            boolean literal = false;
+            if (c == '\\') {
+                // an escape sequence like \d or \.
+                i++;
+            } else if (inClass) {
+                inClass = c != ']';
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if ((c == '|') && (depth == 0)) {
+                // alternatives on the top level do not have a common text
+                return Optional.empty();
+            } else if ((c == '*') || (c == '?') || (c == '{')) {
+                // the preceding character is optional
+                if (current.length() > 0) {
+                    current.setLength(current.length() - 1);
+                }
+                if (c == '{') {
+                    int end = regularExpression.indexOf('}', i);
+                    i = end < 0 ? regularExpression.length() : end;
+                }
+            } else {
+                literal = (depth == 0) && Character.isLetterOrDigit(c);
+            }
+
+            if (literal) {
+                current.append(c);
+            } else {
+                if (current.length() > longest.length()) {
+                    longest = current.toString();
+                }
+                current.setLength(0);
+            }
+        }
+        if (current.length() > longest.length()) {
+            longest = current.toString();
+        }
+        return longest.isEmpty() ? Optional.empty() : Optional.of(longest.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -331,7 +413,7 @@ public class RegExpFileSearch {
 
         // If no field value was found, try to interpret it as a key generator field marker:
         String fieldValue = BibDatabase.getResolvedField(beforeColon, entry, database)
-                .orElse(BibtexKeyPatternUtil.makeLabel(entry, beforeColon));
+                .orElse(BibtexKeyPatternUtil.makeLabel(entry, beforeColon, database));
 
         if (fieldValue == null) {
             return "";
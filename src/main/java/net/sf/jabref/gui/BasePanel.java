@@ -110,18 +110,20 @@ import net.sf.jabref.logic.autocompleter.AutoCompletePreferences;
 import net.sf.jabref.logic.autocompleter.AutoCompleter;
 import net.sf.jabref.logic.autocompleter.AutoCompleterFactory;
 import net.sf.jabref.logic.autocompleter.ContentAutoCompleters;
+import net.sf.jabref.logic.bibtexkeypattern.BibtexKeyGenerator;
 import net.sf.jabref.logic.bibtexkeypattern.BibtexKeyPatternPreferences;
-import net.sf.jabref.logic.bibtexkeypattern.BibtexKeyPatternUtil;
 import net.sf.jabref.logic.exporter.BibtexDatabaseWriter;
 import net.sf.jabref.logic.exporter.FileSaveSession;
 import net.sf.jabref.logic.exporter.SaveException;
 import net.sf.jabref.logic.exporter.SavePreferences;
 import net.sf.jabref.logic.exporter.SaveSession;
+import net.sf.jabref.logic.groups.GroupMembershipIndex;
 import net.sf.jabref.logic.l10n.Encodings;
 import net.sf.jabref.logic.l10n.Localization;
 import net.sf.jabref.logic.layout.Layout;
 import net.sf.jabref.logic.layout.LayoutFormatterPreferences;
 import net.sf.jabref.logic.layout.LayoutHelper;
+import net.sf.jabref.logic.search.FullTextIndex;
 import net.sf.jabref.logic.util.UpdateField;
 import net.sf.jabref.logic.util.io.FileBasedLock;
 import net.sf.jabref.logic.util.io.FileUtil;
@@ -135,6 +137,7 @@ import net.sf.jabref.model.entry.FieldName;
 import net.sf.jabref.model.entry.IdGenerator;
 import net.sf.jabref.model.event.EntryAddedEvent;
 import net.sf.jabref.model.event.EntryChangedEvent;
+import net.sf.jabref.model.event.FieldChangedEvent;
 import net.sf.jabref.preferences.HighlightMatchingGroupPreferences;
 import net.sf.jabref.preferences.JabRefPreferences;
 import net.sf.jabref.shared.DBMSSynchronizer;
@@ -220,6 +223,9 @@ public class BasePanel extends JPanel implements ClipboardOwner, FileUpdateListe
     private final SidePaneManager sidePaneManager;
 
     private final SearchBar searchBar;
+    // Index used by the search bar, built on the first search
+    private final FullTextIndex fullTextIndex;
+    private final GroupMembershipIndex groupMembershipIndex;
     private ContentAutoCompleters autoCompleters;
 
 
@@ -233,6 +239,8 @@ public class BasePanel extends JPanel implements ClipboardOwner, FileUpdateListe
         this.frame = frame;
         this.tableModel = new MainTableDataModel(getBibDatabaseContext());
 
+        fullTextIndex = new FullTextIndex(bibDatabaseContext.getDatabase());
+        groupMembershipIndex = new GroupMembershipIndex(bibDatabaseContext.getDatabase());
         searchBar = new SearchBar(this);
 
         setupMainPanel();
@@ -489,12 +497,11 @@ public class BasePanel extends JPanel implements ClipboardOwner, FileUpdateListe
                 final NamedCompound ce = new NamedCompound(Localization.lang("Autogenerate BibTeX keys"));
 
                 // Finally, set the new keys:
+                new BibtexKeyGenerator(bibDatabaseContext.getMetaData(), bibDatabaseContext.getDatabase(),
+                        BibtexKeyPatternPreferences.fromPreferences(Globals.prefs)).generateKeys(entries);
                 for (BibEntry entry : entries) {
-                    bes = entry;
-                    BibtexKeyPatternUtil.makeLabel(bibDatabaseContext.getMetaData(), bibDatabaseContext.getDatabase(),
-                            bes, BibtexKeyPatternPreferences.fromPreferences(Globals.prefs));
-                    ce.addEdit(new UndoableKeyChange(bibDatabaseContext.getDatabase(), bes, (String) oldvals.get(bes),
-                            bes.getCiteKeyOptional().orElse(null)));
+                    ce.addEdit(new UndoableKeyChange(bibDatabaseContext.getDatabase(), entry,
+                            (String) oldvals.get(entry), entry.getCiteKeyOptional().orElse(null)));
                 }
                 ce.end();
                 getUndoManager().addEdit(ce);
@@ -825,6 +832,7 @@ public class BasePanel extends JPanel implements ClipboardOwner, FileUpdateListe
             // for the first inserted entry.
             BibEntry firstBE = null;
 
+            List<BibEntry> pastedEntries = new ArrayList<>(bes.size());
             for (BibEntry be1 : bes) {
 
                 BibEntry be = (BibEntry) be1.clone();
@@ -840,11 +848,13 @@ public class BasePanel extends JPanel implements ClipboardOwner, FileUpdateListe
                 // independently of the copied
                 // ones.
                 be.setId(IdGenerator.next());
-                bibDatabaseContext.getDatabase().insertEntry(be);
+                pastedEntries.add(be);
 
                 ce.addEdit(new UndoableInsertEntry(bibDatabaseContext.getDatabase(), be, BasePanel.this));
 
             }
+            // inserted at once, so that a shared database receives them in one transaction
+            bibDatabaseContext.getDatabase().insertEntries(pastedEntries);
             ce.end();
             getUndoManager().addEdit(ce);
             output(formatOutputMessage(Localization.lang("Pasted"), bes.size()));
@@ -1192,6 +1202,14 @@ public class BasePanel extends JPanel implements ClipboardOwner, FileUpdateListe
         return searchBar;
     }
 
+    public FullTextIndex getFullTextIndex() {
+        return fullTextIndex;
+    }
+
+    public GroupMembershipIndex getGroupMembershipIndex() {
+        return groupMembershipIndex;
+    }
+
 
     private class GroupTreeListener {
 
@@ -1274,7 +1292,14 @@ public class BasePanel extends JPanel implements ClipboardOwner, FileUpdateListe
 
         @Subscribe
         public void listen(EntryChangedEvent entryChangedEvent) {
-            searchAutoCompleter.addBibtexEntry(entryChangedEvent.getBibEntry());
+            // the search auto completer ignores the changes of fields other than the person name fields
+            if (entryChangedEvent instanceof FieldChangedEvent) {
+                FieldChangedEvent fieldChangedEvent = (FieldChangedEvent) entryChangedEvent;
+                searchAutoCompleter.updateField(fieldChangedEvent.getFieldName(), fieldChangedEvent.getOldValue(),
+                        fieldChangedEvent.getNewValue());
+            } else {
+                searchAutoCompleter.addBibtexEntry(entryChangedEvent.getBibEntry());
+            }
         }
     }
 
@@ -1291,7 +1316,13 @@ public class BasePanel extends JPanel implements ClipboardOwner, FileUpdateListe
 
         @Subscribe
         public void listen(EntryChangedEvent entryChangedEvent) {
-            BasePanel.this.autoCompleters.addEntry(entryChangedEvent.getBibEntry());
+            if (entryChangedEvent instanceof FieldChangedEvent) {
+                FieldChangedEvent fieldChangedEvent = (FieldChangedEvent) entryChangedEvent;
+                BasePanel.this.autoCompleters.updateEntryField(fieldChangedEvent.getFieldName(),
+                        fieldChangedEvent.getOldValue(), fieldChangedEvent.getNewValue());
+            } else {
+                BasePanel.this.autoCompleters.addEntry(entryChangedEvent.getBibEntry());
+            }
         }
     }
 
@@ -1924,20 +1955,22 @@ public class BasePanel extends JPanel implements ClipboardOwner, FileUpdateListe
     public void autoGenerateKeysBeforeSaving() {
         if (Globals.prefs.getBoolean(JabRefPreferences.GENERATE_KEYS_BEFORE_SAVING)) {
             NamedCompound ce = new NamedCompound(Localization.lang("Autogenerate BibTeX keys"));
-            boolean any = false;
+            List<BibEntry> entriesWithoutKey = new ArrayList<>();
 
             for (BibEntry bes : bibDatabaseContext.getDatabase().getEntries()) {
                 Optional<String> oldKey = bes.getCiteKeyOptional();
                 if (!(oldKey.isPresent()) || oldKey.get().isEmpty()) {
-                    BibtexKeyPatternUtil.makeLabel(bibDatabaseContext.getMetaData(), bibDatabaseContext.getDatabase(),
-                            bes, BibtexKeyPatternPreferences.fromPreferences(Globals.prefs));
-                    ce.addEdit(new UndoableKeyChange(bibDatabaseContext.getDatabase(), bes, null,
-                            bes.getCiteKeyOptional().get())); // Cite key is set here
-                    any = true;
+                    entriesWithoutKey.add(bes);
                 }
             }
+            new BibtexKeyGenerator(bibDatabaseContext.getMetaData(), bibDatabaseContext.getDatabase(),
+                    BibtexKeyPatternPreferences.fromPreferences(Globals.prefs)).generateKeys(entriesWithoutKey);
+            for (BibEntry bes : entriesWithoutKey) {
+                ce.addEdit(new UndoableKeyChange(bibDatabaseContext.getDatabase(), bes, null,
+                        bes.getCiteKeyOptional().get())); // Cite key is set here
+            }
             // Store undo information, if any:
-            if (any) {
+            if (!entriesWithoutKey.isEmpty()) {
                 ce.end();
                 getUndoManager().addEdit(ce);
             }
@@ -29,7 +29,6 @@ import java.awt.datatransfer.StringSelection;
 import java.awt.datatransfer.Transferable;
 import java.awt.datatransfer.UnsupportedFlavorException;
 import java.io.IOException;
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -39,7 +38,6 @@ import net.sf.jabref.logic.importer.ImportFormatPreferences;
 import net.sf.jabref.logic.importer.fetcher.DOItoBibTeX;
 import net.sf.jabref.logic.importer.fileformat.BibtexParser;
 import net.sf.jabref.logic.util.DOI;
-import net.sf.jabref.model.database.BibDatabase;
 import net.sf.jabref.model.entry.BibEntry;
 
 import org.apache.commons.logging.Log;
@@ -113,12 +111,11 @@ public class ClipBoardManager implements ClipboardOwner {
                     entry.ifPresent(result::add);
                 } else {
                     // parse bibtex string
-                    BibtexParser bp = new BibtexParser(new StringReader(data),
+                    List<BibEntry> entries = BibtexParser.fromString(data,
                             ImportFormatPreferences.fromPreferences(Globals.prefs));
-                    BibDatabase db = bp.parse().getDatabase();
-                    LOGGER.info("Parsed " + db.getEntryCount() + " entries from clipboard text");
-                    if (db.hasEntries()) {
-                        result = db.getEntries();
+                    LOGGER.info("Parsed " + entries.size() + " entries from clipboard text");
+                    if (!entries.isEmpty()) {
+                        result = entries;
                     }
                 }
             } catch (UnsupportedFlavorException ex) {
@@ -22,7 +22,6 @@
 package net.sf.jabref.gui;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import javax.swing.SwingUtilities;
@@ -36,6 +35,7 @@ import net.sf.jabref.gui.undo.UndoableInsertEntry;
 import net.sf.jabref.gui.undo.UndoableRemoveEntry;
 import net.sf.jabref.gui.worker.CallBack;
 import net.sf.jabref.logic.l10n.Localization;
+import net.sf.jabref.model.DuplicateCandidateFinder;
 import net.sf.jabref.model.DuplicateCheck;
 import net.sf.jabref.model.entry.BibEntry;
 
@@ -171,21 +171,15 @@ public class DuplicateSearch implements Runnable {
 
         @Override
         public void run() {
-            for (int i = 0; (i < (bes.size() - 1)) && !finished; i++) {
-                for (int j = i + 1; (j < bes.size()) && !finished; j++) {
-                    BibEntry first = bes.get(i);
-                    BibEntry second = bes.get(j);
-                    boolean eq = DuplicateCheck.isDuplicate(first, second, panel.getBibDatabaseContext().getMode());
-
-                    // If (suspected) duplicates, add them to the duplicates vector.
-                    if (eq) {
+            new DuplicateCandidateFinder(bes)
+                    .streamDuplicates(panel.getBibDatabaseContext().getMode(), false, pair -> !finished)
+                    .forEach(pair -> {
+                        // If (suspected) duplicates, add them to the duplicates vector.
                         synchronized (duplicates) {
-                            duplicates.add(Arrays.asList(first, second));
+                            duplicates.add(pair);
                             duplicates.notifyAll(); // send wake up all
                         }
-                    }
-                }
-            }
+                    });
             finished = true;
             // if no duplicates found, the graphical thread will never wake up
             synchronized (duplicates) {
@@ -91,7 +91,6 @@ import net.sf.jabref.gui.util.FocusRequester;
 import net.sf.jabref.gui.util.component.CheckBoxMessage;
 import net.sf.jabref.gui.util.component.VerticalLabelUI;
 import net.sf.jabref.logic.TypedBibEntry;
-import net.sf.jabref.logic.autocompleter.AutoCompleter;
 import net.sf.jabref.logic.bibtex.BibEntryWriter;
 import net.sf.jabref.logic.bibtex.LatexFieldFormatter;
 import net.sf.jabref.logic.bibtex.LatexFieldFormatterPreferences;
@@ -1201,11 +1200,7 @@ public class EntryEditor extends JPanel implements EntryContainer {
 
                         fieldEditor.setValidBackgroundColor();
 
-                        // See if we need to update an AutoCompleter instance:
-                        AutoCompleter<String> aComp = panel.getAutoCompleters().get(fieldEditor.getFieldName());
-                        if (aComp != null) {
-                            aComp.addBibtexEntry(entry);
-                        }
+                        // The AutoCompleter instances are updated by the FieldChangedEvent
 
                         // Add an UndoableFieldChange to the baseframe's undoManager.
                         UndoableFieldChange undoableFieldChange = new UndoableFieldChange(entry, fieldEditor.getFieldName(), oldValue, toSet);
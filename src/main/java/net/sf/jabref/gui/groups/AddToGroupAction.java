@@ -85,9 +85,9 @@ public class AddToGroupAction extends AbstractAction {
     }
 
     public void moveToGroup(List<BibEntry> entries, NamedCompound undoAll) {
-        List<GroupTreeNode> groupsContainingEntries =
-                node.getNode().getRoot().getContainingGroups(entries, false).stream().filter(node -> node.getGroup().supportsRemove()).collect(
-                        Collectors.toList());
+        List<GroupTreeNode> groupsContainingEntries = panel.getGroupMembershipIndex()
+                .getContainingGroups(node.getNode().getRoot(), entries, false).stream()
+                .filter(node -> node.getGroup().supportsRemove()).collect(Collectors.toList());
 
         List<AbstractGroup> affectedGroups = groupsContainingEntries.stream().map(GroupTreeNode::getGroup).collect(
                 Collectors.toList());
@@ -76,10 +76,6 @@ import net.sf.jabref.logic.groups.GroupTreeNode;
 import net.sf.jabref.logic.groups.MoveGroupChange;
 import net.sf.jabref.logic.help.HelpFile;
 import net.sf.jabref.logic.l10n.Localization;
-import net.sf.jabref.logic.search.SearchMatcher;
-import net.sf.jabref.logic.search.matchers.MatcherSet;
-import net.sf.jabref.logic.search.matchers.MatcherSets;
-import net.sf.jabref.logic.search.matchers.NotMatcher;
 import net.sf.jabref.model.entry.BibEntry;
 import net.sf.jabref.preferences.JabRefPreferences;
 
@@ -581,15 +577,11 @@ public class GroupSelector extends SidePaneComponent implements TreeSelectionLis
     }
 
     private void updateShownEntriesAccordingToSelectedGroups() {
-        final MatcherSet searchRules = MatcherSets
-                .build(andCb.isSelected() ? MatcherSets.MatcherType.AND : MatcherSets.MatcherType.OR);
-
-        for(GroupTreeNodeViewModel node : getLeafsOfSelection()) {
-            SearchMatcher searchRule = node.getNode().getSearchRule();
-            searchRules.addRule(searchRule);
+        List<GroupTreeNode> selectedNodes = new ArrayList<>();
+        for (GroupTreeNodeViewModel node : getLeafsOfSelection()) {
+            selectedNodes.add(node.getNode());
         }
-        SearchMatcher searchRule = invCb.isSelected() ? new NotMatcher(searchRules) : searchRules;
-        GroupingWorker worker = new GroupingWorker(searchRule);
+        GroupingWorker worker = new GroupingWorker(selectedNodes);
         worker.getWorker().run();
         worker.getCallBack().update();
     }
@@ -617,23 +609,27 @@ public class GroupSelector extends SidePaneComponent implements TreeSelectionLis
 
     class GroupingWorker extends AbstractWorker {
 
-        private final SearchMatcher matcher;
-        private final List<BibEntry> matches = new ArrayList<>();
+        private final List<GroupTreeNode> nodes;
+        private final boolean requireAll;
+        private final boolean invert;
+        private List<BibEntry> matches = new ArrayList<>();
         private final boolean showOverlappingGroupsP;
 
-        public GroupingWorker(SearchMatcher matcher) {
-            this.matcher = matcher;
+        public GroupingWorker(List<GroupTreeNode> nodes) {
+            this.nodes = nodes;
+            requireAll = andCb.isSelected();
+            invert = invCb.isSelected();
             showOverlappingGroupsP = showOverlappingGroups.isSelected();
         }
 
         @Override
         public void run() {
+            matches = panel.getGroupMembershipIndex().getMatchingEntries(nodes, requireAll, invert);
             for (BibEntry entry : panel.getDatabase().getEntries()) {
-                boolean hit = matcher.isMatch(entry);
-                entry.setGroupHit(hit);
-                if (hit && showOverlappingGroupsP) {
-                    matches.add(entry);
-                }
+                entry.setGroupHit(false);
+            }
+            for (BibEntry entry : matches) {
+                entry.setGroupHit(true);
             }
         }
 
@@ -690,6 +686,10 @@ public class GroupSelector extends SidePaneComponent implements TreeSelectionLis
      */
     private void revalidateGroups(TreePath[] selectionPaths, Enumeration<TreePath> expandedNodes,
             GroupTreeNodeViewModel node) {
+        if ((panel != null) && (groupsRoot != null)) {
+            // forget the members of groups which have been removed or replaced meanwhile
+            panel.getGroupMembershipIndex().retainGroupsOf(groupsRoot.getNode());
+        }
         groupsTree.clearSelection();
         if (selectionPaths != null) {
             groupsTree.setSelectionPaths(selectionPaths);
@@ -1252,7 +1252,8 @@ public class GroupSelector extends SidePaneComponent implements TreeSelectionLis
             groupsTree.revalidate();
             return;
         }
-        List<GroupTreeNode> nodeList = groupsRoot.getNode().getContainingGroups(list, requireAll);
+        List<GroupTreeNode> nodeList = panel.getGroupMembershipIndex().getContainingGroups(groupsRoot.getNode(), list,
+                requireAll);
         groupsTree.setMatchingGroups(nodeList);
         // ensure that all highlighted nodes are visible
         for (GroupTreeNode node : nodeList) {
@@ -1266,7 +1267,7 @@ public class GroupSelector extends SidePaneComponent implements TreeSelectionLis
      * Show groups that, if selected, would show at least one of the entries in the specified list.
      */
     private void showOverlappingGroups(List<BibEntry> matches) {
-        List<GroupTreeNode> nodes = groupsRoot.getNode().getMatchingGroups(matches);
+        List<GroupTreeNode> nodes = panel.getGroupMembershipIndex().getMatchingGroups(groupsRoot.getNode(), matches);
         groupsTree.setOverlappingGroups(nodes);
     }
 
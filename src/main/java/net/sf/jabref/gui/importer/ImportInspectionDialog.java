@@ -736,6 +736,7 @@ public class ImportInspectionDialog extends JDialog implements ImportInspector,
                 }
             }
 
+            List<BibEntry> addedEntries = new ArrayList<>(selected.size());
             for (BibEntry entry : selected) {
                 // Remove settings to group/search hit status:
                 entry.setSearchHit(false);
@@ -748,10 +749,12 @@ public class ImportInspectionDialog extends JDialog implements ImportInspector,
                 }
 
                 entry.setId(IdGenerator.next());
-                panel.getDatabase().insertEntry(entry);
+                addedEntries.add(entry);
                 ce.addEdit(new UndoableInsertEntry(panel.getDatabase(), entry, panel));
 
             }
+            // inserted at once, so that a shared database receives them in one transaction
+            panel.getDatabase().insertEntries(addedEntries);
 
             ce.end();
             panel.getUndoManager().addEdit(ce);
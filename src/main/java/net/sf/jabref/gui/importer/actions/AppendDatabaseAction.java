@@ -140,11 +140,12 @@ public class AppendDatabaseAction implements BaseAction {
                 BibEntry be = (BibEntry) originalEntry.clone();
                 be.setId(IdGenerator.next());
                 UpdateField.setAutomaticFields(be, overwriteOwner, overwriteTimeStamp, Globals.prefs);
-                database.insertEntry(be);
                 appendedEntries.add(be);
                 originalEntries.add(originalEntry);
                 ce.addEdit(new UndoableInsertEntry(database, be, panel));
             }
+            // inserted at once, so that a shared database receives them in one transaction
+            database.insertEntries(appendedEntries);
         }
 
         if (importStrings) {
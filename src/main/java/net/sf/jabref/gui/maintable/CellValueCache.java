@@ -0,0 +1,144 @@
+package net.sf.jabref.gui.maintable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.sf.jabref.Globals;
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.preferences.PreferencesSnapshot;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Caches the cell values of the main table, so that painting the table, e.g., while scrolling, does not format the
+ * fields of the entries again.
+ * <p>
+ * All cacheable cell values of a row are computed together when the first cell of the row is requested. A row is
+ * computed again as soon as its entry or the preferences have changed, which is detected by the modification count of
+ * the entry and the identity of the preferences snapshot. The rows are softly referenced, thus they are dropped under
+ * memory pressure. The entries are weakly referenced and compared by identity.
+ * <p>
+ * Thread-safe, so that the rows which are about to become visible can be computed in the background. Each row is
+ * computed from an immutable snapshot of the columns, see {@link Columns}. A row is only stored and served if its
+ * columns are still the current ones, thus a row computed in the background while the columns are changed is dropped.
+ */
+public class CellValueCache {
+
+    // marks a cell whose value is computed for each request, see MainTableColumn.isValueCacheable
+    private static final Object NOT_CACHED = new Object();
+
+    private final AtomicInteger generations = new AtomicInteger();
+
+    private volatile Columns columns;
+
+    private final Cache<BibEntry, CachedRow> rows = CacheBuilder.newBuilder().weakKeys().softValues().build();
+
+
+    /**
+     * @param columns the columns of the table, see {@link #setColumns(List)}
+     */
+    public CellValueCache(List<MainTableColumn> columns) {
+        setColumns(columns);
+    }
+
+    /**
+     * Replaces the columns of the table by a snapshot of the given ones and drops all cached rows. Later changes of
+     * the list have no effect until this method is called again.
+     */
+    public void setColumns(List<MainTableColumn> newColumns) {
+        columns = new Columns(generations.incrementAndGet(), newColumns);
+        rows.invalidateAll();
+    }
+
+    /**
+     * Returns the current columns, which are to be passed to {@link #prefetch(BibEntry, Columns)}.
+     */
+    public Columns getColumns() {
+        return columns;
+    }
+
+    public Object getValue(BibEntry entry, int column) {
+        Columns currentColumns = columns;
+        Object value = getRow(entry, currentColumns).values[column];
+        if (value == NOT_CACHED) {
+            return currentColumns.columns.get(column).getColumnValue(entry);
+        }
+        return value;
+    }
+
+    /**
+     * Computes the cell values of the row of the given entry, unless they are already cached. Nothing is stored if
+     * the given columns are outdated.
+     *
+     * @param prefetchColumns the columns when the prefetch has been started, see {@link #getColumns()}
+     */
+    public void prefetch(BibEntry entry, Columns prefetchColumns) {
+        if (prefetchColumns == columns) {
+            getRow(entry, prefetchColumns);
+        }
+    }
+
+    private CachedRow getRow(BibEntry entry, Columns currentColumns) {
+        // read the counter before the fields, see BibEntry.getModificationCount()
+        int modificationCount = entry.getModificationCount();
+        PreferencesSnapshot preferences = Globals.prefs.getSnapshot();
+        CachedRow row = rows.getIfPresent(entry);
+        if ((row != null) && row.isUpToDate(modificationCount, preferences, currentColumns.generation)) {
+            return row;
+        }
+
+        Object[] values = new Object[currentColumns.columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            MainTableColumn column = currentColumns.columns.get(i);
+            values[i] = column.isValueCacheable(entry) ? column.getColumnValue(entry) : NOT_CACHED;
+        }
+        row = new CachedRow(modificationCount, preferences, currentColumns.generation, values);
+        // the columns may have been changed meanwhile, such a row would never be served anyway
+        if (currentColumns == columns) {
+            rows.put(entry, row);
+        }
+        return row;
+    }
+
+
+    /**
+     * An immutable snapshot of the columns of the table. The generation is incremented for each snapshot.
+     */
+    public static final class Columns {
+
+        private final int generation;
+        private final List<MainTableColumn> columns;
+
+
+        private Columns(int generation, List<MainTableColumn> columns) {
+            this.generation = generation;
+            this.columns = Collections.unmodifiableList(new ArrayList<>(columns));
+        }
+    }
+
+    private static class CachedRow {
+
+        private final int modificationCount;
+        private final PreferencesSnapshot preferences;
+        private final int generation;
+        private final Object[] values;
+
+
+        CachedRow(int modificationCount, PreferencesSnapshot preferences, int generation, Object[] values) {
+            this.modificationCount = modificationCount;
+            this.preferences = preferences;
+            this.generation = generation;
+            this.values = values;
+        }
+
+        boolean isUpToDate(int currentModificationCount, PreferencesSnapshot currentPreferences,
+                int currentGeneration) {
+            // a new snapshot is taken whenever the preferences change
+            return (modificationCount == currentModificationCount) && (preferences == currentPreferences)
+                    && (generation == currentGeneration);
+        }
+    }
+}
@@ -18,6 +18,7 @@ package net.sf.jabref.gui.maintable;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Dimension;
+import java.awt.Graphics;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.event.KeyAdapter;
@@ -27,8 +28,11 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.LongSummaryStatistics;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.swing.BorderFactory;
 import javax.swing.JLabel;
@@ -43,12 +47,14 @@ import javax.swing.table.TableCellRenderer;
 import javax.swing.table.TableColumnModel;
 
 import net.sf.jabref.Globals;
+import net.sf.jabref.JabRefExecutorService;
 import net.sf.jabref.gui.BasePanel;
 import net.sf.jabref.gui.EntryMarker;
 import net.sf.jabref.gui.GUIGlobals;
 import net.sf.jabref.gui.JabRefFrame;
 import net.sf.jabref.gui.groups.EntryTableTransferHandler;
 import net.sf.jabref.gui.groups.GroupMatcher;
+import net.sf.jabref.gui.maintable.CellValueCache.Columns;
 import net.sf.jabref.gui.renderer.CompleteRenderer;
 import net.sf.jabref.gui.renderer.GeneralRenderer;
 import net.sf.jabref.gui.renderer.IncompleteRenderer;
@@ -88,6 +94,9 @@ public class MainTable extends JTable {
 
     private static final Log LOGGER = LogFactory.getLog(MainTable.class);
 
+    // one frame at 60 frames per second
+    private static final long SLOW_PAINT_TIME_NANOS = TimeUnit.MILLISECONDS.toNanos(16);
+
     private final MainTableFormat tableFormat;
     private final BasePanel panel;
 
@@ -100,6 +109,12 @@ public class MainTable extends JTable {
     private final PersistenceTableColumnListener tableColumnListener;
     private final MainTableDataModel model;
 
+    // the time needed for each paint of the table in nanoseconds, only accessed from the event dispatch thread
+    private final LongSummaryStatistics paintTimes = new LongSummaryStatistics();
+
+    // incremented for each prefetch, so that an outdated prefetch stops
+    private final AtomicInteger prefetchGeneration = new AtomicInteger();
+
     // Enum used to define how a cell should be rendered.
     private enum CellRendererMode {
         REQUIRED,
@@ -181,6 +196,66 @@ public class MainTable extends JTable {
         setWidths();
 
         addKeyListener(new TableKeyListener());
+        pane.getViewport().addChangeListener(e -> prefetchColumnValues());
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        long start = System.nanoTime();
+        super.paintComponent(g);
+        long paintTime = System.nanoTime() - start;
+        paintTimes.accept(paintTime);
+        if ((paintTime > SLOW_PAINT_TIME_NANOS) && LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Painting the main table took " + TimeUnit.NANOSECONDS.toMillis(paintTime) + " ms");
+        }
+    }
+
+    /**
+     * Returns statistics of the time needed to paint the table in nanoseconds. While scrolling, each paint is one
+     * frame. Has to be called from the event dispatch thread.
+     */
+    public LongSummaryStatistics getPaintTimeStatistics() {
+        LongSummaryStatistics statistics = new LongSummaryStatistics();
+        statistics.combine(paintTimes);
+        return statistics;
+    }
+
+    /**
+     * Computes the cell values of the page below and the page above the visible rows in the background, so that
+     * they are cached when these rows are scrolled into view.
+     */
+    private void prefetchColumnValues() {
+        Rectangle visibleRect = getVisibleRect();
+        int firstVisibleRow = rowAtPoint(visibleRect.getLocation());
+        if (firstVisibleRow < 0) {
+            return;
+        }
+        int lastVisibleRow = rowAtPoint(new Point(visibleRect.x, (visibleRect.y + visibleRect.height) - 1));
+        if (lastVisibleRow < 0) {
+            lastVisibleRow = getRowCount() - 1;
+        }
+        int pageSize = (lastVisibleRow - firstVisibleRow) + 1;
+
+        // the rows below first, as scrolling down is more common
+        List<BibEntry> entries = new ArrayList<>(2 * pageSize);
+        for (int row = lastVisibleRow + 1; row < Math.min(getRowCount(), lastVisibleRow + 1 + pageSize); row++) {
+            entries.add(getEntryAt(row));
+        }
+        for (int row = firstVisibleRow - 1; row >= Math.max(0, firstVisibleRow - pageSize); row--) {
+            entries.add(getEntryAt(row));
+        }
+
+        int generation = prefetchGeneration.incrementAndGet();
+        Columns columns = tableFormat.getColumnsToPrefetch();
+        JabRefExecutorService.INSTANCE.execute(() -> {
+            for (BibEntry entry : entries) {
+                if (prefetchGeneration.get() != generation) {
+                    // the table has been scrolled again
+                    return;
+                }
+                tableFormat.prefetchColumnValues(entry, columns);
+            }
+        });
     }
 
     public void addSelectionListener(ListEventListener<BibEntry> listener) {
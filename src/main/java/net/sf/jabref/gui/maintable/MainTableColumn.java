@@ -102,6 +102,26 @@ public class MainTableColumn {
         return false; // Overridden in SpecialMainTableColumns for file filter columns
     }
 
+    /**
+     * Checks whether the value of this column for the given entry may be cached by {@link MainTableFormat}.
+     * <p>
+     * The values of icon columns are Swing components, which must not be created in the background. Values using
+     * @strings are not cached, as the definitions of @strings may change without any notice.
+     */
+    boolean isValueCacheable(BibEntry entry) {
+        if (isIconColumn || bibtexFields.isEmpty()) {
+            return false;
+        }
+        if (database.isPresent() && "Author".equalsIgnoreCase(columnName)) {
+            for (String field : bibtexFields) {
+                if (entry.getFieldOrAlias(field).map(content -> content.contains("#")).orElse(false)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     public Object getColumnValue(BibEntry entry) {
         if (bibtexFields.isEmpty()) {
             return null;
@@ -101,6 +101,17 @@ public class MainTableDataModel {
         }
     }
 
+    /**
+     * Applies the current search display option again, e.g., after further search hits were found.
+     */
+    public void updateSearchResults() {
+        if (getSearchState() == DisplayOption.FLOAT) {
+            updateSortOrder();
+        } else if (getSearchState() == DisplayOption.FILTER) {
+            filterSearchToggle.start();
+        }
+    }
+
     public void updateGroupingState(DisplayOption groupingState) {
         Objects.requireNonNull(groupingState);
 
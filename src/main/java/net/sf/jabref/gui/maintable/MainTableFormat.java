@@ -24,6 +24,7 @@ import javax.swing.JLabel;
 
 import net.sf.jabref.Globals;
 import net.sf.jabref.gui.IconTheme;
+import net.sf.jabref.gui.maintable.CellValueCache.Columns;
 import net.sf.jabref.model.database.BibDatabase;
 import net.sf.jabref.model.entry.BibEntry;
 import net.sf.jabref.model.entry.FieldName;
@@ -46,6 +47,8 @@ public class MainTableFormat implements TableFormat<BibEntry> {
 
     private final List<MainTableColumn> tableColumns = new ArrayList<>();
 
+    private final CellValueCache cellValues = new CellValueCache(tableColumns);
+
     public MainTableFormat(BibDatabase database) {
         this.database = database;
     }
@@ -87,7 +90,22 @@ public class MainTableFormat implements TableFormat<BibEntry> {
 
     @Override
     public Object getColumnValue(BibEntry be, int col) {
-        return tableColumns.get(col).getColumnValue(be);
+        return cellValues.getValue(be, col);
+    }
+
+    /**
+     * Returns the current columns, which are to be passed to {@link #prefetchColumnValues(BibEntry, Columns)}.
+     */
+    public Columns getColumnsToPrefetch() {
+        return cellValues.getColumns();
+    }
+
+    /**
+     * Computes the values of all columns for the given entry, so that they are cached when the entry is shown. Can be
+     * called from any thread. Nothing is cached if the columns have been changed since the prefetch has been started.
+     */
+    public void prefetchColumnValues(BibEntry entry, Columns columns) {
+        cellValues.prefetch(entry, columns);
     }
 
     public void updateTableFormat() {
@@ -163,7 +181,7 @@ public class MainTableFormat implements TableFormat<BibEntry> {
             }
         }
 
-
+        cellValues.setColumns(tableColumns);
     }
 
 }
@@ -3,6 +3,7 @@ package net.sf.jabref.gui.maintable;
 import net.sf.jabref.Globals;
 import net.sf.jabref.model.entry.AuthorList;
 import net.sf.jabref.preferences.JabRefPreferences;
+import net.sf.jabref.preferences.PreferencesSnapshot;
 
 public class MainTableNameFormatter {
 
@@ -17,13 +18,14 @@ public class MainTableNameFormatter {
             return null;
         }
 
-        // Read name format options:
-        final boolean namesNatbib = Globals.prefs.getBoolean(JabRefPreferences.NAMES_NATBIB); //MK:
-        final boolean namesLastOnly = Globals.prefs.getBoolean(JabRefPreferences.NAMES_LAST_ONLY);
-        final boolean namesAsIs = Globals.prefs.getBoolean(JabRefPreferences.NAMES_AS_IS);
-        final boolean namesFf = Globals.prefs.getBoolean(JabRefPreferences.NAMES_FIRST_LAST);
+        // Read name format options from the snapshot, as this is called for every cell of a name column:
+        final PreferencesSnapshot preferences = Globals.prefs.getSnapshot();
+        final boolean namesNatbib = preferences.getBoolean(JabRefPreferences.NAMES_NATBIB); //MK:
+        final boolean namesLastOnly = preferences.getBoolean(JabRefPreferences.NAMES_LAST_ONLY);
+        final boolean namesAsIs = preferences.getBoolean(JabRefPreferences.NAMES_AS_IS);
+        final boolean namesFf = preferences.getBoolean(JabRefPreferences.NAMES_FIRST_LAST);
 
-        final boolean abbrAuthorNames = Globals.prefs.getBoolean(JabRefPreferences.ABBR_AUTHOR_NAMES); //MK:
+        final boolean abbrAuthorNames = preferences.getBoolean(JabRefPreferences.ABBR_AUTHOR_NAMES); //MK:
 
         if (namesAsIs) {
             return nameToFormat;
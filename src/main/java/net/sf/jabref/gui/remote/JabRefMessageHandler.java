@@ -17,6 +17,8 @@ package net.sf.jabref.gui.remote;
 
 import java.util.List;
 
+import javax.swing.SwingUtilities;
+
 import net.sf.jabref.JabRefGUI;
 import net.sf.jabref.cli.ArgumentProcessor;
 import net.sf.jabref.logic.importer.ParserResult;
@@ -32,10 +34,13 @@ public class JabRefMessageHandler implements MessageHandler {
             throw new IllegalStateException("Could not start JabRef with arguments " + message);
         }
 
+        // messages of several clients are handled at the same time, only the GUI thread may add them
         List<ParserResult> loaded = argumentProcessor.getParserResults();
-        for (int i = 0; i < loaded.size(); i++) {
-            ParserResult pr = loaded.get(i);
-            JabRefGUI.getMainFrame().addParserResult(pr, i == 0);
-        }
+        SwingUtilities.invokeLater(() -> {
+            for (int i = 0; i < loaded.size(); i++) {
+                ParserResult pr = loaded.get(i);
+                JabRefGUI.getMainFrame().addParserResult(pr, i == 0);
+            }
+        });
     }
 }
@@ -2,12 +2,12 @@ package net.sf.jabref.gui.search;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import net.sf.jabref.gui.BasePanel;
 import net.sf.jabref.gui.JabRefFrame;
 import net.sf.jabref.gui.worker.AbstractWorker;
 import net.sf.jabref.logic.l10n.Localization;
+import net.sf.jabref.logic.search.SearchExecutor;
 import net.sf.jabref.logic.search.SearchQuery;
 import net.sf.jabref.model.entry.BibEntry;
 
@@ -34,7 +34,8 @@ class GlobalSearchWorker extends AbstractWorker {
         // Search all databases
         for (int i = 0; i < frame.getTabbedPane().getTabCount(); i++) {
             BasePanel basePanel = frame.getBasePanelAt(i);
-            List<BibEntry> matches = basePanel.getDatabase().getEntries().stream().filter(searchQuery::isMatch).collect(Collectors.toList());
+            List<BibEntry> matches = new SearchExecutor(searchQuery, basePanel.getFullTextIndex())
+                    .search(basePanel.getDatabase().getEntries());
             dialog.addEntries(matches, basePanel);
         }
     }
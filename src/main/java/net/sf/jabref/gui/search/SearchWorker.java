@@ -1,17 +1,15 @@
 package net.sf.jabref.gui.search;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
-import java.util.stream.Collectors;
 
 import javax.swing.SwingWorker;
 
 import net.sf.jabref.gui.BasePanel;
 import net.sf.jabref.gui.maintable.MainTableDataModel;
+import net.sf.jabref.logic.search.SearchExecutor;
 import net.sf.jabref.logic.search.SearchQuery;
-import net.sf.jabref.model.database.BibDatabase;
 import net.sf.jabref.model.entry.BibEntry;
 
 import org.apache.commons.logging.Log;
@@ -19,20 +17,23 @@ import org.apache.commons.logging.LogFactory;
 
 /**
  * Not reusable. Always create a new instance for each search!
+ * <p>
+ * The hits are published batch by batch while the search is running and are shown right away. Cancelling the worker
+ * stops the search.
  */
-class SearchWorker extends SwingWorker<List<BibEntry>, Void> {
+class SearchWorker extends SwingWorker<List<BibEntry>, List<BibEntry>> {
 
     private static final Log LOGGER = LogFactory.getLog(SearchWorker.class);
 
     private final BasePanel basePanel;
-    private final BibDatabase database;
 
     private final SearchQuery searchQuery;
     private final SearchMode mode;
 
+    private boolean firstBatch = true;
+
     SearchWorker(BasePanel basePanel, SearchQuery searchQuery, SearchMode mode) {
         this.basePanel = Objects.requireNonNull(basePanel);
-        this.database = Objects.requireNonNull(basePanel.getDatabase());
         this.searchQuery = Objects.requireNonNull(searchQuery);
         this.mode = Objects.requireNonNull(mode);
         LOGGER.debug("Search (" + this.mode.getDisplayName() + "): " + this.searchQuery);
@@ -41,9 +42,47 @@ class SearchWorker extends SwingWorker<List<BibEntry>, Void> {
     @Override
     protected List<BibEntry> doInBackground() throws Exception {
         // Search the current database
-        List<BibEntry> matchedEntries = new LinkedList<>();
-        matchedEntries.addAll(database.getEntries().stream().filter(searchQuery::isMatch).collect(Collectors.toList()));
-        return matchedEntries;
+        return new SearchExecutor(searchQuery, basePanel.getFullTextIndex())
+                .search(basePanel.getDatabase().getEntries(), this::publish, this::isCancelled);
+    }
+
+    @Override
+    protected void process(List<List<BibEntry>> batches) {
+        if (isCancelled() || !basePanel.getSearchBar().isStillValidQuery(searchQuery)) {
+            return;
+        }
+
+        if (firstBatch) {
+            // clear the hits of the previous search
+            for (BibEntry entry : basePanel.getDatabase().getEntries()) {
+                entry.setSearchHit(false);
+            }
+            firstBatch = false;
+        }
+
+        for (List<BibEntry> batch : batches) {
+            for (BibEntry entry : batch) {
+                entry.setSearchHit(true);
+            }
+        }
+
+        MainTableDataModel tableModel = basePanel.getMainTable().getTableModel();
+        if (tableModel.getSearchState() == getDisplayOption()) {
+            tableModel.updateSearchResults();
+        } else {
+            tableModel.updateSearchState(getDisplayOption());
+        }
+    }
+
+    private MainTableDataModel.DisplayOption getDisplayOption() {
+        switch (mode) {
+        case FLOAT:
+            return MainTableDataModel.DisplayOption.FLOAT;
+        case FILTER:
+            return MainTableDataModel.DisplayOption.FILTER;
+        default:
+            return MainTableDataModel.DisplayOption.DISABLED;
+        }
     }
 
     @Override
@@ -79,16 +118,7 @@ class SearchWorker extends SwingWorker<List<BibEntry>, Void> {
         basePanel.getMainTable().getTableModel().updateSearchState(MainTableDataModel.DisplayOption.DISABLED);
 
         // Show the result in the chosen way:
-        switch (mode) {
-        case FLOAT:
-            basePanel.getMainTable().getTableModel().updateSearchState(MainTableDataModel.DisplayOption.FLOAT);
-            break;
-        case FILTER:
-            basePanel.getMainTable().getTableModel().updateSearchState(MainTableDataModel.DisplayOption.FILTER);
-            break;
-        default:
-            break;
-        }
+        basePanel.getMainTable().getTableModel().updateSearchState(getDisplayOption());
 
         // select first match (i.e., row) if there is any
         int hits = matchedEntries.size();
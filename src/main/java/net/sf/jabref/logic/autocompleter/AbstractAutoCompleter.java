@@ -14,16 +14,15 @@
 package net.sf.jabref.logic.autocompleter;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import net.sf.jabref.model.entry.BibEntry;
 
 /**
  * Delivers possible completions for a given string.
+ * The words are stored in an {@link AutoCompleteIndex}, which may be shared with the auto completers of other fields.
  *
  * @author kahlert, cordes, olly98
  * @see AutoCompleterFactory
@@ -31,84 +30,89 @@ import java.util.TreeSet;
 public abstract class AbstractAutoCompleter implements AutoCompleter<String> {
 
     private static final int SHORTEST_WORD_TO_ADD = 4;
+    private static final int MAX_COMPLETIONS = 50;
     private final AutoCompletePreferences preferences;
 
-    /**
-     * Stores the strings as is.
-     */
-    private final TreeSet<String> indexCaseSensitive = new TreeSet<>();
-
-    /**
-     * Stores strings in lowercase.
-     */
-    private final TreeSet<String> indexCaseInsensitive = new TreeSet<>();
-
-    /**
-     * Stores for a lowercase string the possible expanded strings.
-     */
-    private final Map<String, Set<String>> possibleStringsForSearchString = new HashMap<>();
+    private final AutoCompleteIndex index;
+    private final int postingList;
 
 
     public AbstractAutoCompleter(AutoCompletePreferences preferences) {
+        this(preferences, new AutoCompleteIndex());
+    }
+
+    AbstractAutoCompleter(AutoCompletePreferences preferences, AutoCompleteIndex index) {
         this.preferences = Objects.requireNonNull(preferences);
+        this.index = Objects.requireNonNull(index);
+        this.postingList = index.newPostingList();
     }
 
     /**
      * {@inheritDoc}
      * The completion is case sensitive if the string contains upper case letters.
      * Otherwise the completion is case insensitive.
+     * The most frequent words are returned first, at most {@value #MAX_COMPLETIONS} of them.
      */
     @Override
     public List<String> complete(String toComplete) {
         if(toComplete == null) {
             return new ArrayList<>();
         }
-        if (isTooShortToComplete(toComplete)) {
+        if (toComplete.isEmpty() || isTooShortToComplete(toComplete)) {
             return new ArrayList<>();
         }
-        String lowerCase = toComplete.toLowerCase();
-
-        if (lowerCase.equals(toComplete)) {
-            // user typed in lower case word -> we do an case-insensitive search
-            String ender = AbstractAutoCompleter.incrementLastCharacter(lowerCase);
-            SortedSet<String> subset = indexCaseInsensitive.subSet(lowerCase, ender);
-
-            // As subset only contains lower case strings,
-            // we have to to determine possible strings for each hit
-            List<String> result = new ArrayList<>();
-            for (String s : subset) {
-                result.addAll(possibleStringsForSearchString.get(s));
-            }
-            return result;
-        } else {
-            // user typed in a mix of upper case and lower case,
-            // we assume user wants to have exact search
-            String ender = AbstractAutoCompleter.incrementLastCharacter(toComplete);
-            SortedSet<String> subset = indexCaseSensitive.subSet(toComplete, ender);
-            return new ArrayList<>(subset);
-        }
+
+        // user typed in lower case word -> we do an case-insensitive search
+        // user typed in a mix of upper case and lower case -> we assume user wants to have exact search
+        boolean caseSensitive = !toComplete.toLowerCase().equals(toComplete);
+        return index.complete(postingList, toComplete, caseSensitive, MAX_COMPLETIONS);
     }
 
     /**
-     * Increments the last character of a string.
-     *
-     * Example: incrementLastCharacter("abc") returns "abd".
+     * Returns whether the string is to short to be completed.
      */
-    private static String incrementLastCharacter(String toIncrement) {
-        if (toIncrement.isEmpty()) {
-            return "";
+    private boolean isTooShortToComplete(String toCheck) {
+        return toCheck.length() < preferences.getShortestLengthToComplete();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Stores the words of the fields returned by {@link #getFieldNames()}.
+     */
+    @Override
+    public void addBibtexEntry(BibEntry entry) {
+        if (entry == null) {
+            return;
         }
 
-        char lastChar = toIncrement.charAt(toIncrement.length() - 1);
-        return toIncrement.substring(0, toIncrement.length() - 1) + Character.toString((char) (lastChar + 1));
+        for (String fieldName : getFieldNames()) {
+            entry.getFieldOptional(fieldName).ifPresent(fieldValue -> collectWords(fieldValue, this::addItemToIndex));
+        }
+    }
+
+    @Override
+    public void updateField(String fieldName, String oldValue, String newValue) {
+        if (!getFieldNames().contains(fieldName)) {
+            return;
+        }
+
+        if (oldValue != null) {
+            collectWords(oldValue, this::removeItemFromIndex);
+        }
+        if (newValue != null) {
+            collectWords(newValue, this::addItemToIndex);
+        }
     }
 
     /**
-     * Returns whether the string is to short to be completed.
+     * Returns the names of the fields the words are taken from.
      */
-    private boolean isTooShortToComplete(String toCheck) {
-        return toCheck.length() < preferences.getShortestLengthToComplete();
-    }
+    protected abstract List<String> getFieldNames();
+
+    /**
+     * Passes the words of the given field value, which are to be completed, to the given consumer.
+     */
+    protected abstract void collectWords(String fieldValue, Consumer<String> words);
 
     @Override
     public void addItemToIndex(String word) {
@@ -116,19 +120,15 @@ public abstract class AbstractAutoCompleter implements AutoCompleter<String> {
             return;
         }
 
-        indexCaseSensitive.add(word);
+        index.add(postingList, word);
+    }
 
-        // insensitive treatment
-        // first, add the lower cased word to search index
-        // second, add a mapping from the lower cased word to the real word
-        String lowerCase = word.toLowerCase();
-        indexCaseInsensitive.add(lowerCase);
-        Set<String> set = possibleStringsForSearchString.get(lowerCase);
-        if (set == null) {
-            set = new TreeSet<>();
+    private void removeItemFromIndex(String word) {
+        if (word.length() < getLengthOfShortestWordToAdd()) {
+            return;
         }
-        set.add(word);
-        possibleStringsForSearchString.put(lowerCase, set);
+
+        index.remove(postingList, word);
     }
 
     @Override
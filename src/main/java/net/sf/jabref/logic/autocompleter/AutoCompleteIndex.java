@@ -0,0 +1,350 @@
+package net.sf.jabref.logic.autocompleter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Index of the words known to one or more auto completers.
+ * <p>
+ * The words are stored in a radix trie over their lower case form, so that words with a common beginning share its
+ * nodes and a word is stored only once in its original spelling. Each auto completer has its own posting list, which
+ * records how often a word has been added by that completer. Completers of several fields can thus share one index.
+ * <p>
+ * Completions are ranked by their frequency. Each node knows the highest frequency in its subtree, so that a
+ * completion with a result limit only visits the parts of the trie which can contain a better word.
+ */
+final class AutoCompleteIndex {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Posting[] NO_POSTINGS = new Posting[0];
+
+    private final Node root = new Node(new char[0]);
+    private int numberOfPostingLists;
+
+
+    /**
+     * Returns the id of a new, empty posting list.
+     */
+    synchronized int newPostingList() {
+        return numberOfPostingLists++;
+    }
+
+    /**
+     * Adds an occurrence of the given word to the given posting list.
+     */
+    synchronized void add(int postingList, String word) {
+        char[] key = word.toLowerCase().toCharArray();
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int position = 0;
+        path.add(node);
+        while (position < key.length) {
+            int index = node.findChild(key[position]);
+            if (index < 0) {
+                Node child = new Node(Arrays.copyOfRange(key, position, key.length));
+                node.insertChild(-index - 1, child);
+                node = child;
+                position = key.length;
+            } else {
+                Node child = node.children[index];
+                int common = child.commonPrefixLength(key, position);
+                if (common < child.label.length) {
+                    child = child.split(common);
+                    node.children[index] = child;
+                }
+                node = child;
+                position += common;
+            }
+            path.add(node);
+        }
+
+        int count = node.addOccurrence(postingList, word);
+        for (Node visited : path) {
+            visited.maxCount = Math.max(visited.maxCount, count);
+        }
+    }
+
+    /**
+     * Removes an occurrence of the given word from the given posting list, if it contains the word.
+     */
+    synchronized void remove(int postingList, String word) {
+        char[] key = word.toLowerCase().toCharArray();
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int position = 0;
+        path.add(node);
+        while (position < key.length) {
+            int index = node.findChild(key[position]);
+            if (index < 0) {
+                return;
+            }
+            node = node.children[index];
+            int common = node.commonPrefixLength(key, position);
+            if (common < node.label.length) {
+                return;
+            }
+            position += common;
+            path.add(node);
+        }
+
+        if (!node.removeOccurrence(postingList, word)) {
+            return;
+        }
+
+        // Drop the nodes left without words and lower the highest frequencies, from the word up to the root
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node visited = path.get(i);
+            if ((visited.postings.length == 0) && (visited.children.length == 0)) {
+                path.get(i - 1).removeChild(visited);
+            } else {
+                visited.updateMaxCount();
+            }
+        }
+        root.updateMaxCount();
+    }
+
+    /**
+     * Returns the words of the given posting list starting with the given prefix, the most frequent words first.
+     * Words with the same frequency are sorted alphabetically.
+     *
+     * @param caseSensitive if false, the case of the prefix and of the words is ignored
+     * @param limit         the maximum number of words returned
+     */
+    synchronized List<String> complete(int postingList, String prefix, boolean caseSensitive, int limit) {
+        char[] key = prefix.toLowerCase().toCharArray();
+        Node node = root;
+        int position = 0;
+        while (position < key.length) {
+            int index = node.findChild(key[position]);
+            if (index < 0) {
+                return new ArrayList<>();
+            }
+            node = node.children[index];
+            int common = node.commonPrefixLength(key, position);
+            if ((common < node.label.length) && ((position + common) < key.length)) {
+                return new ArrayList<>();
+            }
+            position += common;
+        }
+
+        Collector collector = new Collector(postingList, caseSensitive ? prefix : null, limit);
+        collector.collect(node);
+        return collector.getResult();
+    }
+
+
+    private static class Node {
+
+        private char[] label;
+        private Node[] children = NO_CHILDREN;
+        private Posting[] postings = NO_POSTINGS;
+        private int maxCount;
+
+
+        Node(char[] label) {
+            this.label = label;
+        }
+
+        int findChild(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char character = children[middle].label[0];
+                if (character < first) {
+                    low = middle + 1;
+                } else if (character > first) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void insertChild(int index, Node child) {
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newChildren[index] = child;
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            children = newChildren;
+        }
+
+        void removeChild(Node child) {
+            for (int i = 0; i < children.length; i++) {
+                if (children[i] == child) {
+                    Node[] newChildren = new Node[children.length - 1];
+                    System.arraycopy(children, 0, newChildren, 0, i);
+                    System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+                    children = newChildren;
+                    return;
+                }
+            }
+        }
+
+        int commonPrefixLength(char[] key, int position) {
+            int length = 0;
+            while ((length < label.length) && ((position + length) < key.length)
+                    && (label[length] == key[position + length])) {
+                length++;
+            }
+            return length;
+        }
+
+        /**
+         * Splits the label after the given number of characters and returns the new parent node.
+         */
+        Node split(int length) {
+            Node parent = new Node(Arrays.copyOf(label, length));
+            parent.children = new Node[] {this};
+            parent.maxCount = maxCount;
+            label = Arrays.copyOfRange(label, length, label.length);
+            return parent;
+        }
+
+        int addOccurrence(int postingList, String word) {
+            String sharedWord = word;
+            for (Posting posting : postings) {
+                if (posting.word.equals(word)) {
+                    if (posting.postingList == postingList) {
+                        return ++posting.count;
+                    }
+                    // the same spelling is stored only once
+                    sharedWord = posting.word;
+                }
+            }
+            postings = Arrays.copyOf(postings, postings.length + 1);
+            postings[postings.length - 1] = new Posting(postingList, sharedWord);
+            return 1;
+        }
+
+        /**
+         * @return false if the word is not contained in the posting list
+         */
+        boolean removeOccurrence(int postingList, String word) {
+            for (int i = 0; i < postings.length; i++) {
+                Posting posting = postings[i];
+                if ((posting.postingList == postingList) && posting.word.equals(word)) {
+                    posting.count--;
+                    if (posting.count == 0) {
+                        Posting[] newPostings = new Posting[postings.length - 1];
+                        System.arraycopy(postings, 0, newPostings, 0, i);
+                        System.arraycopy(postings, i + 1, newPostings, i, postings.length - i - 1);
+                        postings = newPostings;
+                    }
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void updateMaxCount() {
+            maxCount = 0;
+            for (Posting posting : postings) {
+                maxCount = Math.max(maxCount, posting.count);
+            }
+            for (Node child : children) {
+                maxCount = Math.max(maxCount, child.maxCount);
+            }
+        }
+    }
+
+    private static class Posting {
+
+        private final int postingList;
+        private final String word;
+        private int count = 1;
+
+
+        Posting(int postingList, String word) {
+            this.postingList = postingList;
+            this.word = word;
+        }
+    }
+
+    /**
+     * Collects the best words of a subtree. The subtree is traversed in alphabetical order, so that a word found later
+     * only replaces a word with a lower frequency.
+     */
+    private static class Collector {
+
+        private static final Comparator<Candidate> RANKING = Comparator.comparingInt((Candidate candidate) -> candidate.count)
+                .reversed().thenComparingInt(candidate -> candidate.order);
+
+        private final int postingList;
+        private final String caseSensitivePrefix;
+        private final int limit;
+        private final PriorityQueue<Candidate> best;
+        private int order;
+
+
+        Collector(int postingList, String caseSensitivePrefix, int limit) {
+            this.postingList = postingList;
+            this.caseSensitivePrefix = caseSensitivePrefix;
+            this.limit = limit;
+            // the worst candidate is at the head
+            this.best = new PriorityQueue<>(Math.max(1, limit), RANKING.reversed());
+        }
+
+        void collect(Node node) {
+            if ((limit <= 0) || ((best.size() == limit) && (node.maxCount <= best.peek().count))) {
+                return;
+            }
+
+            if (node.postings.length > 0) {
+                List<Posting> matching = new ArrayList<>();
+                for (Posting posting : node.postings) {
+                    if ((posting.postingList == postingList)
+                            && ((caseSensitivePrefix == null) || posting.word.startsWith(caseSensitivePrefix))) {
+                        matching.add(posting);
+                    }
+                }
+                matching.sort(Comparator.comparing(posting -> posting.word));
+                for (Posting posting : matching) {
+                    offer(new Candidate(posting.word, posting.count, order++));
+                }
+            }
+
+            for (Node child : node.children) {
+                collect(child);
+            }
+        }
+
+        private void offer(Candidate candidate) {
+            if (best.size() < limit) {
+                best.add(candidate);
+            } else if (RANKING.compare(candidate, best.peek()) < 0) {
+                best.poll();
+                best.add(candidate);
+            }
+        }
+
+        List<String> getResult() {
+            List<Candidate> candidates = new ArrayList<>(best);
+            Collections.sort(candidates, RANKING);
+            List<String> result = new ArrayList<>(candidates.size());
+            for (Candidate candidate : candidates) {
+                result.add(candidate.word);
+            }
+            return result;
+        }
+    }
+
+    private static class Candidate {
+
+        private final String word;
+        private final int count;
+        private final int order;
+
+
+        Candidate(String word, int count, int order) {
+            this.word = word;
+            this.count = count;
+            this.order = order;
+        }
+    }
+}
@@ -24,6 +24,16 @@ public interface AutoCompleter<E> {
      */
     void addBibtexEntry(BibEntry entry);
 
+    /**
+     * Updates the information stored for a field of an entry which has been added before. The information of the old
+     * value is removed, and the one of the new value is added. Nothing happens if the information is not taken from
+     * the given field.
+     * @param fieldName the name of the changed field
+     * @param oldValue the value before the change, or null if the field has been set
+     * @param newValue the value after the change, or null if the field has been cleared
+     */
+    void updateField(String fieldName, String oldValue, String newValue);
+
     /**
      * States whether the field consists of multiple values (false) or of a single value (true)
      *
@@ -31,6 +31,8 @@ public class AutoCompleterFactory {
 
     private final AutoCompletePreferences preferences;
     private final JournalAbbreviationLoader abbreviationLoader;
+    // shared by all auto completers created by this factory
+    private final AutoCompleteIndex index = new AutoCompleteIndex();
 
 
     public AutoCompleterFactory(AutoCompletePreferences preferences, JournalAbbreviationLoader abbreviationLoader) {
@@ -42,19 +44,19 @@ public class AutoCompleterFactory {
         Objects.requireNonNull(fieldName);
 
         if (InternalBibtexFields.getFieldExtras(fieldName).contains(FieldProperties.PERSON_NAMES)) {
-            return new NameFieldAutoCompleter(fieldName, preferences);
+            return new NameFieldAutoCompleter(fieldName, preferences, index);
         } else if (InternalBibtexFields.getFieldExtras(fieldName).contains(FieldProperties.SINGLE_ENTRY_LINK)) {
-            return new BibtexKeyAutoCompleter(preferences);
+            return new BibtexKeyAutoCompleter(preferences, index);
         } else if (InternalBibtexFields.getFieldExtras(fieldName).contains(FieldProperties.JOURNAL_NAME)
                 || FieldName.PUBLISHER.equals(fieldName)) {
-            return new JournalAutoCompleter(fieldName, preferences, abbreviationLoader);
+            return new JournalAutoCompleter(fieldName, preferences, abbreviationLoader, index);
         } else {
-            return new DefaultAutoCompleter(fieldName, preferences);
+            return new DefaultAutoCompleter(fieldName, preferences, index);
         }
     }
 
     public AutoCompleter<String> getPersonAutoCompleter() {
-        return new NameFieldAutoCompleter(InternalBibtexFields.getPersonNameFields(), true, preferences);
+        return new NameFieldAutoCompleter(InternalBibtexFields.getPersonNameFields(), true, preferences, index);
     }
 
 }
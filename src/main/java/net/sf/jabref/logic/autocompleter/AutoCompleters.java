@@ -5,6 +5,8 @@ import java.util.Map;
 
 import net.sf.jabref.model.database.BibDatabase;
 import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.model.entry.FieldProperties;
+import net.sf.jabref.model.entry.InternalBibtexFields;
 
 class AutoCompleters {
 
@@ -32,6 +34,31 @@ class AutoCompleters {
         }
     }
 
+    /**
+     * Replaces the words of the old value of the given field by the ones of the new value in the respective
+     * Completers, if any. Used when only this field of an entry added before has changed, so that the words of the
+     * other fields are not counted again and the words no longer contained are dropped.
+     */
+    public void updateEntryField(String fieldName, String oldValue, String newValue) {
+        if (BibEntry.KEY_FIELD.equals(fieldName)) {
+            // keys are completed in the fields linking to other entries
+            for (Map.Entry<String, AutoCompleter<String>> autoCompleter : autoCompleters.entrySet()) {
+                if (isEntryLinkField(autoCompleter.getKey())) {
+                    autoCompleter.getValue().updateField(fieldName, oldValue, newValue);
+                }
+            }
+        } else if (!isEntryLinkField(fieldName)) {
+            AutoCompleter<String> autoCompleter = autoCompleters.get(fieldName);
+            if (autoCompleter != null) {
+                autoCompleter.updateField(fieldName, oldValue, newValue);
+            }
+        }
+    }
+
+    private static boolean isEntryLinkField(String fieldName) {
+        return InternalBibtexFields.getFieldExtras(fieldName).contains(FieldProperties.SINGLE_ENTRY_LINK);
+    }
+
     protected void put(String field, AutoCompleter<String> autoCompleter) {
         autoCompleters.put(field, autoCompleter);
     }
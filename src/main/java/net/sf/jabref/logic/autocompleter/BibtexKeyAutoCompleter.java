@@ -15,6 +15,10 @@
 */
 package net.sf.jabref.logic.autocompleter;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
 import net.sf.jabref.model.entry.BibEntry;
 
 /**
@@ -25,7 +29,11 @@ import net.sf.jabref.model.entry.BibEntry;
 class BibtexKeyAutoCompleter extends AbstractAutoCompleter {
 
     public BibtexKeyAutoCompleter(AutoCompletePreferences preferences) {
-        super(preferences);
+        this(preferences, new AutoCompleteIndex());
+    }
+
+    BibtexKeyAutoCompleter(AutoCompletePreferences preferences, AutoCompleteIndex index) {
+        super(preferences, index);
     }
 
     @Override
@@ -33,17 +41,18 @@ class BibtexKeyAutoCompleter extends AbstractAutoCompleter {
         return false;
     }
 
+    @Override
+    protected List<String> getFieldNames() {
+        return Collections.singletonList(BibEntry.KEY_FIELD);
+    }
+
     /**
      * {@inheritDoc}
      * The bibtex key of the entry will be added to the index.
      */
     @Override
-    public void addBibtexEntry(BibEntry entry) {
-        if (entry == null) {
-            return;
-        }
-
-        entry.getCiteKeyOptional().ifPresent(key -> addItemToIndex(key.trim()));
+    protected void collectWords(String key, Consumer<String> words) {
+        words.accept(key.trim());
     }
 
     @Override
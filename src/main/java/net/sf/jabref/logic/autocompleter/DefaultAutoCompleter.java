@@ -15,10 +15,11 @@
 */
 package net.sf.jabref.logic.autocompleter;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.StringTokenizer;
-
-import net.sf.jabref.model.entry.BibEntry;
+import java.util.function.Consumer;
 
 /**
  * Delivers possible completions for a given string.
@@ -28,7 +29,7 @@ import net.sf.jabref.model.entry.BibEntry;
  */
 class DefaultAutoCompleter extends AbstractAutoCompleter {
 
-    private final String fieldName;
+    private final List<String> fieldNames;
 
     private static final String SEPARATING_CHARS = ";,\n ";
 
@@ -36,9 +37,13 @@ class DefaultAutoCompleter extends AbstractAutoCompleter {
      * @see AutoCompleterFactory
      */
     DefaultAutoCompleter(String fieldName, AutoCompletePreferences preferences) {
-        super(preferences);
+        this(fieldName, preferences, new AutoCompleteIndex());
+    }
 
-        this.fieldName = Objects.requireNonNull(fieldName);
+    DefaultAutoCompleter(String fieldName, AutoCompletePreferences preferences, AutoCompleteIndex index) {
+        super(preferences, index);
+
+        this.fieldNames = Collections.singletonList(Objects.requireNonNull(fieldName));
     }
 
     @Override
@@ -46,21 +51,20 @@ class DefaultAutoCompleter extends AbstractAutoCompleter {
         return false;
     }
 
+    @Override
+    protected List<String> getFieldNames() {
+        return fieldNames;
+    }
+
     /**
      * {@inheritDoc}
      * Stores all words in the given field which are separated by SEPARATING_CHARS.
      */
     @Override
-    public void addBibtexEntry(BibEntry entry) {
-        if (entry == null) {
-            return;
+    protected void collectWords(String fieldValue, Consumer<String> words) {
+        StringTokenizer tok = new StringTokenizer(fieldValue, SEPARATING_CHARS);
+        while (tok.hasMoreTokens()) {
+            words.accept(tok.nextToken());
         }
-
-        entry.getFieldOptional(fieldName).ifPresent(fieldValue -> {
-            StringTokenizer tok = new StringTokenizer(fieldValue, SEPARATING_CHARS);
-            while (tok.hasMoreTokens()) {
-                addItemToIndex(tok.nextToken());
-            }
-        });
     }
 }
@@ -15,9 +15,10 @@
 */
 package net.sf.jabref.logic.autocompleter;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
-
-import net.sf.jabref.model.entry.BibEntry;
+import java.util.function.Consumer;
 
 /**
  * Delivers possible completions for a given string.
@@ -27,15 +28,19 @@ import net.sf.jabref.model.entry.BibEntry;
  */
 class EntireFieldAutoCompleter extends AbstractAutoCompleter {
 
-    private final String fieldName;
+    private final List<String> fieldNames;
 
     /**
      * @see AutoCompleterFactory
      */
     EntireFieldAutoCompleter(String fieldName, AutoCompletePreferences preferences) {
-        super(preferences);
+        this(fieldName, preferences, new AutoCompleteIndex());
+    }
 
-        this.fieldName = Objects.requireNonNull(fieldName);
+    EntireFieldAutoCompleter(String fieldName, AutoCompletePreferences preferences, AutoCompleteIndex index) {
+        super(preferences, index);
+
+        this.fieldNames = Collections.singletonList(Objects.requireNonNull(fieldName));
     }
 
     @Override
@@ -43,16 +48,17 @@ class EntireFieldAutoCompleter extends AbstractAutoCompleter {
         return true;
     }
 
+    @Override
+    protected List<String> getFieldNames() {
+        return fieldNames;
+    }
+
     /**
      * {@inheritDoc}
      * Stores the full original value of the given field.
      */
     @Override
-    public void addBibtexEntry(BibEntry entry) {
-        if (entry == null) {
-            return;
-        }
-
-        entry.getFieldOptional(fieldName).ifPresent(fieldValue -> addItemToIndex(fieldValue.trim()));
+    protected void collectWords(String fieldValue, Consumer<String> words) {
+        words.accept(fieldValue.trim());
     }
 }
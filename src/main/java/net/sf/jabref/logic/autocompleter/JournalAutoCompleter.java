@@ -32,7 +32,12 @@ public class JournalAutoCompleter extends EntireFieldAutoCompleter {
 
     JournalAutoCompleter(String fieldName, AutoCompletePreferences preferences,
             JournalAbbreviationLoader abbreviationLoader) {
-        super(fieldName, preferences);
+        this(fieldName, preferences, abbreviationLoader, new AutoCompleteIndex());
+    }
+
+    JournalAutoCompleter(String fieldName, AutoCompletePreferences preferences,
+            JournalAbbreviationLoader abbreviationLoader, AutoCompleteIndex index) {
+        super(fieldName, preferences, index);
         this.abbreviationLoader = Objects.requireNonNull(abbreviationLoader);
         this.journalAbbreviationPreferences = preferences.getJournalAbbreviationPreferences();
     }
@@ -40,10 +45,14 @@ public class JournalAutoCompleter extends EntireFieldAutoCompleter {
     @Override
     public List<String> complete(String toComplete) {
         List<String> completions = super.complete(toComplete);
+        if (toComplete == null) {
+            return completions;
+        }
 
         // Also return journal names in the journal abbreviation list
-        for (Abbreviation abbreviation : abbreviationLoader
-                .getRepository(journalAbbreviationPreferences).getAbbreviations()) {
+        // (the repository matches all names ignoring case, thus the full names are checked again)
+        for (Abbreviation abbreviation : abbreviationLoader.getRepository(journalAbbreviationPreferences)
+                .getAbbreviationsStartingWith(toComplete)) {
             if (abbreviation.getName().startsWith(toComplete)) {
                 completions.add(abbreviation.getName());
             }
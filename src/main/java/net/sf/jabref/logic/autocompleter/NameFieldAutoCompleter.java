@@ -19,10 +19,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import net.sf.jabref.model.entry.Author;
 import net.sf.jabref.model.entry.AuthorList;
-import net.sf.jabref.model.entry.BibEntry;
 
 /**
  * Delivers possible completions for a given string.
@@ -49,12 +49,21 @@ class NameFieldAutoCompleter extends AbstractAutoCompleter {
      * @see AutoCompleterFactory
      */
     NameFieldAutoCompleter(String fieldName, AutoCompletePreferences preferences) {
-        this(Collections.singletonList(Objects.requireNonNull(fieldName)), false, preferences);
+        this(fieldName, preferences, new AutoCompleteIndex());
+    }
+
+    NameFieldAutoCompleter(String fieldName, AutoCompletePreferences preferences, AutoCompleteIndex index) {
+        this(Collections.singletonList(Objects.requireNonNull(fieldName)), false, preferences, index);
     }
 
     public NameFieldAutoCompleter(List<String> fieldNames, boolean lastNameOnlyAndSeparationBySpace,
             AutoCompletePreferences preferences) {
-        super(preferences);
+        this(fieldNames, lastNameOnlyAndSeparationBySpace, preferences, new AutoCompleteIndex());
+    }
+
+    NameFieldAutoCompleter(List<String> fieldNames, boolean lastNameOnlyAndSeparationBySpace,
+            AutoCompletePreferences preferences, AutoCompleteIndex index) {
+        super(preferences, index);
 
         this.fieldNames = Objects.requireNonNull(fieldNames);
         this.lastNameOnlyAndSeparationBySpace = lastNameOnlyAndSeparationBySpace;
@@ -86,17 +95,15 @@ class NameFieldAutoCompleter extends AbstractAutoCompleter {
     }
 
     @Override
-    public void addBibtexEntry(BibEntry entry) {
-        if (entry == null) {
-            return;
-        }
-        for (String fieldName : fieldNames) {
-            entry.getFieldOptional(fieldName).ifPresent(fieldValue ->  {
-                AuthorList authorList = AuthorList.parse(fieldValue);
-                for (Author author : authorList.getAuthors()) {
-                    handleAuthor(author);
-                }
-            });
+    protected List<String> getFieldNames() {
+        return fieldNames;
+    }
+
+    @Override
+    protected void collectWords(String fieldValue, Consumer<String> words) {
+        AuthorList authorList = AuthorList.parse(fieldValue);
+        for (Author author : authorList.getAuthors()) {
+            handleAuthor(author, words);
         }
     }
 
@@ -118,21 +125,21 @@ class NameFieldAutoCompleter extends AbstractAutoCompleter {
         return result;
     }
 
-    private void handleAuthor(Author author) {
+    private void handleAuthor(Author author, Consumer<String> words) {
         if (lastNameOnlyAndSeparationBySpace) {
-            addItemToIndex(author.getLastOnly());
+            words.accept(author.getLastOnly());
         } else {
             if (autoCompLF) {
                 switch (autoCompFirstnameMode) {
                 case ONLY_ABBREVIATED:
-                    addItemToIndex(author.getLastFirst(true));
+                    words.accept(author.getLastFirst(true));
                     break;
                 case ONLY_FULL:
-                    addItemToIndex(author.getLastFirst(false));
+                    words.accept(author.getLastFirst(false));
                     break;
                 case BOTH:
-                    addItemToIndex(author.getLastFirst(true));
-                    addItemToIndex(author.getLastFirst(false));
+                    words.accept(author.getLastFirst(true));
+                    words.accept(author.getLastFirst(false));
                     break;
                 default:
                     break;
@@ -141,14 +148,14 @@ class NameFieldAutoCompleter extends AbstractAutoCompleter {
             if (autoCompFF) {
                 switch (autoCompFirstnameMode) {
                 case ONLY_ABBREVIATED:
-                    addItemToIndex(author.getFirstLast(true));
+                    words.accept(author.getFirstLast(true));
                     break;
                 case ONLY_FULL:
-                    addItemToIndex(author.getFirstLast(false));
+                    words.accept(author.getFirstLast(false));
                     break;
                 case BOTH:
-                    addItemToIndex(author.getFirstLast(true));
-                    addItemToIndex(author.getFirstLast(false));
+                    words.accept(author.getFirstLast(true));
+                    words.accept(author.getFirstLast(false));
                     break;
                 default:
                     break;
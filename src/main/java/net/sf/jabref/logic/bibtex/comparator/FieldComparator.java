@@ -15,6 +15,7 @@
 */
 package net.sf.jabref.logic.bibtex.comparator;
 
+import java.text.CollationKey;
 import java.text.Collator;
 import java.text.ParseException;
 import java.text.RuleBasedCollator;
@@ -36,13 +37,14 @@ import net.sf.jabref.model.entry.MonthUtil;
  *
  * A comparator for BibEntry fields
  *
+ * The field values are prepared for comparison once per entry and kept in a {@link SortKeyCache} until the entry
+ * changes.
+ *
  * Initial Version:
  *
  * @author alver
  * @version Date: Oct 13, 2005 Time: 10:10:04 PM To
  *
- * TODO: Testcases
- *
  */
 public class FieldComparator implements Comparator<BibEntry> {
 
@@ -57,6 +59,11 @@ public class FieldComparator implements Comparator<BibEntry> {
     private final FieldType fieldType;
     private final boolean isNumeric;
     private final int multiplier;
+    /**
+     * Identifies the sort keys of this comparator in the {@link SortKeyCache}. Besides the field, it contains the
+     * properties of the field the sort keys depend on, as these may change, e.g., when the numeric fields are set.
+     */
+    private final String sortKeyName;
 
     public FieldComparator(String field) {
         this(field, false);
@@ -67,6 +74,7 @@ public class FieldComparator implements Comparator<BibEntry> {
         this.field = fieldName.split(FieldName.FIELD_SEPARATOR);
         fieldType = determineFieldType();
         isNumeric = InternalBibtexFields.isNumeric(this.field[0]);
+        sortKeyName = fieldType + ":" + isNumeric + ":" + fieldName;
 
         if(fieldType == FieldType.MONTH) {
             /*
@@ -109,54 +117,31 @@ public class FieldComparator implements Comparator<BibEntry> {
 
     @Override
     public int compare(BibEntry e1, BibEntry e2) {
-        String f1;
-        String f2;
-
-        if (fieldType == FieldType.TYPE) {
-            // Sort by type.
-            f1 = e1.getType();
-            f2 = e2.getType();
-        } else {
-            // If the field is author or editor, we rearrange names so they are
-            // sorted according to last name.
-            f1 = getField(e1);
-            f2 = getField(e2);
-        }
+        SortKey k1 = getSortKey(e1);
+        SortKey k2 = getSortKey(e2);
 
-        // Catch all cases involving null:
-        if ((f1 == null) && (f2 == null)) {
+        // Catch all cases involving missing fields:
+        if (k1.isMissing() && k2.isMissing()) {
             return 0;
-        } else if(f1 == null) {
+        } else if (k1.isMissing()) {
             return multiplier;
-        } else if (f2 == null) {
+        } else if (k2.isMissing()) {
             return -multiplier;
         }
 
-        // Now we now that both f1 and f2 are != null
-        if (fieldType == FieldType.NAME) {
-            f1 = AuthorList.fixAuthorForAlphabetization(f1);
-            f2 = AuthorList.fixAuthorForAlphabetization(f2);
-        } else if (fieldType == FieldType.YEAR) {
-            Integer f1year = StringUtil.intValueOfWithNull(f1);
-            Integer f2year = StringUtil.intValueOfWithNull(f2);
-            int comparisonResult = Integer.compare(f1year == null ? 0 : f1year, f2year == null ? 0 : f2year);
-            return comparisonResult * multiplier;
-        } else if (fieldType == FieldType.MONTH) {
-            return Integer.compare(MonthUtil.getMonth(f1).number, MonthUtil.getMonth(f2).number) * multiplier;
+        // Now we now that both fields are present
+        if ((fieldType == FieldType.YEAR) || (fieldType == FieldType.MONTH)) {
+            return Integer.compare(k1.number, k2.number) * multiplier;
         }
 
         if (isNumeric) {
-            Integer i1 = StringUtil.intValueOfWithNull(f1);
-            Integer i2 = StringUtil.intValueOfWithNull(f2);
-
-            if ((i2 != null) && (i1 != null)) {
-                // Ok, parsing was successful. Update f1 and f2:
-                return i1.compareTo(i2) * multiplier;
-            } else if (i1 != null) {
+            if ((k1.number != null) && (k2.number != null)) {
+                return k1.number.compareTo(k2.number) * multiplier;
+            } else if (k1.number != null) {
                 // The first one was parseable, but not the second one.
                 // This means we consider one < two
                 return -1 * multiplier;
-            } else if (i2 != null) {
+            } else if (k2.number != null) {
                 // The second one was parseable, but not the first one.
                 // This means we consider one > two
                 return 1 * multiplier;
@@ -164,9 +149,42 @@ public class FieldComparator implements Comparator<BibEntry> {
             // Else none of them were parseable, and we can fall back on comparing strings.
         }
 
-        String ours = f1.toLowerCase(Locale.ENGLISH);
-        String theirs = f2.toLowerCase(Locale.ENGLISH);
-        return COLLATOR.compare(ours, theirs) * multiplier;
+        return k1.text.compareTo(k2.text) * multiplier;
+    }
+
+    private SortKey getSortKey(BibEntry entry) {
+        return SortKeyCache.getInstance().getSortKey(entry, sortKeyName, this::computeSortKey);
+    }
+
+    /**
+     * Computes everything needed to compare the entry by this field: the parsed year, month or number and the
+     * collation key of the field value.
+     */
+    private SortKey computeSortKey(BibEntry entry) {
+        String value;
+        if (fieldType == FieldType.TYPE) {
+            // Sort by type.
+            value = entry.getType();
+        } else {
+            value = getField(entry);
+        }
+
+        if (value == null) {
+            return SortKey.MISSING;
+        }
+
+        if (fieldType == FieldType.YEAR) {
+            Integer year = StringUtil.intValueOfWithNull(value);
+            return new SortKey(year == null ? 0 : year, null);
+        } else if (fieldType == FieldType.MONTH) {
+            return new SortKey(MonthUtil.getMonth(value).number, null);
+        }
+
+        // If the field is author or editor, we rearrange names so they are
+        // sorted according to last name.
+        String text = fieldType == FieldType.NAME ? AuthorList.fixAuthorForAlphabetization(value) : value;
+        Integer number = isNumeric ? StringUtil.intValueOfWithNull(text) : null;
+        return new SortKey(number, COLLATOR.getCollationKey(text.toLowerCase(Locale.ENGLISH)));
     }
 
     private String getField(BibEntry entry) {
@@ -179,6 +197,27 @@ public class FieldComparator implements Comparator<BibEntry> {
         return null;
     }
 
+    /**
+     * The value of the field of an entry prepared for comparison.
+     */
+    private static class SortKey {
+
+        private static final SortKey MISSING = new SortKey(null, null);
+
+        private final Integer number;
+        private final CollationKey text;
+
+
+        private SortKey(Integer number, CollationKey text) {
+            this.number = number;
+            this.text = text;
+        }
+
+        private boolean isMissing() {
+            return this == MISSING;
+        }
+    }
+
     /**
      * Returns the field this Comparator compares by.
      *
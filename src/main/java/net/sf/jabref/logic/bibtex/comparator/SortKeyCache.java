@@ -0,0 +1,66 @@
+package net.sf.jabref.logic.bibtex.comparator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.model.event.EntryChangedEvent;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Caches the sort keys computed by {@link FieldComparator}s for each entry and field, so that sorting n entries
+ * computes O(n) sort keys instead of comparing the raw field values O(n log n) times.
+ * <p>
+ * All sort keys of an entry are dropped as soon as the entry posts a change, e.g., a
+ * {@link net.sf.jabref.model.event.FieldChangedEvent}. The entries are weakly referenced, thus the sort keys of
+ * entries which are not used anymore are garbage collected.
+ */
+final class SortKeyCache {
+
+    private static final SortKeyCache INSTANCE = new SortKeyCache();
+
+    /**
+     * The sort keys of an entry by the names of the sort keys, see {@link #getSortKey(BibEntry, String, Function)}.
+     * Weak keys are compared by identity, thus equal entries do not share their sort keys.
+     */
+    private final Cache<BibEntry, Map<String, Object>> sortKeysOfEntry = CacheBuilder.newBuilder().weakKeys()
+            .build();
+
+
+    private SortKeyCache() {
+    }
+
+    static SortKeyCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the sort key of the entry with the given name. If it is not cached, it is computed by the given
+     * function.
+     *
+     * @param sortKeyName identifies the field and everything else the sort key depends on besides the entry
+     */
+    @SuppressWarnings("unchecked")
+    <K> K getSortKey(BibEntry entry, String sortKeyName, Function<BibEntry, K> computeSortKey) {
+        Map<String, Object> sortKeys = sortKeysOfEntry.getIfPresent(entry);
+        if (sortKeys == null) {
+            Map<String, Object> newSortKeys = new ConcurrentHashMap<>();
+            sortKeys = sortKeysOfEntry.asMap().putIfAbsent(entry, newSortKeys);
+            if (sortKeys == null) {
+                sortKeys = newSortKeys;
+                // registering twice has no effect
+                entry.registerListener(this);
+            }
+        }
+        return (K) sortKeys.computeIfAbsent(sortKeyName, name -> computeSortKey.apply(entry));
+    }
+
+    @Subscribe
+    public void listen(EntryChangedEvent event) {
+        sortKeysOfEntry.invalidate(event.getBibEntry());
+    }
+}
@@ -0,0 +1,72 @@
+package net.sf.jabref.logic.bibtexkeypattern;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import net.sf.jabref.MetaData;
+import net.sf.jabref.model.FieldChange;
+import net.sf.jabref.model.database.BibDatabase;
+import net.sf.jabref.model.entry.BibEntry;
+
+/**
+ * Generates the BibTeX keys of many entries at once, e.g., for all entries of a database.
+ * <p>
+ * First, the keys given by the key patterns are computed for all entries in parallel. Then, the keys are made unique
+ * and set in a single pass over the entries in their given order, using the key counts kept by the database. Thus,
+ * the entries get the same keys as by calling
+ * {@link BibtexKeyPatternUtil#makeLabel(MetaData, BibDatabase, BibEntry, BibtexKeyPatternPreferences)} for one entry
+ * after the other. The links to the changed keys are updated afterwards in one pass, see
+ * {@link BibDatabase#changeKeys(Runnable)}.
+ */
+public class BibtexKeyGenerator {
+
+    private final MetaData metaData;
+    private final BibDatabase database;
+    private final BibtexKeyPatternPreferences bibtexKeyPatternPreferences;
+
+
+    public BibtexKeyGenerator(MetaData metaData, BibDatabase database,
+            BibtexKeyPatternPreferences bibtexKeyPatternPreferences) {
+        this.metaData = Objects.requireNonNull(metaData);
+        this.database = Objects.requireNonNull(database);
+        this.bibtexKeyPatternPreferences = Objects.requireNonNull(bibtexKeyPatternPreferences);
+    }
+
+    /**
+     * Generates and sets the keys of the given entries. The entries must not be changed concurrently.
+     *
+     * @return the changes of the keys in the order of the entries, omitting entries which kept their key
+     */
+    public List<FieldChange> generateKeys(List<BibEntry> entries) {
+        // the patterns are parsed up front, so that the parallel part only reads them
+        Map<String, KeyPatternPlan> plans = new HashMap<>();
+        for (BibEntry entry : entries) {
+            plans.computeIfAbsent(entry.getType(),
+                    type -> KeyPatternPlan.parse(metaData.getBibtexKeyPattern().getValue(type)));
+        }
+
+        List<String> keys = entries.parallelStream()
+                .map(entry -> BibtexKeyPatternUtil.makeKeyWithoutSuffix(plans.get(entry.getType()), entry, database,
+                        bibtexKeyPatternPreferences))
+                .collect(Collectors.toList());
+
+        List<FieldChange> changes = new ArrayList<>();
+        // the links to the changed keys are updated once all keys have been set
+        database.changeKeys(() -> {
+            for (int i = 0; i < entries.size(); i++) {
+                BibEntry entry = entries.get(i);
+                String oldKey = entry.getCiteKey();
+                BibtexKeyPatternUtil.setUniqueKey(database, entry, keys.get(i), bibtexKeyPatternPreferences);
+                String newKey = entry.getCiteKey();
+                if (!Objects.equals(oldKey, newKey)) {
+                    changes.add(new FieldChange(entry, BibEntry.KEY_FIELD, oldKey, newKey));
+                }
+            }
+        });
+        return changes;
+    }
+}
@@ -54,15 +54,8 @@ public class BibtexKeyPatternUtil {
 
     private static final int CHARS_OF_FIRST = 5;
 
-    private static BibDatabase database;
-
-    /**
-     * Required for LabelPatternUtilTest
-     *
-     * @param db the DB to use as global database
-     */
-    public static void setDataBase(BibDatabase db) {
-        database = db;
+    private static String resolveForStrings(BibDatabase database, String content) {
+        return database == null ? content : database.resolveForStrings(content);
     }
 
     private static String normalize(String content) {
@@ -391,50 +384,20 @@ public class BibtexKeyPatternUtil {
      */
     public static void makeLabel(MetaData metaData, BibDatabase dBase, BibEntry entry,
             BibtexKeyPatternPreferences bibtexKeyPatternPreferences) {
-        database = dBase;
-        String key;
-        StringBuilder stringBuilder = new StringBuilder();
-        boolean forceUpper = false;
-        boolean forceLower = false;
-
-        try {
-            // get the type of entry
-            String entryType = entry.getType();
-            // Get the arrayList corresponding to the type
-            List<String> typeList = new ArrayList<>(metaData.getBibtexKeyPattern().getValue(entryType));
-            if (!typeList.isEmpty()) {
-                typeList.remove(0);
-            }
-            boolean field = false;
-            for (String typeListEntry : typeList) {
-                if ("[".equals(typeListEntry)) {
-                    field = true;
-                } else if ("]".equals(typeListEntry)) {
-                    field = false;
-                } else if (field) {
-                    // check whether there is a modifier on the end such as
-                    // ":lower"
-                    String[] parts = parseFieldMarker(typeListEntry);
-
-                    String label = makeLabel(entry, parts[0]);
-
-                    // apply modifier if present
-                    if (parts.length > 1) {
-                        label = applyModifiers(label, parts, 1);
-                    }
-
-                    stringBuilder.append(label);
-
-                } else {
-                    stringBuilder.append(typeListEntry);
-                }
-            }
-        } catch (Exception e) {
-            LOGGER.warn("Cannot make label", e);
-        }
+        KeyPatternPlan plan = KeyPatternPlan.parse(metaData.getBibtexKeyPattern().getValue(entry.getType()));
+        String key = makeKeyWithoutSuffix(plan, entry, dBase, bibtexKeyPatternPreferences);
+        setUniqueKey(dBase, entry, key, bibtexKeyPatternPreferences);
+    }
 
+    /**
+     * Generates the key of the given entry according to the given pattern, without making it unique.
+     * <p>
+     * Thread-safe, as long as the entry and the strings of the database are not changed concurrently.
+     */
+    static String makeKeyWithoutSuffix(KeyPatternPlan plan, BibEntry entry, BibDatabase dBase,
+            BibtexKeyPatternPreferences bibtexKeyPatternPreferences) {
         // Remove all illegal characters from the key.
-        key = checkLegalKey(stringBuilder.toString(), bibtexKeyPatternPreferences.isEnforceLegalKey());
+        String key = checkLegalKey(plan.apply(entry, dBase), bibtexKeyPatternPreferences.isEnforceLegalKey());
 
         // Remove Regular Expressions while generating Keys
         String regex = bibtexKeyPatternPreferences.getKeyPatternRegex();
@@ -442,16 +405,17 @@ public class BibtexKeyPatternUtil {
             String replacement = bibtexKeyPatternPreferences.getKeyPatternReplacement();
             key = key.replaceAll(regex, replacement);
         }
+        return key;
+    }
 
-        if (forceUpper) {
-            key = key.toUpperCase();
-        }
-        if (forceLower) {
-            key = key.toLowerCase();
-        }
-
+    /**
+     * Sets the given key for the entry. If the key is already used by another entry of the database, a letter is
+     * appended to make it unique.
+     */
+    static void setUniqueKey(BibDatabase dBase, BibEntry entry, String key,
+            BibtexKeyPatternPreferences bibtexKeyPatternPreferences) {
         String oldKey = entry.getCiteKey();
-        int occurrences = database.getNumberOfKeyOccurrences(key);
+        int occurrences = dBase.getNumberOfKeyOccurrences(key);
 
         if (Objects.equals(oldKey, key)) {
             occurrences--; // No change, so we can accept one dupe.
@@ -463,11 +427,11 @@ public class BibtexKeyPatternUtil {
         if (!alwaysAddLetter && (occurrences == 0)) {
             // No dupes found, so we can just go ahead.
             if (!key.equals(oldKey)) {
-                if (!database.containsEntryWithId(entry.getId())) {
+                if (!dBase.containsEntryWithId(entry.getId())) {
                     // entry does not (yet) exist in the database, just update the entry
                     entry.setCiteKey(key);
                 } else {
-                    database.setCiteKeyForEntry(entry, key);
+                    dBase.setCiteKeyForEntry(entry, key);
                 }
             }
 
@@ -479,7 +443,7 @@ public class BibtexKeyPatternUtil {
             }
 
             String moddedKey = key + getAddition(number);
-            occurrences = database.getNumberOfKeyOccurrences(moddedKey);
+            occurrences = dBase.getNumberOfKeyOccurrences(moddedKey);
 
             if (Objects.equals(oldKey, moddedKey)) {
                 occurrences--;
@@ -489,18 +453,18 @@ public class BibtexKeyPatternUtil {
                 number++;
                 moddedKey = key + getAddition(number);
 
-                occurrences = database.getNumberOfKeyOccurrences(moddedKey);
+                occurrences = dBase.getNumberOfKeyOccurrences(moddedKey);
                 if (Objects.equals(oldKey, moddedKey)) {
                     occurrences--;
                 }
             }
 
             if (!moddedKey.equals(oldKey)) {
-                if (!database.containsEntryWithId(entry.getId())) {
+                if (!dBase.containsEntryWithId(entry.getId())) {
                     // entry does not (yet) exist in the database, just update the entry
                     entry.setCiteKey(moddedKey);
                 } else {
-                    database.setCiteKeyForEntry(entry, moddedKey);
+                    dBase.setCiteKeyForEntry(entry, moddedKey);
                 }
             }
         }
@@ -551,7 +515,12 @@ public class BibtexKeyPatternUtil {
         return resultingLabel;
     }
 
-    public static String makeLabel(BibEntry entry, String value) {
+    /**
+     * Generates the label for the given field marker, using the strings of the given database.
+     *
+     * @param database the database whose strings are resolved in the names, may be null
+     */
+    public static String makeLabel(BibEntry entry, String value, BibDatabase database) {
         String val = value;
         try {
             if (val.startsWith("auth") || val.startsWith("pureauth")) {
@@ -568,7 +537,7 @@ public class BibtexKeyPatternUtil {
                  */
                 String authString = entry.getField(FieldName.AUTHOR);
                 if (authString != null) {
-                    authString = normalize(database.resolveForStrings(authString));
+                    authString = normalize(resolveForStrings(database, authString));
                 }
 
                 if (val.startsWith("pure")) {
@@ -582,7 +551,7 @@ public class BibtexKeyPatternUtil {
                     if (authString == null) {
                         authString = "";
                     } else {
-                        authString = normalize(database.resolveForStrings(authString));
+                        authString = normalize(resolveForStrings(database, authString));
                     }
                 }
 
@@ -1310,7 +1279,7 @@ public class BibtexKeyPatternUtil {
      * @param arg The argument string.
      * @return An array of strings representing the parts of the marker
      */
-    private static String[] parseFieldMarker(String arg) {
+    static String[] parseFieldMarker(String arg) {
         List<String> parts = new ArrayList<>();
         StringBuilder current = new StringBuilder();
         boolean escaped = false;
@@ -0,0 +1,91 @@
+package net.sf.jabref.logic.bibtexkeypattern;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import net.sf.jabref.model.database.BibDatabase;
+import net.sf.jabref.model.entry.BibEntry;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * The key pattern of an entry type, split into its literal texts and its field markers once. Immutable, thus one plan
+ * can be applied to many entries, also concurrently.
+ */
+final class KeyPatternPlan {
+
+    private static final Log LOGGER = LogFactory.getLog(KeyPatternPlan.class);
+
+    // either a literal text or a field marker, split into the field and its modifiers
+    private final List<Part> parts;
+
+
+    private KeyPatternPlan(List<Part> parts) {
+        this.parts = Collections.unmodifiableList(parts);
+    }
+
+    /**
+     * @param pattern the key pattern as returned by
+     *                {@link net.sf.jabref.model.bibtexkeypattern.AbstractBibtexKeyPattern#getValue(String)}: the
+     *                complete pattern, followed by the literal texts and field markers enclosed in "[" and "]"
+     */
+    static KeyPatternPlan parse(List<String> pattern) {
+        List<Part> parts = new ArrayList<>();
+        boolean field = false;
+        // the first element is the complete pattern
+        for (String token : pattern.subList(Math.min(1, pattern.size()), pattern.size())) {
+            if ("[".equals(token)) {
+                field = true;
+            } else if ("]".equals(token)) {
+                field = false;
+            } else if (field) {
+                // check whether there is a modifier on the end such as ":lower"
+                parts.add(new Part(null, BibtexKeyPatternUtil.parseFieldMarker(token)));
+            } else {
+                parts.add(new Part(token, null));
+            }
+        }
+        return new KeyPatternPlan(parts);
+    }
+
+    /**
+     * Applies the pattern to the given entry. The strings of the given database are resolved in the fields.
+     */
+    String apply(BibEntry entry, BibDatabase database) {
+        StringBuilder stringBuilder = new StringBuilder();
+        try {
+            for (Part part : parts) {
+                if (part.literal == null) {
+                    String label = BibtexKeyPatternUtil.makeLabel(entry, part.fieldMarker[0], database);
+
+                    // apply modifier if present
+                    if (part.fieldMarker.length > 1) {
+                        label = BibtexKeyPatternUtil.applyModifiers(label, part.fieldMarker, 1);
+                    }
+
+                    stringBuilder.append(label);
+                } else {
+                    stringBuilder.append(part.literal);
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Cannot make label", e);
+        }
+        return stringBuilder.toString();
+    }
+
+
+    private static class Part {
+
+        private final String literal;
+        private final String[] fieldMarker;
+
+
+        Part(String literal, String[] fieldMarker) {
+            this.literal = literal;
+            this.fieldMarker = fieldMarker;
+        }
+    }
+}
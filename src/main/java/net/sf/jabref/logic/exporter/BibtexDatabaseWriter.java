@@ -38,6 +38,9 @@ public class BibtexDatabaseWriter<E extends SaveSession> extends BibDatabaseWrit
     private static final String COMMENT_PREFIX = "@Comment";
     private static final String PREAMBLE_PREFIX = "@Preamble";
 
+    private BibEntryWriter entryWriter;
+    private LatexFieldFormatterPreferences entryWriterPreferences;
+
 
     public BibtexDatabaseWriter(SaveSessionFactory<E> saveSessionFactory) {
         super(saveSessionFactory);
@@ -160,15 +163,30 @@ public class BibtexDatabaseWriter<E extends SaveSession> extends BibDatabaseWrit
     @Override
     protected void writeEntry(BibEntry entry, BibDatabaseMode mode, Boolean isReformatFile,
             LatexFieldFormatterPreferences latexFieldFormatterPreferences) throws SaveException {
-        BibEntryWriter bibtexEntryWriter = new BibEntryWriter(
-                new LatexFieldFormatter(latexFieldFormatterPreferences), true);
         try {
-            bibtexEntryWriter.write(entry, getWriter(), mode, isReformatFile);
+            // If the entry has not been modified, write it back as it was without setting up any formatter
+            if (!isReformatFile && !entry.hasChanged()) {
+                getWriter().write(entry.getParsedSerialization());
+                return;
+            }
+
+            getEntryWriter(latexFieldFormatterPreferences).write(entry, getWriter(), mode, isReformatFile);
         } catch (IOException e) {
             throw new SaveException(e, entry);
         }
     }
 
+    /**
+     * Returns an entry writer for the given preferences, which is shared by all modified entries of a save operation.
+     */
+    private BibEntryWriter getEntryWriter(LatexFieldFormatterPreferences latexFieldFormatterPreferences) {
+        if ((entryWriter == null) || (entryWriterPreferences != latexFieldFormatterPreferences)) {
+            entryWriter = new BibEntryWriter(new LatexFieldFormatter(latexFieldFormatterPreferences), true);
+            entryWriterPreferences = latexFieldFormatterPreferences;
+        }
+        return entryWriter;
+    }
+
     private Writer getWriter() {
         return getActiveSession().getWriter();
     }
@@ -16,26 +16,26 @@
 package net.sf.jabref.logic.exporter;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.Reader;
-import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import net.sf.jabref.BibDatabaseContext;
 import net.sf.jabref.Globals;
 import net.sf.jabref.logic.layout.Layout;
 import net.sf.jabref.logic.layout.LayoutFormatterPreferences;
-import net.sf.jabref.logic.layout.LayoutHelper;
 import net.sf.jabref.model.entry.BibEntry;
 
 import org.apache.commons.logging.Log;
@@ -57,6 +57,11 @@ public class ExportFormat implements IExportFormat {
     private boolean customExport;
     private static final String LAYOUT_PREFIX = "/resource/layout/";
 
+    // the number of entries which are formatted in parallel before they are written
+    private static final int ENTRIES_PER_BATCH = 1000;
+
+    private static final LayoutCache LAYOUTS = new LayoutCache();
+
     private static final Log LOGGER = LogFactory.getLog(ExportFormat.class);
 
     /**
@@ -130,47 +135,28 @@ public class ExportFormat implements IExportFormat {
     }
 
     /**
-     * This method should return a reader from which the given layout file can
-     * be read.
-     * <p>
-     * <p>
-     * Subclasses of ExportFormat are free to override and provide their own
-     * implementation.
-     *
-     * @param filename the filename
-     * @return a newly created reader
-     * @throws IOException if the reader could not be created
+     * Returns the name under which the given layout file is looked up, see {@link LayoutCache#getLayout}.
      */
-    private Reader getReader(String filename) throws IOException {
+    private String getLayoutName(String filename) {
         // If this is a custom export, just use the given filename:
-        String dir;
         if (customExport) {
-            dir = "";
-        } else {
-            dir = LAYOUT_PREFIX + (directory == null ? "" : directory + '/');
+            return filename;
         }
+        return LAYOUT_PREFIX + (directory == null ? "" : directory + '/') + filename;
+    }
 
-        // Attempt to get a Reader for the file path given, either by
-        // loading it as a resource (from within JAR), or as a normal file. If
-        // unsuccessful (e.g. file not found), an IOException is thrown.
-        String name = dir + filename;
-        Reader reader;
-        // Try loading as a resource first. This works for files inside the JAR:
-        URL reso = Globals.class.getResource(name);
-
-        // If that did not work, try loading as a normal file URL:
+    /**
+     * Returns the parsed layout of the given file, or an empty Optional if there is no such layout file or it cannot
+     * be read.
+     */
+    private Optional<Layout> getOptionalLayout(String filename, LayoutFormatterPreferences layoutPreferences,
+            Object preferencesKey) {
         try {
-            if (reso == null) {
-                File f = new File(name);
-                reader = new FileReader(f);
-            } else {
-                reader = new InputStreamReader(reso.openStream());
-            }
-        } catch (FileNotFoundException ex) {
-            throw new IOException("Cannot find layout file: '" + name + "'.");
+            return LAYOUTS.getLayout(getLayoutName(filename), layoutPreferences, preferencesKey);
+        } catch (IOException ex) {
+            LOGGER.warn("Cannot read layout file: '" + getLayoutName(filename) + "'.", ex);
+            return Optional.empty();
         }
-
-        return reader;
     }
 
     /**
@@ -210,27 +196,28 @@ public class ExportFormat implements IExportFormat {
 
         try (VerifyingWriter ps = ss.getWriter()) {
 
-            Layout beginLayout = null;
-
             // Check if this export filter has bundled name formatters:
             // Set a global field, so all layouts have access to the custom name formatters:
             Globals.prefs.customExportNameFormatters = readFormatterFile(lfFileName);
 
+            LayoutFormatterPreferences layoutPreferences = LayoutFormatterPreferences.fromPreferences(Globals.prefs,
+                    Globals.journalAbbreviationLoader);
+            // The cached layouts are parsed again if the preferences, the custom name formatters or the file
+            // directories of the exported database have changed, as the formatters are created with them
+            Object preferencesKey = Arrays.asList(Globals.prefs.getSnapshot(),
+                    Globals.prefs.customExportNameFormatters,
+                    layoutPreferences.getFileLinkPreferences().getGeneratedDirForDatabase(),
+                    layoutPreferences.getFileLinkPreferences().getFileDirForDatabase());
+
             List<String> missingFormatters = new ArrayList<>(1);
 
-            // Print header
-            try (Reader reader = getReader(lfFileName + ".begin.layout")) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader,
-                        LayoutFormatterPreferences.fromPreferences(Globals.prefs, Globals.journalAbbreviationLoader));
-                beginLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was cast, export filter doesn't have a begin
-                // file.
-            }
+            // Print header. If there is no begin layout, the export filter doesn't have a begin file.
+            Optional<Layout> beginLayout = getOptionalLayout(lfFileName + ".begin.layout", layoutPreferences,
+                    preferencesKey);
             // Write the header
-            if (beginLayout != null) {
-                ps.write(beginLayout.doLayout(databaseContext, encoding));
-                missingFormatters.addAll(beginLayout.getMissingFormatters());
+            if (beginLayout.isPresent()) {
+                ps.write(beginLayout.get().doLayout(databaseContext, encoding));
+                missingFormatters.addAll(beginLayout.get().getMissingFormatters());
             }
 
             /*
@@ -244,69 +231,53 @@ public class ExportFormat implements IExportFormat {
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(databaseContext, entries, savePrefs);
 
             // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + ".layout")) {
-                layoutHelper = new LayoutHelper(reader,
-                        LayoutFormatterPreferences.fromPreferences(Globals.prefs, Globals.journalAbbreviationLoader));
-                defLayout = layoutHelper.getLayoutFromText();
-            }
-            if (defLayout != null) {
-                missingFormatters.addAll(defLayout.getMissingFormatters());
-                if (!missingFormatters.isEmpty()) {
-                    LOGGER.warn(missingFormatters);
-                }
+            String defLayoutName = getLayoutName(lfFileName + ".layout");
+            Layout defLayout = LAYOUTS.getLayout(defLayoutName, layoutPreferences, preferencesKey)
+                    .orElseThrow(() -> new IOException("Cannot find layout file: '" + defLayoutName + "'."));
+            missingFormatters.addAll(defLayout.getMissingFormatters());
+            if (!missingFormatters.isEmpty()) {
+                LOGGER.warn(missingFormatters);
             }
-            Map<String, Layout> layouts = new HashMap<>();
-            Layout layout;
 
-            ExportFormats.entryNumber = 0;
+            // Get the layouts of the entry types. If there is no type-specific layout, we go with the default one.
+            Map<String, Layout> layouts = new HashMap<>();
             for (BibEntry entry : sorted) {
-                ExportFormats.entryNumber++; // Increment entry counter.
-                // Get the layout
                 String type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type + ".layout")) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, LayoutFormatterPreferences
-                                .fromPreferences(Globals.prefs, Globals.journalAbbreviationLoader));
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
-                    }
+                if (!layouts.containsKey(type)) {
+                    Optional<Layout> layout = getOptionalLayout(lfFileName + '.' + type + ".layout",
+                            layoutPreferences, preferencesKey);
+                    layout.ifPresent(typeLayout -> missingFormatters.addAll(typeLayout.getMissingFormatters()));
+                    layouts.put(type, layout.orElse(defLayout));
                 }
-
-                // Write the entry
-                ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
             }
 
-            // Print footer
-
-            // changed section - begin (arudert)
-            Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + ".end.layout")) {
-                layoutHelper = new LayoutHelper(reader,
-                        LayoutFormatterPreferences.fromPreferences(Globals.prefs, Globals.journalAbbreviationLoader));
-                endLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was thrown, export filter doesn't have an end
-                // file.
+            // Write the entries. Each batch of entries is formatted in parallel and written in order, unless the
+            // layouts contain groups, which depend on the entry before.
+            boolean formatInParallel = layouts.values().stream().noneMatch(Layout::containsGroups);
+            for (int start = 0; start < sorted.size(); start += ENTRIES_PER_BATCH) {
+                IntStream entryIndices = IntStream.range(start, Math.min(start + ENTRIES_PER_BATCH, sorted.size()));
+                if (formatInParallel) {
+                    entryIndices = entryIndices.parallel();
+                }
+                List<String> formattedEntries = entryIndices.mapToObj(index -> {
+                    BibEntry entry = sorted.get(index);
+                    ExportFormats.setEntryNumber(index + 1);
+                    return layouts.get(entry.getType()).doLayout(entry, databaseContext.getDatabase());
+                }).collect(Collectors.toList());
+
+                for (String formattedEntry : formattedEntries) {
+                    ps.write(formattedEntry);
+                }
             }
 
+            // Print footer. If there is no end layout, the export filter doesn't have an end file.
+            Optional<Layout> endLayout = getOptionalLayout(lfFileName + ".end.layout", layoutPreferences,
+                    preferencesKey);
+
             // Write footer
-            if (endLayout != null) {
-                ps.write(endLayout.doLayout(databaseContext, this.encoding));
-                missingFormatters.addAll(endLayout.getMissingFormatters());
+            if (endLayout.isPresent()) {
+                ps.write(endLayout.get().doLayout(databaseContext, this.encoding));
+                missingFormatters.addAll(endLayout.get().getMissingFormatters());
             }
 
             // Clear custom name formatters:
@@ -26,8 +26,9 @@ public class ExportFormats {
 
     private static final Map<String, IExportFormat> EXPORT_FORMATS = new TreeMap<>();
 
-    // Global variable that is used for counting output entries when exporting:
-    public static int entryNumber;
+    // The number of the entry which is formatted by the current thread, used for counting output entries when
+    // exporting. Kept per thread, as the entries are formatted concurrently.
+    private static final ThreadLocal<Integer> ENTRY_NUMBER = ThreadLocal.withInitial(() -> 0);
 
 
     public static void initAllExports(Map<String, ExportFormat> customFormats) {
@@ -121,6 +122,21 @@ public class ExportFormats {
     }
 
 
+    /**
+     * @return the number of the entry which is currently formatted by the calling thread
+     */
+    public static int getEntryNumber() {
+        return ENTRY_NUMBER.get();
+    }
+
+    /**
+     * Sets the number of the entry which is formatted next by the calling thread, see
+     * {@link net.sf.jabref.logic.layout.format.Number}.
+     */
+    public static void setEntryNumber(int entryNumber) {
+        ENTRY_NUMBER.set(entryNumber);
+    }
+
     private static void putFormat(IExportFormat format) {
         ExportFormats.EXPORT_FORMATS.put(format.getConsoleName(), format);
     }
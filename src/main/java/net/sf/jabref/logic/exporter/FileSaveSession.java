@@ -15,8 +15,7 @@
 */
 package net.sf.jabref.logic.exporter;
 
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
@@ -53,6 +52,7 @@ public class FileSaveSession extends SaveSession {
     private static final String BACKUP_EXTENSION = ".bak";
     private static final String TEMP_PREFIX = "jabref";
     private static final String TEMP_SUFFIX = "save.bib";
+    private static final int BUFFER_SIZE = 64 * 1024;
     private final boolean useLockFile;
     private final Path temporaryFile;
 
@@ -68,8 +68,9 @@ public class FileSaveSession extends SaveSession {
 
     private static VerifyingWriter getWriterForFile(Charset encoding, Path file) throws SaveException {
         try {
-            return new VerifyingWriter(new FileOutputStream(file.toFile()), encoding);
-        } catch (FileNotFoundException e) {
+            // a single channel with a large buffer, so that writing many small entries does not cause many system calls
+            return new VerifyingWriter(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE), encoding);
+        } catch (IOException e) {
             throw new SaveException(e);
         }
     }
@@ -0,0 +1,89 @@
+package net.sf.jabref.logic.exporter;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.sf.jabref.Globals;
+import net.sf.jabref.logic.layout.Layout;
+import net.sf.jabref.logic.layout.LayoutFormatterPreferences;
+import net.sf.jabref.logic.layout.LayoutHelper;
+
+/**
+ * Caches the parsed layouts of the export formats, so that the layout files are not read and parsed for each export.
+ * <p>
+ * A layout is parsed again as soon as the modification time of its file or the preferences have changed. Layouts
+ * found in the classpath, i.e., the layouts of the built-in export formats, cannot change. Missing layout files are
+ * cached as well, as most export formats do not have a layout for each entry type.
+ * <p>
+ * Thread-safe. The cached layouts are shared, thus they must not be changed, e.g., by setting a post formatter.
+ */
+class LayoutCache {
+
+    // the modification time of the layouts found in the classpath
+    private static final long RESOURCE = -1;
+
+    private final Map<String, CachedLayout> layouts = new ConcurrentHashMap<>();
+
+
+    /**
+     * @param name           the name of the layout file, which is looked up in the classpath first and in the file
+     *                       system then
+     * @param preferences    the preferences to parse the layout with
+     * @param preferencesKey identifies the given preferences: a layout cached with another key is parsed again
+     * @return the parsed layout, or an empty Optional if there is no such layout file
+     * @throws IOException if the layout file cannot be read
+     */
+    Optional<Layout> getLayout(String name, LayoutFormatterPreferences preferences, Object preferencesKey)
+            throws IOException {
+        URL resource = Globals.class.getResource(name);
+        // 0 if the file does not exist
+        long modificationTime = resource == null ? new File(name).lastModified() : RESOURCE;
+
+        CachedLayout cachedLayout = layouts.get(name);
+        if ((cachedLayout != null) && cachedLayout.isUpToDate(modificationTime, preferencesKey)) {
+            return cachedLayout.layout;
+        }
+
+        Optional<Layout> layout = readLayout(name, resource, preferences);
+        layouts.put(name, new CachedLayout(modificationTime, preferencesKey, layout));
+        return layout;
+    }
+
+    private static Optional<Layout> readLayout(String name, URL resource, LayoutFormatterPreferences preferences)
+            throws IOException {
+        try (Reader reader = resource == null ? new FileReader(name) : new InputStreamReader(resource.openStream())) {
+            return Optional.of(new LayoutHelper(reader, preferences).getLayoutFromText());
+        } catch (FileNotFoundException ex) {
+            return Optional.empty();
+        }
+    }
+
+
+    private static class CachedLayout {
+
+        private final long modificationTime;
+        private final Object preferencesKey;
+        private final Optional<Layout> layout;
+
+
+        CachedLayout(long modificationTime, Object preferencesKey, Optional<Layout> layout) {
+            this.modificationTime = modificationTime;
+            this.preferencesKey = preferencesKey;
+            this.layout = layout;
+        }
+
+        boolean isUpToDate(long currentModificationTime, Object currentPreferencesKey) {
+            return (modificationTime == currentModificationTime)
+                    && Objects.equals(preferencesKey, currentPreferencesKey);
+        }
+    }
+}
@@ -31,6 +31,7 @@ import java.util.TreeSet;
 public class VerifyingWriter extends OutputStreamWriter {
 
     private final CharsetEncoder encoder;
+    private final boolean isUnicode;
     private boolean couldEncodeAll = true;
     private final Set<Character> problemCharacters = new TreeSet<>();
 
@@ -38,12 +39,13 @@ public class VerifyingWriter extends OutputStreamWriter {
     public VerifyingWriter(OutputStream out, Charset encoding) {
         super(out, encoding);
         encoder = encoding.newEncoder();
+        isUnicode = encoding.name().startsWith("UTF-");
     }
 
     @Override
     public void write(String str) throws IOException {
         super.write(str);
-        if (!encoder.canEncode(str)) {
+        if (!canEncode(str)) {
             for (int i = 0; i < str.length(); i++) {
                 if (!encoder.canEncode(str.charAt(i))) {
                     problemCharacters.add(str.charAt(i));
@@ -53,6 +55,23 @@ public class VerifyingWriter extends OutputStreamWriter {
         }
     }
 
+    /**
+     * Checks whether the encoding supports the given text. The check of the encoder encodes the whole text a second
+     * time, which is avoided for Unicode encodings as these can only fail on surrogates.
+     */
+    private boolean canEncode(String str) {
+        if (isUnicode) {
+            boolean hasSurrogates = false;
+            for (int i = 0; (i < str.length()) && !hasSurrogates; i++) {
+                hasSurrogates = Character.isSurrogate(str.charAt(i));
+            }
+            if (!hasSurrogates) {
+                return true;
+            }
+        }
+        return encoder.canEncode(str);
+    }
+
     public boolean couldEncodeAll() {
         return couldEncodeAll;
     }
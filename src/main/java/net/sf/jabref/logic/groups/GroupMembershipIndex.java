@@ -0,0 +1,295 @@
+package net.sf.jabref.logic.groups;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import net.sf.jabref.model.database.BibDatabase;
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.model.event.EntryAddedEvent;
+import net.sf.jabref.model.event.EntryChangedEvent;
+import net.sf.jabref.model.event.EntryRemovedEvent;
+import net.sf.jabref.model.event.FieldChangedEvent;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps the entries of a database contained in each group as a bit set over the ordinals of the entries, so that the
+ * entries shown for a selection of groups and the number of hits of a group are computed by set operations instead of
+ * matching every entry against the search rules of the groups.
+ * <p>
+ * The entries contained in a group (ignoring the hierarchy) are determined on the first request for that group. Then,
+ * they are kept in sync through the event bus of the database: a changed field is only matched again against the
+ * groups depending on that field. The union and intersection with the subgroups or the parent group (see
+ * {@link GroupTreeNode#getSearchRule()}) are computed from these sets on each request, so that changes of the groups
+ * tree need no update of the index.
+ */
+public class GroupMembershipIndex {
+
+    private final BibDatabase database;
+    private boolean built;
+
+    private final Map<BibEntry, Integer> ordinalOfEntry = new IdentityHashMap<>();
+    private int nextOrdinal;
+    private BibEntry[] entryOfOrdinal = new BibEntry[16];
+    private final BitSet usedOrdinals = new BitSet();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    /**
+     * The ordinals of the entries contained in each group requested so far.
+     */
+    private final Map<AbstractGroup, BitSet> membersOfGroup = new IdentityHashMap<>();
+
+
+    public GroupMembershipIndex(BibDatabase database) {
+        this.database = Objects.requireNonNull(database);
+    }
+
+    /**
+     * Determines the number of entries of the database which are matched by the search rule of the given node.
+     */
+    public synchronized int getNumberOfHits(GroupTreeNode node) {
+        ensureBuilt();
+        return getMatches(node).cardinality();
+    }
+
+    /**
+     * Returns the entries of the database matched by the search rules of the given nodes.
+     *
+     * @param requireAll if true, the entries have to be matched by all nodes, otherwise by any node
+     * @param invert     if true, the entries not matched are returned
+     */
+    public synchronized List<BibEntry> getMatchingEntries(List<GroupTreeNode> nodes, boolean requireAll,
+            boolean invert) {
+        ensureBuilt();
+        BitSet matches = new BitSet(nextOrdinal);
+        if (requireAll) {
+            matches.or(usedOrdinals);
+        }
+        for (GroupTreeNode node : nodes) {
+            if (requireAll) {
+                matches.and(getMatches(node));
+            } else {
+                matches.or(getMatches(node));
+            }
+        }
+        if (invert) {
+            matches.xor(usedOrdinals);
+        }
+        return getEntries(matches);
+    }
+
+    /**
+     * Returns the nodes of the given subtree whose search rule matches at least one of the given entries.
+     *
+     * @see GroupTreeNode#getMatchingGroups(List)
+     */
+    public synchronized List<GroupTreeNode> getMatchingGroups(GroupTreeNode root, List<BibEntry> entries) {
+        ensureBuilt();
+        BitSet ordinals = getOrdinals(entries);
+        List<GroupTreeNode> groups = new ArrayList<>();
+        collectMatchingGroups(root, ordinals, groups);
+        return groups;
+    }
+
+    private void collectMatchingGroups(GroupTreeNode node, BitSet ordinals, List<GroupTreeNode> groups) {
+        if (getMatches(node).intersects(ordinals)) {
+            groups.add(node);
+        }
+        for (GroupTreeNode child : node.getChildren()) {
+            collectMatchingGroups(child, ordinals, groups);
+        }
+    }
+
+    /**
+     * Returns the nodes of the given subtree whose group contains any or all of the given entries. Entries which are
+     * not in the database are not contained in any group.
+     *
+     * @see GroupTreeNode#getContainingGroups(List, boolean)
+     */
+    public synchronized List<GroupTreeNode> getContainingGroups(GroupTreeNode root, List<BibEntry> entries,
+            boolean requireAll) {
+        ensureBuilt();
+        BitSet ordinals = getOrdinals(entries);
+        boolean allKnown = entries.stream().allMatch(ordinalOfEntry::containsKey);
+        List<GroupTreeNode> groups = new ArrayList<>();
+        collectContainingGroups(root, ordinals, requireAll, allKnown, groups);
+        return groups;
+    }
+
+    private void collectContainingGroups(GroupTreeNode node, BitSet ordinals, boolean requireAll, boolean allKnown,
+            List<GroupTreeNode> groups) {
+        BitSet members = getMembers(node.getGroup());
+        boolean contained;
+        if (requireAll) {
+            BitSet notContained = (BitSet) ordinals.clone();
+            notContained.andNot(members);
+            contained = allKnown && notContained.isEmpty();
+        } else {
+            contained = members.intersects(ordinals);
+        }
+        if (contained) {
+            groups.add(node);
+        }
+        for (GroupTreeNode child : node.getChildren()) {
+            collectContainingGroups(child, ordinals, requireAll, allKnown, groups);
+        }
+    }
+
+    /**
+     * Removes the entries contained in the groups which are not part of the given tree.
+     */
+    public synchronized void retainGroupsOf(GroupTreeNode root) {
+        Set<AbstractGroup> groups = Collections.newSetFromMap(new IdentityHashMap<>());
+        collectGroups(root, groups);
+        membersOfGroup.keySet().retainAll(groups);
+    }
+
+    private static void collectGroups(GroupTreeNode node, Set<AbstractGroup> groups) {
+        groups.add(node.getGroup());
+        for (GroupTreeNode child : node.getChildren()) {
+            collectGroups(child, groups);
+        }
+    }
+
+    /**
+     * Returns the ordinals of the entries matched by the search rule of the node, see
+     * {@link GroupTreeNode#getSearchRule()}.
+     */
+    private BitSet getMatches(GroupTreeNode node) {
+        return getMatches(node, node.getGroup().getHierarchicalContext());
+    }
+
+    private BitSet getMatches(GroupTreeNode node, GroupHierarchyType originalContext) {
+        GroupHierarchyType context = node.getGroup().getHierarchicalContext();
+        BitSet matches = (BitSet) getMembers(node.getGroup()).clone();
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            for (GroupTreeNode child : node.getChildren()) {
+                matches.or(getMatches(child, originalContext));
+            }
+        } else if ((context == GroupHierarchyType.REFINING) && (originalContext != GroupHierarchyType.INCLUDING)) {
+            node.getParent().ifPresent(parent -> matches.and(getMatches(parent, originalContext)));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the ordinals of the entries contained in the group, ignoring the hierarchy.
+     */
+    private BitSet getMembers(AbstractGroup group) {
+        BitSet members = membersOfGroup.get(group);
+        if (members == null) {
+            members = new BitSet(nextOrdinal);
+            for (int i = usedOrdinals.nextSetBit(0); i >= 0; i = usedOrdinals.nextSetBit(i + 1)) {
+                if (group.contains(entryOfOrdinal[i])) {
+                    members.set(i);
+                }
+            }
+            membersOfGroup.put(group, members);
+        }
+        return members;
+    }
+
+    private BitSet getOrdinals(List<BibEntry> entries) {
+        BitSet ordinals = new BitSet(nextOrdinal);
+        for (BibEntry entry : entries) {
+            Integer ordinal = ordinalOfEntry.get(entry);
+            if (ordinal != null) {
+                ordinals.set(ordinal);
+            }
+        }
+        return ordinals;
+    }
+
+    private List<BibEntry> getEntries(BitSet ordinals) {
+        List<BibEntry> entries = new ArrayList<>(ordinals.cardinality());
+        for (int i = ordinals.nextSetBit(0); i >= 0; i = ordinals.nextSetBit(i + 1)) {
+            entries.add(entryOfOrdinal[i]);
+        }
+        return entries;
+    }
+
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        database.registerListener(this);
+        for (BibEntry entry : database.getEntries()) {
+            addEntry(entry);
+        }
+        built = true;
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryAddedEvent event) {
+        addEntry(event.getBibEntry());
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryRemovedEvent event) {
+        removeEntry(event.getBibEntry());
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        Integer ordinal = ordinalOfEntry.get(entry);
+        // removed entries still relay their changes to the database, ignore them
+        if (ordinal == null) {
+            return;
+        }
+        String fieldName = event instanceof FieldChangedEvent ? ((FieldChangedEvent) event).getFieldName() : null;
+        for (Map.Entry<AbstractGroup, BitSet> members : membersOfGroup.entrySet()) {
+            if ((fieldName == null) || dependsOn(members.getKey(), fieldName)) {
+                members.getValue().set(ordinal, members.getKey().contains(entry));
+            }
+        }
+    }
+
+    /**
+     * Returns true if changing the given field may change whether an entry is contained in the group.
+     */
+    private static boolean dependsOn(AbstractGroup group, String fieldName) {
+        if (group instanceof KeywordGroup) {
+            return ((KeywordGroup) group).getSearchField().equalsIgnoreCase(fieldName);
+        }
+        return !(group instanceof AllEntriesGroup);
+    }
+
+    private void addEntry(BibEntry entry) {
+        if (ordinalOfEntry.containsKey(entry)) {
+            return;
+        }
+        int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+        if (ordinal >= entryOfOrdinal.length) {
+            entryOfOrdinal = Arrays.copyOf(entryOfOrdinal, entryOfOrdinal.length * 2);
+        }
+        entryOfOrdinal[ordinal] = entry;
+        usedOrdinals.set(ordinal);
+        ordinalOfEntry.put(entry, ordinal);
+        for (Map.Entry<AbstractGroup, BitSet> members : membersOfGroup.entrySet()) {
+            members.getValue().set(ordinal, members.getKey().contains(entry));
+        }
+    }
+
+    private void removeEntry(BibEntry entry) {
+        Integer ordinal = ordinalOfEntry.remove(entry);
+        if (ordinal == null) {
+            return;
+        }
+        for (BitSet members : membersOfGroup.values()) {
+            members.clear(ordinal);
+        }
+        entryOfOrdinal[ordinal] = null;
+        usedOrdinals.clear(ordinal);
+        freeOrdinals.push(ordinal);
+    }
+}
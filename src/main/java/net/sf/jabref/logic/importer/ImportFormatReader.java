@@ -16,13 +16,24 @@
 package net.sf.jabref.logic.importer;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import net.sf.jabref.logic.importer.fileformat.BibTeXMLImporter;
 import net.sf.jabref.logic.importer.fileformat.BiblioscapeImporter;
@@ -63,6 +74,29 @@ public class ImportFormatReader {
 
     private static final Log LOGGER = LogFactory.getLog(ImportFormatReader.class);
 
+    /**
+     * The maximal number of characters at the beginning of a file of unknown format, which are checked by the import
+     * formats
+     */
+    private static final int SNIFF_LENGTH = 64 * 1024;
+
+    /**
+     * The maximal number of lines at the beginning of a file of unknown format, which are checked by the import formats
+     */
+    private static final int SNIFF_LINES = 1024;
+
+    /**
+     * The maximal number of import formats equally ranked for a file of unknown format, which import it at once
+     */
+    private static final int MAX_CONCURRENT_IMPORTS = 2;
+
+    private static final ExecutorService IMPORT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable);
+        thread.setName("JabRef - Import of unknown format");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private ImportFormatPreferences importFormatPreferences;
 
 
@@ -191,6 +225,12 @@ public class ImportFormatReader {
      * and keeping the import that seems most promising.
      * <p/>
      * If all fails this method attempts to read this file as bibtex.
+     * <p/>
+     * The file is read only once. The import filters check only its beginning. The ones recognizing it after the
+     * fewest lines are tried first, as their signature is the most prominent one. Up to two equally ranked import
+     * filters are run in parallel, and the next ones only if these do not find any entry. The import filters
+     * recognizing only the rest of the file are tried last. If the current thread is interrupted, the running import
+     * filters are interrupted and null is returned.
      *
      * @throws IOException
      */
@@ -208,40 +248,146 @@ public class ImportFormatReader {
             // Ignored
         }
 
-        // stores ref to best result, gets updated at the next loop
-        List<BibEntry> bestResult = null;
-        int bestResultCount = 0;
-        String bestFormatName = null;
+        // Read the file only once, all importers check and import this content
+        Charset encoding = importFormatPreferences.getEncoding();
+        String content;
+        try {
+            content = new String(Files.readAllBytes(filePath), encoding);
+        } catch (IOException ex) {
+            LOGGER.info("Could not read " + filePath, ex);
+            return null;
+        }
 
-        // Cycle through all importers:
-        for (ImportFormat imFo : getImportFormats()) {
-            try {
-                if (!imFo.isRecognizedFormat(filePath, importFormatPreferences.getEncoding())) {
+        Map<ImportFormat, Integer> ranks = rankFormats(filePath, encoding, content);
+        UnknownFormatImport unknownFormatImport = importBestRanked(ranks, filePath, encoding, content);
+        if ((unknownFormatImport != null) || Thread.currentThread().isInterrupted()) {
+            return unknownFormatImport;
+        }
+
+        // the signature of the format may be further behind
+        Map<ImportFormat, Integer> laterRecognizing = new HashMap<>();
+        for (ImportFormat format : formats) {
+            if (!BIBTEX_FORMAT.equals(format.getFormatName()) && !ranks.containsKey(format)
+                    && isRecognizedFormat(format, filePath, encoding, content)) {
+                laterRecognizing.put(format, 0);
+            }
+        }
+        return importBestRanked(laterRecognizing, filePath, encoding, content);
+    }
+
+    /**
+     * Imports the content with the best ranked import formats, see {@link #importUnknownFormat(Path)}.
+     *
+     * @param ranks the import formats to try, mapped to their rank, the lowest rank is the best one
+     * @return the import finding the most entries among the best ranked formats which find any, or null
+     */
+    private static UnknownFormatImport importBestRanked(Map<ImportFormat, Integer> ranks, Path filePath,
+            Charset encoding, String content) {
+        List<ImportFormat> candidates = new ArrayList<>(ranks.keySet());
+        // equally ranked formats are tried in default order
+        candidates.sort(Comparator.comparing((ImportFormat format) -> ranks.get(format))
+                .thenComparing(Comparator.naturalOrder()));
+
+        int next = 0;
+        while (next < candidates.size()) {
+            // import the best ranked formats, the next ones only if these do not find anything
+            List<ImportFormat> importing = new ArrayList<>();
+            int rank = ranks.get(candidates.get(next));
+            while ((next < candidates.size()) && (importing.size() < MAX_CONCURRENT_IMPORTS)
+                    && (ranks.get(candidates.get(next)) == rank)) {
+                importing.add(candidates.get(next));
+                next++;
+            }
+            List<Future<List<BibEntry>>> imports = importing.stream()
+                    .map(format -> IMPORT_EXECUTOR.submit(() -> importEntries(format, filePath, encoding, content)))
+                    .collect(Collectors.toList());
+
+            // stores ref to best result, gets updated at the next loop
+            List<BibEntry> bestResult = null;
+            String bestFormatName = null;
+
+            for (int i = 0; i < importing.size(); i++) {
+                List<BibEntry> entries;
+                try {
+                    entries = imports.get(i).get();
+                } catch (InterruptedException ex) {
+                    // The import was cancelled, the running importers are interrupted
+                    imports.forEach(task -> task.cancel(true));
+                    Thread.currentThread().interrupt();
+                    return null;
+                } catch (ExecutionException ex) {
+                    // The import did not succeed. Go on.
                     continue;
                 }
 
-                ParserResult parserResult = imFo.importDatabase(filePath, importFormatPreferences.getEncoding());
-                List<BibEntry> entries = parserResult.getDatabase().getEntries();
+                if (!entries.isEmpty() && ((bestResult == null) || (entries.size() > bestResult.size()))) {
+                    bestResult = entries;
+                    bestFormatName = importing.get(i).getFormatName();
+                }
+            }
+
+            if (bestResult != null) {
+                // we found something
+                ParserResult parserResult = new ParserResult(bestResult);
+                return new UnknownFormatImport(bestFormatName, parserResult);
+            }
+        }
 
-                BibDatabases.purgeEmptyEntries(entries);
-                int entryCount = entries.size();
+        return null;
+    }
 
-                if (entryCount > bestResultCount) {
-                    bestResult = entries;
-                    bestResultCount = bestResult.size();
-                    bestFormatName = imFo.getFormatName();
+    /**
+     * Returns the import formats recognizing the beginning of the given content, mapped to their rank. The rank is
+     * the binary logarithm of the number of lines needed to recognize the content, rounded up.
+     */
+    private Map<ImportFormat, Integer> rankFormats(Path filePath, Charset encoding, String content) {
+        // the first check includes the import formats which check the file itself, no matter what content is given
+        String sniffed = getLines(content, SNIFF_LINES);
+        List<ImportFormat> recognizing = formats.stream()
+                .filter(format -> !BIBTEX_FORMAT.equals(format.getFormatName()))
+                .filter(format -> isRecognizedFormat(format, filePath, encoding, sniffed))
+                .collect(Collectors.toList());
+
+        // only the few recognizing formats check the shorter beginnings
+        Map<ImportFormat, Integer> ranks = new HashMap<>();
+        for (ImportFormat format : recognizing) {
+            int rank = 0;
+            for (int lines = 1; lines < SNIFF_LINES; lines *= 2) {
+                if (isRecognizedFormat(format, filePath, encoding, getLines(sniffed, lines))) {
+                    break;
                 }
-            } catch (IOException ex) {
-                // The import did not succeed. Go on.
+                rank++;
             }
+            ranks.put(format, rank);
         }
+        return ranks;
+    }
 
-        if (bestResult != null) {
-            // we found something
-            ParserResult parserResult = new ParserResult(bestResult);
-            return new UnknownFormatImport(bestFormatName, parserResult);
+    /**
+     * Returns the given number of lines at the beginning of the given content, but not more than
+     * {@link #SNIFF_LENGTH} characters.
+     */
+    private static String getLines(String content, int lines) {
+        int end = 0;
+        for (int line = 0; (line < lines) && (end < content.length()); line++) {
+            int lineEnd = content.indexOf('\n', end);
+            end = lineEnd < 0 ? content.length() : lineEnd + 1;
         }
+        return content.substring(0, Math.min(end, SNIFF_LENGTH));
+    }
 
-        return null;
+    private static boolean isRecognizedFormat(ImportFormat format, Path filePath, Charset encoding, String content) {
+        try {
+            return format.isRecognizedFormat(filePath, encoding, content);
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private static List<BibEntry> importEntries(ImportFormat format, Path filePath, Charset encoding, String content)
+            throws IOException {
+        List<BibEntry> entries = format.importDatabase(filePath, encoding, content).getDatabase().getEntries();
+        BibDatabases.purgeEmptyEntries(entries);
+        return entries;
     }
 }
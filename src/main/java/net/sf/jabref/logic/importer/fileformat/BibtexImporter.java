@@ -73,11 +73,20 @@ public class BibtexImporter extends ImportFormat {
             }
         }
 
-        if(suppliedEncoding.isPresent()) {
-            return super.importDatabase(filePath, suppliedEncoding.get());
-        } else {
-            return super.importDatabase(filePath, defaultEncoding);
-        }
+        Charset encoding = suppliedEncoding.orElse(defaultEncoding);
+        // large files are parsed by several threads
+        ParserResult parserResult = new ParallelBibtexParser(importFormatPreferences).parse(filePath, encoding);
+        parserResult.getMetaData().setEncoding(encoding);
+        parserResult.setFile(filePath.toFile());
+        return parserResult;
+    }
+
+    /**
+     * The encoding of the content may differ from the one given in the JabRef signature, thus the file is read again.
+     */
+    @Override
+    public ParserResult importDatabase(Path filePath, Charset defaultEncoding, String content) throws IOException {
+        return importDatabase(filePath, defaultEncoding);
     }
 
     @Override
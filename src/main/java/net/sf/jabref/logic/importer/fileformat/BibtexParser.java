@@ -19,11 +19,10 @@ import java.io.IOException;
 import java.io.PushbackReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -63,6 +62,9 @@ import org.apache.commons.logging.LogFactory;
  * <p>
  * ParserResult result = BibtexParser.parse(reader);
  * <p>
+ * Large files can be processed without building a database by passing a {@link BibtexParserListener} to
+ * {@link #parse(BibtexParserListener)}, which receives the entries one at a time.
+ * <p>
  * Can be used stand-alone.
  */
 public class BibtexParser {
@@ -75,15 +77,27 @@ public class BibtexParser {
     private int line = 1;
     private final FieldContentParser fieldContentParser;
     private ParserResult parserResult;
+    private BibtexParserListener listener;
     private static final Integer LOOKAHEAD = 64;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
+    /**
+     * The text read since the last call of {@link #dumpTextReadSoFarToString()}
+     */
+    private final StringBuilder pureTextFromFile = new StringBuilder();
     private final ImportFormatPreferences importFormatPreferences;
 
     public BibtexParser(Reader in, ImportFormatPreferences importFormatPreferences) {
+        this(in, importFormatPreferences, 1);
+    }
+
+    /**
+     * @param firstLine the number of the first line read, used in warnings when only a part of a file is parsed
+     */
+    BibtexParser(Reader in, ImportFormatPreferences importFormatPreferences, int firstLine) {
         Objects.requireNonNull(in);
         this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
         fieldContentParser = new FieldContentParser(importFormatPreferences.getFieldContentParserPreferences());
         pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        line = firstLine;
     }
 
     /**
@@ -111,7 +125,10 @@ public class BibtexParser {
         BibtexParser parser = new BibtexParser(reader, importFormatPreferences);
 
         try {
-            return parser.parse().getDatabase().getEntries();
+            // only the entries are needed, thus no database is built
+            List<BibEntry> entries = new ArrayList<>();
+            parser.parse(entries::add);
+            return entries;
         } catch (Exception e) {
             LOGGER.warn("BibtexParser.fromString(String): " + e.getMessage(), e);
             return Collections.emptyList();
@@ -153,16 +170,68 @@ public class BibtexParser {
         }
         // Bibtex related contents.
         initializeParserResult();
+        listener = new DatabaseBuilder(parserResult);
 
         skipWhitespace();
 
         try {
-            return parseFileContent();
+            Map<String, String> meta = parseFileContent();
+            completeParserResult(parserResult, meta, getRemainingText(), importFormatPreferences);
+            return parserResult;
         } catch (KeyCollisionException kce) {
             throw new IOException("Duplicate ID in bibtex file: " + kce);
         }
     }
 
+    /**
+     * Instantiates the meta data and stores the text after the last item as epilog of the database.
+     */
+    static void completeParserResult(ParserResult parserResult, Map<String, String> meta, String remainingText,
+            ImportFormatPreferences importFormatPreferences) {
+        // Instantiate meta data:
+        try {
+            parserResult.setMetaData(MetaData.parse(meta, importFormatPreferences.getEncoding()));
+        } catch (ParseException exception) {
+            parserResult.addWarning(exception.getLocalizedMessage());
+        }
+
+        parserResult.getDatabase().setEpilog(remainingText.trim());
+    }
+
+    /**
+     * Parses the BibTeX data found when reading from reader and passes the parsed items to the given listener as soon
+     * as they are read. In contrast to {@link #parse()}, no database is built and only the text of the item which is
+     * currently parsed is buffered. JabRef meta data and the epilog of the file are skipped.
+     * <p>
+     * The reader will be consumed.
+     */
+    public void parse(BibtexParserListener listener) throws IOException {
+        parseItems(listener);
+    }
+
+    /**
+     * Passes the parsed items to the given listener and returns the JabRef meta data found. Afterwards, the custom
+     * entry types found are available by {@link #getEntryTypes()} and the text after the last item by
+     * {@link #getRemainingText()}.
+     */
+    Map<String, String> parseItems(BibtexParserListener listener) throws IOException {
+        this.listener = Objects.requireNonNull(listener);
+        entryTypes = new HashMap<>();
+
+        skipWhitespace();
+        return parseFileContent();
+    }
+
+    Map<String, EntryType> getEntryTypes() {
+        return entryTypes;
+    }
+
+    /**
+     * Returns the text read after the last item, i.e., the epilog of the file
+     */
+    String getRemainingText() {
+        return dumpTextReadSoFarToString();
+    }
 
     private void initializeParserResult() {
         database = new BibDatabase();
@@ -170,7 +239,10 @@ public class BibtexParser {
         parserResult = new ParserResult(database, null, entryTypes);
     }
 
-    private ParserResult parseFileContent() throws IOException {
+    /**
+     * Parses all items of the file, passes them to the listener and returns the meta data found
+     */
+    private Map<String, String> parseFileContent() throws IOException {
         Map<String, String> meta = new HashMap<>();
 
         while (!eof) {
@@ -185,7 +257,7 @@ public class BibtexParser {
             String entryType = parseTextToken().toLowerCase().trim();
 
             if ("preamble".equals(entryType)) {
-                database.setPreamble(parsePreamble());
+                listener.preambleParsed(parsePreamble());
                 // Consume new line which signals end of preamble
                 skipOneNewline();
                 // the preamble is saved verbatim anyways, so the text read so far can be dropped
@@ -202,20 +274,7 @@ public class BibtexParser {
             skipWhitespace();
         }
 
-        // Instantiate meta data:
-        try {
-            parserResult.setMetaData(MetaData.parse(meta, importFormatPreferences.getEncoding()));
-        } catch (ParseException exception) {
-            parserResult.addWarning(exception.getLocalizedMessage());
-        }
-
-        parseRemainingContent();
-
-        return parserResult;
-    }
-
-    private void parseRemainingContent() {
-        database.setEpilog(dumpTextReadSoFarToString().trim());
+        return meta;
     }
 
     private void parseAndAddEntry(String type) {
@@ -236,16 +295,10 @@ public class BibtexParser {
             // store complete parsed serialization (comments, type definition + type contents)
             entry.setParsedSerialization(commentsAndEntryTypeDefinition+dumpTextReadSoFarToString());
 
-            boolean duplicateKey = database.insertEntry(entry);
-            if (duplicateKey) {
-                parserResult.addDuplicateKey(entry.getCiteKey());
-            } else if ((entry.getCiteKey() == null) || entry.getCiteKey().isEmpty()) {
-                parserResult.addWarning(Localization.lang("Empty BibTeX key") + ": " + entry.getAuthorTitleYear(40)
-                        + " (" + Localization.lang("Grouping may not work for this entry.") + ")");
-            }
+            listener.entryParsed(entry);
         } catch (IOException ex) {
             LOGGER.warn("Could not parse entry", ex);
-            parserResult.addWarning(Localization.lang("Error occurred when parsing entry") + ": '"
+            listener.warningIssued(Localization.lang("Error occurred when parsing entry") + ": '"
                     + ex.getMessage() + "'. " + Localization.lang("Skipped entry."));
 
         }
@@ -296,12 +349,14 @@ public class BibtexParser {
             if (typ.isPresent()) {
                 entryTypes.put(typ.get().getName(), typ.get());
             } else {
-                parserResult.addWarning(Localization.lang("Ill-formed entrytype comment in BIB file") + ": " +
+                listener.warningIssued(Localization.lang("Ill-formed entrytype comment in BIB file") + ": " +
                         comment);
             }
 
             // custom entry types are always re-written by JabRef and not stored in the file
             dumpTextReadSoFarToString();
+        } else {
+            listener.commentParsed(buffer.toString());
         }
 
     }
@@ -310,11 +365,7 @@ public class BibtexParser {
     private void parseBibtexString() throws IOException {
         BibtexString bibtexString = parseString();
         bibtexString.setParsedSerialization(dumpTextReadSoFarToString());
-        try {
-            database.addString(bibtexString);
-        } catch (KeyCollisionException ex) {
-            parserResult.addWarning(Localization.lang("Duplicate string name") + ": " + bibtexString.getName());
-        }
+        listener.stringParsed(bibtexString);
     }
 
 
@@ -352,12 +403,9 @@ public class BibtexParser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
-        }
-
-        return entry.toString();
+        String text = pureTextFromFile.toString();
+        pureTextFromFile.setLength(0);
+        return text;
     }
 
     /**
@@ -463,7 +511,7 @@ public class BibtexParser {
         int character = pushbackReader.read();
 
         if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+            pureTextFromFile.append((char) character);
         }
         if (character == '\n') {
             line++;
@@ -476,8 +524,9 @@ public class BibtexParser {
             line--;
         }
         pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+        int length = pureTextFromFile.length();
+        if ((length > 0) && (pureTextFromFile.charAt(length - 1) == character)) {
+            pureTextFromFile.setLength(length - 1);
         }
     }
 
@@ -697,7 +746,7 @@ public class BibtexParser {
                         }
 
                         // Finished, now reverse newKey and remove whitespaces:
-                        parserResult.addWarning(Localization.lang("Line %0: Found corrupted BibTeX key.",
+                        listener.warningIssued(Localization.lang("Line %0: Found corrupted BibTeX key.",
                                 String.valueOf(line)));
                         key = newKey.reverse();
                     }
@@ -705,12 +754,12 @@ public class BibtexParser {
                 break;
 
             case ',':
-                parserResult.addWarning(Localization.lang("Line %0: Found corrupted BibTeX key (contains whitespaces).",
+                listener.warningIssued(Localization.lang("Line %0: Found corrupted BibTeX key (contains whitespaces).",
                         String.valueOf(line)));
                 break;
 
             case '\n':
-                parserResult.addWarning(Localization.lang("Line %0: Found corrupted BibTeX key (comma missing).",
+                listener.warningIssued(Localization.lang("Line %0: Found corrupted BibTeX key (comma missing).",
                         String.valueOf(line)));
                 break;
 
@@ -943,4 +992,50 @@ public class BibtexParser {
                     + secondOption + " but received " + (char) character);
         }
     }
+
+
+    /**
+     * Builds the database of the parser result from the parsed items.
+     */
+    static class DatabaseBuilder implements BibtexParserListener {
+
+        private final ParserResult parserResult;
+        private final BibDatabase database;
+
+
+        DatabaseBuilder(ParserResult parserResult) {
+            this.parserResult = parserResult;
+            this.database = parserResult.getDatabase();
+        }
+
+        @Override
+        public void entryParsed(BibEntry entry) {
+            boolean duplicateKey = database.insertEntry(entry);
+            if (duplicateKey) {
+                parserResult.addDuplicateKey(entry.getCiteKey());
+            } else if ((entry.getCiteKey() == null) || entry.getCiteKey().isEmpty()) {
+                parserResult.addWarning(Localization.lang("Empty BibTeX key") + ": " + entry.getAuthorTitleYear(40)
+                        + " (" + Localization.lang("Grouping may not work for this entry.") + ")");
+            }
+        }
+
+        @Override
+        public void stringParsed(BibtexString string) {
+            try {
+                database.addString(string);
+            } catch (KeyCollisionException ex) {
+                parserResult.addWarning(Localization.lang("Duplicate string name") + ": " + string.getName());
+            }
+        }
+
+        @Override
+        public void preambleParsed(String preamble) {
+            database.setPreamble(preamble);
+        }
+
+        @Override
+        public void warningIssued(String warning) {
+            parserResult.addWarning(warning);
+        }
+    }
 }
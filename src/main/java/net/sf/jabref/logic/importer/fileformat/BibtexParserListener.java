@@ -0,0 +1,47 @@
+package net.sf.jabref.logic.importer.fileformat;
+
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.model.entry.BibtexString;
+
+/**
+ * Receives the contents of a BibTeX file one at a time while the file is parsed by
+ * {@link BibtexParser#parse(BibtexParserListener)}.
+ * <p>
+ * The parser does not keep any of the parsed items, so a listener can process arbitrarily large files as long as it
+ * does not keep them either.
+ */
+public interface BibtexParserListener {
+
+    /**
+     * An entry has been parsed. Its parsed serialization includes the comments in front of it.
+     */
+    void entryParsed(BibEntry entry);
+
+    /**
+     * A string definition has been parsed.
+     */
+    default void stringParsed(BibtexString string) {
+        // ignored by default
+    }
+
+    /**
+     * The preamble has been parsed.
+     */
+    default void preambleParsed(String preamble) {
+        // ignored by default
+    }
+
+    /**
+     * A bracketed comment which does not contain JabRef meta data or a custom entry type has been parsed.
+     */
+    default void commentParsed(String comment) {
+        // ignored by default
+    }
+
+    /**
+     * A problem was found which did not stop the parsing, e.g., an entry which could not be parsed and was skipped.
+     */
+    default void warningIssued(String warning) {
+        // ignored by default
+    }
+}
@@ -20,6 +20,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
@@ -59,6 +60,23 @@ public abstract class ImportFormat implements Comparable<ImportFormat> {
         }
     }
 
+    /**
+     * Check whether the already read content of the specified file is in the correct format for this importer, see
+     * {@link #isRecognizedFormat(BufferedReader)}. This allows to read the file only once when searching for a
+     * suitable import format.
+     *
+     * Importers which do not read the file as text override this method and check the file itself.
+     *
+     * @param filePath the path to the file
+     * @param encoding the encoding used to decode the content
+     * @param content  the content of the file
+     */
+    public boolean isRecognizedFormat(Path filePath, Charset encoding, String content) throws IOException {
+        try (BufferedReader bufferedReader = new BufferedReader(new StringReader(content))) {
+            return isRecognizedFormat(bufferedReader);
+        }
+    }
+
     /**
      * Parse the database in the source.
      *
@@ -94,6 +112,26 @@ public abstract class ImportFormat implements Comparable<ImportFormat> {
         }
     }
 
+    /**
+     * Parse the database in the already read content of the specified file, see
+     * {@link #isRecognizedFormat(Path, Charset, String)}.
+     *
+     * Importers which do not read the file as text or determine the encoding on their own override this method and
+     * import the file itself.
+     *
+     * @param filePath the path to the file which should be imported
+     * @param encoding the encoding used to decode the content
+     * @param content  the content of the file
+     */
+    public ParserResult importDatabase(Path filePath, Charset encoding, String content) throws IOException {
+        try (BufferedReader bufferedReader = new BufferedReader(new StringReader(content))) {
+            ParserResult parserResult = importDatabase(bufferedReader);
+            parserResult.getMetaData().setEncoding(encoding);
+            parserResult.setFile(filePath.toFile());
+            return parserResult;
+        }
+    }
+
     public static BufferedReader getUTF8Reader(Path filePath) throws IOException {
         return getReader(filePath, StandardCharsets.UTF_8);
     }
@@ -0,0 +1,328 @@
+package net.sf.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import net.sf.jabref.logic.importer.ImportFormatPreferences;
+import net.sf.jabref.logic.importer.ParserResult;
+import net.sf.jabref.model.database.BibDatabase;
+import net.sf.jabref.model.database.KeyCollisionException;
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.model.entry.BibtexString;
+import net.sf.jabref.model.entry.EntryType;
+import net.sf.jabref.model.entry.IdGenerator;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Parses large BibTeX files using several threads, with the same result as {@link BibtexParser#parse()}.
+ * <p>
+ * The file is read and split into parts at lines consisting of a closing brace only, which usually end an entry.
+ * Each part is parsed by its own {@link BibtexParser}. A part has been split correctly if its parser used up all text
+ * of the part, i.e., if the part ends exactly at the end of an item. In this case, the next part starts in the same
+ * state as the sequential parser would be in at that position. Otherwise, the part is parsed again together with all
+ * following parts, sequentially.
+ * <p>
+ * The items of all parts are finally added to one database in the original order of the file. The meta data is
+ * instantiated from the meta data comments of all parts and the epilog is taken from the last part.
+ */
+public class ParallelBibtexParser {
+
+    private static final Log LOGGER = LogFactory.getLog(ParallelBibtexParser.class);
+
+    private static final int DEFAULT_PART_LENGTH = 1024 * 1024;
+
+    private final ImportFormatPreferences importFormatPreferences;
+    private final int partLength;
+
+
+    public ParallelBibtexParser(ImportFormatPreferences importFormatPreferences) {
+        this(importFormatPreferences, DEFAULT_PART_LENGTH);
+    }
+
+    /**
+     * @param partLength the minimal number of characters parsed by one thread
+     */
+    ParallelBibtexParser(ImportFormatPreferences importFormatPreferences, int partLength) {
+        this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
+        this.partLength = partLength;
+    }
+
+    /**
+     * Parses the given file. Ignores any encoding supplied in the file by "Encoding: myEncoding".
+     */
+    public ParserResult parse(Path file, Charset encoding) throws IOException {
+        if (Files.size(file) > Integer.MAX_VALUE) {
+            // an array cannot be larger
+            try (Reader reader = ImportFormat.getReader(file, encoding)) {
+                return new BibtexParser(reader, importFormatPreferences).parse();
+            }
+        }
+        // the file is read at once, as all of its text is needed for splitting it anyway
+        return parse(encoding.decode(ByteBuffer.wrap(Files.readAllBytes(file))));
+    }
+
+    /**
+     * Parses the given text.
+     */
+    public ParserResult parse(CharSequence text) throws IOException {
+        List<Integer> starts = getPartStarts(text);
+        // the sequential parser stops at the first character it considers as end of file
+        if ((starts.size() == 1) || containsEndOfFileCharacter(text)) {
+            return new BibtexParser(new CharSequenceReader(text, 0, text.length()), importFormatPreferences).parse();
+        }
+
+        List<Integer> ends = new ArrayList<>(starts.subList(1, starts.size()));
+        ends.add(text.length());
+        List<Integer> firstLines = getFirstLines(text, starts, ends);
+
+        List<Part> parts;
+        try {
+            parts = IntStream.range(0, starts.size()).parallel()
+                    .mapToObj(i -> parsePart(text, starts.get(i), ends.get(i), firstLines.get(i)))
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        // a part which did not end with an item was not split at an item boundary, e.g., because of an unbalanced
+        // brace. The following parts are then parsed together once, as the next boundary is unknown.
+        for (int i = 0; i < (parts.size() - 1); i++) {
+            if (!parts.get(i).remainingText.isEmpty()) {
+                LOGGER.debug("Could not split file at position " + parts.get(i + 1).start);
+                Part part = parts.get(i);
+                parts.subList(i, parts.size()).clear();
+                parts.add(parsePart(text, part.start, text.length(), part.firstLine));
+                break;
+            }
+        }
+
+        return merge(parts);
+    }
+
+    private ParserResult merge(List<Part> parts) throws IOException {
+        BibDatabase database = new BibDatabase();
+        Map<String, EntryType> entryTypes = new HashMap<>();
+        ParserResult parserResult = new ParserResult(database, null, entryTypes);
+        BibtexParserListener databaseBuilder = new BibtexParser.DatabaseBuilder(parserResult);
+        Map<String, String> meta = new HashMap<>();
+
+        try {
+            for (Part part : parts) {
+                part.items.forEach(item -> item.accept(databaseBuilder));
+                entryTypes.putAll(part.entryTypes);
+                meta.putAll(part.meta);
+            }
+        } catch (KeyCollisionException kce) {
+            throw new IOException("Duplicate ID in bibtex file: " + kce);
+        }
+
+        BibtexParser.completeParserResult(parserResult, meta, parts.get(parts.size() - 1).remainingText,
+                importFormatPreferences);
+        return parserResult;
+    }
+
+    private Part parsePart(CharSequence text, int start, int end, int firstLine) {
+        Part part = new Part(start, end, firstLine);
+        BibtexParser parser = new BibtexParser(new CharSequenceReader(text, start, end), importFormatPreferences,
+                firstLine);
+        try {
+            part.meta = parser.parseItems(part);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        part.entryTypes = parser.getEntryTypes();
+        part.remainingText = parser.getRemainingText();
+        return part;
+    }
+
+    /**
+     * Returns the start of each part. Each part except the first one starts after a line which consists of a closing
+     * brace only and which is followed by an item.
+     */
+    private List<Integer> getPartStarts(CharSequence text) {
+        List<Integer> starts = new ArrayList<>();
+        starts.add(0);
+        int position = partLength;
+        while ((position + partLength) < text.length()) {
+            int start = findPartStart(text, position);
+            if (start < 0) {
+                break;
+            }
+            starts.add(start);
+            position = start + partLength;
+        }
+        return starts;
+    }
+
+    private static int findPartStart(CharSequence text, int from) {
+        for (int i = Math.max(from, 1); i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (((character != '}') && (character != ')')) || (text.charAt(i - 1) != '\n')) {
+                continue;
+            }
+
+            // the parser only skips spaces and a single line break after an item
+            int next = i + 1;
+            while ((next < text.length()) && (text.charAt(next) == ' ')) {
+                next++;
+            }
+            if ((next < text.length()) && (text.charAt(next) == '\r')) {
+                next++;
+            }
+            if ((next >= text.length()) || (text.charAt(next) != '\n')) {
+                continue;
+            }
+            int start = next + 1;
+
+            int nextItem = start;
+            while ((nextItem < text.length()) && Character.isWhitespace(text.charAt(nextItem))) {
+                nextItem++;
+            }
+            if ((nextItem < text.length()) && (text.charAt(nextItem) == '@')) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of the first line of each part
+     */
+    private static List<Integer> getFirstLines(CharSequence text, List<Integer> starts, List<Integer> ends) {
+        List<Integer> lineBreaks = IntStream.range(0, starts.size()).parallel()
+                .mapToObj(i -> countLineBreaks(text, starts.get(i), ends.get(i)))
+                .collect(Collectors.toList());
+        List<Integer> firstLines = new ArrayList<>(starts.size());
+        int line = 1;
+        for (int count : lineBreaks) {
+            firstLines.add(line);
+            line += count;
+        }
+        return firstLines;
+    }
+
+    private static int countLineBreaks(CharSequence text, int start, int end) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean containsEndOfFileCharacter(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == 65535) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * The items parsed from a part of the file. The items are recorded as calls of a listener, so that they can be
+     * replayed in the order of the file.
+     */
+    private static class Part implements BibtexParserListener {
+
+        private final int start;
+        private final int end;
+        private final int firstLine;
+        private final List<Consumer<BibtexParserListener>> items = new ArrayList<>();
+        private Map<String, String> meta;
+        private Map<String, EntryType> entryTypes;
+        private String remainingText;
+
+
+        Part(int start, int end, int firstLine) {
+            this.start = start;
+            this.end = end;
+            this.firstLine = firstLine;
+        }
+
+        @Override
+        public void entryParsed(BibEntry entry) {
+            items.add(listener -> {
+                // the original order of the entries is given by their ids, so they are renumbered in the order of
+                // the file
+                entry.setId(IdGenerator.next());
+                entry.setChanged(false);
+                listener.entryParsed(entry);
+            });
+        }
+
+        @Override
+        public void stringParsed(BibtexString string) {
+            items.add(listener -> listener.stringParsed(string));
+        }
+
+        @Override
+        public void preambleParsed(String preamble) {
+            items.add(listener -> listener.preambleParsed(preamble));
+        }
+
+        @Override
+        public void warningIssued(String warning) {
+            items.add(listener -> listener.warningIssued(warning));
+        }
+    }
+
+    /**
+     * Reads a range of a character sequence without copying it.
+     */
+    private static class CharSequenceReader extends Reader {
+
+        private final CharSequence text;
+        private final int end;
+        private int position;
+
+
+        CharSequenceReader(CharSequence text, int start, int end) {
+            this.text = text;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read() {
+            if (position >= end) {
+                return -1;
+            }
+            return text.charAt(position++);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (position >= end) {
+                return -1;
+            }
+            int count = Math.min(length, end - position);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = text.charAt(position++);
+            }
+            return count;
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    }
+}
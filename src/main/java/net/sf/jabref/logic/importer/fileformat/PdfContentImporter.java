@@ -212,6 +212,11 @@ public class PdfContentImporter extends ImportFormat {
                         + "Instead use importDatabase(Path filePath, Charset defaultEncoding).");
     }
 
+    @Override
+    public ParserResult importDatabase(Path filePath, Charset defaultEncoding, String content) {
+        return importDatabase(filePath, defaultEncoding);
+    }
+
     @Override
     public ParserResult importDatabase(Path filePath, Charset defaultEncoding) {
         final ArrayList<BibEntry> result = new ArrayList<>(1);
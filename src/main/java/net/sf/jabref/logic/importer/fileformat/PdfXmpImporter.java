@@ -68,6 +68,11 @@ public class PdfXmpImporter extends ImportFormat {
         }
     }
 
+    @Override
+    public ParserResult importDatabase(Path filePath, Charset defaultEncoding, String content) {
+        return importDatabase(filePath, defaultEncoding);
+    }
+
     @Override
     protected boolean isRecognizedFormat(BufferedReader reader) throws IOException {
         Objects.requireNonNull(reader);
@@ -86,6 +91,11 @@ public class PdfXmpImporter extends ImportFormat {
         return XMPUtil.hasMetadata(filePath, xmpPreferences);
     }
 
+    @Override
+    public boolean isRecognizedFormat(Path filePath, Charset defaultEncoding, String content) throws IOException {
+        return isRecognizedFormat(filePath, defaultEncoding);
+    }
+
     @Override
     public String getId() {
         return "xmp";
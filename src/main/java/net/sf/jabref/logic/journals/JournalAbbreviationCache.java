@@ -0,0 +1,153 @@
+package net.sf.jabref.logic.journals;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import net.sf.jabref.logic.util.OS;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Stores the abbreviations read from the journal lists in a binary file, so that the lists do not have to be parsed
+ * again on the next start.
+ * <p>
+ * The cache is stored together with a signature of the journal lists it has been read from (see
+ * {@link JournalAbbreviationLoader}). It is only used if the signature of the current journal lists is the same. The
+ * file ends with a checksum of its content, so that a damaged file is not used.
+ */
+public class JournalAbbreviationCache {
+
+    private static final Log LOGGER = LogFactory.getLog(JournalAbbreviationCache.class);
+
+    private static final int FORMAT_VERSION = 2;
+
+    private final Path cacheFile;
+
+
+    public JournalAbbreviationCache(Path cacheFile) {
+        this.cacheFile = Objects.requireNonNull(cacheFile);
+    }
+
+    /**
+     * Returns the cache in the cache directory of the current user, see {@link #getUserCacheDirectory()}.
+     */
+    public static JournalAbbreviationCache getDefault() {
+        return new JournalAbbreviationCache(getUserCacheDirectory().resolve("journal-abbreviations.bin"));
+    }
+
+    /**
+     * Returns the directory for the caches of JabRef of the current user, following the conventions of the operating
+     * system: <code>%LOCALAPPDATA%\JabRef\cache</code> on Windows, <code>~/Library/Caches/JabRef</code> on OS X,
+     * and <code>$XDG_CACHE_HOME/jabref</code> (<code>~/.cache/jabref</code> by default) otherwise.
+     */
+    private static Path getUserCacheDirectory() {
+        String userHome = System.getProperty("user.home");
+        if (OS.WINDOWS) {
+            String localAppData = System.getenv("LOCALAPPDATA");
+            return (localAppData == null ? Paths.get(userHome, "AppData", "Local") : Paths.get(localAppData))
+                    .resolve("JabRef").resolve("cache");
+        } else if (OS.OS_X) {
+            return Paths.get(userHome, "Library", "Caches", "JabRef");
+        } else {
+            String cacheHome = System.getenv("XDG_CACHE_HOME");
+            return ((cacheHome == null) || cacheHome.isEmpty() ? Paths.get(userHome, ".cache") : Paths.get(cacheHome))
+                    .resolve("jabref");
+        }
+    }
+
+    /**
+     * Reads the abbreviations stored in the cache.
+     *
+     * @param signature the signature of the current journal lists
+     * @return the abbreviations in the order they have been read from the journal lists, or an empty Optional if the
+     * cache does not exist or has been read from other journal lists
+     */
+    public Optional<List<Abbreviation>> read(String signature) {
+        if (!Files.exists(cacheFile)) {
+            return Optional.empty();
+        }
+        try (InputStream file = new BufferedInputStream(Files.newInputStream(cacheFile))) {
+            CheckedInputStream checkedFile = new CheckedInputStream(file, new CRC32());
+            DataInputStream in = new DataInputStream(checkedFile);
+            if ((in.readInt() != FORMAT_VERSION) || !in.readUTF().equals(signature)) {
+                return Optional.empty();
+            }
+            int size = in.readInt();
+            List<Abbreviation> abbreviations = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                abbreviations.add(new Abbreviation(in.readUTF(), in.readUTF()));
+            }
+            long checksum = checkedFile.getChecksum().getValue();
+            if (new DataInputStream(file).readLong() != checksum) {
+                LOGGER.info("Journal abbreviation cache " + cacheFile + " is damaged");
+                return Optional.empty();
+            }
+            return Optional.of(abbreviations);
+        } catch (IOException e) {
+            LOGGER.info("Could not read journal abbreviation cache " + cacheFile, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Replaces the content of the cache by the given abbreviations.
+     *
+     * @param signature the signature of the journal lists the abbreviations have been read from
+     */
+    public void write(String signature, List<Abbreviation> abbreviations) {
+        try {
+            Path directory = cacheFile.toAbsolutePath().getParent();
+            if (!Files.isDirectory(directory)) {
+                createPrivateDirectories(directory);
+            }
+            Path temporaryFile = Files.createTempFile(directory, "journals", ".tmp");
+            try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(temporaryFile))) {
+                CheckedOutputStream checkedFile = new CheckedOutputStream(file, new CRC32());
+                DataOutputStream out = new DataOutputStream(checkedFile);
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(signature);
+                out.writeInt(abbreviations.size());
+                for (Abbreviation abbreviation : abbreviations) {
+                    out.writeUTF(abbreviation.getName());
+                    out.writeUTF(abbreviation.getIsoAbbreviation());
+                }
+                out.flush();
+                new DataOutputStream(file).writeLong(checkedFile.getChecksum().getValue());
+            }
+            Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.info("Could not write journal abbreviation cache " + cacheFile, e);
+        }
+    }
+
+    /**
+     * Creates the directory, accessible by the current user only if the file system supports POSIX permissions.
+     */
+    private static void createPrivateDirectories(Path directory) throws IOException {
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createDirectories(directory,
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        } else {
+            Files.createDirectories(directory);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package net.sf.jabref.logic.journals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * An immutable index over journal abbreviations, built once from a list of abbreviations.
+ * <p>
+ * The full names, ISO and MEDLINE abbreviations are normalized once when building the index (see
+ * {@link #normalize(String)}), so that a lookup only normalizes the requested name. Besides exact lookups, the index
+ * supports looking up all names starting with a prefix and the names within a given edit distance.
+ */
+public final class JournalAbbreviationIndex {
+
+    private static final Log LOGGER = LogFactory.getLog(JournalAbbreviationIndex.class);
+
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private final Map<String, Abbreviation> fullNameKey2Abbreviation = new HashMap<>();
+    private final Map<String, Abbreviation> isoKey2Abbreviation = new HashMap<>();
+    private final Map<String, Abbreviation> medlineKey2Abbreviation = new HashMap<>();
+
+    private final SortedSet<Abbreviation> abbreviations;
+
+    /**
+     * All normalized names in ascending order. The abbreviation of a name is at the same position in
+     * {@link #abbreviationOfKey}. A name occurs several times if it is a name of several abbreviations.
+     */
+    private final String[] keys;
+    private final Abbreviation[] abbreviationOfKey;
+
+
+    /**
+     * Builds the index. If several abbreviations have the same full name, the one added last wins. The same holds
+     * for abbreviations with the same ISO or MEDLINE abbreviation.
+     */
+    public JournalAbbreviationIndex(List<Abbreviation> abbreviationsToAdd) {
+        // keep the last abbreviation of each full name at the position it has been added last
+        Map<String, Abbreviation> lastOfName = new LinkedHashMap<>();
+        for (Abbreviation abbreviation : abbreviationsToAdd) {
+            String nameKey = normalize(abbreviation.getName());
+            Abbreviation previous = lastOfName.remove(nameKey);
+            if ((previous != null) && LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Duplicate journal abbreviation - old one will be overwritten by new one\nOLD: "
+                        + previous + "\nNEW: " + abbreviation);
+            }
+            lastOfName.put(nameKey, abbreviation);
+        }
+
+        for (Map.Entry<String, Abbreviation> entry : lastOfName.entrySet()) {
+            Abbreviation abbreviation = entry.getValue();
+            fullNameKey2Abbreviation.put(entry.getKey(), abbreviation);
+            isoKey2Abbreviation.put(normalize(abbreviation.getIsoAbbreviation()), abbreviation);
+            medlineKey2Abbreviation.put(normalize(abbreviation.getMedlineAbbreviation()), abbreviation);
+        }
+        abbreviations = Collections.unmodifiableSortedSet(new TreeSet<>(lastOfName.values()));
+
+        Set<Map.Entry<String, Abbreviation>> distinctKeys = new HashSet<>();
+        distinctKeys.addAll(fullNameKey2Abbreviation.entrySet());
+        distinctKeys.addAll(isoKey2Abbreviation.entrySet());
+        distinctKeys.addAll(medlineKey2Abbreviation.entrySet());
+        List<Map.Entry<String, Abbreviation>> allKeys = new ArrayList<>(distinctKeys);
+        allKeys.sort(Map.Entry.comparingByKey());
+        keys = new String[allKeys.size()];
+        abbreviationOfKey = new Abbreviation[allKeys.size()];
+        for (int i = 0; i < allKeys.size(); i++) {
+            keys[i] = allKeys.get(i).getKey();
+            abbreviationOfKey[i] = allKeys.get(i).getValue();
+        }
+    }
+
+    /**
+     * Returns the key of a name: trimmed, in lower case, and with every sequence of whitespace replaced by a single
+     * space.
+     */
+    public static String normalize(String name) {
+        return WHITESPACES.matcher(Objects.requireNonNull(name).trim()).replaceAll(" ").toLowerCase(Locale.ENGLISH);
+    }
+
+    public int size() {
+        return abbreviations.size();
+    }
+
+    public SortedSet<Abbreviation> getAbbreviations() {
+        return abbreviations;
+    }
+
+    public boolean isKnownName(String journalName) {
+        String nameKey = normalize(journalName);
+        return fullNameKey2Abbreviation.containsKey(nameKey) || isoKey2Abbreviation.containsKey(nameKey)
+                || medlineKey2Abbreviation.containsKey(nameKey);
+    }
+
+    public boolean isAbbreviatedName(String journalName) {
+        String nameKey = normalize(journalName);
+        return isoKey2Abbreviation.containsKey(nameKey) || medlineKey2Abbreviation.containsKey(nameKey);
+    }
+
+    /**
+     * Returns the abbreviation with the given full name, ISO or MEDLINE abbreviation, in this order.
+     */
+    public Optional<Abbreviation> getAbbreviation(String journalName) {
+        String nameKey = normalize(journalName);
+        Abbreviation abbreviation = fullNameKey2Abbreviation.get(nameKey);
+        if (abbreviation == null) {
+            abbreviation = isoKey2Abbreviation.get(nameKey);
+        }
+        if (abbreviation == null) {
+            abbreviation = medlineKey2Abbreviation.get(nameKey);
+        }
+        return Optional.ofNullable(abbreviation);
+    }
+
+    /**
+     * Returns the abbreviations whose full name, ISO or MEDLINE abbreviation starts with the given prefix, sorted by
+     * their full names.
+     */
+    public List<Abbreviation> getAbbreviationsStartingWith(String prefix) {
+        String prefixKey = normalize(prefix);
+        int position = Arrays.binarySearch(keys, prefixKey);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        Set<Abbreviation> result = new TreeSet<>();
+        for (int i = position; (i < keys.length) && keys[i].startsWith(prefixKey); i++) {
+            result.add(abbreviationOfKey[i]);
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * Returns the abbreviations whose full name, ISO or MEDLINE abbreviation differs from the given name in at most
+     * the given number of characters (Levenshtein distance). The closest abbreviations come first.
+     */
+    public List<Abbreviation> getAbbreviationsWithinDistance(String journalName, int maxDistance) {
+        String nameKey = normalize(journalName);
+        Map<Abbreviation, Integer> distances = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            if (Math.abs(keys[i].length() - nameKey.length()) > maxDistance) {
+                continue;
+            }
+            int distance = getDistance(nameKey, keys[i], maxDistance);
+            if (distance <= maxDistance) {
+                distances.merge(abbreviationOfKey[i], distance, Math::min);
+            }
+        }
+        List<Abbreviation> result = new ArrayList<>(distances.keySet());
+        result.sort(Comparator.<Abbreviation> comparingInt(distances::get).thenComparing(Comparator.naturalOrder()));
+        return result;
+    }
+
+    /**
+     * Computes the Levenshtein distance of both strings. Stops as soon as the distance exceeds the given maximum and
+     * then returns a value larger than the maximum.
+     */
+    private static int getDistance(String first, String second, int maxDistance) {
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(Math.min(currentRow[j - 1], previousRow[j]) + 1,
+                        previousRow[j - 1] + substitutionCost);
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+}
@@ -17,10 +17,16 @@ package net.sf.jabref.logic.journals;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URLConnection;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -33,52 +39,101 @@ public class JournalAbbreviationLoader {
     private static final String JOURNALS_FILE_BUILTIN = "/journals/journalList.txt";
     private static final String JOURNALS_IEEE_ABBREVIATION_LIST_WITH_CODE = "/journals/IEEEJournalListCode.txt";
     private static final String JOURNALS_IEEE_ABBREVIATION_LIST_WITH_TEXT = "/journals/IEEEJournalListText.txt";
-    private JournalAbbreviationRepository journalAbbrev;
+    // volatile, as layouts are formatted concurrently during exports
+    private volatile JournalAbbreviationRepository journalAbbrev;
 
+    private final Optional<JournalAbbreviationCache> cache;
 
-    public void update(JournalAbbreviationPreferences journalAbbreviationPreferences) {
-        journalAbbrev = new JournalAbbreviationRepository();
 
+    public JournalAbbreviationLoader() {
+        this.cache = Optional.empty();
+    }
+
+    /**
+     * @param cache the cache for the abbreviations read from the journal lists
+     */
+    public JournalAbbreviationLoader(JournalAbbreviationCache cache) {
+        this.cache = Optional.of(cache);
+    }
+
+    public void update(JournalAbbreviationPreferences journalAbbreviationPreferences) {
         // the order of reading the journal lists is important
         // method: last added abbreviation wins
         // for instance, in the personal list one can overwrite abbreviations in the built in list
+        String ieeeList = journalAbbreviationPreferences.isUseIEEEAbbreviations() ?
+                JOURNALS_IEEE_ABBREVIATION_LIST_WITH_CODE : JOURNALS_IEEE_ABBREVIATION_LIST_WITH_TEXT;
+        List<String> externalLists = new ArrayList<>(journalAbbreviationPreferences.getExternalJournalLists());
+        Collections.reverse(externalLists);
+        Optional<String> personalList = Optional.ofNullable(journalAbbreviationPreferences.getPersonalJournalLists())
+                .filter(list -> !list.trim().isEmpty());
+        Charset encoding = journalAbbreviationPreferences.getDefaultEncoding();
+
+        Optional<String> signature = getSignature(ieeeList, externalLists, personalList, encoding);
+        Optional<List<Abbreviation>> cachedAbbreviations = cache
+                .flatMap(journalCache -> signature.flatMap(journalCache::read));
+        if (cachedAbbreviations.isPresent()) {
+            journalAbbrev = new JournalAbbreviationRepository(cachedAbbreviations.get());
+            return;
+        }
+
+        List<Abbreviation> abbreviations = new ArrayList<>();
 
         // Read builtin list
-        journalAbbrev.addEntries(readJournalListFromResource(JOURNALS_FILE_BUILTIN));
+        abbreviations.addAll(readJournalListFromResource(JOURNALS_FILE_BUILTIN));
 
         // read IEEE list
-        if (journalAbbreviationPreferences.isUseIEEEAbbreviations()) {
-            journalAbbrev.addEntries(getOfficialIEEEAbbreviations());
-        } else {
-            journalAbbrev.addEntries(getStandardIEEEAbbreviations());
-        }
+        abbreviations.addAll(readJournalListFromResource(ieeeList));
 
         // Read external lists
-        List<String> lists = journalAbbreviationPreferences.getExternalJournalLists();
-        if (!(lists.isEmpty())) {
-            Collections.reverse(lists);
-            for (String filename : lists) {
-                try {
-                    journalAbbrev.addEntries(readJournalListFromFile(new File(filename)));
-                } catch (FileNotFoundException e) {
-                    // The file couldn't be found... should we tell anyone?
-                    LOGGER.info("Cannot find external journal list file " + filename, e);
-                }
+        for (String filename : externalLists) {
+            try {
+                abbreviations.addAll(readJournalListFromFile(new File(filename)));
+            } catch (FileNotFoundException e) {
+                // The file couldn't be found... should we tell anyone?
+                LOGGER.info("Cannot find external journal list file " + filename, e);
             }
         }
 
         // Read personal list
-        String personalJournalList = journalAbbreviationPreferences.getPersonalJournalLists();
-        if ((personalJournalList != null) && !personalJournalList.trim().isEmpty()) {
+        if (personalList.isPresent()) {
             try {
-                journalAbbrev.addEntries(
-                        readJournalListFromFile(new File(personalJournalList),
-                                journalAbbreviationPreferences.getDefaultEncoding()));
+                abbreviations.addAll(readJournalListFromFile(new File(personalList.get()), encoding));
             } catch (FileNotFoundException e) {
-                LOGGER.info("Personal journal list file '" + personalJournalList + "' not found.", e);
+                LOGGER.info("Personal journal list file '" + personalList.get() + "' not found.", e);
             }
         }
 
+        journalAbbrev = new JournalAbbreviationRepository(abbreviations);
+        cache.ifPresent(journalCache -> signature.ifPresent(sign -> journalCache.write(sign, abbreviations)));
+    }
+
+    /**
+     * Describes the journal lists by their names, sizes and modification times, so that the abbreviations are read
+     * again if any of them changes.
+     *
+     * @return the signature or an empty Optional if a built in list cannot be accessed
+     */
+    private static Optional<String> getSignature(String ieeeList, List<String> externalLists,
+            Optional<String> personalList, Charset encoding) {
+        StringJoiner signature = new StringJoiner("\n");
+        try {
+            for (String resource : Arrays.asList(JOURNALS_FILE_BUILTIN, ieeeList)) {
+                URLConnection connection = JournalAbbreviationLoader.class.getResource(resource).openConnection();
+                signature.add(resource + ' ' + connection.getContentLengthLong() + ' ' + connection.getLastModified());
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Cannot access built in journal lists", e);
+            return Optional.empty();
+        }
+        for (String filename : externalLists) {
+            signature.add(getSignature(new File(filename)) + ' ' + Charset.defaultCharset());
+        }
+        personalList.ifPresent(list -> signature.add(getSignature(new File(list)) + ' ' + encoding));
+        return Optional.of(signature.toString());
+    }
+
+    private static String getSignature(File file) {
+        return file.getAbsolutePath() + ' ' + file.length() + ' ' + file.lastModified();
     }
 
     public static List<Abbreviation> getOfficialIEEEAbbreviations() {
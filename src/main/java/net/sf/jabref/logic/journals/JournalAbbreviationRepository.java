@@ -15,45 +15,60 @@
 */
 package net.sf.jabref.logic.journals;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
-import java.util.TreeSet;
-
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * The lookups are answered by a {@link JournalAbbreviationIndex}, which is built on the first lookup after adding
+ * abbreviations. Thus, all abbreviations should be added before looking up any name.
  */
 public class JournalAbbreviationRepository {
 
-    private final Map<String, Abbreviation> fullNameLowerCase2Abbreviation = new HashMap<>();
-    private final Map<String, Abbreviation> isoLowerCase2Abbreviation = new HashMap<>();
-    private final Map<String, Abbreviation> medlineLowerCase2Abbreviation = new HashMap<>();
+    private final List<Abbreviation> addedAbbreviations = new ArrayList<>();
+
+    /**
+     * Read without locking, built under the lock of this repository
+     */
+    private volatile JournalAbbreviationIndex index;
 
-    private final SortedSet<Abbreviation> abbreviations = new TreeSet<>();
 
-    private static final Log LOGGER = LogFactory.getLog(JournalAbbreviationRepository.class);
+    public JournalAbbreviationRepository() {
+        // nothing to do
+    }
+
+    public JournalAbbreviationRepository(List<Abbreviation> abbreviations) {
+        addedAbbreviations.addAll(abbreviations);
+        index = new JournalAbbreviationIndex(addedAbbreviations);
+    }
+
+    private JournalAbbreviationIndex getIndex() {
+        JournalAbbreviationIndex currentIndex = index;
+        if (currentIndex == null) {
+            synchronized (this) {
+                if (index == null) {
+                    index = new JournalAbbreviationIndex(addedAbbreviations);
+                }
+                currentIndex = index;
+            }
+        }
+        return currentIndex;
+    }
 
     public int size() {
-        return abbreviations.size();
+        return getIndex().size();
     }
 
     public boolean isKnownName(String journalName) {
-        String nameKey = Objects.requireNonNull(journalName).trim().toLowerCase(Locale.ENGLISH);
-        return (fullNameLowerCase2Abbreviation.containsKey(nameKey)) || (isoLowerCase2Abbreviation.containsKey(nameKey))
-                || (medlineLowerCase2Abbreviation.containsKey(nameKey));
+        return getIndex().isKnownName(journalName);
     }
 
     public boolean isAbbreviatedName(String journalName) {
-        String nameKey = Objects.requireNonNull(journalName).trim().toLowerCase(Locale.ENGLISH);
-        return (isoLowerCase2Abbreviation.containsKey(nameKey)) || (medlineLowerCase2Abbreviation.containsKey(nameKey));
+        return getIndex().isAbbreviatedName(journalName);
     }
 
     /**
@@ -63,43 +78,37 @@ public class JournalAbbreviationRepository {
      * @return The abbreviated name
      */
     public Optional<Abbreviation> getAbbreviation(String journalName) {
-        String nameKey = Objects.requireNonNull(journalName).toLowerCase(Locale.ENGLISH).trim();
-
-        if (fullNameLowerCase2Abbreviation.containsKey(nameKey)) {
-            return Optional.of(fullNameLowerCase2Abbreviation.get(nameKey));
-        } else if (isoLowerCase2Abbreviation.containsKey(nameKey)) {
-            return Optional.of(isoLowerCase2Abbreviation.get(nameKey));
-        } else if (medlineLowerCase2Abbreviation.containsKey(nameKey)) {
-            return Optional.of(medlineLowerCase2Abbreviation.get(nameKey));
-        } else {
-            return Optional.empty();
-        }
+        return getIndex().getAbbreviation(journalName);
     }
 
-    public void addEntry(Abbreviation abbreviation) {
-        Objects.requireNonNull(abbreviation);
-
-        if (isKnownName(abbreviation.getName())) {
-            Abbreviation previous = getAbbreviation(abbreviation.getName()).get();
-            abbreviations.remove(previous);
-            LOGGER.info("Duplicate journal abbreviation - old one will be overwritten by new one\nOLD: "
-                    + previous + "\nNEW: " + abbreviation);
-        }
+    /**
+     * @see JournalAbbreviationIndex#getAbbreviationsStartingWith(String)
+     */
+    public List<Abbreviation> getAbbreviationsStartingWith(String prefix) {
+        return getIndex().getAbbreviationsStartingWith(prefix);
+    }
 
-        abbreviations.add(abbreviation);
+    /**
+     * @see JournalAbbreviationIndex#getAbbreviationsWithinDistance(String, int)
+     */
+    public List<Abbreviation> getAbbreviationsWithinDistance(String journalName, int maxDistance) {
+        return getIndex().getAbbreviationsWithinDistance(journalName, maxDistance);
+    }
 
-        fullNameLowerCase2Abbreviation.put(abbreviation.getName().toLowerCase(Locale.ENGLISH), abbreviation);
-        isoLowerCase2Abbreviation.put(abbreviation.getIsoAbbreviation().toLowerCase(Locale.ENGLISH), abbreviation);
-        medlineLowerCase2Abbreviation.put(abbreviation.getMedlineAbbreviation().toLowerCase(Locale.ENGLISH),
-                abbreviation);
+    /**
+     * Adds the abbreviation. If an abbreviation with the same name has been added before, it is overwritten.
+     */
+    public synchronized void addEntry(Abbreviation abbreviation) {
+        addedAbbreviations.add(Objects.requireNonNull(abbreviation));
+        index = null;
     }
 
-    public void addEntries(List<Abbreviation> abbreviationsToAdd) {
+    public synchronized void addEntries(List<Abbreviation> abbreviationsToAdd) {
         abbreviationsToAdd.forEach(this::addEntry);
     }
 
     public SortedSet<Abbreviation> getAbbreviations() {
-        return Collections.unmodifiableSortedSet(abbreviations);
+        return getIndex().getAbbreviations();
     }
 
     public Optional<String> getNextAbbreviation(String text) {
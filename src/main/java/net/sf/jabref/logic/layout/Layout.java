@@ -158,4 +158,12 @@ public class Layout {
     public List<String> getMissingFormatters() {
         return new ArrayList<>(missingFormatters);
     }
+
+    /**
+     * Whether this layout contains group blocks. The text of a group block depends on the entry formatted before, see
+     * {@link LayoutHelper#getCurrentGroup()}, thus the entries have to be formatted one after the other.
+     */
+    public boolean containsGroups() {
+        return layoutEntries.stream().anyMatch(LayoutEntry::containsGroups);
+    }
 }
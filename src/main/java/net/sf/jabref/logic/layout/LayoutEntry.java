@@ -621,6 +621,13 @@ class LayoutEntry {
         return invalidFormatter;
     }
 
+    public boolean containsGroups() {
+        if (type == LayoutHelper.IS_GROUP_START) {
+            return true;
+        }
+        return (layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::containsGroups);
+    }
+
     public static List<List<String>> parseMethodsCalls(String calls) {
 
         List<List<String>> result = new ArrayList<>();
@@ -1,7 +1,12 @@
 package net.sf.jabref.logic.remote.client;
 
+import java.io.IOException;
 import java.net.InetAddress;
 import java.net.Socket;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import net.sf.jabref.logic.l10n.Localization;
 import net.sf.jabref.logic.remote.shared.Protocol;
@@ -23,27 +28,49 @@ public class RemoteListenerClient {
      * @return true if successful, false otherwise.
      */
     public static boolean sendToActiveJabRefInstance(String[] args, int remoteServerPort) {
+        return sendToActiveJabRefInstance(Collections.singletonList(args), remoteServerPort);
+    }
+
+    /**
+     * Attempt to send several sets of command line arguments to already running JabRef instance. All of them are
+     * sent over the same connection without waiting for the instance to receive them one by one.
+     *
+     * @param argsList Command line arguments of each call.
+     * @return true if all arguments have been received, false otherwise.
+     */
+    public static boolean sendToActiveJabRefInstance(List<String[]> argsList, int remoteServerPort) {
         try (Socket socket = new Socket(InetAddress.getByName("localhost"), remoteServerPort)) {
             socket.setSoTimeout(TIMEOUT);
 
             Protocol protocol = new Protocol(socket);
             try {
-                String identifier = protocol.receiveMessage();
+                Optional<String> identifier;
+                try {
+                    identifier = protocol.receiveMessage();
+                } catch (IOException e) {
+                    identifier = Optional.empty();
+                }
 
-                if (!Protocol.IDENTIFIER.equals(identifier)) {
+                if (!identifier.equals(Optional.of(Protocol.IDENTIFIER))) {
                     String port = String.valueOf(remoteServerPort);
                     String error = Localization.lang("Cannot use port %0 for remote operation; another application may be using it. Try specifying another port.", port);
                     System.out.println(error);
                     return false;
                 }
-                protocol.sendMessage(String.join("\n", args));
+                protocol.sendMessages(
+                        argsList.stream().map(args -> String.join("\n", args)).collect(Collectors.toList()));
+                for (int i = 0; i < argsList.size(); i++) {
+                    if (!protocol.receiveMessage().equals(Optional.of(Protocol.ACKNOWLEDGEMENT))) {
+                        return false;
+                    }
+                }
                 return true;
             } finally {
                 protocol.close();
             }
         } catch (Exception e) {
-            LOGGER.debug(
-                    "Could not send args " + String.join(", ", args) + " to the server at port " + remoteServerPort, e);
+            LOGGER.debug("Could not send args " + argsList.stream().map(args -> String.join(", ", args))
+                    .collect(Collectors.joining("; ")) + " to the server at port " + remoteServerPort, e);
             return false;
         }
     }
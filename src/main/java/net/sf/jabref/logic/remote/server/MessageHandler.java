@@ -3,6 +3,9 @@ package net.sf.jabref.logic.remote.server;
 @FunctionalInterface
 public interface MessageHandler {
 
+    /**
+     * Handles a message received from a remote client. Messages of different clients are handled concurrently.
+     */
     void handleMessage(String message);
 
 }
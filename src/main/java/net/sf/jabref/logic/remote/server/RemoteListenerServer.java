@@ -20,44 +20,60 @@ import java.net.InetAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import net.sf.jabref.logic.remote.shared.Protocol;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+/**
+ * Accepts connections of {@link net.sf.jabref.logic.remote.client.RemoteListenerClient}s and hands each connection
+ * to a thread of a pool, so that several clients are served at the same time. A connection is kept open as long as
+ * the client sends messages, see {@link Protocol}.
+ */
 public class RemoteListenerServer implements Runnable {
     private static final Log LOGGER = LogFactory.getLog(RemoteListenerServer.class);
 
-    private static final int BACKLOG = 1;
+    private static final int BACKLOG = 50;
 
-    private static final int ONE_SECOND_TIMEOUT = 1000;
+    private static final int MAX_CONNECTIONS = 8;
+
+    /**
+     * A connection is closed if the client does not send a message within this time.
+     */
+    private static final int IDLE_TIMEOUT = 5000;
 
     private final MessageHandler messageHandler;
     private final ServerSocket serverSocket;
+    private final ExecutorService connectionHandlers;
+    private final Set<Socket> openSockets = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
 
     public RemoteListenerServer(MessageHandler messageHandler, int port) throws IOException {
         this.serverSocket = new ServerSocket(port, BACKLOG, InetAddress.getByName("localhost"));
         this.messageHandler = messageHandler;
+        this.connectionHandlers = Executors.newFixedThreadPool(MAX_CONNECTIONS, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("JabRef - Remote Listener Connection on port " + port);
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
     public void run() {
         try {
             while (!Thread.interrupted()) {
-                try (Socket socket = serverSocket.accept()) {
-                    socket.setSoTimeout(ONE_SECOND_TIMEOUT);
-
-                    Protocol protocol = new Protocol(socket);
-                    protocol.sendMessage(Protocol.IDENTIFIER);
-                    String message = protocol.receiveMessage();
-                    protocol.close();
-                    if (message.isEmpty()) {
-                        continue;
-                    }
-                    messageHandler.handleMessage(message);
-
+                try {
+                    Socket socket = serverSocket.accept();
+                    openSockets.add(socket);
+                    connectionHandlers.execute(() -> handleConnection(socket));
                 } catch (SocketException ex) {
                     return;
                 } catch (IOException e) {
@@ -69,12 +85,58 @@ public class RemoteListenerServer implements Runnable {
         }
     }
 
+    private void handleConnection(Socket socket) {
+        Protocol protocol = null;
+        try {
+            socket.setSoTimeout(IDLE_TIMEOUT);
+
+            protocol = new Protocol(socket);
+            protocol.sendMessage(Protocol.IDENTIFIER);
+            Optional<String> message;
+            while ((message = protocol.receiveMessage()).isPresent()) {
+                // acknowledge first, the client does not need to wait for the handling of the message
+                protocol.sendMessage(Protocol.ACKNOWLEDGEMENT);
+                if (!message.get().isEmpty()) {
+                    handleMessage(message.get());
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Connection to remote client closed", e);
+        } finally {
+            if (protocol != null) {
+                protocol.close();
+            }
+            closeSocket(socket);
+        }
+    }
+
+    private void handleMessage(String message) {
+        try {
+            messageHandler.handleMessage(message);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not handle remote message " + message, e);
+        }
+    }
+
     public void closeServerSocket() {
         try {
             serverSocket.close();
         } catch (IOException ignored) {
             // Ignored
         }
+
+        connectionHandlers.shutdownNow();
+        // blocking reads are not interrupted, thus close the sockets of the open connections
+        openSockets.forEach(this::closeSocket);
+    }
+
+    private void closeSocket(Socket socket) {
+        openSockets.remove(socket);
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // Ignored
+        }
     }
 
 }
@@ -1,51 +1,83 @@
 package net.sf.jabref.logic.remote.shared;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.Socket;
-import java.net.SocketTimeoutException;
-
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 
 /**
- * Every message is terminated with '\0'.
+ * Every message is sent as its length in bytes (four bytes, big-endian) followed by the message encoded in UTF-8.
+ * <p>
+ * A connection starts with the server sending {@link #IDENTIFIER}. Then, the client may send any number of messages
+ * without waiting for a response. The server answers each received message with {@link #ACKNOWLEDGEMENT} in the same
+ * order.
  */
 public class Protocol {
 
     public static final String IDENTIFIER = "jabref";
+    public static final String ACKNOWLEDGEMENT = "ok";
 
-    private static final Log LOGGER = LogFactory.getLog(Protocol.class);
+    /**
+     * Messages contain command line arguments, longer messages are considered to be garbage.
+     */
+    private static final int MAX_MESSAGE_LENGTH = 1024 * 1024;
 
     private final Socket socket;
-    private final OutputStream out;
-    private final InputStream in;
+    private final DataOutputStream out;
+    private final DataInputStream in;
 
 
     public Protocol(Socket socket) throws IOException {
         this.socket = socket;
-        this.out = socket.getOutputStream();
-        this.in = socket.getInputStream();
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
     }
 
     public void sendMessage(String message) throws IOException {
-        out.write(message.getBytes());
-        out.write('\0');
+        writeMessage(message);
+        out.flush();
+    }
+
+    /**
+     * Sends all messages at once without waiting for a response in between.
+     */
+    public void sendMessages(Iterable<String> messages) throws IOException {
+        for (String message : messages) {
+            writeMessage(message);
+        }
         out.flush();
     }
 
-    public String receiveMessage() throws IOException {
-        int c;
-        StringBuilder result = new StringBuilder();
+    private void writeMessage(String message) throws IOException {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads the next message.
+     *
+     * @return the message or an empty Optional if the other side closed the connection
+     * @throws IOException if the connection timed out or the received data is no valid message
+     */
+    public Optional<String> receiveMessage() throws IOException {
+        int length;
         try {
-            while (((c = in.read()) != '\0') && (c >= 0)) {
-                result.append((char) c);
-            }
-        } catch (SocketTimeoutException ex) {
-            LOGGER.info("Connection timed out.", ex);
+            length = in.readInt();
+        } catch (EOFException ex) {
+            return Optional.empty();
+        }
+        if ((length < 0) || (length > MAX_MESSAGE_LENGTH)) {
+            throw new IOException("Invalid message length " + length);
         }
-        return result.toString();
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return Optional.of(new String(bytes, StandardCharsets.UTF_8));
     }
 
     public void close() {
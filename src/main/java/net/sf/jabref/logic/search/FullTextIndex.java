@@ -0,0 +1,342 @@
+package net.sf.jabref.logic.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import net.sf.jabref.logic.layout.format.RemoveLatexCommands;
+import net.sf.jabref.logic.search.rules.SentenceAnalyzer;
+import net.sf.jabref.model.database.BibDatabase;
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.model.event.EntryAddedEvent;
+import net.sf.jabref.model.event.EntryRemovedEvent;
+import net.sf.jabref.model.event.FieldChangedEvent;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * In-memory inverted index over the field contents of all entries of a database, used to answer plain word queries
+ * (see {@link net.sf.jabref.logic.search.rules.ContainBasedSearchRule}) without scanning every entry.
+ * <p>
+ * The field contents are normalized the same way as by the contain based search (LaTeX commands removed, lower case)
+ * and split into tokens consisting of letters and digits only. A query word which consists of letters and digits only
+ * is contained in a field iff it is contained in one of the tokens of that field. Therefore, the tokens are
+ * additionally indexed by their bigrams and trigrams, so that substring (and thus also prefix) lookups do not need to scan the
+ * whole vocabulary.
+ * <p>
+ * The index is built lazily on the first query and is kept in sync through the event bus of the database afterwards.
+ */
+public class FullTextIndex {
+
+    private static final RemoveLatexCommands REMOVE_LATEX_COMMANDS = new RemoveLatexCommands();
+    private static final int MIN_GRAM_LENGTH = 2;
+    private static final int MAX_GRAM_LENGTH = 3;
+
+    private final BibDatabase database;
+    private boolean built;
+
+    private final Map<BibEntry, Integer> ordinalOfEntry = new IdentityHashMap<>();
+    private int nextOrdinal;
+    private BibEntry[] entryOfOrdinal = new BibEntry[16];
+    private final BitSet usedOrdinals = new BitSet();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    /**
+     * The tokens of each indexed entry. The strings are the instances used as keys in the vocabulary.
+     */
+    private final Map<BibEntry, String[]> tokensOfEntry = new IdentityHashMap<>();
+    private final Map<String, Postings> vocabulary = new HashMap<>();
+    private final Map<String, Set<String>> tokensOfGram = new HashMap<>();
+
+
+    public FullTextIndex(BibDatabase database) {
+        this.database = Objects.requireNonNull(database);
+    }
+
+    /**
+     * Returns true if the given query can be answered by the index.
+     */
+    public static boolean canAnswer(SearchQuery query) {
+        return query.isContainsBasedSearch() && query.isValid();
+    }
+
+    /**
+     * Returns all entries of the database matching the given query. If the query can be answered by the index, the
+     * entries are returned in the order they were added to the index, otherwise all entries are checked in the order
+     * of the database.
+     */
+    public List<BibEntry> getMatches(SearchQuery query) {
+        if (!canAnswer(query)) {
+            return database.getEntries().stream().filter(query::isMatch).collect(Collectors.toList());
+        }
+
+        List<String> words = new SentenceAnalyzer(query.getQuery().toLowerCase()).getWords();
+        // for case insensitive plain words, the candidates are exactly the matching entries
+        boolean exact = !query.isCaseSensitive() && !words.isEmpty()
+                && words.stream().allMatch(FullTextIndex::isToken);
+
+        List<BibEntry> candidates = new ArrayList<>();
+        synchronized (this) {
+            ensureBuilt();
+            BitSet candidateOrdinals = getCandidates(words);
+            if (candidateOrdinals == null) {
+                candidateOrdinals = usedOrdinals;
+            }
+            for (int i = candidateOrdinals.nextSetBit(0); i >= 0; i = candidateOrdinals.nextSetBit(i + 1)) {
+                candidates.add(entryOfOrdinal[i]);
+            }
+        }
+
+        if (exact) {
+            return candidates;
+        }
+        return candidates.stream().filter(query::isMatch).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the ordinals of all entries that might contain all given words, or null if all entries might.
+     */
+    private BitSet getCandidates(List<String> words) {
+        BitSet candidates = null;
+        for (String word : words) {
+            for (String part : tokenize(word)) {
+                BitSet partCandidates = new BitSet(nextOrdinal);
+                for (String token : getTokensContaining(part)) {
+                    vocabulary.get(token).addTo(partCandidates);
+                }
+                if (candidates == null) {
+                    candidates = partCandidates;
+                } else {
+                    candidates.and(partCandidates);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private Set<String> getTokensContaining(String part) {
+        if (part.length() < MIN_GRAM_LENGTH) {
+            return vocabulary.keySet().stream().filter(token -> token.contains(part)).collect(Collectors.toSet());
+        } else if (part.length() < MAX_GRAM_LENGTH) {
+            return tokensOfGram.getOrDefault(part, Collections.emptySet());
+        }
+
+        Set<String> smallest = null;
+        for (String gram : getGrams(part, MAX_GRAM_LENGTH)) {
+            Set<String> tokens = tokensOfGram.get(gram);
+            if (tokens == null) {
+                return Collections.emptySet();
+            }
+            if ((smallest == null) || (tokens.size() < smallest.size())) {
+                smallest = tokens;
+            }
+        }
+        return smallest.stream().filter(token -> token.contains(part)).collect(Collectors.toSet());
+    }
+
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        database.registerListener(this);
+        for (BibEntry entry : database.getEntries()) {
+            updateEntry(entry);
+        }
+        built = true;
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryAddedEvent event) {
+        updateEntry(event.getBibEntry());
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryRemovedEvent event) {
+        removeEntry(event.getBibEntry());
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        // removed entries still relay their changes to the database, ignore them
+        if (ordinalOfEntry.containsKey(event.getBibEntry())) {
+            updateEntry(event.getBibEntry());
+        }
+    }
+
+    private void updateEntry(BibEntry entry) {
+        Integer ordinal = ordinalOfEntry.get(entry);
+        if (ordinal == null) {
+            ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+            if (ordinal >= entryOfOrdinal.length) {
+                entryOfOrdinal = Arrays.copyOf(entryOfOrdinal, entryOfOrdinal.length * 2);
+            }
+            entryOfOrdinal[ordinal] = entry;
+            usedOrdinals.set(ordinal);
+            ordinalOfEntry.put(entry, ordinal);
+        }
+
+        Set<String> newTokens = new HashSet<>();
+        for (String fieldContent : entry.getFieldValues()) {
+            newTokens.addAll(tokenize(REMOVE_LATEX_COMMANDS.format(fieldContent).toLowerCase()));
+        }
+
+        String[] oldTokens = tokensOfEntry.getOrDefault(entry, new String[0]);
+        List<String> tokens = new ArrayList<>(newTokens.size());
+        for (String oldToken : oldTokens) {
+            if (newTokens.remove(oldToken)) {
+                tokens.add(oldToken);
+            } else {
+                removePosting(oldToken, ordinal);
+            }
+        }
+        // newTokens now only contains the added tokens
+        for (String addedToken : newTokens) {
+            tokens.add(addPosting(addedToken, ordinal));
+        }
+        tokensOfEntry.put(entry, tokens.toArray(new String[tokens.size()]));
+    }
+
+    private void removeEntry(BibEntry entry) {
+        Integer ordinal = ordinalOfEntry.remove(entry);
+        if (ordinal == null) {
+            return;
+        }
+        for (String token : tokensOfEntry.remove(entry)) {
+            removePosting(token, ordinal);
+        }
+        entryOfOrdinal[ordinal] = null;
+        usedOrdinals.clear(ordinal);
+        freeOrdinals.push(ordinal);
+    }
+
+    /**
+     * Adds the ordinal to the postings of the token and returns the instance of the token stored in the vocabulary.
+     */
+    private String addPosting(String token, int ordinal) {
+        Postings postings = vocabulary.get(token);
+        if (postings == null) {
+            postings = new Postings(token);
+            vocabulary.put(token, postings);
+            for (String gram : getGrams(token)) {
+                tokensOfGram.computeIfAbsent(gram, key -> new HashSet<>()).add(token);
+            }
+        }
+        postings.add(ordinal);
+        return postings.token;
+    }
+
+    private void removePosting(String token, int ordinal) {
+        Postings postings = vocabulary.get(token);
+        if (postings == null) {
+            return;
+        }
+        postings.remove(ordinal);
+        if (postings.isEmpty()) {
+            vocabulary.remove(token);
+            for (String gram : getGrams(token)) {
+                Set<String> tokens = tokensOfGram.get(gram);
+                if (tokens != null) {
+                    tokens.remove(token);
+                    if (tokens.isEmpty()) {
+                        tokensOfGram.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Set<String> getGrams(String token) {
+        Set<String> grams = new HashSet<>();
+        for (int length = MIN_GRAM_LENGTH; length <= MAX_GRAM_LENGTH; length++) {
+            grams.addAll(getGrams(token, length));
+        }
+        return grams;
+    }
+
+    private static Set<String> getGrams(String token, int length) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i <= (token.length() - length); i++) {
+            grams.add(token.substring(i, i + length));
+        }
+        return grams;
+    }
+
+    /**
+     * Splits the text into maximal runs of letters and digits.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isLetterOrDigit(text.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(text.substring(start));
+        }
+        return tokens;
+    }
+
+    private static boolean isToken(String word) {
+        return !word.isEmpty() && word.chars().allMatch(Character::isLetterOrDigit);
+    }
+
+
+    /**
+     * The ordinals of all entries containing a token.
+     */
+    private static class Postings {
+
+        private final String token;
+        private int[] ordinals = new int[1];
+        private int size;
+
+
+        Postings(String token) {
+            this.token = token;
+        }
+
+        void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        void remove(int ordinal) {
+            for (int i = 0; i < size; i++) {
+                if (ordinals[i] == ordinal) {
+                    ordinals[i] = ordinals[--size];
+                    return;
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void addTo(BitSet bits) {
+            for (int i = 0; i < size; i++) {
+                bits.set(ordinals[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package net.sf.jabref.logic.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import net.sf.jabref.model.entry.BibEntry;
+
+/**
+ * Executes a search query on a list of entries using the common fork-join pool.
+ * <p>
+ * The entries are split into batches which are checked in parallel. The hits of each batch are handed to a consumer
+ * as soon as the batch is finished, so that the first hits can be shown before the whole list has been scanned.
+ * Plain word queries which can be answered by a {@link FullTextIndex} are answered by the index instead.
+ * <p>
+ * The search can be cancelled at any time, e.g., if it has been superseded by a newer query. The batches check the
+ * cancellation after each entry and do not report any hits anymore once the search is cancelled.
+ */
+public class SearchExecutor {
+
+    /**
+     * The number of entries which are checked sequentially
+     */
+    static final int BATCH_SIZE = 512;
+
+    private final SearchQuery query;
+    private final FullTextIndex index;
+
+
+    public SearchExecutor(SearchQuery query) {
+        this(query, null);
+    }
+
+    /**
+     * @param index maybenull The index of the searched database, used to answer plain word queries
+     */
+    public SearchExecutor(SearchQuery query, FullTextIndex index) {
+        this.query = Objects.requireNonNull(query);
+        this.index = index;
+    }
+
+    /**
+     * Returns all given entries matching the query.
+     */
+    public List<BibEntry> search(List<BibEntry> entries) {
+        return search(entries, hits -> {
+            // only the complete result is needed
+        }, () -> false);
+    }
+
+    /**
+     * Returns all given entries matching the query, in the order of the given list.
+     *
+     * @param hitConsumer receives the hits batch by batch while the search is still running. It is called from
+     *                    several threads, possibly concurrently, and in no particular order.
+     * @param isCancelled checked regularly, the search stops as soon as it returns true
+     * @return the matching entries, or an empty list if the search was cancelled
+     */
+    public List<BibEntry> search(List<BibEntry> entries, Consumer<List<BibEntry>> hitConsumer,
+            BooleanSupplier isCancelled) {
+        Objects.requireNonNull(hitConsumer);
+        Objects.requireNonNull(isCancelled);
+
+        if (!query.isValid()) {
+            return Collections.emptyList();
+        }
+
+        List<BibEntry> hits;
+        if ((index != null) && FullTextIndex.canAnswer(query)) {
+            hits = inOrderOf(entries, index.getMatches(query));
+            if (!hits.isEmpty() && !isCancelled.getAsBoolean()) {
+                hitConsumer.accept(Collections.unmodifiableList(hits));
+            }
+        } else {
+            // work on a snapshot, the list of the database might change while searching
+            List<BibEntry> snapshot = new ArrayList<>(entries);
+            hits = ForkJoinPool.commonPool().invoke(
+                    new SearchTask(snapshot, 0, snapshot.size(), hitConsumer, isCancelled));
+        }
+
+        if (isCancelled.getAsBoolean()) {
+            return Collections.emptyList();
+        }
+        return hits;
+    }
+
+    /**
+     * Returns the given entries which are contained in the hits of the index, in the order of the given entries. The
+     * index returns its hits in the order in which the entries were indexed.
+     */
+    private static List<BibEntry> inOrderOf(List<BibEntry> entries, List<BibEntry> indexHits) {
+        // entries are compared by identity, as BibEntry.equals compares their contents
+        Set<BibEntry> hitSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        hitSet.addAll(indexHits);
+        List<BibEntry> hits = new ArrayList<>(indexHits.size());
+        for (BibEntry entry : new ArrayList<>(entries)) {
+            if (hitSet.contains(entry)) {
+                hits.add(entry);
+            }
+        }
+        return hits;
+    }
+
+
+    private class SearchTask extends RecursiveTask<List<BibEntry>> {
+
+        private final List<BibEntry> entries;
+        private final int from;
+        private final int to;
+        private final Consumer<List<BibEntry>> hitConsumer;
+        private final BooleanSupplier isCancelled;
+
+
+        SearchTask(List<BibEntry> entries, int from, int to, Consumer<List<BibEntry>> hitConsumer,
+                BooleanSupplier isCancelled) {
+            this.entries = entries;
+            this.from = from;
+            this.to = to;
+            this.hitConsumer = hitConsumer;
+            this.isCancelled = isCancelled;
+        }
+
+        @Override
+        protected List<BibEntry> compute() {
+            if ((to - from) <= BATCH_SIZE) {
+                return searchBatch();
+            }
+
+            int middle = (from + to) >>> 1;
+            SearchTask left = new SearchTask(entries, from, middle, hitConsumer, isCancelled);
+            SearchTask right = new SearchTask(entries, middle, to, hitConsumer, isCancelled);
+            left.fork();
+            List<BibEntry> rightHits = right.compute();
+            List<BibEntry> leftHits = left.join();
+
+            if (rightHits.isEmpty()) {
+                return leftHits;
+            }
+            List<BibEntry> hits = new ArrayList<>(leftHits.size() + rightHits.size());
+            hits.addAll(leftHits);
+            hits.addAll(rightHits);
+            return hits;
+        }
+
+        private List<BibEntry> searchBatch() {
+            List<BibEntry> hits = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                if (isCancelled.getAsBoolean()) {
+                    return Collections.emptyList();
+                }
+                BibEntry entry = entries.get(i);
+                if (query.isMatch(entry)) {
+                    hits.add(entry);
+                }
+            }
+            if (!hits.isEmpty()) {
+                hitConsumer.accept(Collections.unmodifiableList(hits));
+            }
+            return hits;
+        }
+    }
+}
@@ -15,13 +15,12 @@
 */
 package net.sf.jabref.logic.search.rules;
 
-import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import net.sf.jabref.model.entry.BibEntry;
 import net.sf.jabref.search.SearchBaseVisitor;
@@ -51,6 +50,7 @@ public class GrammarBasedSearchRule implements SearchRule {
 
     private ParseTree tree;
     private String query;
+    private Predicate<BibEntry> compiledQuery;
 
 
     public static class ThrowingErrorListener extends BaseErrorListener {
@@ -103,13 +103,14 @@ public class GrammarBasedSearchRule implements SearchRule {
         parser.addErrorListener(ThrowingErrorListener.INSTANCE);
         parser.setErrorHandler(new BailErrorStrategy()); // ParseCancelationException on parse errors
         tree = parser.start();
+        compiledQuery = new SearchExpressionCompiler(caseSensitiveSearch, regExpSearch).visit(tree);
         this.query = query;
     }
 
     @Override
     public boolean applyRule(String query, BibEntry bibEntry) {
         try {
-            return new BibtexSearchVisitor(caseSensitiveSearch, regExpSearch, bibEntry).visit(tree);
+            return compiledQuery.test(bibEntry);
         } catch (Exception e) {
             LOGGER.debug("Search failed", e);
             return false;
@@ -142,116 +143,169 @@ public class GrammarBasedSearchRule implements SearchRule {
 
     public static class Comparator {
 
+        private static final String ENTRY_TYPE_FIELD = "entrytype";
+
         private final ComparisonOperator operator;
         private final Pattern fieldPattern;
         private final Pattern valuePattern;
+        private final boolean caseSensitive;
+
+        // special case for searching for entrytype=phdthesis
+        private final boolean searchesEntryType;
+
+        /**
+         * The name of the searched field as it is stored in the entries, null for regular expressions
+         */
+        private final String fieldName;
+
+        /**
+         * The searched value, null for regular expressions
+         */
+        private final String value;
+
+        /**
+         * Caches whether a field name matches the field pattern, so that each field name of the database is matched
+         * only once
+         */
+        private final Map<String, Boolean> matchingFieldNames = new ConcurrentHashMap<>();
 
         public Comparator(String field, String value, ComparisonOperator operator, boolean caseSensitive, boolean regex) {
             this.operator = operator;
+            this.caseSensitive = caseSensitive;
 
             int option = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE;
             this.fieldPattern = Pattern.compile(regex ? field : "\\Q" + field + "\\E", option);
             this.valuePattern = Pattern.compile(regex ? value : "\\Q" + value + "\\E", option);
+
+            this.searchesEntryType = fieldPattern.matcher(ENTRY_TYPE_FIELD).matches();
+            if (regex) {
+                this.fieldName = null;
+                this.value = null;
+            } else {
+                // field names are stored in lower case
+                this.fieldName = caseSensitive ? field : field.toLowerCase(Locale.ENGLISH);
+                this.value = value;
+            }
         }
 
         public boolean compare(BibEntry entry) {
-            // special case for searching for entrytype=phdthesis
-            if (fieldPattern.matcher("entrytype").matches()) {
+            if (searchesEntryType) {
                 return matchFieldValue(entry.getType());
             }
 
-            // specification of fieldsKeys to search is done in the search expression itself
-            Set<String> fieldsKeys = entry.getFieldNames();
-
-            List<String> matchedFieldKeys = fieldsKeys.stream().filter(matchFieldKey()).collect(Collectors.toList());
-
-            for (String field : matchedFieldKeys) {
-                String fieldValue = entry.getField(field);
+            Map<String, String> fields = entry.getFieldMap();
+            if (fieldName != null) {
+                String fieldValue = fields.get(fieldName);
                 if (fieldValue == null) {
-                    continue; // paranoia
+                    // special case of asdf!=whatever and entry does not contain asdf
+                    return operator == ComparisonOperator.DOES_NOT_CONTAIN;
                 }
+                return matchFieldValue(fieldValue);
+            }
 
-                if (matchFieldValue(fieldValue)) {
-                    return true;
+            // specification of fieldsKeys to search is done in the search expression itself
+            boolean anyFieldMatched = false;
+            for (Map.Entry<String, String> field : fields.entrySet()) {
+                if (matchesFieldName(field.getKey())) {
+                    anyFieldMatched = true;
+                    if (matchFieldValue(field.getValue())) {
+                        return true;
+                    }
                 }
             }
 
             // special case of asdf!=whatever and entry does not contain asdf
-            return matchedFieldKeys.isEmpty() && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
+            return !anyFieldMatched && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
         }
 
-        private Predicate<String> matchFieldKey() {
-            return s -> fieldPattern.matcher(s).matches();
+        private boolean matchesFieldName(String name) {
+            return matchingFieldNames.computeIfAbsent(name, key -> fieldPattern.matcher(key).matches());
         }
 
         public boolean matchFieldValue(String content) {
-            Matcher matcher = valuePattern.matcher(content);
             if (operator == ComparisonOperator.CONTAINS) {
-                return matcher.find();
+                return contains(content);
             } else if (operator == ComparisonOperator.EXACT) {
-                return matcher.matches();
+                return matches(content);
             } else if (operator == ComparisonOperator.DOES_NOT_CONTAIN) {
-                return !matcher.find();
+                return !contains(content);
             } else {
                 throw new IllegalStateException("MUST NOT HAPPEN");
             }
         }
 
+        private boolean contains(String content) {
+            if (value == null) {
+                return valuePattern.matcher(content).find();
+            }
+            for (int i = 0; i <= (content.length() - value.length()); i++) {
+                if (content.regionMatches(!caseSensitive, i, value, 0, value.length())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean matches(String content) {
+            if (value == null) {
+                return valuePattern.matcher(content).matches();
+            }
+            return caseSensitive ? content.equals(value) : content.equalsIgnoreCase(value);
+        }
+
     }
 
     /**
-     * Search results in boolean. It may be later on converted to an int.
+     * Compiles the parse tree of a search expression into a predicate. All patterns are built during compilation,
+     * so that the resulting predicate can be applied to many entries without further preparation.
      */
-    static class BibtexSearchVisitor extends SearchBaseVisitor<Boolean> {
+    static class SearchExpressionCompiler extends SearchBaseVisitor<Predicate<BibEntry>> {
 
         private final boolean caseSensitive;
         private final boolean regex;
 
-        private final BibEntry entry;
 
-        public BibtexSearchVisitor(boolean caseSensitive, boolean regex, BibEntry bibEntry) {
+        public SearchExpressionCompiler(boolean caseSensitive, boolean regex) {
             this.caseSensitive = caseSensitive;
             this.regex = regex;
-            this.entry = bibEntry;
-        }
-
-        public boolean comparison(String field, ComparisonOperator operator, String value) {
-            return new Comparator(field, value, operator, caseSensitive, regex).compare(entry);
         }
 
         @Override
-        public Boolean visitStart(SearchParser.StartContext ctx) {
+        public Predicate<BibEntry> visitStart(SearchParser.StartContext ctx) {
             return visit(ctx.expression());
         }
 
         @Override
-        public Boolean visitComparison(SearchParser.ComparisonContext ctx) {
+        public Predicate<BibEntry> visitComparison(SearchParser.ComparisonContext ctx) {
             // remove possible enclosing " symbols
             String right = ctx.right.getText();
             if(right.startsWith("\"") && right.endsWith("\"")) {
                 right = right.substring(1, right.length() - 1);
             }
 
-            return comparison(ctx.left.getText(), ComparisonOperator.build(ctx.operator.getText()), right);
-
+            Comparator comparator = new Comparator(ctx.left.getText(), right,
+                    ComparisonOperator.build(ctx.operator.getText()), caseSensitive, regex);
+            return comparator::compare;
         }
 
         @Override
-        public Boolean visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
-            return !visit(ctx.expression()); // negate
+        public Predicate<BibEntry> visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return visit(ctx.expression()).negate(); // negate
         }
 
         @Override
-        public Boolean visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+        public Predicate<BibEntry> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
             return visit(ctx.expression()); // ignore parenthesis
         }
 
         @Override
-        public Boolean visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+        public Predicate<BibEntry> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            Predicate<BibEntry> left = visit(ctx.left);
+            Predicate<BibEntry> right = visit(ctx.right);
             if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
-                return visit(ctx.left) && visit(ctx.right); // and
+                return left.and(right); // and
             } else {
-                return visit(ctx.left) || visit(ctx.right); // or
+                return left.or(right); // or
             }
         }
     }
@@ -22,12 +22,14 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import net.sf.jabref.BibDatabaseContext;
 import net.sf.jabref.model.database.BibDatabase;
 import net.sf.jabref.model.entry.BibEntry;
 import net.sf.jabref.model.entry.FieldName;
 import net.sf.jabref.model.entry.FileField;
+import net.sf.jabref.logic.util.io.FileSystemIndex.IndexedDirectory;
 import net.sf.jabref.model.entry.ParsedFileField;
 
 /**
@@ -43,6 +45,7 @@ public class DatabaseFileLookup {
     private final Set<File> fileCache = new HashSet<>();
 
     private final List<String> possibleFilePaths;
+    private final List<IndexedDirectory> indexedDirectories;
 
     /**
      * Creates an instance by passing a {@link BibDatabase} which will be used for the searches.
@@ -52,6 +55,9 @@ public class DatabaseFileLookup {
     public DatabaseFileLookup(BibDatabaseContext databaseContext) {
         Objects.requireNonNull(databaseContext);
         possibleFilePaths = Optional.ofNullable(databaseContext.getFileDirectory()).orElse(new ArrayList<>());
+        // the links are checked against the index of the file directories instead of the disk
+        indexedDirectories = FileSystemIndex.getInstance()
+                .getDirectories(possibleFilePaths.stream().map(File::new).collect(Collectors.toList()));
 
         for (BibEntry entry : databaseContext.getDatabase().getEntries()) {
             fileCache.addAll(parseFileField(entry));
@@ -90,9 +96,19 @@ public class DatabaseFileLookup {
                 continue;
             }
 
-            FileUtil.expandFilename(link, possibleFilePaths).ifPresent(fileLinks::add);
+            FileUtil.expandFilename(link, possibleFilePaths, this::exists).ifPresent(fileLinks::add);
         }
 
         return fileLinks;
     }
+
+    private boolean exists(File file) {
+        File parent = file.getAbsoluteFile().getParentFile();
+        for (IndexedDirectory directory : indexedDirectories) {
+            if ((parent != null) && directory.containsDirectory(parent)) {
+                return directory.containsFile(file);
+            }
+        }
+        return file.exists();
+    }
 }
@@ -0,0 +1,610 @@
+package net.sf.jabref.logic.util.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Index of the files below directories, so that the files of many entries can be looked up without walking the
+ * directories again for each entry.
+ * <p>
+ * Each directory is walked once, its subdirectories in parallel. The index keeps the listing of every directory and
+ * postings of the files by their extension and by the trigrams of their lower case names. All walked directories are
+ * registered with a {@link WatchService}. Any change below a directory drops its index, so that the directory is walked
+ * again on the next request. If the directories cannot be watched, they are walked again on each request. As the
+ * changes may be reported late, e.g., by a polling watch service, files missing in the index are looked up in the file
+ * system. Some changes are not reported at all, e.g., the ones made by other machines on a network mount. Therefore
+ * the modification times of the indexed directories are compared to the ones read during the walk before an index is
+ * returned.
+ * <p>
+ * The returned files are based on the directories as given by the caller.
+ */
+public class FileSystemIndex {
+
+    private static final Log LOGGER = LogFactory.getLog(FileSystemIndex.class);
+
+    private static final FileSystemIndex INSTANCE = new FileSystemIndex();
+
+    private static final int GRAM_LENGTH = 3;
+
+    /**
+     * The coarsest resolution of the modification times of directories, in milliseconds. A directory modified shortly
+     * before it has been listed may have been modified again in the same period, without a different modification
+     * time.
+     */
+    private static final long MODIFICATION_TIME_RESOLUTION = 2000;
+
+    /**
+     * The indexes of the walked directories, by their absolute and normalized path.
+     */
+    private final Map<Path, Tree> trees = new HashMap<>();
+    /**
+     * The same directory may be registered for several nested directories.
+     */
+    private final Map<WatchKey, Set<Tree>> treesOfKey = new HashMap<>();
+    private WatchService watchService;
+    private boolean watchServiceCreated;
+
+
+    public static FileSystemIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the indexes of the given directories. Directories which do not exist are skipped.
+     */
+    public synchronized List<IndexedDirectory> getDirectories(List<File> directories) {
+        Objects.requireNonNull(directories, "Directories must not be null!");
+        processWatchEvents();
+
+        Map<Path, Walker> walkers = new HashMap<>();
+        for (File directory : directories) {
+            Path root = getKey(directory);
+            Tree cached = trees.get(root);
+            if ((cached != null) && !walkers.containsKey(root) && !cached.isUpToDate()) {
+                LOGGER.debug(root + " has changed without a watch event, it will be walked again");
+                drop(cached);
+            }
+            if (!trees.containsKey(root) && !walkers.containsKey(root) && Files.isDirectory(root)) {
+                walkers.put(root, new Walker(root, getWatchService()));
+            }
+        }
+        // all directories are walked at once
+        long walkTime = System.currentTimeMillis();
+        ForkJoinTask.invokeAll(walkers.values());
+
+        Map<Path, Tree> walked = new HashMap<>();
+        for (Map.Entry<Path, Walker> walker : walkers.entrySet()) {
+            Tree tree = new Tree(walker.getKey(), walker.getValue().listings, walkTime);
+            walked.put(walker.getKey(), tree);
+            if (walker.getValue().watched.get()) {
+                trees.put(walker.getKey(), tree);
+                for (WatchKey key : walker.getValue().watchKeys) {
+                    treesOfKey.computeIfAbsent(key, k -> new HashSet<>()).add(tree);
+                    tree.watchKeys.add(key);
+                }
+            } else {
+                LOGGER.debug("Cannot watch " + walker.getKey() + ", it will be walked again on the next request");
+                walker.getValue().watchKeys.forEach(this::cancelIfUnused);
+            }
+        }
+
+        List<IndexedDirectory> result = new ArrayList<>();
+        for (File directory : directories) {
+            Path root = getKey(directory);
+            Tree tree = trees.getOrDefault(root, walked.get(root));
+            if (tree != null) {
+                result.add(new IndexedDirectory(directory, tree));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of the given directory, or an empty Optional if the directory does not exist.
+     */
+    public Optional<IndexedDirectory> getDirectory(File directory) {
+        List<IndexedDirectory> indexed = getDirectories(Collections.singletonList(directory));
+        return indexed.isEmpty() ? Optional.empty() : Optional.of(indexed.get(0));
+    }
+
+    /**
+     * Drops the indexes of all directories in which files have been created or deleted since the last request.
+     * Package private, so that tests can lose the events.
+     */
+    void processWatchEvents() {
+        if (watchService == null) {
+            return;
+        }
+        WatchKey key = watchService.poll();
+        while (key != null) {
+            key.pollEvents();
+            for (Tree tree : new ArrayList<>(treesOfKey.getOrDefault(key, Collections.emptySet()))) {
+                drop(tree);
+            }
+            cancelIfUnused(key);
+            key = watchService.poll();
+        }
+    }
+
+    private void drop(Tree tree) {
+        trees.remove(tree.root);
+        for (WatchKey key : tree.watchKeys) {
+            Set<Tree> keyTrees = treesOfKey.get(key);
+            if (keyTrees != null) {
+                keyTrees.remove(tree);
+            }
+            cancelIfUnused(key);
+        }
+    }
+
+    private void cancelIfUnused(WatchKey key) {
+        Set<Tree> keyTrees = treesOfKey.get(key);
+        if ((keyTrees == null) || keyTrees.isEmpty()) {
+            treesOfKey.remove(key);
+            key.cancel();
+        } else {
+            key.reset();
+        }
+    }
+
+    /**
+     * Closes the watch service and drops all indexes. The directories are walked on each later request.
+     */
+    public synchronized void shutdown() {
+        watchServiceCreated = true;
+        trees.clear();
+        treesOfKey.clear();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOGGER.warn("Cannot close the directory watcher", e);
+            }
+            watchService = null;
+        }
+    }
+
+    private WatchService getWatchService() {
+        if (!watchServiceCreated) {
+            watchServiceCreated = true;
+            try {
+                watchService = FileSystems.getDefault().newWatchService();
+            } catch (IOException | UnsupportedOperationException e) {
+                LOGGER.warn("Cannot watch directories, they will be walked on each request", e);
+            }
+        }
+        return watchService;
+    }
+
+    private static Path getKey(File directory) {
+        return directory.toPath().toAbsolutePath().normalize();
+    }
+
+
+    /**
+     * The index of a directory, as seen from the path given by the caller.
+     */
+    public static class IndexedDirectory {
+
+        private final File directory;
+        private final Tree tree;
+
+
+        IndexedDirectory(File directory, Tree tree) {
+            this.directory = directory;
+            this.tree = tree;
+        }
+
+        /**
+         * Returns the directory as given to {@link FileSystemIndex#getDirectories(List)}.
+         */
+        public File getDirectory() {
+            return directory;
+        }
+
+        /**
+         * Returns true if the given directory is this directory or one of its subdirectories.
+         */
+        public boolean containsDirectory(File subdirectory) {
+            return getRelativePath(subdirectory).map(tree.listings::containsKey).orElse(false);
+        }
+
+        /**
+         * Returns true if the given file is a file (and not a directory) below this directory.
+         * <p>
+         * Files missing in the index are looked up in the file system, as the index may not know about a new file yet
+         * and the file system may ignore the case of the names.
+         */
+        public boolean containsFile(File file) {
+            Optional<Path> relative = getRelativePath(file);
+            if (!relative.isPresent() || (relative.get().getFileName() == null)) {
+                return false;
+            }
+            Listing listing = tree.listings.get(getParent(relative.get()));
+            if ((listing != null)
+                    && (Collections.binarySearch(listing.fileNames, relative.get().getFileName().toString()) >= 0)) {
+                return true;
+            }
+            return Files.exists(file.toPath()) && !Files.isDirectory(file.toPath());
+        }
+
+        /**
+         * Returns all files below this directory.
+         */
+        public List<File> getFiles() {
+            return tree.files.stream().map(this::toFile).collect(Collectors.toList());
+        }
+
+        /**
+         * Returns the files below this directory having one of the given extensions.
+         *
+         * @param extensions lower case extensions without the leading dot
+         */
+        public List<File> getFilesWithExtension(Collection<String> extensions) {
+            List<File> result = new ArrayList<>();
+            for (String extension : new HashSet<>(extensions)) {
+                IntList postings = tree.filesByExtension.get(extension);
+                if (postings != null) {
+                    for (int i = 0; i < postings.size(); i++) {
+                        result.add(toFile(tree.files.get(postings.get(i))));
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Returns the direct subdirectories of the given directory, which has to be this directory or one of its
+         * subdirectories.
+         */
+        public List<File> getSubdirectories(File subdirectory) {
+            return getListing(subdirectory).map(
+                    listing -> listing.subdirectories.stream().map(this::toFile).collect(Collectors.toList()))
+                    .orElse(Collections.emptyList());
+        }
+
+        /**
+         * Returns the files directly in the given directory, which has to be this directory or one of its
+         * subdirectories.
+         */
+        public List<File> getFilesIn(File subdirectory) {
+            return getListing(subdirectory).map(listing -> listing.fileNames.stream()
+                    .map(name -> new File(subdirectory, name)).collect(Collectors.toList()))
+                    .orElse(Collections.emptyList());
+        }
+
+        /**
+         * Returns the files in the subdirectories of the given directory (at any depth, but not in the directory
+         * itself) whose name contains the given text ignoring case.
+         *
+         * @param nameContains the text in lower case, all files are returned if it is empty
+         */
+        public List<File> getFilesBelow(File subdirectory, String nameContains) {
+            Optional<Path> relativeDirectory = getRelativePath(subdirectory);
+            if (!relativeDirectory.isPresent()) {
+                return Collections.emptyList();
+            }
+
+            List<File> result = new ArrayList<>();
+            for (int file : tree.getCandidates(nameContains)) {
+                Path relative = tree.files.get(file);
+                Path parent = getParent(relative);
+                if (tree.lowerCaseNames[file].contains(nameContains) && !parent.equals(relativeDirectory.get())
+                        && isBelow(parent, relativeDirectory.get())) {
+                    Path below = isRoot(relativeDirectory.get()) ? relative
+                            : relativeDirectory.get().relativize(relative);
+                    result.add(new File(subdirectory, below.toString()));
+                }
+            }
+            return result;
+        }
+
+        private Optional<Listing> getListing(File subdirectory) {
+            return getRelativePath(subdirectory).map(tree.listings::get);
+        }
+
+        private Optional<Path> getRelativePath(File file) {
+            Path path = getKey(file);
+            if (!path.startsWith(tree.root)) {
+                return Optional.empty();
+            }
+            return Optional.of(tree.root.relativize(path));
+        }
+
+        private File toFile(Path relative) {
+            return directory.toPath().resolve(relative).toFile();
+        }
+
+        private static boolean isBelow(Path path, Path directory) {
+            return isRoot(directory) || path.startsWith(directory);
+        }
+    }
+
+    private static Path getParent(Path relative) {
+        Path parent = relative.getParent();
+        return parent == null ? Paths.get("") : parent;
+    }
+
+    private static boolean isRoot(Path relative) {
+        return relative.toString().isEmpty();
+    }
+
+    /**
+     * The immutable index of a walked directory. All paths are relative to the directory.
+     */
+    private static class Tree {
+
+        private final Path root;
+        private final Map<Path, Listing> listings;
+        /**
+         * The time at which the walk has started
+         */
+        private final long walkTime;
+        private final List<Path> files = new ArrayList<>();
+        private final String[] lowerCaseNames;
+        private final Map<String, IntList> filesByExtension = new HashMap<>();
+        private final Map<String, IntList> filesByGram = new HashMap<>();
+        private final List<WatchKey> watchKeys = new ArrayList<>();
+
+
+        Tree(Path root, Map<Path, Listing> listings, long walkTime) {
+            this.root = root;
+            this.listings = listings;
+            this.walkTime = walkTime;
+
+            // sorted, so that the files are always returned in the same order
+            for (Map.Entry<Path, Listing> listing : new TreeMap<>(listings).entrySet()) {
+                for (String name : listing.getValue().fileNames) {
+                    files.add(listing.getKey().resolve(name));
+                }
+            }
+
+            lowerCaseNames = new String[files.size()];
+            for (int file = 0; file < files.size(); file++) {
+                String name = files.get(file).getFileName().toString();
+                lowerCaseNames[file] = name.toLowerCase(Locale.ROOT);
+                filesByExtension.computeIfAbsent(FileUtil.getFileExtension(name).orElse(""), key -> new IntList())
+                        .add(file);
+                for (String gram : getGrams(lowerCaseNames[file])) {
+                    filesByGram.computeIfAbsent(gram, key -> new IntList()).add(file);
+                }
+            }
+        }
+
+        /**
+         * Returns true if no directory has been modified since it has been listed. Only the modification times of the
+         * directories are read, which is much faster than walking them again.
+         */
+        boolean isUpToDate() {
+            for (Map.Entry<Path, Listing> listing : listings.entrySet()) {
+                long lastModified = listing.getValue().lastModified;
+                if (lastModified > (walkTime - MODIFICATION_TIME_RESOLUTION)) {
+                    // later modifications may not have changed the modification time
+                    return false;
+                }
+                try {
+                    if (Files.getLastModifiedTime(root.resolve(listing.getKey())).toMillis() != lastModified) {
+                        return false;
+                    }
+                } catch (IOException e) {
+                    LOGGER.debug("Cannot read the modification time of " + root.resolve(listing.getKey()), e);
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the files which may contain the given lower case text in their name.
+         */
+        int[] getCandidates(String nameContains) {
+            if (nameContains.length() < GRAM_LENGTH) {
+                int[] all = new int[files.size()];
+                Arrays.setAll(all, file -> file);
+                return all;
+            }
+
+            IntList smallest = null;
+            for (String gram : getGrams(nameContains)) {
+                IntList postings = filesByGram.get(gram);
+                if (postings == null) {
+                    return new int[0];
+                }
+                if ((smallest == null) || (postings.size() < smallest.size())) {
+                    smallest = postings;
+                }
+            }
+            return smallest.toArray();
+        }
+
+        private static Set<String> getGrams(String text) {
+            Set<String> grams = new HashSet<>();
+            for (int i = 0; i <= (text.length() - GRAM_LENGTH); i++) {
+                grams.add(text.substring(i, i + GRAM_LENGTH));
+            }
+            return grams;
+        }
+    }
+
+    private static class Listing {
+
+        private final List<Path> subdirectories;
+        /**
+         * Sorted
+         */
+        private final List<String> fileNames;
+        /**
+         * The modification time of the directory read before listing it, {@link Long#MAX_VALUE} if it cannot be read
+         */
+        private final long lastModified;
+
+
+        Listing(List<Path> subdirectories, List<String> fileNames, long lastModified) {
+            this.subdirectories = subdirectories;
+            this.fileNames = fileNames;
+            this.lastModified = lastModified;
+        }
+    }
+
+    /**
+     * Lists a directory and walks its subdirectories in parallel. Symbolic links to directories are followed, unless
+     * they point to the directory itself or to one of its parents.
+     */
+    private static class Walker extends RecursiveAction {
+
+        private final Path directory;
+        private final Path relative;
+        /**
+         * The file keys of the directory and its parents up to the root, see {@link #getFileKey(Path)}
+         */
+        private final Set<Object> fileKeys;
+        private final WatchService watchService;
+        private final Map<Path, Listing> listings;
+        private final Queue<WatchKey> watchKeys;
+        private final AtomicBoolean watched;
+
+
+        Walker(Path root, WatchService watchService) {
+            this(root, Paths.get(""), Collections.singleton(getFileKey(root)), watchService,
+                    new ConcurrentHashMap<>(), new ConcurrentLinkedQueue<>(), new AtomicBoolean(watchService != null));
+        }
+
+        private Walker(Path directory, Path relative, Set<Object> fileKeys, WatchService watchService,
+                Map<Path, Listing> listings, Queue<WatchKey> watchKeys, AtomicBoolean watched) {
+            this.directory = directory;
+            this.relative = relative;
+            this.fileKeys = fileKeys;
+            this.watchService = watchService;
+            this.listings = listings;
+            this.watchKeys = watchKeys;
+            this.watched = watched;
+        }
+
+        @Override
+        protected void compute() {
+            // register before listing, so that no change after the listing is missed
+            if (watched.get()) {
+                try {
+                    watchKeys.add(directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_DELETE));
+                } catch (IOException | UnsupportedOperationException e) {
+                    LOGGER.debug("Cannot watch " + directory, e);
+                    watched.set(false);
+                }
+            }
+
+            long lastModified;
+            try {
+                lastModified = Files.getLastModifiedTime(directory).toMillis();
+            } catch (IOException e) {
+                LOGGER.debug("Cannot read the modification time of " + directory, e);
+                lastModified = Long.MAX_VALUE;
+            }
+
+            Map<Path, Object> subdirectoryKeys = new TreeMap<>();
+            List<String> fileNames = new ArrayList<>();
+            try (DirectoryStream<Path> children = Files.newDirectoryStream(directory)) {
+                for (Path child : children) {
+                    if (!Files.isDirectory(child)) {
+                        fileNames.add(child.getFileName().toString());
+                        continue;
+                    }
+                    Object fileKey = getFileKey(child);
+                    if ((fileKey == null) || fileKeys.contains(fileKey)) {
+                        LOGGER.debug("Skipping " + child + ", it cannot be read or links to one of its parents");
+                    } else {
+                        subdirectoryKeys.put(relative.resolve(child.getFileName().toString()), fileKey);
+                    }
+                }
+            } catch (IOException | DirectoryIteratorException e) {
+                LOGGER.debug("Problem listing " + directory, e);
+            }
+            List<Path> subdirectories = new ArrayList<>(subdirectoryKeys.keySet());
+            Collections.sort(fileNames);
+            listings.put(relative, new Listing(subdirectories, fileNames, lastModified));
+
+            List<Walker> subdirectoryWalkers = new ArrayList<>(subdirectories.size());
+            for (Map.Entry<Path, Object> subdirectory : subdirectoryKeys.entrySet()) {
+                Set<Object> subdirectoryFileKeys = new HashSet<>(fileKeys);
+                subdirectoryFileKeys.add(subdirectory.getValue());
+                subdirectoryWalkers.add(new Walker(directory.resolve(subdirectory.getKey().getFileName()),
+                        subdirectory.getKey(), subdirectoryFileKeys, watchService, listings, watchKeys, watched));
+            }
+            invokeAll(subdirectoryWalkers);
+        }
+
+        /**
+         * Returns an object identifying the given directory, the same for all links to it, or null if the directory
+         * cannot be read.
+         */
+        private static Object getFileKey(Path directory) {
+            try {
+                Object fileKey = Files.readAttributes(directory, BasicFileAttributes.class).fileKey();
+                // not all file systems provide a file key
+                return fileKey == null ? directory.toRealPath() : fileKey;
+            } catch (IOException e) {
+                LOGGER.debug("Cannot read the attributes of " + directory, e);
+                return null;
+            }
+        }
+    }
+
+    private static class IntList {
+
+        private int[] values = new int[1];
+        private int size;
+
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -33,6 +33,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.Stack;
 import java.util.Vector;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 import net.sf.jabref.BibDatabaseContext;
@@ -212,9 +213,16 @@ public class FileUtil {
      * returning the first found file to match if any.
      */
     public static Optional<File> expandFilename(String name, List<String> directories) {
+        return expandFilename(name, directories, File::exists);
+    }
+
+    /**
+     * Converts a relative filename to an absolute one, if necessary, using the given test whether a file exists.
+     */
+    static Optional<File> expandFilename(String name, List<String> directories, Predicate<File> exists) {
         for (String dir : directories) {
             if (dir != null) {
-                Optional<File> result = expandFilename(name, dir);
+                Optional<File> result = expandFilename(name, dir, exists);
                 if (result.isPresent()) {
                     return result;
                 }
@@ -228,7 +236,7 @@ public class FileUtil {
      * Converts a relative filename to an absolute one, if necessary. Returns
      * null if the file does not exist.
      */
-    private static Optional<File> expandFilename(String filename, String dir) {
+    private static Optional<File> expandFilename(String filename, String dir, Predicate<File> exists) {
 
         if ((filename == null) || filename.isEmpty()) {
             return Optional.empty();
@@ -237,7 +245,7 @@ public class FileUtil {
         String name = filename;
 
         File file = new File(name);
-        if (file.exists() || (dir == null)) {
+        if (exists.test(file) || (dir == null)) {
             return Optional.of(file);
         }
 
@@ -255,7 +263,7 @@ public class FileUtil {
         }
 
         File fileInDir = new File(name);
-        if (fileInDir.exists()) {
+        if (exists.test(fileInDir)) {
             return Optional.of(fileInDir);
         } else {
             return Optional.empty();
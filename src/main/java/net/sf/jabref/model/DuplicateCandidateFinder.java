@@ -0,0 +1,192 @@
+package net.sf.jabref.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import net.sf.jabref.model.database.BibDatabaseMode;
+import net.sf.jabref.model.entry.AuthorList;
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.model.entry.FieldName;
+
+/**
+ * Generates the pairs of entries which are worth to be checked by {@link DuplicateCheck#isDuplicate}.
+ * <p>
+ * Instead of comparing all pairs of entries, every entry is put into several blocks and only entries sharing at least
+ * one block are paired. Entries are blocked on
+ * <ul>
+ * <li>their DOI,</li>
+ * <li>the last name of their first author (or editor) and their year, and</li>
+ * <li>the MinHash/LSH bands of the character shingles of their normalized title.</li>
+ * </ul>
+ * Entries of different types are never duplicates, so all blocks are additionally separated by entry type.
+ */
+public class DuplicateCandidateFinder {
+
+    private static final int SHINGLE_LENGTH = 3;
+
+    // 16 bands of 4 rows catch title pairs with a shingle similarity of about 0.5 and above
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+    private static final int[] HASH_MULTIPLIERS = new int[BANDS * ROWS];
+    private static final int[] HASH_OFFSETS = new int[BANDS * ROWS];
+
+    static {
+        // fixed seed so that the generated candidates are reproducible
+        Random random = new Random(42);
+        for (int i = 0; i < HASH_MULTIPLIERS.length; i++) {
+            HASH_MULTIPLIERS[i] = random.nextInt() | 1;
+            HASH_OFFSETS[i] = random.nextInt();
+        }
+    }
+
+    private final List<BibEntry> entries;
+
+
+    public DuplicateCandidateFinder(List<BibEntry> entries) {
+        this.entries = new ArrayList<>(entries);
+    }
+
+    /**
+     * Returns all candidate pairs. The pairs are ordered in the same way an exhaustive pairwise comparison of the
+     * entries would visit them.
+     */
+    public List<List<BibEntry>> getCandidatePairs() {
+        Map<String, List<Integer>> blocks = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            for (String blockKey : getBlockKeys(entries.get(i))) {
+                blocks.computeIfAbsent(blockKey, key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Set<Long> pairCodes = new HashSet<>();
+        for (List<Integer> block : blocks.values()) {
+            for (int i = 0; i < (block.size() - 1); i++) {
+                for (int j = i + 1; j < block.size(); j++) {
+                    // entries are added in ascending order, so block.get(i) < block.get(j)
+                    pairCodes.add(((long) block.get(i) << 32) | block.get(j));
+                }
+            }
+        }
+
+        long[] sortedCodes = pairCodes.stream().mapToLong(Long::longValue).sorted().toArray();
+        List<List<BibEntry>> pairs = new ArrayList<>(sortedCodes.length);
+        for (long code : sortedCodes) {
+            pairs.add(Arrays.asList(entries.get((int) (code >>> 32)), entries.get((int) code)));
+        }
+        return pairs;
+    }
+
+    /**
+     * Returns all candidate pairs which are duplicates according to {@link DuplicateCheck#isDuplicate}.
+     *
+     * @param parallel if true, the candidates are checked on the common fork-join pool. The order of the result is
+     *                 the same in both modes.
+     */
+    public List<List<BibEntry>> findDuplicates(BibDatabaseMode bibDatabaseMode, boolean parallel) {
+        return streamDuplicates(bibDatabaseMode, parallel, pair -> true).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a stream of all candidate pairs which are duplicates according to {@link DuplicateCheck#isDuplicate}.
+     *
+     * @param parallel if true, the returned stream is parallel
+     * @param continueSearch checked before each pair, the pair is skipped if it returns false. Used for cancellation.
+     */
+    public Stream<List<BibEntry>> streamDuplicates(BibDatabaseMode bibDatabaseMode, boolean parallel,
+            Predicate<List<BibEntry>> continueSearch) {
+        List<List<BibEntry>> candidates = getCandidatePairs();
+        Stream<List<BibEntry>> stream = parallel ? candidates.parallelStream() : candidates.stream();
+        return stream.filter(continueSearch)
+                .filter(pair -> DuplicateCheck.isDuplicate(pair.get(0), pair.get(1), bibDatabaseMode));
+    }
+
+    static Set<String> getBlockKeys(BibEntry entry) {
+        Set<String> keys = new HashSet<>();
+        String typePrefix = entry.getType().toLowerCase(Locale.ROOT) + '|';
+
+        entry.getFieldOptional(FieldName.DOI).map(DuplicateCandidateFinder::normalizeDoi)
+                .filter(doi -> !doi.isEmpty())
+                .ifPresent(doi -> keys.add(typePrefix + "doi|" + doi));
+
+        Optional<String> firstPerson = getFirstPersonLastName(entry);
+        firstPerson.ifPresent(lastName -> keys
+                .add(typePrefix + "person|" + lastName + '|' + entry.getFieldOptional(FieldName.YEAR).orElse("")));
+
+        String title = normalize(entry.getFieldOptional(FieldName.TITLE).orElse(""));
+        if (!title.isEmpty()) {
+            int[] signature = getMinHashSignature(title);
+            for (int band = 0; band < BANDS; band++) {
+                int bandHash = 1;
+                for (int row = 0; row < ROWS; row++) {
+                    bandHash = (31 * bandHash) + signature[(band * ROWS) + row];
+                }
+                keys.add(typePrefix + "title" + band + '|' + bandHash);
+            }
+        }
+
+        if (!firstPerson.isPresent() && title.isEmpty()) {
+            // nothing to block on, compare with all other entries of the same type which lack these fields
+            keys.add(typePrefix + "other");
+        }
+        return keys;
+    }
+
+    private static Optional<String> getFirstPersonLastName(BibEntry entry) {
+        Optional<String> persons = entry.getFieldOptional(FieldName.AUTHOR);
+        if (!persons.isPresent()) {
+            persons = entry.getFieldOptional(FieldName.EDITOR);
+        }
+        return persons.map(AuthorList::parse).filter(authors -> !authors.isEmpty())
+                .map(authors -> normalize(authors.getAuthor(0).getLastOnly())).filter(name -> !name.isEmpty());
+    }
+
+    private static int[] getMinHashSignature(String text) {
+        int[] signature = new int[BANDS * ROWS];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, (text.length() - SHINGLE_LENGTH) + 1);
+        for (int start = 0; start < shingles; start++) {
+            int shingleHash = text.substring(start, Math.min(text.length(), start + SHINGLE_LENGTH)).hashCode();
+            for (int i = 0; i < signature.length; i++) {
+                int hash = (HASH_MULTIPLIERS[i] * shingleHash) + HASH_OFFSETS[i];
+                hash ^= hash >>> 16;
+                signature[i] = Math.min(signature[i], hash);
+            }
+        }
+        return signature;
+    }
+
+    private static String normalizeDoi(String doi) {
+        return doi.trim().toLowerCase(Locale.ROOT).replaceFirst("^(https?://(dx\\.)?doi\\.org/|doi:)", "");
+    }
+
+    /**
+     * Lower-cases the text and keeps only letters and digits, separated by single spaces. LaTeX commands and braces
+     * are dropped.
+     */
+    private static String normalize(String text) {
+        String withoutCommands = text.replaceAll("\\\\[a-zA-Z]+", " ");
+        StringBuilder normalized = new StringBuilder(withoutCommands.length());
+        boolean lastWasSpace = true;
+        for (char c : withoutCommands.toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+                lastWasSpace = false;
+            } else if (Character.isWhitespace(c) && !lastWasSpace) {
+                normalized.append(' ');
+                lastWasSpace = true;
+            }
+        }
+        return normalized.toString().trim();
+    }
+}
@@ -50,6 +50,7 @@ import net.sf.jabref.model.entry.EntryUtil;
 import net.sf.jabref.model.entry.FieldName;
 import net.sf.jabref.model.entry.InternalBibtexFields;
 import net.sf.jabref.model.entry.MonthUtil;
+import net.sf.jabref.model.event.EntriesAddedEvent;
 import net.sf.jabref.model.event.EntryAddedEvent;
 import net.sf.jabref.model.event.EntryChangedEvent;
 import net.sf.jabref.model.event.EntryRemovedEvent;
@@ -82,17 +83,24 @@ public class BibDatabase {
      */
     private final DuplicationChecker duplicationChecker = new DuplicationChecker();
 
+    /**
+     * this is kept in sync with the database through the event bus (see {@link CiteKeyIndex})
+     */
+    private final CiteKeyIndex citeKeyIndex = new CiteKeyIndex();
+
     /**
      * contains all entry.getID() of the current database
      */
     private final Set<String> internalIDs = new HashSet<>();
 
+    private final KeyChangeListener keyChangeListener = new KeyChangeListener(this);
 
     private final EventBus eventBus = new EventBus();
 
 
     public BibDatabase() {
-        this.registerListener(new KeyChangeListener(this));
+        this.registerListener(citeKeyIndex);
+        this.registerListener(keyChangeListener);
     }
 
     /**
@@ -149,24 +157,15 @@ public class BibDatabase {
     /**
      * Returns the entry with the given bibtex key.
      */
-    public synchronized Optional<BibEntry> getEntryByKey(String key) {
-        for (BibEntry entry : entries) {
-            if (key.equals(entry.getCiteKey())) {
-                return Optional.of(entry);
-            }
-        }
-        return Optional.empty();
+    public Optional<BibEntry> getEntryByKey(String key) {
+        return citeKeyIndex.getFirstEntry(key);
     }
 
-    public synchronized List<BibEntry> getEntriesByKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            if (key.equals(entry.getCiteKey())) {
-                result.add(entry);
-            }
-        }
-        return result;
+    /**
+     * Returns all entries with the given bibtex key.
+     */
+    public List<BibEntry> getEntriesByKey(String key) {
+        return citeKeyIndex.getEntries(key);
     }
 
     /**
@@ -206,6 +205,46 @@ public class BibDatabase {
         return duplicationChecker.checkForDuplicateKeyAndAdd(null, entry.getCiteKeyOptional().orElse(null));
     }
 
+    /**
+     * Inserts the given entries, given that none of their IDs is already in use. Each entry is announced by an
+     * {@link EntryAddedEvent} as by {@link #insertEntry(BibEntry, EntryEventSource)}, and all of them by one
+     * {@link EntriesAddedEvent} afterwards, so that listeners can process them at once.
+     *
+     * @param newEntries entries to insert
+     * @param eventSource Source the events are sent from
+     * @throws KeyCollisionException thrown if the id of an entry is already present in the database. No entry is
+     *                               inserted then.
+     */
+    public synchronized void insertEntries(List<BibEntry> newEntries, EntryEventSource eventSource)
+            throws KeyCollisionException {
+        Set<String> newIDs = new HashSet<>();
+        for (BibEntry entry : newEntries) {
+            Objects.requireNonNull(entry);
+            if (containsEntryWithId(entry.getId()) || !newIDs.add(entry.getId())) {
+                throw new KeyCollisionException("ID is already in use, please choose another");
+            }
+        }
+
+        for (BibEntry entry : newEntries) {
+            internalIDs.add(entry.getId());
+            entries.add(entry);
+            entry.registerListener(this);
+
+            eventBus.post(new EntryAddedEvent(entry, eventSource, true));
+            duplicationChecker.checkForDuplicateKeyAndAdd(null, entry.getCiteKeyOptional().orElse(null));
+        }
+        eventBus.post(new EntriesAddedEvent(new ArrayList<>(newEntries), eventSource));
+    }
+
+    /**
+     * Inserts the given entries, given that none of their IDs is already in use.
+     *
+     * @see #insertEntries(List, EntryEventSource)
+     */
+    public synchronized void insertEntries(List<BibEntry> newEntries) throws KeyCollisionException {
+        insertEntries(newEntries, EntryEventSource.LOCAL);
+    }
+
     /**
      * Removes the given entry.
      * The Entry is removed based on the id {@link BibEntry#id}
@@ -571,6 +610,27 @@ public class BibDatabase {
         return epilog;
     }
 
+    /**
+     * Runs the given changes of the keys of many entries, e.g., generating the keys of all entries. The links to the
+     * changed keys, e.g., in the crossref fields, are updated in one pass over the entries after all keys have been
+     * changed instead of after each change.
+     *
+     * @param keyChanges changes the keys, it must not rely on the links being updated already
+     */
+    public void changeKeys(Runnable keyChanges) {
+        if (keyChangeListener.isCollecting()) {
+            // the links are updated by the outer call
+            keyChanges.run();
+            return;
+        }
+        keyChangeListener.startCollecting();
+        try {
+            keyChanges.run();
+        } finally {
+            keyChangeListener.stopCollecting();
+        }
+    }
+
     /**
      * Registers an listener object (subscriber) to the internal event bus.
      * The following events are posted:
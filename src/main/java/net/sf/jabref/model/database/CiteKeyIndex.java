@@ -0,0 +1,117 @@
+package net.sf.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.model.event.EntryAddedEvent;
+import net.sf.jabref.model.event.EntryRemovedEvent;
+import net.sf.jabref.model.event.FieldChangedEvent;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Maps bibtex keys to the entries of a single {@link BibDatabase} carrying them.
+ * The index is kept in sync with the database by listening to its event bus, so lookups by key
+ * do not need to scan the whole entry list.
+ * <p>
+ * The entries of a key are kept in the order of the database, i.e., in the order in which they were added, as the
+ * database appends new entries. Thus, if several entries have the same key, the first entry of the database is found.
+ */
+class CiteKeyIndex {
+
+    private final Map<String, List<BibEntry>> entriesByKey = new HashMap<>();
+
+    /**
+     * Keys of all indexed entries. Entries are compared by identity, as {@link BibEntry#equals(Object)} compares
+     * contents. Entries without a key are stored with a null value.
+     */
+    private final Map<BibEntry, String> keyOfEntry = new IdentityHashMap<>();
+
+    /**
+     * The position of each indexed entry in the order of the database
+     */
+    private final Map<BibEntry, Long> positionOfEntry = new IdentityHashMap<>();
+    private long nextPosition;
+
+
+    public synchronized Optional<BibEntry> getFirstEntry(String key) {
+        List<BibEntry> entries = entriesByKey.get(key);
+        if (entries == null) {
+            return Optional.empty();
+        }
+        return Optional.of(entries.get(0));
+    }
+
+    public synchronized List<BibEntry> getEntries(String key) {
+        List<BibEntry> entries = entriesByKey.get(key);
+        if (entries == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(entries);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryAddedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        String key = entry.getCiteKey();
+        keyOfEntry.put(entry, key);
+        positionOfEntry.put(entry, nextPosition++);
+        addToKey(key, entry);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryRemovedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        if (keyOfEntry.containsKey(entry)) {
+            removeFromKey(keyOfEntry.remove(entry), entry);
+            positionOfEntry.remove(entry);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        // removed entries still relay their changes to the database, ignore them
+        if (!BibEntry.KEY_FIELD.equals(event.getFieldName()) || !keyOfEntry.containsKey(entry)) {
+            return;
+        }
+
+        String newKey = event.getNewValue();
+        removeFromKey(keyOfEntry.put(entry, newKey), entry);
+        addToKey(newKey, entry);
+    }
+
+    private void addToKey(String key, BibEntry entry) {
+        if (key == null) {
+            return;
+        }
+        List<BibEntry> entries = entriesByKey.computeIfAbsent(key, k -> new ArrayList<>(1));
+        // keep the order of the database, usually the entry is the only one or the last one with this key
+        long position = positionOfEntry.get(entry);
+        int index = entries.size();
+        while ((index > 0) && (positionOfEntry.get(entries.get(index - 1)) > position)) {
+            index--;
+        }
+        entries.add(index, entry);
+    }
+
+    private void removeFromKey(String key, BibEntry entry) {
+        if (key == null) {
+            return;
+        }
+        List<BibEntry> entries = entriesByKey.get(key);
+        if (entries == null) {
+            return;
+        }
+        entries.removeIf(indexedEntry -> indexedEntry == entry);
+        if (entries.isEmpty()) {
+            entriesByKey.remove(key);
+        }
+    }
+}
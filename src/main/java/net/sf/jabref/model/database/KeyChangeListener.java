@@ -2,7 +2,10 @@ package net.sf.jabref.model.database;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import net.sf.jabref.model.entry.BibEntry;
 import net.sf.jabref.model.entry.FieldProperties;
@@ -12,11 +15,23 @@ import net.sf.jabref.model.event.FieldChangedEvent;
 
 import com.google.common.eventbus.Subscribe;
 
+/**
+ * Updates the links to an entry, e.g., the crossref fields, when its key is changed or the entry is removed.
+ * <p>
+ * While the keys of many entries are changed at once (see {@link #startCollecting()}), the changes are collected and
+ * the links are updated in one pass over the entries afterwards.
+ */
 public class KeyChangeListener {
 
     private final BibDatabase database;
 
-    private final List<String> keyFields = new ArrayList<>();
+    private final List<String> singleKeyFields = new ArrayList<>();
+    private final List<String> multipleKeyFields = new ArrayList<>();
+
+    /**
+     * The new keys by the old keys, null if the links are updated for each change. A removed key is mapped to null.
+     */
+    private Map<String, String> collectedKeyChanges;
 
 
     public KeyChangeListener(BibDatabase database) {
@@ -25,9 +40,11 @@ public class KeyChangeListener {
         // Look for fields with FieldProperies.SINGLE_ENTRY_LINK or FieldProperties.MULTIPLE_ENTRY_LINK to speed up the search later
 
         for (String fieldName : InternalBibtexFields.getAllPublicFieldNames()) {
-            if (InternalBibtexFields.getFieldExtras(fieldName).contains(FieldProperties.SINGLE_ENTRY_LINK)
-                    || InternalBibtexFields.getFieldExtras(fieldName).contains(FieldProperties.MULTIPLE_ENTRY_LINK)) {
-                keyFields.add(fieldName);
+            if (InternalBibtexFields.getFieldExtras(fieldName).contains(FieldProperties.SINGLE_ENTRY_LINK)) {
+                singleKeyFields.add(fieldName);
+            } else if (InternalBibtexFields.getFieldExtras(fieldName)
+                    .contains(FieldProperties.MULTIPLE_ENTRY_LINK)) {
+                multipleKeyFields.add(fieldName);
             }
         }
     }
@@ -37,47 +54,93 @@ public class KeyChangeListener {
         if (event.getFieldName().equals(BibEntry.KEY_FIELD)) {
             String newKey = event.getNewValue();
             String oldKey = event.getOldValue();
-            updateEntryLinks(newKey, oldKey);
+            keyChanged(oldKey, newKey);
         }
     }
 
     @Subscribe
     public void listen(EntryRemovedEvent event) {
         String oldKey = event.getBibEntry().getCiteKey();
-        updateEntryLinks(null, oldKey);
+        keyChanged(oldKey, null);
+    }
+
+    /**
+     * Collects the following key changes instead of updating the links for each of them, until
+     * {@link #stopCollecting()} is called.
+     */
+    void startCollecting() {
+        collectedKeyChanges = new HashMap<>();
+    }
+
+    boolean isCollecting() {
+        return collectedKeyChanges != null;
+    }
+
+    /**
+     * Updates the links to all keys changed since {@link #startCollecting()} in one pass over the entries.
+     */
+    void stopCollecting() {
+        Map<String, String> keyChanges = collectedKeyChanges;
+        collectedKeyChanges = null;
+        if ((keyChanges != null) && !keyChanges.isEmpty()) {
+            updateEntryLinks(keyChanges);
+        }
     }
 
-    private void updateEntryLinks(String newKey, String oldKey) {
+    private void keyChanged(String oldKey, String newKey) {
+        if (oldKey == null) {
+            // nothing can link to the entry
+            return;
+        }
+        if (collectedKeyChanges == null) {
+            updateEntryLinks(Collections.singletonMap(oldKey, newKey));
+        } else if (!collectedKeyChanges.containsKey(oldKey)) {
+            // as for single changes, the links are updated for the first entry having the old key
+            collectedKeyChanges.put(oldKey, newKey);
+        }
+    }
+
+    /**
+     * @param keyChanges the new keys by the old keys, null if the key has been removed
+     */
+    private void updateEntryLinks(Map<String, String> keyChanges) {
         for (BibEntry entry : database.getEntries()) {
-            for (String field : keyFields) {
-                entry.getFieldOptional(field).ifPresent(fieldContent -> {
-                    if (InternalBibtexFields.getFieldExtras(field).contains(FieldProperties.SINGLE_ENTRY_LINK)) {
-                        replaceSingleKeyInField(newKey, oldKey, entry, field, fieldContent);
-                    } else { // MULTIPLE_ENTRY_LINK
-                        replaceKeyInMultiplesKeyField(newKey, oldKey, entry, field, fieldContent);
-                    }
-                });
+            for (String field : singleKeyFields) {
+                entry.getFieldOptional(field)
+                        .ifPresent(fieldContent -> replaceSingleKeyInField(keyChanges, entry, field, fieldContent));
+            }
+            for (String field : multipleKeyFields) {
+                entry.getFieldOptional(field).ifPresent(
+                        fieldContent -> replaceKeyInMultiplesKeyField(keyChanges, entry, field, fieldContent));
             }
         }
     }
 
-    private void replaceKeyInMultiplesKeyField(String newKey, String oldKey, BibEntry entry, String field,
+    private void replaceKeyInMultiplesKeyField(Map<String, String> keyChanges, BibEntry entry, String field,
             String fieldContent) {
         List<String> keys = new ArrayList<>(Arrays.asList(fieldContent.split(",")));
-        int index = keys.indexOf(oldKey);
-        if (index != -1) {
-            if (newKey == null) {
-                keys.remove(index);
-            } else {
-                keys.set(index, newKey);
+        boolean changed = false;
+        for (int index = keys.size() - 1; index >= 0; index--) {
+            String oldKey = keys.get(index);
+            if (keyChanges.containsKey(oldKey)) {
+                String newKey = keyChanges.get(oldKey);
+                if (newKey == null) {
+                    keys.remove(index);
+                } else {
+                    keys.set(index, newKey);
+                }
+                changed = true;
             }
+        }
+        if (changed) {
             entry.setField(field, String.join(",", keys));
         }
     }
 
-    private void replaceSingleKeyInField(String newKey, String oldKey, BibEntry entry, String field,
+    private void replaceSingleKeyInField(Map<String, String> keyChanges, BibEntry entry, String field,
             String fieldContent) {
-        if (fieldContent.equals(oldKey)) {
+        if (keyChanges.containsKey(fieldContent)) {
+            String newKey = keyChanges.get(fieldContent);
             if (newKey == null) {
                 entry.clearField(field);
             } else {
@@ -18,9 +18,12 @@ package net.sf.jabref.model.entry;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
 /**
  * This is an immutable class representing information of either <CODE>author</CODE>
  * or <CODE>editor</CODE> field in bibtex record.
@@ -143,7 +146,11 @@ public class AuthorList {
     private final String[] authorsLastFirst = new String[4];
     private final String[] authorsLastFirstFirstLast = new String[2];
 
-    private static final WeakHashMap<String, AuthorList> AUTHOR_CACHE = new WeakHashMap<>();
+    // Parsing the authors is expensive and the same fields are parsed again and again, e.g., by the main table. The
+    // cache is used by several threads at once and keeps the most recently used author lists.
+    private static final int MAX_CACHE_SIZE = 100000;
+    private static final Cache<String, AuthorList> AUTHOR_CACHE = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHE_SIZE).recordStats().build();
 
     /**
      * Creates a new list of authors.
@@ -172,8 +179,9 @@ public class AuthorList {
     public static AuthorList parse(String authors) {
         Objects.requireNonNull(authors);
 
-        AuthorList authorList = AUTHOR_CACHE.get(authors);
+        AuthorList authorList = AUTHOR_CACHE.getIfPresent(authors);
         if (authorList == null) {
+            // another thread may parse the same string meanwhile, which does no harm
             AuthorListParser parser = new AuthorListParser();
             authorList = parser.parse(authors);
             AUTHOR_CACHE.put(authors, authorList);
@@ -181,6 +189,14 @@ public class AuthorList {
         return authorList;
     }
 
+    /**
+     * Returns the statistics of the cache used by {@link #parse(String)}, i.e., the number of hits, misses and
+     * evictions since the start of the program.
+     */
+    public static CacheStats getCacheStats() {
+        return AUTHOR_CACHE.stats();
+    }
+
     /**
      * This is a convenience method for getAuthorsFirstFirst()
      *
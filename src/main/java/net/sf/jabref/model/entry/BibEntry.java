@@ -57,14 +57,15 @@ public class BibEntry implements Cloneable {
 
     private String id;
 
-    private final SharedBibEntryData sharedBibEntryData;
+    // Created when first requested, as most entries are never stored in a shared database
+    private SharedBibEntryData sharedBibEntryData;
 
     private String type;
-    private Map<String, String> fields = new HashMap<>();
+    private FieldMap fields = new FieldMap();
     /*
-     * Map to store the words in every field
+     * Map to store the words in every field, created when first needed
      */
-    private final Map<String, Set<String>> fieldsAsWords = new HashMap<>();
+    private Map<String, Set<String>> fieldsAsWords;
 
     // Search and grouping status is stored in boolean fields for quick reference:
     private boolean searchHit;
@@ -81,8 +82,14 @@ public class BibEntry implements Cloneable {
      */
     private boolean changed;
 
+    /**
+     * Incremented after each change of the type or of a field, see {@link #getModificationCount()}
+     */
+    private volatile int modificationCount;
+
 
-    private final EventBus eventBus = new EventBus();
+    // Created when the first listener registers, as most entries never get any
+    private EventBus eventBus;
 
 
     /**
@@ -113,7 +120,6 @@ public class BibEntry implements Cloneable {
 
         this.id = id;
         setType(type);
-        this.sharedBibEntryData = new SharedBibEntryData();
     }
 
     /**
@@ -127,7 +133,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, BibEntry.ID_FIELD, id, oldId));
+        postEvent(new FieldChangedEvent(this, BibEntry.ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -192,7 +198,8 @@ public class BibEntry implements Cloneable {
         // sets off a change in database sorting etc.
         this.type = newType.toLowerCase(Locale.ENGLISH);
         changed = true;
-        eventBus.post(new FieldChangedEvent(this, TYPE_HEADER, newType, oldType, eventSource));
+        modificationCount++;
+        postEvent(new FieldChangedEvent(this, TYPE_HEADER, newType, oldType, eventSource));
     }
 
     /**
@@ -391,10 +398,11 @@ public class BibEntry implements Cloneable {
         changed = true;
 
         fields.put(fieldName, value);
-        fieldsAsWords.remove(fieldName);
+        removeFieldAsWords(fieldName);
+        modificationCount++;
 
         FieldChange change = new FieldChange(this, fieldName, oldValue, value);
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -447,9 +455,10 @@ public class BibEntry implements Cloneable {
         changed = true;
 
         fields.remove(fieldName);
-        fieldsAsWords.remove(fieldName);
+        removeFieldAsWords(fieldName);
+        modificationCount++;
         FieldChange change = new FieldChange(this, fieldName, oldValue.get(), null);
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -501,7 +510,7 @@ public class BibEntry implements Cloneable {
     @Override
     public Object clone() {
         BibEntry clone = new BibEntry(id, type);
-        clone.fields = new HashMap<>(fields);
+        clone.fields = new FieldMap(fields);
         return clone;
     }
 
@@ -593,6 +602,18 @@ public class BibEntry implements Cloneable {
         this.changed = changed;
     }
 
+    /**
+     * Returns a counter which is incremented after each change of the type or of a field of this entry. A value
+     * derived from the entry is up to date as long as the counter did not change since the value has been computed.
+     * Thus, such values can be cached without listening for changes of the entry.
+     * <p>
+     * The counter is incremented after the change has been applied. Read it before reading the fields a value is
+     * derived from, otherwise a concurrent change may go unnoticed.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
     public Optional<FieldChange> putKeywords(Collection<String> keywords, String separator) {
         Objects.requireNonNull(keywords);
         Optional<String> oldValue = this.getFieldOptional(FieldName.KEYWORDS);
@@ -654,6 +675,9 @@ public class BibEntry implements Cloneable {
     }
 
     public SharedBibEntryData getSharedBibEntryData() {
+        if (sharedBibEntryData == null) {
+            sharedBibEntryData = new SharedBibEntryData();
+        }
         return sharedBibEntryData;
     }
 
@@ -675,11 +699,25 @@ public class BibEntry implements Cloneable {
     }
 
     public void registerListener(Object object) {
-        this.eventBus.register(object);
+        getEventBus().register(object);
     }
 
     public void unregisterListener(Object object) {
-        this.eventBus.unregister(object);
+        getEventBus().unregister(object);
+    }
+
+    private EventBus getEventBus() {
+        if (eventBus == null) {
+            eventBus = new EventBus();
+        }
+        return eventBus;
+    }
+
+    private void postEvent(Object event) {
+        // without an event bus, nobody is listening
+        if (eventBus != null) {
+            eventBus.post(event);
+        }
     }
 
     public BibEntry withField(String field, String value) {
@@ -697,6 +735,9 @@ public class BibEntry implements Cloneable {
 
     public Set<String> getFieldAsWords(String field) {
         String fieldName = toLowerCase(field);
+        if (fieldsAsWords == null) {
+            fieldsAsWords = new HashMap<>();
+        }
         Set<String> storedList = fieldsAsWords.get(fieldName);
         if (storedList != null) {
             return storedList;
@@ -711,4 +752,10 @@ public class BibEntry implements Cloneable {
             }
         }
     }
+
+    private void removeFieldAsWords(String fieldName) {
+        if (fieldsAsWords != null) {
+            fieldsAsWords.remove(fieldName);
+        }
+    }
 }
@@ -0,0 +1,199 @@
+package net.sf.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Compact map from field names to field values, as used by {@link BibEntry}.
+ * <p>
+ * An entry has only a few fields, so the names and values are stored in two parallel arrays which are searched
+ * linearly. This needs a fraction of the memory of a {@link java.util.HashMap} with its table and one node per field.
+ * The field names are interned, so that all entries share the same name instances (which also includes the constants
+ * of {@link FieldName}) instead of each keeping the copies created by the parser.
+ * <p>
+ * The fields are iterated in the order they were added.
+ */
+final class FieldMap extends AbstractMap<String, String> {
+
+    private static final String[] EMPTY = new String[0];
+    private static final int INITIAL_CAPACITY = 4;
+
+    private String[] names = EMPTY;
+    private String[] values = EMPTY;
+    private int size;
+    private int modCount;
+
+
+    FieldMap() {
+        // empty map
+    }
+
+    FieldMap(Map<String, String> fields) {
+        putAll(fields);
+    }
+
+    private int indexOf(Object name) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+        return indexOf(name) >= 0;
+    }
+
+    @Override
+    public String get(Object name) {
+        int index = indexOf(name);
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public String put(String name, String value) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(value);
+
+        int index = indexOf(name);
+        if (index >= 0) {
+            String oldValue = values[index];
+            values[index] = value;
+            return oldValue;
+        }
+
+        if (size == names.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, size + (size >> 1));
+            names = Arrays.copyOf(names, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        names[size] = name.intern();
+        values[size] = value;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public String remove(Object name) {
+        int index = indexOf(name);
+        if (index < 0) {
+            return null;
+        }
+        String oldValue = values[index];
+        removeAt(index);
+        return oldValue;
+    }
+
+    private void removeAt(int index) {
+        int moved = size - index - 1;
+        System.arraycopy(names, index + 1, names, index, moved);
+        System.arraycopy(values, index + 1, values, index, moved);
+        size--;
+        names[size] = null;
+        values[size] = null;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        names = EMPTY;
+        values = EMPTY;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return new EntrySet();
+    }
+
+
+    private class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    /**
+     * Iterates over the fields. Changing the value of a field does not invalidate the iterator, as with a
+     * {@link java.util.HashMap}.
+     */
+    private class EntryIterator implements Iterator<Map.Entry<String, String>> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new Field(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private class Field extends SimpleEntry<String, String> {
+
+        private final int index;
+
+
+        Field(int index) {
+            super(names[index], values[index]);
+            this.index = index;
+        }
+
+        @Override
+        public String setValue(String value) {
+            Objects.requireNonNull(value);
+            values[index] = value;
+            return super.setValue(value);
+        }
+    }
+}
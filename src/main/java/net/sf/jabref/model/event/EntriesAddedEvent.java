@@ -0,0 +1,50 @@
+/*  Copyright (C) 2016 JabRef contributors.
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License along
+    with this program; if not, write to the Free Software Foundation, Inc.,
+    51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+*/
+package net.sf.jabref.model.event;
+
+import java.util.List;
+
+import net.sf.jabref.event.source.EntryEventSource;
+import net.sf.jabref.model.database.BibDatabase;
+import net.sf.jabref.model.entry.BibEntry;
+
+/**
+ * {@link EntriesAddedEvent} is fired when several {@link BibEntry} objects were added to the {@link BibDatabase} at
+ * once. Each of them has been announced by an {@link EntryAddedEvent} before.
+ */
+public class EntriesAddedEvent {
+
+    private final List<BibEntry> bibEntries;
+    private final EntryEventSource location;
+
+
+    /**
+     * @param bibEntries the entries which have been added, in the order of their insertion
+     * @param location Location affected by this event
+     */
+    public EntriesAddedEvent(List<BibEntry> bibEntries, EntryEventSource location) {
+        this.bibEntries = bibEntries;
+        this.location = location;
+    }
+
+    public List<BibEntry> getBibEntries() {
+        return bibEntries;
+    }
+
+    public EntryEventSource getEntryEventSource() {
+        return location;
+    }
+}
@@ -24,11 +24,14 @@ import net.sf.jabref.model.entry.BibEntry;
  */
 public class EntryAddedEvent extends EntryEvent {
 
+    private final boolean partOfBulkInsert;
+
+
     /**
      * @param bibEntry the entry which has been added
      */
     public EntryAddedEvent(BibEntry bibEntry) {
-        super(bibEntry);
+        this(bibEntry, EntryEventSource.LOCAL);
     }
 
     /**
@@ -36,6 +39,21 @@ public class EntryAddedEvent extends EntryEvent {
      * @param location Location affected by this event
      */
     public EntryAddedEvent(BibEntry bibEntry, EntryEventSource location) {
+        this(bibEntry, location, false);
+    }
+
+    /**
+     * @param bibEntry <code>BibEntry</code> object which has been added.
+     * @param location Location affected by this event
+     * @param partOfBulkInsert <code>true</code> if the entry has been added together with other entries, which are
+     *                         announced by an {@link EntriesAddedEvent} afterwards
+     */
+    public EntryAddedEvent(BibEntry bibEntry, EntryEventSource location, boolean partOfBulkInsert) {
         super(bibEntry, location);
+        this.partOfBulkInsert = partOfBulkInsert;
+    }
+
+    public boolean isPartOfBulkInsert() {
+        return partOfBulkInsert;
     }
 }
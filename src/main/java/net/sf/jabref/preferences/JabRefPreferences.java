@@ -434,6 +434,11 @@ public class JabRefPreferences {
 
     private final Preferences prefs;
 
+    /**
+     * The snapshot returned by {@link #getSnapshot()}, or null if the preferences have changed since it was taken
+     */
+    private volatile PreferencesSnapshot snapshot;
+
     private final Set<String> nonWrappableFields = new HashSet<>(5);
     private GlobalBibtexKeyPattern keyPattern;
 
@@ -988,18 +993,22 @@ public class JabRefPreferences {
 
     public void put(String key, String value) {
         prefs.put(key, value);
+        invalidateSnapshot();
     }
 
     public void putBoolean(String key, boolean value) {
         prefs.putBoolean(key, value);
+        invalidateSnapshot();
     }
 
     public void putInt(String key, int value) {
         prefs.putInt(key, value);
+        invalidateSnapshot();
     }
 
     public void remove(String key) {
         prefs.remove(key);
+        invalidateSnapshot();
     }
 
     /**
@@ -1023,7 +1032,10 @@ public class JabRefPreferences {
      * Returns a List of Strings containing the chosen columns.
      */
     public List<String> getStringList(String key) {
-        String names = get(key);
+        return convertStringToList(get(key));
+    }
+
+    static List<String> convertStringToList(String names) {
         if (names == null) {
             return new ArrayList<>();
         }
@@ -1081,6 +1093,7 @@ public class JabRefPreferences {
      */
     public void putDefaultValue(String key, Object value) {
         defaults.put(key, value);
+        invalidateSnapshot();
     }
 
     /**
@@ -1123,10 +1136,12 @@ public class JabRefPreferences {
      */
     public void clear() throws BackingStoreException {
         prefs.clear();
+        invalidateSnapshot();
     }
 
     public void clear(String key) {
         prefs.remove(key);
+        invalidateSnapshot();
     }
 
     /**
@@ -1145,6 +1160,48 @@ public class JabRefPreferences {
         } catch (BackingStoreException ex) {
             LOGGER.warn("Can not communicate with backing store", ex);
         }
+        invalidateSnapshot();
+    }
+
+    /**
+     * Returns an immutable copy of all preferences. It is taken once and shared until the preferences are changed,
+     * saved or imported, thus hot paths like rendering table cells can read their preferences from it without asking
+     * the backing store each time.
+     * <p>
+     * The snapshot does not reflect later changes. Fetch the current snapshot each time instead of keeping it.
+     */
+    public PreferencesSnapshot getSnapshot() {
+        PreferencesSnapshot currentSnapshot = snapshot;
+        if (currentSnapshot == null) {
+            synchronized (this) {
+                currentSnapshot = snapshot;
+                if (currentSnapshot == null) {
+                    currentSnapshot = takeSnapshot();
+                    snapshot = currentSnapshot;
+                }
+            }
+        }
+        return currentSnapshot;
+    }
+
+    private PreferencesSnapshot takeSnapshot() {
+        Map<String, String> storedValues = new HashMap<>();
+        try {
+            for (String key : prefs.keys()) {
+                storedValues.put(key, prefs.get(key, null));
+            }
+        } catch (BackingStoreException ex) {
+            LOGGER.warn("Can not communicate with backing store", ex);
+        }
+        return new PreferencesSnapshot(storedValues, defaults);
+    }
+
+    /**
+     * Drops the current snapshot. Synchronized with taking a snapshot, thus a snapshot taken concurrently to a change
+     * is dropped as well.
+     */
+    private synchronized void invalidateSnapshot() {
+        snapshot = null;
     }
 
     /**
@@ -1363,6 +1420,7 @@ public class JabRefPreferences {
         File f = new File(filename);
         try (InputStream is = new FileInputStream(f)) {
             Preferences.importPreferences(is);
+            invalidateSnapshot();
         } catch (InvalidPreferencesFormatException | IOException ex) {
             throw new JabRefException("Could not import preferences", Localization.lang("Could not import preferences"),
                     ex);
@@ -0,0 +1,73 @@
+package net.sf.jabref.preferences;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable copy of the preferences, as returned by {@link JabRefPreferences#getSnapshot()}.
+ * <p>
+ * Reading a value from {@link JabRefPreferences} asks the backing store each time. Reading it from a snapshot is a
+ * plain map lookup, thus code which reads preferences for every entry or for every table cell should use a snapshot.
+ * The getters behave like the ones of {@link JabRefPreferences}: a value which is not stored falls back to its
+ * default value.
+ */
+public final class PreferencesSnapshot {
+
+    private final Map<String, String> storedValues;
+    private final Map<String, Object> defaults;
+
+    /**
+     * The string lists parsed so far. They are derived from the immutable values, thus filling this map does not
+     * change the state of the snapshot.
+     */
+    private final Map<String, List<String>> stringLists = new ConcurrentHashMap<>();
+
+
+    PreferencesSnapshot(Map<String, String> storedValues, Map<String, Object> defaults) {
+        this.storedValues = Collections.unmodifiableMap(new HashMap<>(storedValues));
+        this.defaults = Collections.unmodifiableMap(new HashMap<>(defaults));
+    }
+
+    public String get(String key) {
+        String value = storedValues.get(key);
+        if (value == null) {
+            return (String) defaults.get(key);
+        }
+        return value;
+    }
+
+    public boolean getBoolean(String key) {
+        // same parsing as java.util.prefs.Preferences.getBoolean
+        String value = storedValues.get(key);
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        } else if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        return (Boolean) defaults.get(key);
+    }
+
+    public int getInt(String key) {
+        String value = storedValues.get(key);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException ignored) {
+                // fall back to the default value, as java.util.prefs.Preferences.getInt does
+            }
+        }
+        return (Integer) defaults.get(key);
+    }
+
+    /**
+     * Returns the list of strings stored by {@link JabRefPreferences#putStringList(String, List)}. The list is
+     * unmodifiable.
+     */
+    public List<String> getStringList(String key) {
+        return stringLists.computeIfAbsent(key,
+                name -> Collections.unmodifiableList(JabRefPreferences.convertStringToList(get(name))));
+    }
+}
@@ -22,8 +22,10 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -45,6 +47,9 @@ public abstract class DBMSProcessor {
 
     protected static final Log LOGGER = LogFactory.getLog(DBMSConnector.class);
 
+    // number of rows sent to the database at once
+    private static final int BATCH_SIZE = 1000;
+
     protected final Connection connection;
 
     /**
@@ -61,20 +66,28 @@ public abstract class DBMSProcessor {
      * @throws SQLException
      */
     public boolean checkBaseIntegrity() throws SQLException {
-        List<String> requiredTables = new ArrayList<>(Arrays.asList("ENTRY", "FIELD", "METADATA")); // the list should be dynamic
+        List<String> requiredTables = new ArrayList<>(Arrays.asList("ENTRY", "FIELD", "METADATA", "ENTRY_CHANGE",
+                "ENTRY_CHANGE_COUNTER")); // the list should be dynamic
+        requiredTables.removeAll(getTableNames()); // Remove matching tables to check requiredTables for emptiness
+        return requiredTables.isEmpty();
+    }
+
+    /**
+     * Returns the names of all existing tables in upper case.
+     */
+    protected Set<String> getTableNames() throws SQLException {
+        Set<String> tableNames = new HashSet<>();
         DatabaseMetaData databaseMetaData = connection.getMetaData();
 
         // ...getTables(null, ...): no restrictions
         try (ResultSet databaseMetaDataResultSet = databaseMetaData.getTables(null, null, null, null)) {
             while (databaseMetaDataResultSet.next()) {
-                String tableName = databaseMetaDataResultSet.getString("TABLE_NAME").toUpperCase();
-                requiredTables.remove(tableName); // Remove matching tables to check requiredTables for emptiness
+                tableNames.add(databaseMetaDataResultSet.getString("TABLE_NAME").toUpperCase());
             }
-            return requiredTables.isEmpty();
         }
+        return tableNames;
     }
 
-
     /**
      * Creates and sets up the needed tables and columns according to the database type and
      * performs a check whether the needed tables are present.
@@ -83,6 +96,7 @@ public abstract class DBMSProcessor {
      */
     public void setUpSharedDatabase() throws SQLException {
         setUp();
+        setUpEntryChangeCounter();
 
         if (!checkBaseIntegrity()) {
             // can only happen with users direct intervention on shared database
@@ -96,6 +110,29 @@ public abstract class DBMSProcessor {
      */
     protected abstract void setUp() throws SQLException;
 
+    /**
+     * Helping method. Inserts the only row of the ENTRY_CHANGE_COUNTER table, if it does not exist yet.
+     */
+    private void setUpEntryChangeCounter() throws SQLException {
+        StringBuilder selectCounterQuery = new StringBuilder()
+                .append("SELECT COUNT(*) FROM ")
+                .append(escape("ENTRY_CHANGE_COUNTER"));
+
+        try (ResultSet selectCounterResultSet = connection.createStatement().executeQuery(selectCounterQuery.toString())) {
+            if (selectCounterResultSet.next() && (selectCounterResultSet.getInt(1) > 0)) {
+                return;
+            }
+        }
+
+        StringBuilder insertCounterQuery = new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape("ENTRY_CHANGE_COUNTER"))
+                .append("(")
+                .append(escape("COUNTER"))
+                .append(") VALUES(0)");
+        connection.createStatement().executeUpdate(insertCounterQuery.toString());
+    }
+
     /**
      * Escapes parts of SQL expressions like table or field name to match the conventions
      * of the database system using the current dbmsType.
@@ -104,33 +141,36 @@ public abstract class DBMSProcessor {
      */
     public abstract String escape(String expression);
 
+    /**
+     * Returns the statement which records a change of the entry with the given shared ID (the only parameter) in the
+     * ENTRY_CHANGE table. The entry gets a new CHANGE_ID, no matter whether it has been changed before or not.
+     * The statement has to be an upsert, as each entry keeps only its last change.
+     */
+    protected abstract String getUpsertEntryChangeQuery();
+
 
     /**
      * Inserts the given bibEntry into shared database.
      * @param bibEntry {@link BibEntry} to be inserted
      */
     public void insertEntry(BibEntry bibEntry) {
+        insertEntries(Collections.singletonList(bibEntry));
+    }
 
-
+    /**
+     * Inserts the given entries into shared database within one transaction. Entries which already exist are skipped.
+     * The statements are prepared once, and the fields of all entries are sent in batches.
+     * @param bibEntries {@link BibEntry} instances to be inserted
+     */
+    public void insertEntries(List<BibEntry> bibEntries) {
+        List<BibEntry> insertedEntries = new ArrayList<>();
         try {
-            // Check if already exists
-            int sharedID = bibEntry.getSharedBibEntryData().getSharedID();
-            if (sharedID != -1) {
-                StringBuilder selectQuery = new StringBuilder()
-                        .append("SELECT * FROM ")
-                        .append(escape("ENTRY"))
-                        .append(" WHERE ")
-                        .append(escape("SHARED_ID"))
-                        .append(" = ?");
-
-                try (PreparedStatement preparedSelectStatement = connection.prepareStatement(selectQuery.toString())) {
-                    preparedSelectStatement.setInt(1, sharedID);
-                    try (ResultSet resultSet = preparedSelectStatement.executeQuery()) {
-                        if (resultSet.next()) {
-                            return;
-                        }
-                    }
-                }
+            connection.setAutoCommit(false); // disable auto commit due to transaction
+
+            // checked within the transaction, so that a failing check is rolled back like the inserts
+            List<BibEntry> newEntries = getNotExistingEntries(bibEntries);
+            if (newEntries.isEmpty()) {
+                return;
             }
 
             // Inserting into ENTRY table
@@ -143,39 +183,139 @@ public abstract class DBMSProcessor {
 
             // This is the only method to get generated keys which is accepted by MySQL, PostgreSQL and Oracle.
             try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery.toString(),
-                    new String[] {"SHARED_ID"})) {
-
-                preparedEntryStatement.setString(1, bibEntry.getType());
-                preparedEntryStatement.executeUpdate();
-
-                try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
-                    if (generatedKeys.next()) {
-                        bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
+                    new String[] {"SHARED_ID"});
+                    PreparedStatement preparedFieldStatement = connection.prepareStatement(getInsertFieldQuery())) {
+                int batchSize = 0;
+                for (BibEntry bibEntry : newEntries) {
+                    preparedEntryStatement.setString(1, bibEntry.getType());
+                    preparedEntryStatement.executeUpdate();
+
+                    try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
+                        if (generatedKeys.next()) {
+                            bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
+                            insertedEntries.add(bibEntry);
+                        }
                     }
-                }
 
-                // Inserting into FIELD table
-                for (String fieldName : bibEntry.getFieldNames()) {
-                    StringBuilder insertFieldQuery = new StringBuilder()
-                        .append("INSERT INTO ")
-                        .append(escape("FIELD"))
-                        .append("(")
-                        .append(escape("ENTRY_SHARED_ID"))
-                        .append(", ")
-                        .append(escape("NAME"))
-                        .append(", ")
-                        .append(escape("VALUE"))
-                        .append(") VALUES(?, ?, ?)");
-
-                    try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
+                    // Inserting into FIELD table
+                    for (String fieldName : bibEntry.getFieldNames()) {
                         // columnIndex starts with 1
                         preparedFieldStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
                         preparedFieldStatement.setString(2, fieldName);
                         preparedFieldStatement.setString(3, bibEntry.getFieldOptional(fieldName).get());
-                        preparedFieldStatement.executeUpdate();
+                        preparedFieldStatement.addBatch();
+                        batchSize++;
+                        if (batchSize == BATCH_SIZE) {
+                            preparedFieldStatement.executeBatch();
+                            batchSize = 0;
+                        }
                     }
                 }
+                if (batchSize > 0) {
+                    preparedFieldStatement.executeBatch();
+                }
             }
+
+            logChanges(insertedEntries);
+
+            connection.commit(); // apply all changes in current transaction
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+            rollback();
+            // the entries have not been inserted
+            for (BibEntry bibEntry : insertedEntries) {
+                bibEntry.getSharedBibEntryData().setSharedID(-1);
+            }
+        } finally {
+            setAutoCommit();
+        }
+    }
+
+    /**
+     * Helping method. Returns the entries which do not exist on shared database yet.
+     */
+    private List<BibEntry> getNotExistingEntries(List<BibEntry> bibEntries) throws SQLException {
+        StringBuilder selectQuery = new StringBuilder()
+                .append("SELECT * FROM ")
+                .append(escape("ENTRY"))
+                .append(" WHERE ")
+                .append(escape("SHARED_ID"))
+                .append(" = ?");
+
+        List<BibEntry> newEntries = new ArrayList<>(bibEntries.size());
+        try (PreparedStatement preparedSelectStatement = connection.prepareStatement(selectQuery.toString())) {
+            for (BibEntry bibEntry : bibEntries) {
+                // Check if already exists
+                int sharedID = bibEntry.getSharedBibEntryData().getSharedID();
+                if (sharedID != -1) {
+                    preparedSelectStatement.setInt(1, sharedID);
+                    try (ResultSet resultSet = preparedSelectStatement.executeQuery()) {
+                        if (resultSet.next()) {
+                            continue;
+                        }
+                    }
+                }
+                newEntries.add(bibEntry);
+            }
+        }
+        return newEntries;
+    }
+
+    private String getInsertFieldQuery() {
+        return new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape("FIELD"))
+                .append("(")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(", ")
+                .append(escape("NAME"))
+                .append(", ")
+                .append(escape("VALUE"))
+                .append(") VALUES(?, ?, ?)")
+                .toString();
+    }
+
+    /**
+     * Helping method. Records the given entries as changed, so that other clients pull them. Only the last change of
+     * each entry is kept, as its number is sufficient to find the entries changed since a pull.
+     * Has to be called at the end of the transaction which makes the changes, right before the commit.
+     * The row of the ENTRY_CHANGE_COUNTER table is updated first. It stays locked until the commit, so that the
+     * transactions number their changes one after another. Hence, the change numbers follow the commit order, and a
+     * change committed later never gets a lower number than one which has already been pulled.
+     */
+    void logChanges(List<BibEntry> bibEntries) throws SQLException {
+        StringBuilder updateCounterQuery = new StringBuilder()
+                .append("UPDATE ")
+                .append(escape("ENTRY_CHANGE_COUNTER"))
+                .append(" SET ")
+                .append(escape("COUNTER"))
+                .append(" = ")
+                .append(escape("COUNTER"))
+                .append(" + 1");
+        connection.createStatement().executeUpdate(updateCounterQuery.toString());
+
+        try (PreparedStatement preparedUpsertChangeStatement = connection.prepareStatement(getUpsertEntryChangeQuery())) {
+            for (int i = 0; i < bibEntries.size(); i++) {
+                preparedUpsertChangeStatement.setInt(1, bibEntries.get(i).getSharedBibEntryData().getSharedID());
+                preparedUpsertChangeStatement.addBatch();
+                if ((((i + 1) % BATCH_SIZE) == 0) || (i == (bibEntries.size() - 1))) {
+                    preparedUpsertChangeStatement.executeBatch();
+                }
+            }
+        }
+    }
+
+    private void rollback() {
+        try {
+            connection.rollback(); // undo changes made in current transaction
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+    }
+
+    private void setAutoCommit() {
+        try {
+            connection.setAutoCommit(true); // enable auto commit mode again
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
         }
@@ -228,6 +368,8 @@ public abstract class DBMSProcessor {
                     preparedUpdateEntryTypeStatement.executeUpdate();
                 }
 
+                logChanges(Collections.singletonList(localBibEntry));
+
                 connection.commit(); // apply all changes in current transaction
 
             } else {
@@ -247,93 +389,94 @@ public abstract class DBMSProcessor {
     private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
         Set<String> nullFields = new HashSet<>(sharedBibEntry.getFieldNames());
         nullFields.removeAll(localBibEntry.getFieldNames());
-        for (String nullField : nullFields) {
-            StringBuilder deleteFieldQuery = new StringBuilder()
-                .append("DELETE FROM ")
-                .append(escape("FIELD"))
-                .append(" WHERE ")
-                .append(escape("NAME"))
-                .append(" = ? AND ")
-                .append(escape("ENTRY_SHARED_ID"))
-                .append(" = ?");
+        if (nullFields.isEmpty()) {
+            return;
+        }
 
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery.toString())) {
+        StringBuilder deleteFieldQuery = new StringBuilder()
+            .append("DELETE FROM ")
+            .append(escape("FIELD"))
+            .append(" WHERE ")
+            .append(escape("NAME"))
+            .append(" = ? AND ")
+            .append(escape("ENTRY_SHARED_ID"))
+            .append(" = ?");
+
+        try (PreparedStatement preparedDeleteFieldStatement = connection
+                .prepareStatement(deleteFieldQuery.toString())) {
+            for (String nullField : nullFields) {
                 preparedDeleteFieldStatement.setString(1, nullField);
                 preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
+                preparedDeleteFieldStatement.addBatch();
             }
+            preparedDeleteFieldStatement.executeBatch();
         }
     }
 
     /**
      * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an update is performed.
+     * The existing fields are selected at once, and the updates and inserts are sent in one batch each.
      */
     private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
-        for (String fieldName : localBibEntry.getFieldNames()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getFieldOptional(fieldName);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
+        int sharedID = localBibEntry.getSharedBibEntryData().getSharedID();
+
+        StringBuilder selectFieldQuery = new StringBuilder()
+                .append("SELECT * FROM ")
+                .append(escape("FIELD"))
+                .append(" WHERE ")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(" = ?");
+
+        Set<String> sharedFields = new HashSet<>();
+        try (PreparedStatement preparedSelectFieldStatement = connection
+                .prepareStatement(selectFieldQuery.toString())) {
+            preparedSelectFieldStatement.setInt(1, sharedID);
+            try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
+                while (selectFieldResultSet.next()) {
+                    sharedFields.add(selectFieldResultSet.getString("NAME"));
+                }
             }
+        }
 
-            StringBuilder selectFieldQuery = new StringBuilder()
-                    .append("SELECT * FROM ")
-                    .append(escape("FIELD"))
-                    .append(" WHERE ")
-                    .append(escape("NAME"))
-                    .append(" = ? AND ")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(" = ?");
+        StringBuilder updateFieldQuery = new StringBuilder()
+                .append("UPDATE ")
+                .append(escape("FIELD"))
+                .append(" SET ")
+                .append(escape("VALUE"))
+                .append(" = ? WHERE ")
+                .append(escape("NAME"))
+                .append(" = ? AND ")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(" = ?");
 
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery.toString())) {
-                preparedSelectFieldStatement.setString(1, fieldName);
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        StringBuilder updateFieldQuery = new StringBuilder()
-                                .append("UPDATE ")
-                                .append(escape("FIELD"))
-                                .append(" SET ")
-                                .append(escape("VALUE"))
-                                .append(" = ? WHERE ")
-                                .append(escape("NAME"))
-                                .append(" = ? AND ")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(" = ?");
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery.toString())) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, fieldName);
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        StringBuilder insertFieldQuery = new StringBuilder()
-                                .append("INSERT INTO ")
-                                .append(escape("FIELD"))
-                                .append("(")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(", ")
-                                .append(escape("NAME"))
-                                .append(", ")
-                                .append(escape("VALUE"))
-                                .append(") VALUES(?, ?, ?)");
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery.toString())) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, fieldName);
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
-                    }
+        try (PreparedStatement preparedUpdateFieldStatement = connection.prepareStatement(updateFieldQuery.toString());
+                PreparedStatement preparedFieldStatement = connection.prepareStatement(getInsertFieldQuery())) {
+            boolean hasUpdates = false;
+            boolean hasInserts = false;
+            for (String fieldName : localBibEntry.getFieldNames()) {
+                // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
+                String value = localBibEntry.getFieldOptional(fieldName).orElse(null);
+
+                if (sharedFields.contains(fieldName)) { // check if field already exists
+                    preparedUpdateFieldStatement.setString(1, value);
+                    preparedUpdateFieldStatement.setString(2, fieldName);
+                    preparedUpdateFieldStatement.setInt(3, sharedID);
+                    preparedUpdateFieldStatement.addBatch();
+                    hasUpdates = true;
+                } else {
+                    preparedFieldStatement.setInt(1, sharedID);
+                    preparedFieldStatement.setString(2, fieldName);
+                    preparedFieldStatement.setString(3, value);
+                    preparedFieldStatement.addBatch();
+                    hasInserts = true;
                 }
             }
+            if (hasUpdates) {
+                preparedUpdateFieldStatement.executeBatch();
+            }
+            if (hasInserts) {
+                preparedFieldStatement.executeBatch();
+            }
         }
     }
 
@@ -349,13 +492,23 @@ public abstract class DBMSProcessor {
                 .append(escape("SHARED_ID"))
                 .append(" = ?");
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
-            preparedStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
-            preparedStatement.executeUpdate();
+        try {
+            connection.setAutoCommit(false); // disable auto commit due to transaction
+
+            try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
+                preparedStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
+                preparedStatement.executeUpdate();
+            }
+
+            logChanges(Collections.singletonList(bibEntry));
+
+            connection.commit(); // apply all changes in current transaction
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
+            rollback();
+        } finally {
+            setAutoCommit();
         }
-
     }
 
     /**
@@ -363,7 +516,7 @@ public abstract class DBMSProcessor {
      * @return instance of {@link BibEntry}
      */
     public Optional<BibEntry> getSharedEntry(int sharedID) {
-        List<BibEntry> sharedEntries = getSharedEntryList(sharedID);
+        List<BibEntry> sharedEntries = getSharedEntryList(Collections.singletonList(sharedID));
         if (!sharedEntries.isEmpty()) {
             return Optional.of(sharedEntries.get(0));
         }
@@ -371,55 +524,75 @@ public abstract class DBMSProcessor {
     }
 
     public List<BibEntry> getSharedEntries() {
-        return getSharedEntryList(0);
+        return getSharedEntryList(Collections.emptyList());
+    }
+
+    /**
+     * Fetches the entries with the given IDs. They are queried in batches of up to {@link #BATCH_SIZE} IDs, which is
+     * the maximum number of expressions Oracle accepts in an IN list.
+     * @param sharedIDs Entry IDs
+     * @return List of {@link BibEntry} instances, ordered by their IDs. IDs without a shared entry are skipped.
+     */
+    public List<BibEntry> getSharedEntries(List<Integer> sharedIDs) {
+        List<Integer> sortedIDs = new ArrayList<>(sharedIDs);
+        Collections.sort(sortedIDs);
+
+        List<BibEntry> sharedEntries = new ArrayList<>(sortedIDs.size());
+        for (int from = 0; from < sortedIDs.size(); from += BATCH_SIZE) {
+            sharedEntries.addAll(getSharedEntryList(sortedIDs.subList(from, Math.min(from + BATCH_SIZE, sortedIDs.size()))));
+        }
+        return sharedEntries;
     }
 
     /**
-     * @param sharedID Entry ID. If 0, all entries are going to be fetched.
+     * @param sharedIDs Entry IDs. If empty, all entries are going to be fetched.
      * @return List of {@link BibEntry} instances
      */
-    private List<BibEntry> getSharedEntryList(int sharedID) {
+    private List<BibEntry> getSharedEntryList(List<Integer> sharedIDs) {
         List<BibEntry> sharedEntries = new ArrayList<>();
 
         StringBuilder selectEntryQuery = new StringBuilder();
         selectEntryQuery.append("SELECT * FROM ");
         selectEntryQuery.append(escape("ENTRY"));
-
-        if (sharedID != 0) {
-            selectEntryQuery.append(" WHERE ");
-            selectEntryQuery.append(escape("SHARED_ID"));
-            selectEntryQuery.append(" = ");
-            selectEntryQuery.append(sharedID);
-        }
-
+        appendIDCondition(selectEntryQuery, "SHARED_ID", sharedIDs.size());
         selectEntryQuery.append(" ORDER BY ");
         selectEntryQuery.append(escape("SHARED_ID"));
 
-        try (ResultSet selectEntryResultSet = connection.createStatement().executeQuery(selectEntryQuery.toString())) {
-            while (selectEntryResultSet.next()) {
-                BibEntry bibEntry = new BibEntry();
-                // setting the base attributes once
-                bibEntry.getSharedBibEntryData().setSharedID(selectEntryResultSet.getInt("SHARED_ID"));
-                bibEntry.setType(selectEntryResultSet.getString("TYPE"));
-                bibEntry.getSharedBibEntryData().setVersion(selectEntryResultSet.getInt("VERSION"));
-
-                StringBuilder selectFieldQuery = new StringBuilder()
-                    .append("SELECT * FROM ")
-                    .append(escape("FIELD"))
-                    .append(" WHERE ")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(" = ?");
+        // the fields of all entries are fetched at once instead of one query per entry
+        StringBuilder selectFieldQuery = new StringBuilder()
+                .append("SELECT * FROM ")
+                .append(escape("FIELD"));
+        appendIDCondition(selectFieldQuery, "ENTRY_SHARED_ID", sharedIDs.size());
+
+        Map<Integer, BibEntry> sharedEntriesByID = new HashMap<>();
+        try (PreparedStatement preparedSelectEntryStatement = connection.prepareStatement(selectEntryQuery.toString());
+                PreparedStatement preparedSelectFieldStatement = connection.prepareStatement(selectFieldQuery.toString())) {
+            for (int i = 0; i < sharedIDs.size(); i++) {
+                // columnIndex starts with 1
+                preparedSelectEntryStatement.setInt(i + 1, sharedIDs.get(i));
+                preparedSelectFieldStatement.setInt(i + 1, sharedIDs.get(i));
+            }
 
-                try (PreparedStatement preparedSelectFieldStatement = connection.prepareStatement(selectFieldQuery.toString())) {
-                    preparedSelectFieldStatement.setInt(1, selectEntryResultSet.getInt("SHARED_ID"));
-                    try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                        while (selectFieldResultSet.next()) {
-                            bibEntry.setField(selectFieldResultSet.getString("NAME"),
-                                    Optional.ofNullable(selectFieldResultSet.getString("VALUE")), EntryEventSource.SHARED);
-                        }
+            try (ResultSet selectEntryResultSet = preparedSelectEntryStatement.executeQuery()) {
+                while (selectEntryResultSet.next()) {
+                    BibEntry bibEntry = new BibEntry();
+                    // setting the base attributes once
+                    bibEntry.getSharedBibEntryData().setSharedID(selectEntryResultSet.getInt("SHARED_ID"));
+                    bibEntry.setType(selectEntryResultSet.getString("TYPE"));
+                    bibEntry.getSharedBibEntryData().setVersion(selectEntryResultSet.getInt("VERSION"));
+                    sharedEntries.add(bibEntry);
+                    sharedEntriesByID.put(bibEntry.getSharedBibEntryData().getSharedID(), bibEntry);
+                }
+            }
+
+            try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
+                while (selectFieldResultSet.next()) {
+                    BibEntry bibEntry = sharedEntriesByID.get(selectFieldResultSet.getInt("ENTRY_SHARED_ID"));
+                    if (bibEntry != null) {
+                        bibEntry.setField(selectFieldResultSet.getString("NAME"),
+                                Optional.ofNullable(selectFieldResultSet.getString("VALUE")), EntryEventSource.SHARED);
                     }
                 }
-                sharedEntries.add(bibEntry);
             }
         } catch (SQLException e) {
             LOGGER.error("SQL Error", e);
@@ -428,6 +601,21 @@ public abstract class DBMSProcessor {
         return sharedEntries;
     }
 
+    /**
+     * Helping method. Appends a condition restricting the given column to a list of IDs, which are passed as
+     * parameters. Nothing is appended if there are no IDs.
+     */
+    private void appendIDCondition(StringBuilder query, String column, int numberOfIDs) {
+        if (numberOfIDs == 0) {
+            return;
+        }
+        query.append(" WHERE ")
+                .append(escape(column))
+                .append(" IN (")
+                .append(String.join(", ", Collections.nCopies(numberOfIDs, "?")))
+                .append(")");
+    }
+
     /**
      * Retrieves a mapping between the columns SHARED_ID and VERSION.
      */
@@ -450,6 +638,125 @@ public abstract class DBMSProcessor {
         return sharedIDVersionMapping;
     }
 
+    /**
+     * Returns the number of the last change made to the shared entries, or 0 if no change has been recorded.
+     */
+    public int getLastChangeID() {
+        StringBuilder selectChangeQuery = new StringBuilder()
+                .append("SELECT MAX(")
+                .append(escape("CHANGE_ID"))
+                .append(") FROM ")
+                .append(escape("ENTRY_CHANGE"));
+
+        try (ResultSet selectChangeResultSet = connection.createStatement().executeQuery(selectChangeQuery.toString())) {
+            if (selectChangeResultSet.next()) {
+                return selectChangeResultSet.getInt(1); // 0 if there is no change
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the changes made after the given change, ordered by their numbers.
+     * @param changeID Number of a change
+     * @return Map of the change numbers to the shared IDs of the changed entries
+     */
+    public Map<Integer, Integer> getEntryChangesSince(int changeID) {
+        Map<Integer, Integer> entryChanges = new LinkedHashMap<>();
+        StringBuilder selectChangeQuery = new StringBuilder()
+                .append("SELECT * FROM ")
+                .append(escape("ENTRY_CHANGE"))
+                .append(" WHERE ")
+                .append(escape("CHANGE_ID"))
+                .append(" > ? ORDER BY ")
+                .append(escape("CHANGE_ID"));
+
+        try (PreparedStatement preparedSelectChangeStatement = connection.prepareStatement(selectChangeQuery.toString())) {
+            preparedSelectChangeStatement.setInt(1, changeID);
+            try (ResultSet selectChangeResultSet = preparedSelectChangeStatement.executeQuery()) {
+                while (selectChangeResultSet.next()) {
+                    entryChanges.put(selectChangeResultSet.getInt("CHANGE_ID"),
+                            selectChangeResultSet.getInt("ENTRY_SHARED_ID"));
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+
+        return entryChanges;
+    }
+
+    /**
+     * Fetches the entries changed after the given change together with their fields in one query.
+     * Removed entries are not contained.
+     * @param changeID Number of a change
+     * @return List of {@link BibEntry} instances
+     */
+    public List<BibEntry> getSharedEntriesChangedSince(int changeID) {
+        List<BibEntry> sharedEntries = new ArrayList<>();
+
+        // table aliases without AS, as Oracle does not accept it
+        StringBuilder selectQuery = new StringBuilder()
+                .append("SELECT E.")
+                .append(escape("SHARED_ID"))
+                .append(", E.")
+                .append(escape("TYPE"))
+                .append(", E.")
+                .append(escape("VERSION"))
+                .append(", F.")
+                .append(escape("NAME"))
+                .append(", F.")
+                .append(escape("VALUE"))
+                .append(" FROM ")
+                .append(escape("ENTRY_CHANGE"))
+                .append(" C JOIN ")
+                .append(escape("ENTRY"))
+                .append(" E ON E.")
+                .append(escape("SHARED_ID"))
+                .append(" = C.")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(" LEFT JOIN ")
+                .append(escape("FIELD"))
+                .append(" F ON F.")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(" = E.")
+                .append(escape("SHARED_ID"))
+                .append(" WHERE C.")
+                .append(escape("CHANGE_ID"))
+                .append(" > ? ORDER BY E.")
+                .append(escape("SHARED_ID"));
+
+        try (PreparedStatement preparedSelectStatement = connection.prepareStatement(selectQuery.toString())) {
+            preparedSelectStatement.setInt(1, changeID);
+            try (ResultSet selectResultSet = preparedSelectStatement.executeQuery()) {
+                BibEntry bibEntry = null;
+                while (selectResultSet.next()) {
+                    int sharedID = selectResultSet.getInt("SHARED_ID");
+                    if ((bibEntry == null) || (bibEntry.getSharedBibEntryData().getSharedID() != sharedID)) {
+                        bibEntry = new BibEntry();
+                        // setting the base attributes once
+                        bibEntry.getSharedBibEntryData().setSharedID(sharedID);
+                        bibEntry.setType(selectResultSet.getString("TYPE"));
+                        bibEntry.getSharedBibEntryData().setVersion(selectResultSet.getInt("VERSION"));
+                        sharedEntries.add(bibEntry);
+                    }
+
+                    String fieldName = selectResultSet.getString("NAME");
+                    if (fieldName != null) { // null for entries without fields
+                        bibEntry.setField(fieldName, Optional.ofNullable(selectResultSet.getString("VALUE")),
+                                EntryEventSource.SHARED);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+
+        return sharedEntries;
+    }
+
     /**
      * Fetches and returns all shared meta data.
      */
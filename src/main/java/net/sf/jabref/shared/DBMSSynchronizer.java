@@ -17,9 +17,12 @@ package net.sf.jabref.shared;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 import net.sf.jabref.BibDatabaseContext;
@@ -31,6 +34,7 @@ import net.sf.jabref.logic.importer.util.ParseException;
 import net.sf.jabref.logic.l10n.Localization;
 import net.sf.jabref.model.database.BibDatabase;
 import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.model.event.EntriesAddedEvent;
 import net.sf.jabref.model.event.EntryAddedEvent;
 import net.sf.jabref.model.event.EntryEvent;
 import net.sf.jabref.model.event.EntryRemovedEvent;
@@ -62,6 +66,7 @@ public class DBMSSynchronizer {
     private final BibDatabase bibDatabase;
     private final EventBus eventBus;
     private Connection currentConnection;
+    private int lastChangeID = -1; // -1: all entries have to be synchronized
 
 
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext) {
@@ -77,12 +82,27 @@ public class DBMSSynchronizer {
      */
     @Subscribe
     public void listen(EntryAddedEvent event) {
-        // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntryEvents may be posted.
+        // While synchronizing the local database (see synchronizeChangedEntries() below), some EntryEvents may be posted.
         // In this case DBSynchronizer should not try to insert the bibEntry entry again (but it would not harm).
-        if (isEventSourceAccepted(event) && checkCurrentConnection()) {
+        // Entries added together are inserted at once, see below.
+        if (!event.isPartOfBulkInsert() && isEventSourceAccepted(event) && checkCurrentConnection()) {
             dbmsProcessor.insertEntry(event.getBibEntry());
             synchronizeLocalMetaData();
-            synchronizeLocalDatabase(); // Pull changes for the case that there were some
+            synchronizeChangedEntries(); // Pull changes for the case that there were some
+        }
+    }
+
+    /**
+     * Listening method. Inserts several new {@link BibEntry} objects, e.g., imported or pasted ones, into shared
+     * database at once.
+     * @param event {@link EntriesAddedEvent} object
+     */
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        if (isEventSourceAccepted(event.getEntryEventSource()) && checkCurrentConnection()) {
+            dbmsProcessor.insertEntries(event.getBibEntries());
+            synchronizeLocalMetaData();
+            synchronizeChangedEntries(); // Pull changes for the case that there were some
         }
     }
 
@@ -92,13 +112,13 @@ public class DBMSSynchronizer {
      */
     @Subscribe
     public void listen(FieldChangedEvent event) {
-        // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntryEvents may be posted.
+        // While synchronizing the local database (see synchronizeChangedEntries() below), some EntryEvents may be posted.
         // In this case DBSynchronizer should not try to update the bibEntry entry again (but it would not harm).
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
             synchronizeLocalMetaData();
             BibEntry bibEntry = event.getBibEntry();
             synchronizeSharedEntry(bibEntry);
-            synchronizeLocalDatabase(); // Pull changes for the case that there were some
+            synchronizeChangedEntries(); // Pull changes for the case that there were some
         }
     }
 
@@ -108,12 +128,12 @@ public class DBMSSynchronizer {
      */
     @Subscribe
     public void listen(EntryRemovedEvent event) {
-        // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntryEvents may be posted.
+        // While synchronizing the local database (see synchronizeChangedEntries() below), some EntryEvents may be posted.
         // In this case DBSynchronizer should not try to delete the bibEntry entry again (but it would not harm).
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
             dbmsProcessor.removeEntry(event.getBibEntry());
             synchronizeLocalMetaData();
-            synchronizeLocalDatabase(); // Pull changes for the case that there where some
+            synchronizeChangedEntries(); // Pull changes for the case that there were some
         }
     }
 
@@ -125,7 +145,7 @@ public class DBMSSynchronizer {
     public void listen(MetaDataChangedEvent event) {
         if (checkCurrentConnection()) {
             synchronizeSharedMetaData(event.getMetaData());
-            synchronizeLocalDatabase();
+            synchronizeChangedEntries();
             applyMetaData();
         }
     }
@@ -157,66 +177,159 @@ public class DBMSSynchronizer {
             return;
         }
 
+        // read before the entries, so that no change made meanwhile is missed by the next pull
+        int changeID = dbmsProcessor.getLastChangeID();
+
         List<BibEntry> localEntries = bibDatabase.getEntries();
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
         // remove old entries locally
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
 
-        // compare versions and update local entry if needed
+        Map<Integer, List<BibEntry>> localEntriesByID = getLocalEntriesByID();
+
+        // compare versions and collect the entries to be fetched
+        Set<Integer> outdatedIDs = new HashSet<>();
+        List<Integer> missingIDs = new ArrayList<>();
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean match = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey() == localEntry.getSharedBibEntryData().getSharedID()) {
-                    match = true;
+            List<BibEntry> matchingEntries = localEntriesByID.get(idVersionEntry.getKey());
+            if (matchingEntries == null) {
+                missingIDs.add(idVersionEntry.getKey());
+            } else {
+                for (BibEntry localEntry : matchingEntries) {
                     if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntryEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                    .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            for (String field : sharedEntry.get().getFieldNames()) {
-                                localEntry.setField(field, sharedEntry.get().getFieldOptional(field), EntryEventSource.SHARED);
-                            }
-
-                            Set<String> redundantLocalEntryFields = localEntry.getFieldNames();
-                            redundantLocalEntryFields.removeAll(sharedEntry.get().getFieldNames());
-
-                            // remove not existing fields
-                            for (String redundantField : redundantLocalEntryFields) {
-                                localEntry.clearField(redundantField, EntryEventSource.SHARED);
-                            }
-                        }
+                        outdatedIDs.add(idVersionEntry.getKey());
                     }
                 }
             }
-            if (!match) {
-                Optional<BibEntry> bibEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                if (bibEntry.isPresent()) {
-                    bibDatabase.insertEntry(bibEntry.get(), EntryEventSource.SHARED);
+        }
+
+        Map<Integer, BibEntry> sharedEntries = getSharedEntries(outdatedIDs, missingIDs);
+
+        // update local entries if needed
+        for (int outdatedID : outdatedIDs) {
+            BibEntry sharedEntry = sharedEntries.get(outdatedID);
+            if (sharedEntry == null) {
+                continue;
+            }
+            for (BibEntry localEntry : localEntriesByID.get(outdatedID)) {
+                updateLocalEntry(localEntry, sharedEntry);
+            }
+        }
+
+        // insert new entries
+        for (int missingID : missingIDs) {
+            BibEntry sharedEntry = sharedEntries.get(missingID);
+            if (sharedEntry != null) {
+                bibDatabase.insertEntry(sharedEntry, EntryEventSource.SHARED);
+            }
+        }
+
+        lastChangeID = changeID;
+    }
+
+    /**
+     * Synchronizes the local database with the entries changed on the shared one since the last synchronization.
+     * If nothing changed, only the numbers of the last changes are fetched. The changed entries are fetched at once.
+     * Falls back to {@link #synchronizeLocalDatabase()} if the local database has not been synchronized yet.
+     * The changes are numbered in the order they are committed, so only the changes after the last pulled one have to
+     * be fetched.
+     */
+    public void synchronizeChangedEntries() {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+        if (lastChangeID < 0) {
+            synchronizeLocalDatabase();
+            return;
+        }
+
+        int fromChangeID = lastChangeID;
+        Map<Integer, Integer> entryChanges = dbmsProcessor.getEntryChangesSince(fromChangeID);
+        if (entryChanges.isEmpty()) {
+            return;
+        }
+        Set<Integer> changedIDs = new HashSet<>(entryChanges.values());
+
+        Map<Integer, BibEntry> sharedEntries = new HashMap<>();
+        for (BibEntry sharedEntry : dbmsProcessor.getSharedEntriesChangedSince(fromChangeID)) {
+            sharedEntries.put(sharedEntry.getSharedBibEntryData().getSharedID(), sharedEntry);
+        }
+
+        Map<Integer, List<BibEntry>> localEntriesByID = getLocalEntriesByID();
+        for (int changedID : changedIDs) {
+            BibEntry sharedEntry = sharedEntries.get(changedID);
+            List<BibEntry> localEntries = localEntriesByID.getOrDefault(changedID, Collections.emptyList());
+            if (sharedEntry == null) {
+                // removed on shared side
+                for (BibEntry localEntry : localEntries) {
+                    bibDatabase.removeEntry(localEntry, EntryEventSource.SHARED);
+                }
+            } else if (localEntries.isEmpty()) {
+                bibDatabase.insertEntry(sharedEntry, EntryEventSource.SHARED);
+            } else {
+                for (BibEntry localEntry : localEntries) {
+                    updateLocalEntry(localEntry, sharedEntry);
                 }
             }
         }
+
+        for (int changeID : entryChanges.keySet()) {
+            lastChangeID = Math.max(lastChangeID, changeID);
+        }
+    }
+
+    private Map<Integer, List<BibEntry>> getLocalEntriesByID() {
+        Map<Integer, List<BibEntry>> localEntriesByID = new HashMap<>();
+        for (BibEntry localEntry : bibDatabase.getEntries()) {
+            localEntriesByID.computeIfAbsent(localEntry.getSharedBibEntryData().getSharedID(), id -> new ArrayList<>())
+                    .add(localEntry);
+        }
+        return localEntriesByID;
     }
 
     /**
-     * Removes all local entries which are not present on shared database.
-     *
-     * @param localEntries List of {@link BibEntry} the entries should be removed from
-     * @param sharedIDs Set of all IDs which are present on shared database
+     * Helping method. Takes over the type and the fields of the shared entry if it has a newer version.
+     */
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        if (sharedEntry.getSharedBibEntryData().getVersion() <= localEntry.getSharedBibEntryData().getVersion()) {
+            return;
+        }
+
+        // update fields
+        localEntry.setType(sharedEntry.getType(), EntryEventSource.SHARED);
+        localEntry.getSharedBibEntryData().setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+        for (String field : sharedEntry.getFieldNames()) {
+            localEntry.setField(field, sharedEntry.getFieldOptional(field), EntryEventSource.SHARED);
+        }
+
+        Set<String> redundantLocalEntryFields = localEntry.getFieldNames();
+        redundantLocalEntryFields.removeAll(sharedEntry.getFieldNames());
+
+        // remove not existing fields
+        for (String redundantField : redundantLocalEntryFields) {
+            localEntry.clearField(redundantField, EntryEventSource.SHARED);
+        }
+    }
+
+    /**
+     * Fetches the shared entries with the given IDs. They are queried in batches instead of each entry separately.
      */
+    private Map<Integer, BibEntry> getSharedEntries(Set<Integer> outdatedIDs, List<Integer> missingIDs) {
+        Set<Integer> neededIDs = new HashSet<>(outdatedIDs);
+        neededIDs.addAll(missingIDs);
+
+        Map<Integer, BibEntry> sharedEntries = new HashMap<>();
+        for (BibEntry sharedEntry : dbmsProcessor.getSharedEntries(new ArrayList<>(neededIDs))) {
+            sharedEntries.put(sharedEntry.getSharedBibEntryData().getSharedID(), sharedEntry);
+        }
+        return sharedEntries;
+    }
+
     private void removeNotSharedEntries(List<BibEntry> localEntries, Set<Integer> sharedIDs) {
         for (int i = 0; i < localEntries.size(); i++) {
             BibEntry localEntry = localEntries.get(i);
-            boolean match = false;
-            for (int sharedID : sharedIDs) {
-                if (localEntry.getSharedBibEntryData().getSharedID() == sharedID) {
-                    match = true;
-                    break;
-                }
-            }
-            if (!match) {
+            if (!sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID())) {
                 bibDatabase.removeEntry(localEntry, EntryEventSource.SHARED); // Should not reach the listeners above.
                 i--; // due to index shift on localEntries
             }
@@ -302,7 +415,7 @@ public class DBMSSynchronizer {
             return;
         }
 
-        synchronizeLocalDatabase();
+        synchronizeChangedEntries();
         synchronizeLocalMetaData();
     }
 
@@ -332,7 +445,10 @@ public class DBMSSynchronizer {
      * @return <code>true</code> if the event is able to trigger operations in {@link DBMSSynchronizer}, else <code>false</code>
      */
     public boolean isEventSourceAccepted(EntryEvent event) {
-        EntryEventSource eventSource = event.getEntryEventSource();
+        return isEventSourceAccepted(event.getEntryEventSource());
+    }
+
+    private static boolean isEventSourceAccepted(EntryEventSource eventSource) {
         return ((eventSource == EntryEventSource.LOCAL) || (eventSource == EntryEventSource.UNDO));
     }
 
@@ -341,6 +457,7 @@ public class DBMSSynchronizer {
         this.dbName = name;
         this.currentConnection = connection;
         this.dbmsProcessor = DBMSProcessor.getProcessorInstance(connection, type);
+        this.lastChangeID = -1;
         initializeDatabases();
     }
 
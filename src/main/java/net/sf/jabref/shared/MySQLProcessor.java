@@ -38,6 +38,22 @@ public class MySQLProcessor extends DBMSProcessor {
         connection.createStatement().executeUpdate("CREATE TABLE IF NOT EXISTS `METADATA` (" +
                     "`KEY` varchar(255) NOT NULL," +
                     "`VALUE` text NOT NULL)");
+
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS `ENTRY_CHANGE` (" +
+                "`CHANGE_ID` INT(11) NOT NULL PRIMARY KEY AUTO_INCREMENT, " +
+                "`ENTRY_SHARED_ID` INT(11) NOT NULL UNIQUE)");
+
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS `ENTRY_CHANGE_COUNTER` (" +
+                "`COUNTER` BIGINT NOT NULL)");
+    }
+
+    @Override
+    protected String getUpsertEntryChangeQuery() {
+        // REPLACE deletes the existing row of the entry and inserts a new one, which draws its CHANGE_ID from the
+        // AUTO_INCREMENT counter like a new entry does
+        return "REPLACE INTO `ENTRY_CHANGE`(`ENTRY_SHARED_ID`) VALUES(?)";
     }
 
     @Override
@@ -2,6 +2,7 @@ package net.sf.jabref.shared;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Set;
 
 /**
  * Processes all incoming or outgoing bib data to Oracle database and manages its structure.
@@ -22,29 +23,68 @@ public class OracleProcessor extends DBMSProcessor {
      */
     @Override
     public void setUp() throws SQLException {
-        connection.createStatement().executeUpdate(
-                "CREATE TABLE \"ENTRY\" (" +
-                "\"SHARED_ID\" NUMBER NOT NULL, " +
-                "\"TYPE\" VARCHAR2(255) NULL, " +
-                "\"VERSION\" NUMBER DEFAULT 1, " +
-                "CONSTRAINT \"ENTRY_PK\" PRIMARY KEY (\"SHARED_ID\"))");
-
-        connection.createStatement().executeUpdate("CREATE SEQUENCE \"ENTRY_SEQ\"");
-
-        connection.createStatement().executeUpdate("CREATE TRIGGER \"ENTRY_T\" BEFORE INSERT ON \"ENTRY\" " +
-                "FOR EACH ROW BEGIN SELECT \"ENTRY_SEQ\".NEXTVAL INTO :NEW.shared_id FROM DUAL; END;");
-
-        connection.createStatement().executeUpdate(
-                "CREATE TABLE \"FIELD\" (" +
-                "\"ENTRY_SHARED_ID\" NUMBER NOT NULL, " +
-                "\"NAME\" VARCHAR2(255) NOT NULL, " +
-                "\"VALUE\" CLOB NULL, " +
-                "CONSTRAINT \"ENTRY_SHARED_ID_FK\" FOREIGN KEY (\"ENTRY_SHARED_ID\") " +
-                "REFERENCES \"ENTRY\"(\"SHARED_ID\") ON DELETE CASCADE)");
-
-        connection.createStatement().executeUpdate("CREATE TABLE \"METADATA\" (" +
-                    "\"KEY\"  VARCHAR2(255) NULL," +
-                    "\"VALUE\"  CLOB NOT NULL)");
+        // Oracle does not support CREATE TABLE IF NOT EXISTS
+        Set<String> tableNames = getTableNames();
+
+        if (!tableNames.contains("ENTRY")) {
+            connection.createStatement().executeUpdate(
+                    "CREATE TABLE \"ENTRY\" (" +
+                    "\"SHARED_ID\" NUMBER NOT NULL, " +
+                    "\"TYPE\" VARCHAR2(255) NULL, " +
+                    "\"VERSION\" NUMBER DEFAULT 1, " +
+                    "CONSTRAINT \"ENTRY_PK\" PRIMARY KEY (\"SHARED_ID\"))");
+
+            connection.createStatement().executeUpdate("CREATE SEQUENCE \"ENTRY_SEQ\"");
+
+            connection.createStatement().executeUpdate("CREATE TRIGGER \"ENTRY_T\" BEFORE INSERT ON \"ENTRY\" " +
+                    "FOR EACH ROW BEGIN SELECT \"ENTRY_SEQ\".NEXTVAL INTO :NEW.shared_id FROM DUAL; END;");
+        }
+
+        if (!tableNames.contains("FIELD")) {
+            connection.createStatement().executeUpdate(
+                    "CREATE TABLE \"FIELD\" (" +
+                    "\"ENTRY_SHARED_ID\" NUMBER NOT NULL, " +
+                    "\"NAME\" VARCHAR2(255) NOT NULL, " +
+                    "\"VALUE\" CLOB NULL, " +
+                    "CONSTRAINT \"ENTRY_SHARED_ID_FK\" FOREIGN KEY (\"ENTRY_SHARED_ID\") " +
+                    "REFERENCES \"ENTRY\"(\"SHARED_ID\") ON DELETE CASCADE)");
+        }
+
+        if (!tableNames.contains("METADATA")) {
+            connection.createStatement().executeUpdate("CREATE TABLE \"METADATA\" (" +
+                        "\"KEY\"  VARCHAR2(255) NULL," +
+                        "\"VALUE\"  CLOB NOT NULL)");
+        }
+
+        if (!tableNames.contains("ENTRY_CHANGE")) {
+            connection.createStatement().executeUpdate(
+                    "CREATE TABLE \"ENTRY_CHANGE\" (" +
+                    "\"CHANGE_ID\" NUMBER NOT NULL, " +
+                    "\"ENTRY_SHARED_ID\" NUMBER NOT NULL, " +
+                    "CONSTRAINT \"ENTRY_CHANGE_PK\" PRIMARY KEY (\"CHANGE_ID\"), " +
+                    "CONSTRAINT \"ENTRY_CHANGE_U\" UNIQUE (\"ENTRY_SHARED_ID\"))");
+
+            connection.createStatement().executeUpdate("CREATE SEQUENCE \"ENTRY_CHANGE_SEQ\"");
+
+            connection.createStatement().executeUpdate("CREATE TRIGGER \"ENTRY_CHANGE_T\" BEFORE INSERT ON \"ENTRY_CHANGE\" " +
+                    "FOR EACH ROW BEGIN SELECT \"ENTRY_CHANGE_SEQ\".NEXTVAL INTO :NEW.change_id FROM DUAL; END;");
+        }
+
+        if (!tableNames.contains("ENTRY_CHANGE_COUNTER")) {
+            connection.createStatement().executeUpdate(
+                    "CREATE TABLE \"ENTRY_CHANGE_COUNTER\" (" +
+                    "\"COUNTER\" NUMBER NOT NULL)");
+        }
+    }
+
+    @Override
+    protected String getUpsertEntryChangeQuery() {
+        // a new entry gets its CHANGE_ID from the trigger
+        return "MERGE INTO \"ENTRY_CHANGE\" C " +
+                "USING (SELECT ? AS \"ENTRY_SHARED_ID\" FROM DUAL) N " +
+                "ON (C.\"ENTRY_SHARED_ID\" = N.\"ENTRY_SHARED_ID\") " +
+                "WHEN MATCHED THEN UPDATE SET C.\"CHANGE_ID\" = \"ENTRY_CHANGE_SEQ\".NEXTVAL " +
+                "WHEN NOT MATCHED THEN INSERT (\"ENTRY_SHARED_ID\") VALUES (N.\"ENTRY_SHARED_ID\")";
     }
 
     @Override
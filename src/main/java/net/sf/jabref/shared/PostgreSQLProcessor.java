@@ -37,6 +37,22 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         connection.createStatement().executeUpdate("CREATE TABLE IF NOT EXISTS \"METADATA\" ("
                     + "\"KEY\" VARCHAR,"
                     + "\"VALUE\" TEXT)");
+
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS \"ENTRY_CHANGE\" (" +
+                "\"CHANGE_ID\" SERIAL PRIMARY KEY, " +
+                "\"ENTRY_SHARED_ID\" INTEGER NOT NULL UNIQUE)");
+
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS \"ENTRY_CHANGE_COUNTER\" (" +
+                "\"COUNTER\" BIGINT NOT NULL)");
+    }
+
+    @Override
+    protected String getUpsertEntryChangeQuery() {
+        // EXCLUDED holds the row which could not be inserted, including the CHANGE_ID drawn from the sequence
+        return "INSERT INTO \"ENTRY_CHANGE\"(\"ENTRY_SHARED_ID\") VALUES(?) " +
+                "ON CONFLICT (\"ENTRY_SHARED_ID\") DO UPDATE SET \"CHANGE_ID\" = EXCLUDED.\"CHANGE_ID\"";
     }
 
     @Override
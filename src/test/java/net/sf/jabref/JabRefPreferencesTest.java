@@ -43,6 +43,29 @@ public class JabRefPreferencesTest {
         assertEquals(StandardCharsets.UTF_16BE, prefs.getDefaultEncoding());
     }
 
+    @Test
+    public void snapshotReflectsChangedPreferences() {
+        boolean namesAsIs = prefs.getBoolean(JabRefPreferences.NAMES_AS_IS);
+        assertEquals(namesAsIs, prefs.getSnapshot().getBoolean(JabRefPreferences.NAMES_AS_IS));
+
+        prefs.putBoolean(JabRefPreferences.NAMES_AS_IS, !namesAsIs);
+        try {
+            assertEquals(!namesAsIs, prefs.getSnapshot().getBoolean(JabRefPreferences.NAMES_AS_IS));
+        } finally {
+            prefs.putBoolean(JabRefPreferences.NAMES_AS_IS, namesAsIs);
+        }
+    }
+
+    @Test
+    public void snapshotReflectsImportedPreferences() throws JabRefException {
+        prefs.getSnapshot();
+        File importFile = new File("src/test/resources/net/sf/jabref/customPreferences.xml");
+
+        prefs.importPreferences(importFile.getAbsolutePath());
+
+        assertEquals("my proxy host", prefs.getSnapshot().get(JabRefPreferences.PROXY_HOSTNAME));
+    }
+
     @After
     public void tearDown() {
         //clean up preferences to default state
@@ -0,0 +1,141 @@
+package net.sf.jabref.collab;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import net.sf.jabref.model.entry.BibEntry;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class EntryMatcherTest {
+
+    private final List<BibEntry[]> modified = new ArrayList<>();
+    private final List<BibEntry[]> deleted = new ArrayList<>();
+    private final List<BibEntry> added = new ArrayList<>();
+    private final List<Integer> progress = new ArrayList<>();
+
+    private EntryMatcher.MatchListener listener;
+
+
+    @Before
+    public void setUp() {
+        listener = new EntryMatcher.MatchListener() {
+
+            @Override
+            public void entryModified(BibEntry memEntry, BibEntry tmpEntry, BibEntry diskEntry) {
+                modified.add(new BibEntry[] {memEntry, tmpEntry, diskEntry});
+            }
+
+            @Override
+            public void entryDeleted(BibEntry memEntry, BibEntry tmpEntry) {
+                deleted.add(new BibEntry[] {memEntry, tmpEntry});
+            }
+
+            @Override
+            public void entryAdded(BibEntry diskEntry) {
+                added.add(diskEntry);
+            }
+        };
+    }
+
+    private static BibEntry createEntry(String key, String title, String year) {
+        BibEntry entry = new BibEntry();
+        entry.setCiteKey(key);
+        entry.setField("title", title);
+        entry.setField("year", year);
+        return entry;
+    }
+
+    private static BibEntry copy(BibEntry entry) {
+        return (BibEntry) entry.clone();
+    }
+
+    private void match(List<BibEntry> mem, List<BibEntry> tmp, List<BibEntry> disk) {
+        new EntryMatcher(mem, tmp, disk).match(listener, progress::add);
+    }
+
+    @Test
+    public void unchangedDatabaseHasNoChanges() {
+        List<BibEntry> tmp = Arrays.asList(createEntry("a", "A", "2000"), createEntry("b", "B", "2001"));
+        List<BibEntry> disk = Arrays.asList(copy(tmp.get(1)), copy(tmp.get(0)));
+
+        match(tmp, tmp, disk);
+
+        assertEquals(0, modified.size());
+        assertEquals(0, deleted.size());
+        assertEquals(0, added.size());
+        assertEquals(Collections.singletonList(4), progress);
+    }
+
+    @Test
+    public void findsModifiedEntryByKey() {
+        BibEntry a = createEntry("a", "A", "2000");
+        BibEntry b = createEntry("b", "B", "2001");
+        List<BibEntry> mem = Arrays.asList(copy(a), copy(b));
+        BibEntry changedB = createEntry("b", "Completely different", "1999");
+
+        match(mem, Arrays.asList(a, b), Arrays.asList(copy(a), changedB));
+
+        assertEquals(1, modified.size());
+        assertSame(mem.get(1), modified.get(0)[0]);
+        assertSame(b, modified.get(0)[1]);
+        assertSame(changedB, modified.get(0)[2]);
+        assertEquals(0, deleted.size());
+        assertEquals(0, added.size());
+    }
+
+    @Test
+    public void findsModifiedEntryWithChangedKey() {
+        BibEntry a = createEntry("a", "A", "2000");
+        BibEntry changedA = createEntry("newkey", "A", "2000");
+
+        match(Collections.singletonList(a), Collections.singletonList(a), Collections.singletonList(changedA));
+
+        assertEquals(1, modified.size());
+        assertSame(changedA, modified.get(0)[2]);
+    }
+
+    @Test
+    public void findsDeletedAndAddedEntries() {
+        BibEntry a = createEntry("a", "A", "2000");
+        BibEntry b = createEntry("b", "B", "2001");
+        BibEntry c = createEntry("c", "C", "2002");
+        List<BibEntry> tmp = Arrays.asList(a, b);
+
+        match(tmp, tmp, Arrays.asList(copy(a), c));
+
+        assertEquals(0, modified.size());
+        assertEquals(1, deleted.size());
+        assertSame(b, deleted.get(0)[0]);
+        assertSame(b, deleted.get(0)[1]);
+        assertEquals(Collections.singletonList(c), added);
+    }
+
+    @Test
+    public void addedEntryAlreadyInMemoryIsIgnored() {
+        BibEntry a = createEntry("a", "A", "2000");
+        BibEntry c = createEntry("c", "C", "2002");
+
+        match(Arrays.asList(a, c), Collections.singletonList(a), Arrays.asList(copy(a), copy(c)));
+
+        assertEquals(0, added.size());
+    }
+
+    @Test
+    public void identicalEntriesAreMatchedOnce() {
+        BibEntry a = createEntry("a", "A", "2000");
+        List<BibEntry> tmp = Arrays.asList(a, copy(a));
+
+        match(tmp, tmp, Collections.singletonList(copy(a)));
+
+        assertEquals(0, modified.size());
+        assertEquals(1, deleted.size());
+        assertSame(tmp.get(1), deleted.get(0)[1]);
+    }
+}
@@ -0,0 +1,142 @@
+package net.sf.jabref.collab;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FileUpdateMonitorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private FileUpdateMonitor monitor;
+    private Thread monitorThread;
+    private File file;
+    private final AtomicInteger updates = new AtomicInteger();
+    private final CountDownLatch updated = new CountDownLatch(1);
+    private final CountDownLatch removed = new CountDownLatch(1);
+    private final FileUpdateListener listener = new FileUpdateListener() {
+
+        @Override
+        public void fileUpdated() {
+            updates.incrementAndGet();
+            updated.countDown();
+        }
+
+        @Override
+        public void fileRemoved() {
+            removed.countDown();
+        }
+    };
+
+
+    @Before
+    public void setUp() throws IOException {
+        file = temporaryFolder.newFile("test.bib");
+        write("@Article{test}");
+
+        monitor = new FileUpdateMonitor();
+        monitorThread = new Thread(monitor);
+        monitorThread.start();
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        monitorThread.interrupt();
+        monitorThread.join();
+    }
+
+    private void write(String content) throws IOException {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void notifiesOnceAboutSeveralQuickChanges() throws Exception {
+        monitor.addUpdateListener(listener, file);
+
+        write("@Article{test1}");
+        write("@Article{test12}");
+        write("@Article{test123}");
+
+        assertTrue(updated.await(10, TimeUnit.SECONDS));
+        Thread.sleep(1000);
+        assertEquals(1, updates.get());
+    }
+
+    @Test
+    public void notifiesAboutRemovedFile() throws Exception {
+        monitor.addUpdateListener(listener, file);
+
+        assertTrue(file.delete());
+
+        assertTrue(removed.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void doesNotNotifyAfterListenerHasBeenRemoved() throws Exception {
+        String handle = monitor.addUpdateListener(listener, file);
+        monitor.removeUpdateListener(handle);
+
+        write("@Article{changed}");
+
+        assertEquals(1, updated.getCount());
+        Thread.sleep(1000);
+        assertEquals(0, updates.get());
+    }
+
+    @Test
+    public void hasBeenModifiedDetectsChange() throws Exception {
+        String handle = monitor.addUpdateListener(listener, file);
+
+        write("@Article{changed}");
+
+        assertTrue(monitor.hasBeenModified(handle));
+    }
+
+    @Test
+    public void notifiesAboutChangedTargetOfSymbolicLink() throws Exception {
+        Path link = temporaryFolder.newFolder("links").toPath().resolve("link.bib");
+        Files.createSymbolicLink(link, file.toPath());
+        monitor.addUpdateListener(listener, link.toFile());
+
+        write("@Article{changed}");
+
+        assertTrue(updated.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void notifiesAgainAboutPerturbedWatchedFile() throws Exception {
+        String handle = monitor.addUpdateListener(listener, file);
+        // let the monitor wait for changes of the watched file
+        Thread.sleep(500);
+
+        monitor.perturbTimestamp(handle);
+
+        assertTrue(updated.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void stopsWhenInterrupted() throws Exception {
+        monitor.addUpdateListener(listener, file);
+
+        monitorThread.interrupt();
+        monitorThread.join(10000);
+
+        assertFalse(monitorThread.isAlive());
+    }
+}
@@ -18,11 +18,16 @@ package net.sf.jabref.external;
 import java.io.File;
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import net.sf.jabref.Globals;
 import net.sf.jabref.logic.importer.ImportFormatPreferences;
@@ -38,7 +43,9 @@ import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import static org.junit.Assert.assertEquals;
 
@@ -48,6 +55,9 @@ public class RegExpFileSearchTests {
     private BibDatabase database;
     private BibEntry entry;
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Before
     public void setUp() throws IOException {
         Globals.prefs = JabRefPreferences.getInstance();
@@ -164,6 +174,49 @@ public class RegExpFileSearchTests {
                 RegExpFileSearch.expandBrackets("[author] have published [title] in [journal].", entry, database));
     }
 
+    @Test
+    public void testFindFilesInSubdirectories() throws IOException {
+        Path root = temporaryFolder.getRoot().toPath();
+        Path sub = Files.createDirectories(root.resolve("a").resolve("b"));
+        Files.createFile(root.resolve("HipKro03.pdf"));
+        Files.createFile(root.resolve("a").resolve("HipKro03 - Open Source.pdf"));
+        Files.createFile(sub.resolve("The HipKro03.PDF"));
+        Files.createFile(sub.resolve("HipKro03.ps"));
+        Files.createFile(sub.resolve("Other.pdf"));
+
+        Map<BibEntry, List<File>> result = RegExpFileSearch.findFilesForSet(Collections.singletonList(entry),
+                Collections.singletonList("pdf"), Collections.singletonList(root.toFile()),
+                "**/.*[bibtexkey].*\\\\.[extension]");
+
+        assertEquals(
+                new HashSet<>(Arrays.asList(new File("HipKro03.pdf"), new File("a", "HipKro03 - Open Source.pdf"),
+                        new File("a" + File.separator + "b", "The HipKro03.PDF"))),
+                new HashSet<>(result.get(entry)));
+    }
+
+    @Test
+    public void testFindFilesInDirectSubdirectories() throws IOException {
+        Path root = temporaryFolder.getRoot().toPath();
+        Path sub = Files.createDirectories(root.resolve("a").resolve("b"));
+        Files.createFile(root.resolve("a").resolve("HipKro03.pdf"));
+        Files.createFile(sub.resolve("HipKro03.pdf"));
+
+        Map<BibEntry, List<File>> result = RegExpFileSearch.findFilesForSet(Collections.singletonList(entry),
+                Collections.singletonList("pdf"), Collections.singletonList(root.toFile()),
+                "*/[bibtexkey].[extension]");
+
+        assertEquals(Collections.singletonList(new File("a", "HipKro03.pdf")), result.get(entry));
+    }
+
+    @Test
+    public void testRequiredText() {
+        assertEquals(Optional.of("hipkro03"), RegExpFileSearch.getRequiredText(".*HipKro03.*\\.(pdf|ps)"));
+        assertEquals(Optional.of("hipkro"), RegExpFileSearch.getRequiredText("HipKro0?3\\.pdf"));
+        assertEquals(Optional.of("pdf"), RegExpFileSearch.getRequiredText("a{1,3}\\.pdf"));
+        assertEquals(Optional.empty(), RegExpFileSearch.getRequiredText("HipKro03|Other"));
+        assertEquals(Optional.empty(), RegExpFileSearch.getRequiredText("[abc]*(HipKro03)?"));
+    }
+
     @After
     public void tearDown(){
         Globals.prefs = null;
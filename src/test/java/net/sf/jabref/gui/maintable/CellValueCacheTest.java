@@ -0,0 +1,104 @@
+package net.sf.jabref.gui.maintable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import net.sf.jabref.Globals;
+import net.sf.jabref.model.database.BibDatabase;
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.model.entry.BibtexString;
+import net.sf.jabref.model.entry.FieldName;
+import net.sf.jabref.preferences.JabRefPreferences;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class CellValueCacheTest {
+
+    private final BibDatabase database = new BibDatabase();
+    private final List<MainTableColumn> columns = new ArrayList<>();
+    private CellValueCache cache;
+
+
+    @Before
+    public void setUp() {
+        Globals.prefs = JabRefPreferences.getInstance();
+        columns.add(new MainTableColumn(FieldName.NUMBER_COL));
+        columns.add(new MainTableColumn("title", Collections.singletonList("title"), database));
+        columns.add(new MainTableColumn("journal/booktitle", Arrays.asList("journal", "booktitle"), database));
+        cache = new CellValueCache(columns);
+    }
+
+    @Test
+    public void getValueReturnsValueOfColumn() {
+        BibEntry entry = new BibEntry().withField("title", "Caf\\'{e}").withField("booktitle", "Proceedings");
+
+        assertNull(cache.getValue(entry, 0));
+        assertEquals("Café", cache.getValue(entry, 1));
+        assertEquals("Proceedings", cache.getValue(entry, 2));
+    }
+
+    @Test
+    public void getValueIsCachedUntilEntryChanges() {
+        BibEntry entry = new BibEntry().withField("title", "First");
+        cache.prefetch(entry, cache.getColumns());
+        Object value = cache.getValue(entry, 1);
+        assertSame(value, cache.getValue(entry, 1));
+
+        entry.setField("title", "Second");
+
+        assertEquals("Second", cache.getValue(entry, 1));
+    }
+
+    @Test
+    public void getValueReflectsChangedString() {
+        BibtexString string = new BibtexString("1", "name", "Smith");
+        database.addString(string);
+        columns.add(new MainTableColumn("Author", Collections.singletonList("title"), database));
+        cache.setColumns(columns);
+        BibEntry entry = new BibEntry().withField("title", "#name#");
+        assertEquals("Smith", cache.getValue(entry, 3));
+
+        string.setContent("Miller");
+
+        assertEquals("Miller", cache.getValue(entry, 3));
+    }
+
+    @Test
+    public void setColumnsDropsValuesOfRemovedColumns() {
+        BibEntry entry = new BibEntry().withField("title", "Title").withField("journal", "Journal");
+        assertEquals("Title", cache.getValue(entry, 1));
+
+        columns.remove(1);
+        cache.setColumns(columns);
+
+        assertEquals("Journal", cache.getValue(entry, 1));
+    }
+
+    @Test
+    public void changingColumnsListHasNoEffectUntilSet() {
+        BibEntry entry = new BibEntry().withField("title", "Title").withField("journal", "Journal");
+
+        columns.remove(1);
+
+        assertEquals("Title", cache.getValue(entry, 1));
+    }
+
+    @Test
+    public void prefetchWithOutdatedColumnsIsNotServed() {
+        BibEntry entry = new BibEntry().withField("title", "Title").withField("journal", "Journal");
+        CellValueCache.Columns outdatedColumns = cache.getColumns();
+        columns.remove(1);
+        cache.setColumns(columns);
+
+        cache.prefetch(entry, outdatedColumns);
+
+        assertEquals("Journal", cache.getValue(entry, 1));
+    }
+}
@@ -0,0 +1,151 @@
+package net.sf.jabref.logic.autocompleter;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AutoCompleteIndexTest {
+
+    private AutoCompleteIndex index;
+    private int postingList;
+
+
+    @Before
+    public void setUp() {
+        index = new AutoCompleteIndex();
+        postingList = index.newPostingList();
+    }
+
+    @Test
+    public void completeReturnsWordsWithPrefixAlphabetically() {
+        index.add(postingList, "testing");
+        index.add(postingList, "test");
+        index.add(postingList, "tester");
+        index.add(postingList, "other");
+
+        Assert.assertEquals(Arrays.asList("test", "tester", "testing"), index.complete(postingList, "tes", false, 10));
+    }
+
+    @Test
+    public void completeWithPrefixEndingInsideNodeReturnsWords() {
+        index.add(postingList, "testing");
+        index.add(postingList, "tester");
+
+        Assert.assertEquals(Arrays.asList("tester", "testing"), index.complete(postingList, "t", false, 10));
+        Assert.assertEquals(Collections.singletonList("testing"), index.complete(postingList, "testi", false, 10));
+        Assert.assertEquals(Collections.emptyList(), index.complete(postingList, "testa", false, 10));
+        Assert.assertEquals(Collections.emptyList(), index.complete(postingList, "testings", false, 10));
+    }
+
+    @Test
+    public void completeReturnsMostFrequentWordsFirst() {
+        index.add(postingList, "alpha");
+        index.add(postingList, "alps");
+        index.add(postingList, "alps");
+        index.add(postingList, "altitude");
+        index.add(postingList, "altitude");
+        index.add(postingList, "altitude");
+
+        Assert.assertEquals(Arrays.asList("altitude", "alps", "alpha"), index.complete(postingList, "al", false, 10));
+    }
+
+    @Test
+    public void completeReturnsAtMostLimitWords() {
+        index.add(postingList, "alpha");
+        index.add(postingList, "alps");
+        index.add(postingList, "altitude");
+        index.add(postingList, "altitude");
+
+        Assert.assertEquals(Arrays.asList("altitude", "alpha"), index.complete(postingList, "al", false, 2));
+    }
+
+    @Test
+    public void completeCaseInsensitiveReturnsAllSpellings() {
+        index.add(postingList, "Testing");
+        index.add(postingList, "testing");
+
+        Assert.assertEquals(Arrays.asList("Testing", "testing"), index.complete(postingList, "test", false, 10));
+    }
+
+    @Test
+    public void completeCaseSensitiveReturnsMatchingSpellings() {
+        index.add(postingList, "TEsting");
+        index.add(postingList, "Testing");
+        index.add(postingList, "testing");
+
+        Assert.assertEquals(Collections.singletonList("TEsting"), index.complete(postingList, "TE", true, 10));
+    }
+
+    @Test
+    public void completeReturnsOnlyWordsOfPostingList() {
+        int otherPostingList = index.newPostingList();
+        index.add(postingList, "testing");
+        index.add(otherPostingList, "tester");
+        index.add(otherPostingList, "testing");
+        index.add(otherPostingList, "testing");
+
+        Assert.assertEquals(Collections.singletonList("testing"), index.complete(postingList, "test", false, 10));
+        Assert.assertEquals(Arrays.asList("testing", "tester"), index.complete(otherPostingList, "test", false, 10));
+    }
+
+    @Test
+    public void removeLowersFrequencyOfWord() {
+        index.add(postingList, "alps");
+        index.add(postingList, "alps");
+        index.add(postingList, "altitude");
+        index.add(postingList, "alpha");
+        index.remove(postingList, "alps");
+
+        Assert.assertEquals(Arrays.asList("alpha", "alps", "altitude"), index.complete(postingList, "al", false, 10));
+    }
+
+    @Test
+    public void removeLastOccurrenceDropsWord() {
+        index.add(postingList, "testing");
+        index.add(postingList, "tester");
+        index.remove(postingList, "testing");
+
+        Assert.assertEquals(Collections.singletonList("tester"), index.complete(postingList, "test", false, 10));
+        Assert.assertEquals(Collections.emptyList(), index.complete(postingList, "testi", false, 10));
+    }
+
+    @Test
+    public void removeKeepsOtherSpellingsAndPostingLists() {
+        int otherPostingList = index.newPostingList();
+        index.add(postingList, "Testing");
+        index.add(postingList, "testing");
+        index.add(otherPostingList, "testing");
+        index.remove(postingList, "testing");
+
+        Assert.assertEquals(Collections.singletonList("Testing"), index.complete(postingList, "test", false, 10));
+        Assert.assertEquals(Collections.singletonList("testing"), index.complete(otherPostingList, "test", false, 10));
+    }
+
+    @Test
+    public void removeUnknownWordChangesNothing() {
+        index.add(postingList, "testing");
+        index.remove(postingList, "test");
+        index.remove(postingList, "testings");
+        index.remove(postingList, "other");
+
+        Assert.assertEquals(Collections.singletonList("testing"), index.complete(postingList, "test", false, 10));
+    }
+
+    @Test
+    public void completeWithLimitFindsWordsAfterMoreFrequentWordHasBeenRemoved() {
+        index.add(postingList, "altitude");
+        index.add(postingList, "altitude");
+        index.add(postingList, "altitude");
+        index.add(postingList, "alps");
+        index.add(postingList, "alps");
+        index.add(postingList, "alpha");
+        index.remove(postingList, "altitude");
+        index.remove(postingList, "altitude");
+        index.remove(postingList, "altitude");
+
+        Assert.assertEquals(Collections.singletonList("alps"), index.complete(postingList, "al", false, 1));
+    }
+}
@@ -204,4 +204,32 @@ public class DefaultAutoCompleterTest {
         List<String> result = autoCompleter.complete("lue");
         Assert.assertEquals(Collections.emptyList(), result);
     }
+
+    @Test
+    public void completeAfterChangingFieldReturnsOnlyWordsOfNewValue() {
+        AutoCompletePreferences preferences = mock(AutoCompletePreferences.class);
+        DefaultAutoCompleter autoCompleter = new DefaultAutoCompleter("field", preferences);
+
+        BibEntry entry = new BibEntry();
+        entry.setField("field", "testValue");
+        autoCompleter.addBibtexEntry(entry);
+        autoCompleter.updateField("field", "testValue", "testOther");
+
+        List<String> result = autoCompleter.complete("test");
+        Assert.assertEquals(Collections.singletonList("testOther"), result);
+    }
+
+    @Test
+    public void completeAfterChangingOtherFieldReturnsWordsOfEntry() {
+        AutoCompletePreferences preferences = mock(AutoCompletePreferences.class);
+        DefaultAutoCompleter autoCompleter = new DefaultAutoCompleter("field", preferences);
+
+        BibEntry entry = new BibEntry();
+        entry.setField("field", "testValue");
+        autoCompleter.addBibtexEntry(entry);
+        autoCompleter.updateField("otherField", "testValue", null);
+
+        List<String> result = autoCompleter.complete("test");
+        Assert.assertEquals(Collections.singletonList("testValue"), result);
+    }
 }
@@ -0,0 +1,119 @@
+package net.sf.jabref.logic.bibtex.comparator;
+
+import java.util.Collections;
+
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.model.entry.InternalBibtexFields;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FieldComparatorTest {
+
+    @Test
+    public void compareByAuthorUsesLastNames() {
+        BibEntry smith = new BibEntry().withField("author", "John Smith");
+        BibEntry brown = new BibEntry().withField("author", "Zoe Brown");
+
+        assertTrue(new FieldComparator("author").compare(smith, brown) > 0);
+        assertTrue(new FieldComparator("author", true).compare(smith, brown) < 0);
+    }
+
+    @Test
+    public void compareIgnoresCase() {
+        BibEntry lower = new BibEntry().withField("title", "an article");
+        BibEntry upper = new BibEntry().withField("title", "An Article");
+
+        assertEquals(0, new FieldComparator("title").compare(lower, upper));
+    }
+
+    @Test
+    public void missingFieldIsSortedLast() {
+        BibEntry withTitle = new BibEntry().withField("title", "Title");
+        BibEntry withoutTitle = new BibEntry();
+
+        assertTrue(new FieldComparator("title").compare(withTitle, withoutTitle) < 0);
+        assertTrue(new FieldComparator("title").compare(withoutTitle, withTitle) > 0);
+        assertEquals(0, new FieldComparator("title").compare(withoutTitle, new BibEntry()));
+    }
+
+    @Test
+    public void compareByYearIsNumeric() {
+        BibEntry early = new BibEntry().withField("year", "999");
+        BibEntry late = new BibEntry().withField("year", "2016");
+
+        assertTrue(new FieldComparator("year").compare(early, late) < 0);
+    }
+
+    @Test
+    public void compareByMonthIsReversedByDefault() {
+        BibEntry january = new BibEntry().withField("month", "#jan#");
+        BibEntry march = new BibEntry().withField("month", "#mar#");
+
+        assertTrue(new FieldComparator("month").compare(january, march) > 0);
+        assertTrue(new FieldComparator("month", true).compare(january, march) < 0);
+    }
+
+    @Test
+    public void compareByNumericFieldPrefersNumbers() {
+        BibEntry two = new BibEntry().withField("volume", "2");
+        BibEntry ten = new BibEntry().withField("volume", "10");
+        BibEntry text = new BibEntry().withField("volume", "special");
+
+        assertTrue(new FieldComparator("volume").compare(two, ten) < 0);
+        assertTrue(new FieldComparator("volume").compare(ten, text) < 0);
+    }
+
+    @Test
+    public void compareByType() {
+        BibEntry article = new BibEntry("1", "article");
+        BibEntry book = new BibEntry("2", "book");
+
+        assertTrue(new FieldComparator(BibEntry.TYPE_HEADER).compare(article, book) < 0);
+    }
+
+    @Test
+    public void compareUsesAlternativeFields() {
+        BibEntry author = new BibEntry().withField("author", "Zoe Brown");
+        BibEntry editor = new BibEntry().withField("editor", "John Smith");
+
+        assertTrue(new FieldComparator("author/editor").compare(author, editor) < 0);
+    }
+
+    @Test
+    public void changedFieldIsComparedByNewValue() {
+        BibEntry first = new BibEntry().withField("title", "A");
+        BibEntry second = new BibEntry().withField("title", "B");
+        FieldComparator comparator = new FieldComparator("title");
+        assertTrue(comparator.compare(first, second) < 0);
+
+        first.setField("title", "C");
+
+        assertTrue(comparator.compare(first, second) > 0);
+    }
+
+    @Test
+    public void changedTypeIsComparedByNewType() {
+        BibEntry first = new BibEntry("1", "article");
+        BibEntry second = new BibEntry("2", "book");
+        FieldComparator comparator = new FieldComparator(BibEntry.TYPE_HEADER);
+        assertTrue(comparator.compare(first, second) < 0);
+
+        first.setType("misc");
+
+        assertTrue(comparator.compare(first, second) > 0);
+    }
+
+    @Test
+    public void fieldIsComparedNumericallyAfterSettingNumericFields() {
+        BibEntry ten = new BibEntry().withField("comparatortestnumber", "10");
+        BibEntry nine = new BibEntry().withField("comparatortestnumber", "9");
+        assertTrue(new FieldComparator("comparatortestnumber").compare(ten, nine) < 0);
+
+        InternalBibtexFields.setNumericFields(Collections.singletonList("comparatortestnumber"));
+
+        assertTrue(new FieldComparator("comparatortestnumber").compare(ten, nine) > 0);
+    }
+}
@@ -0,0 +1,111 @@
+package net.sf.jabref.logic.bibtexkeypattern;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import net.sf.jabref.Globals;
+import net.sf.jabref.MetaData;
+import net.sf.jabref.model.FieldChange;
+import net.sf.jabref.model.bibtexkeypattern.AbstractBibtexKeyPattern;
+import net.sf.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
+import net.sf.jabref.model.database.BibDatabase;
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.model.entry.FieldName;
+import net.sf.jabref.preferences.JabRefPreferences;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class BibtexKeyGeneratorTest {
+
+    private MetaData metaData;
+    private final BibtexKeyPatternPreferences preferences = new BibtexKeyPatternPreferences("[auth][year]", "", "",
+            false, true, true);
+
+
+    @Before
+    public void setUp() {
+        Globals.prefs = JabRefPreferences.getInstance();
+        metaData = new MetaData();
+        metaData.setBibtexKeyPattern(new GlobalBibtexKeyPattern(AbstractBibtexKeyPattern.split("[auth][year]")));
+    }
+
+    @Test
+    public void generateKeysAppendsLettersToDuplicateKeys() {
+        BibDatabase database = createDatabase();
+
+        new BibtexKeyGenerator(metaData, database, preferences).generateKeys(database.getEntries());
+
+        assertEquals(Arrays.asList("Smith2000", "Smith2000a", "Jones2001", "Smith2000b", "Smith2000c"),
+                getKeys(database));
+    }
+
+    @Test
+    public void generateKeysGivesSameKeysAsSequentialGeneration() {
+        BibDatabase sequentialDatabase = createDatabase();
+        for (BibEntry entry : sequentialDatabase.getEntries()) {
+            BibtexKeyPatternUtil.makeLabel(metaData, sequentialDatabase, entry, preferences);
+        }
+        BibDatabase database = createDatabase();
+
+        new BibtexKeyGenerator(metaData, database, preferences).generateKeys(database.getEntries());
+
+        assertEquals(getKeys(sequentialDatabase), getKeys(database));
+    }
+
+    @Test
+    public void generateKeysReturnsChangedKeysOnly() {
+        BibDatabase database = createDatabase();
+
+        List<FieldChange> changes = new BibtexKeyGenerator(metaData, database, preferences)
+                .generateKeys(database.getEntries());
+
+        // the fourth entry already had the key it gets
+        assertEquals(4, changes.size());
+        assertEquals("Jones2001", changes.get(2).getNewValue());
+        assertEquals(BibEntry.KEY_FIELD, changes.get(2).getField());
+    }
+
+    @Test
+    public void generateKeysUpdatesLinksToChangedKeys() {
+        BibDatabase database = new BibDatabase();
+        BibEntry linked = new BibEntry().withField("author", "John Smith").withField("year", "2000");
+        linked.setCiteKey("old");
+        database.insertEntry(linked);
+        BibEntry linking = new BibEntry().withField("author", "Jim Jones").withField("year", "2001")
+                .withField(FieldName.CROSSREF, "old");
+        database.insertEntry(linking);
+
+        new BibtexKeyGenerator(metaData, database, preferences).generateKeys(database.getEntries());
+
+        assertEquals(Optional.of("Smith2000"), linking.getFieldOptional(FieldName.CROSSREF));
+    }
+
+    @Test
+    public void generateKeysOfNoEntries() {
+        BibDatabase database = createDatabase();
+
+        assertEquals(0, new BibtexKeyGenerator(metaData, database, preferences).generateKeys(new ArrayList<>()).size());
+    }
+
+    private static BibDatabase createDatabase() {
+        BibDatabase database = new BibDatabase();
+        database.insertEntry(new BibEntry().withField("author", "John Smith").withField("year", "2000"));
+        database.insertEntry(new BibEntry().withField("author", "Jane Smith").withField("year", "2000"));
+        database.insertEntry(new BibEntry().withField("author", "Jim Jones").withField("year", "2001"));
+        BibEntry entryWithKey = new BibEntry().withField("author", "Joe Smith").withField("year", "2000");
+        entryWithKey.setCiteKey("Smith2000b");
+        database.insertEntry(entryWithKey);
+        database.insertEntry(new BibEntry().withField("author", "Jo Smith").withField("year", "2000"));
+        return database;
+    }
+
+    private static List<String> getKeys(BibDatabase database) {
+        return database.getEntries().stream().map(BibEntry::getCiteKey).collect(Collectors.toList());
+    }
+}
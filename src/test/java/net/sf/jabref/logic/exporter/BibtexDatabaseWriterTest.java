@@ -357,6 +357,30 @@ public class BibtexDatabaseWriterTest {
                 + OS.NEWLINE, session.getStringValue());
     }
 
+    @Test
+    public void reformatOnlyChangedEntries() throws Exception {
+        BibEntry unchanged = new BibEntry();
+        unchanged.setType(BibtexEntryTypes.ARTICLE);
+        unchanged.setField("author", "Mr. author");
+        unchanged.setParsedSerialization("presaved serialization");
+        unchanged.setChanged(false);
+        database.insertEntry(unchanged);
+        BibEntry changed = new BibEntry();
+        changed.setType(BibtexEntryTypes.ARTICLE);
+        changed.setParsedSerialization("outdated serialization");
+        changed.setField("author", "Mr. other author");
+        database.insertEntry(changed);
+
+        StringSaveSession session = databaseWriter.saveDatabase(bibtexContext, new SavePreferences());
+
+        assertEquals("presaved serialization" + OS.NEWLINE +
+                        "@Article{," + OS.NEWLINE + "  author = {Mr. other author}," + OS.NEWLINE + "}"
+                        + OS.NEWLINE + OS.NEWLINE
+                        + "@Comment{jabref-meta: databaseType:bibtex;}"
+                        + OS.NEWLINE,
+                session.getStringValue());
+    }
+
     @Test
     public void reformatEntryIfAskedToDoSo() throws Exception {
         BibEntry entry = new BibEntry();
@@ -0,0 +1,120 @@
+package net.sf.jabref.logic.exporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import net.sf.jabref.BibDatabaseContext;
+import net.sf.jabref.Globals;
+import net.sf.jabref.logic.journals.JournalAbbreviationLoader;
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.preferences.JabRefPreferences;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+
+public class CustomExportFormatTest {
+
+    // more than one batch of entries formatted in parallel
+    private static final int NUMBER_OF_ENTRIES = 2500;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private BibDatabaseContext databaseContext;
+    private List<BibEntry> entries;
+
+
+    @Before
+    public void setUp() {
+        Globals.prefs = JabRefPreferences.getInstance();
+        Globals.journalAbbreviationLoader = new JournalAbbreviationLoader();
+        databaseContext = new BibDatabaseContext();
+        entries = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setField("title", "Title " + i);
+            entries.add(entry);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        Globals.prefs.fileDirForDatabase = null;
+    }
+
+    @Test
+    public void exportWritesNumberedEntriesInOrder() throws Exception {
+        File layoutFile = testFolder.newFile("numbered.layout");
+        Files.write(layoutFile.toPath(), "\\format[Number]{}: \\title\n".getBytes(StandardCharsets.UTF_8));
+        String layoutName = layoutFile.getPath().substring(0, layoutFile.getPath().length() - ".layout".length());
+        ExportFormat exportFormat = new ExportFormat("Numbered", "numbered", layoutName, null, ".txt");
+        exportFormat.setCustomExport(true);
+
+        Globals.prefs.putBoolean(JabRefPreferences.EXPORT_IN_ORIGINAL_ORDER, true);
+        File exportFile = testFolder.newFile();
+        exportFormat.performExport(databaseContext, exportFile.getPath(), StandardCharsets.UTF_8, entries);
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            expected.add((i + 1) + ": Title " + i);
+        }
+        assertEquals(expected, Files.readAllLines(exportFile.toPath()));
+    }
+
+    @Test
+    public void exportUsesChangedLayoutFile() throws Exception {
+        File layoutFile = testFolder.newFile("changing.layout");
+        Files.write(layoutFile.toPath(), "\\title\n".getBytes(StandardCharsets.UTF_8));
+        String layoutName = layoutFile.getPath().substring(0, layoutFile.getPath().length() - ".layout".length());
+        ExportFormat exportFormat = new ExportFormat("Changing", "changing", layoutName, null, ".txt");
+        exportFormat.setCustomExport(true);
+        List<BibEntry> firstEntry = entries.subList(0, 1);
+
+        File exportFile = testFolder.newFile();
+        exportFormat.performExport(databaseContext, exportFile.getPath(), StandardCharsets.UTF_8, firstEntry);
+        Files.write(layoutFile.toPath(), "Changed \\title\n".getBytes(StandardCharsets.UTF_8));
+        layoutFile.setLastModified(layoutFile.lastModified() + 2000);
+        exportFormat.performExport(databaseContext, exportFile.getPath(), StandardCharsets.UTF_8, firstEntry);
+
+        assertEquals("Changed Title 0", Files.readAllLines(exportFile.toPath()).get(0));
+    }
+
+    @Test
+    public void exportResolvesFilesInFileDirectoryOfEachDatabase() throws Exception {
+        File layoutFile = testFolder.newFile("filelink.layout");
+        Files.write(layoutFile.toPath(), "\\format[FileLink]{\\file}\n".getBytes(StandardCharsets.UTF_8));
+        String layoutName = layoutFile.getPath().substring(0, layoutFile.getPath().length() - ".layout".length());
+        ExportFormat exportFormat = new ExportFormat("File link", "filelink", layoutName, null, ".txt");
+        exportFormat.setCustomExport(true);
+        File firstDirectory = testFolder.newFolder("first");
+        File secondDirectory = testFolder.newFolder("second");
+        Files.createFile(new File(firstDirectory, "paper.pdf").toPath());
+        Files.createFile(new File(secondDirectory, "paper.pdf").toPath());
+        BibEntry entry = new BibEntry();
+        entry.setField("file", ":paper.pdf:PDF");
+        File exportFile = testFolder.newFile();
+
+        // as done by the export actions for the database to export
+        Globals.prefs.fileDirForDatabase = Collections.singletonList(firstDirectory.getPath());
+        exportFormat.performExport(databaseContext, exportFile.getPath(), StandardCharsets.UTF_8,
+                Collections.singletonList(entry));
+        assertEquals(new File(firstDirectory, "paper.pdf").getCanonicalPath(),
+                Files.readAllLines(exportFile.toPath()).get(0));
+
+        Globals.prefs.fileDirForDatabase = Collections.singletonList(secondDirectory.getPath());
+        exportFormat.performExport(databaseContext, exportFile.getPath(), StandardCharsets.UTF_8,
+                Collections.singletonList(entry));
+        assertEquals(new File(secondDirectory, "paper.pdf").getCanonicalPath(),
+                Files.readAllLines(exportFile.toPath()).get(0));
+    }
+}
@@ -0,0 +1,93 @@
+package net.sf.jabref.logic.exporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Optional;
+
+import net.sf.jabref.Globals;
+import net.sf.jabref.logic.journals.JournalAbbreviationLoader;
+import net.sf.jabref.logic.layout.Layout;
+import net.sf.jabref.logic.layout.LayoutFormatterPreferences;
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.preferences.JabRefPreferences;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LayoutCacheTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final LayoutCache cache = new LayoutCache();
+    private LayoutFormatterPreferences preferences;
+    private File layoutFile;
+    private BibEntry entry;
+
+
+    @Before
+    public void setUp() throws IOException {
+        Globals.prefs = JabRefPreferences.getInstance();
+        preferences = LayoutFormatterPreferences.fromPreferences(Globals.prefs,
+                new JournalAbbreviationLoader());
+        layoutFile = testFolder.newFile("test.layout");
+        Files.write(layoutFile.toPath(), "\\title".getBytes(StandardCharsets.UTF_8));
+        entry = new BibEntry();
+        entry.setField("title", "my paper title");
+        entry.setField("year", "2016");
+    }
+
+    @Test
+    public void getLayoutReturnsCachedLayout() throws IOException {
+        Layout layout = cache.getLayout(layoutFile.getPath(), preferences, "key").get();
+
+        assertEquals("my paper title", layout.doLayout(entry, null));
+        assertSame(layout, cache.getLayout(layoutFile.getPath(), preferences, "key").get());
+    }
+
+    @Test
+    public void getLayoutParsesChangedFileAgain() throws IOException {
+        Layout layout = cache.getLayout(layoutFile.getPath(), preferences, "key").get();
+        Files.write(layoutFile.toPath(), "\\year".getBytes(StandardCharsets.UTF_8));
+        assertTrue(layoutFile.setLastModified(layoutFile.lastModified() + 2000));
+
+        Layout changedLayout = cache.getLayout(layoutFile.getPath(), preferences, "key").get();
+
+        assertNotSame(layout, changedLayout);
+        assertEquals("2016", changedLayout.doLayout(entry, null));
+    }
+
+    @Test
+    public void getLayoutParsesLayoutForOtherPreferencesAgain() throws IOException {
+        Layout layout = cache.getLayout(layoutFile.getPath(), preferences, "key").get();
+
+        assertNotSame(layout, cache.getLayout(layoutFile.getPath(), preferences, "other key").get());
+    }
+
+    @Test
+    public void getLayoutOfMissingFileReturnsEmpty() throws IOException {
+        String missingFile = new File(testFolder.getRoot(), "missing.layout").getPath();
+
+        assertEquals(Optional.empty(), cache.getLayout(missingFile, preferences, "key"));
+    }
+
+    @Test
+    public void getLayoutFindsLayoutInClasspath() throws IOException {
+        Optional<Layout> layout = cache.getLayout("/resource/layout/html.layout", preferences,
+                Collections.emptyList());
+
+        assertTrue(layout.isPresent());
+        assertFalse(layout.get().containsGroups());
+    }
+}
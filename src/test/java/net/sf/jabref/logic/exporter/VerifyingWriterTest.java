@@ -0,0 +1,42 @@
+package net.sf.jabref.logic.exporter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class VerifyingWriterTest {
+
+    @Test
+    public void unicodeEncodingCanEncodeAllCharacters() throws IOException {
+        VerifyingWriter writer = new VerifyingWriter(new ByteArrayOutputStream(), StandardCharsets.UTF_8);
+
+        writer.write("Müller 東京 😀");
+
+        assertTrue(writer.couldEncodeAll());
+    }
+
+    @Test
+    public void unicodeEncodingCannotEncodeUnpairedSurrogate() throws IOException {
+        VerifyingWriter writer = new VerifyingWriter(new ByteArrayOutputStream(), StandardCharsets.UTF_8);
+
+        writer.write("broken \ud83d");
+
+        assertFalse(writer.couldEncodeAll());
+    }
+
+    @Test
+    public void asciiEncodingReportsProblemCharacters() throws IOException {
+        VerifyingWriter writer = new VerifyingWriter(new ByteArrayOutputStream(), StandardCharsets.US_ASCII);
+
+        writer.write("Müller");
+
+        assertFalse(writer.couldEncodeAll());
+        assertEquals("ü", writer.getProblemCharacters());
+    }
+}
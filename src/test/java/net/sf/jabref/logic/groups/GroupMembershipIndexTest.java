@@ -0,0 +1,138 @@
+package net.sf.jabref.logic.groups;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import net.sf.jabref.logic.importer.util.ParseException;
+import net.sf.jabref.model.database.BibDatabase;
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.preferences.JabRefPreferences;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class GroupMembershipIndexTest {
+
+    private BibDatabase database;
+    private GroupMembershipIndex index;
+    private BibEntry physics;
+    private BibEntry quantumPhysics;
+    private BibEntry chemistry;
+    private GroupTreeNode root;
+    private GroupTreeNode physicsNode;
+    private GroupTreeNode quantumNode;
+
+
+    @Before
+    public void setUp() throws ParseException {
+        database = new BibDatabase();
+        physics = new BibEntry().withField("keywords", "physics");
+        quantumPhysics = new BibEntry().withField("keywords", "physics, quantum");
+        chemistry = new BibEntry().withField("keywords", "chemistry, quantum");
+        database.insertEntry(physics);
+        database.insertEntry(quantumPhysics);
+        database.insertEntry(chemistry);
+        index = new GroupMembershipIndex(database);
+
+        root = new GroupTreeNode(new AllEntriesGroup());
+        physicsNode = root.addSubgroup(getKeywordGroup("Physics", "physics", GroupHierarchyType.INDEPENDENT));
+        quantumNode = physicsNode.addSubgroup(getKeywordGroup("Quantum", "quantum", GroupHierarchyType.INDEPENDENT));
+    }
+
+    private static KeywordGroup getKeywordGroup(String name, String keyword, GroupHierarchyType context)
+            throws ParseException {
+        return new KeywordGroup(name, "keywords", keyword, false, false, context, JabRefPreferences.getInstance());
+    }
+
+    @Test
+    public void numberOfHitsOfIndependentGroup() {
+        assertEquals(2, index.getNumberOfHits(physicsNode));
+        assertEquals(2, index.getNumberOfHits(quantumNode));
+        assertEquals(3, index.getNumberOfHits(root));
+    }
+
+    @Test
+    public void numberOfHitsOfRefiningGroupIsIntersectionWithParent() throws ParseException {
+        quantumNode.setGroup(getKeywordGroup("Quantum", "quantum", GroupHierarchyType.REFINING));
+
+        assertEquals(1, index.getNumberOfHits(quantumNode));
+    }
+
+    @Test
+    public void numberOfHitsOfIncludingGroupIsUnionWithChildren() throws ParseException {
+        physicsNode.setGroup(getKeywordGroup("Physics", "physics", GroupHierarchyType.INCLUDING));
+
+        assertEquals(3, index.getNumberOfHits(physicsNode));
+    }
+
+    @Test
+    public void numberOfHitsIsUpdatedWhenSearchFieldChanges() {
+        assertEquals(2, index.getNumberOfHits(physicsNode));
+
+        chemistry.setField("keywords", "physics");
+
+        assertEquals(3, index.getNumberOfHits(physicsNode));
+        assertEquals(1, index.getNumberOfHits(quantumNode));
+    }
+
+    @Test
+    public void numberOfHitsIsUpdatedWhenEntriesAreAddedOrRemoved() {
+        assertEquals(2, index.getNumberOfHits(physicsNode));
+
+        database.removeEntry(physics);
+        database.insertEntry(new BibEntry().withField("keywords", "physics"));
+        database.insertEntry(new BibEntry().withField("keywords", "physics"));
+
+        assertEquals(3, index.getNumberOfHits(physicsNode));
+        assertEquals(4, index.getNumberOfHits(root));
+    }
+
+    @Test
+    public void removedEntryIsNotUpdated() {
+        database.removeEntry(chemistry);
+
+        chemistry.setField("keywords", "physics");
+
+        assertEquals(2, index.getNumberOfHits(physicsNode));
+    }
+
+    @Test
+    public void matchingEntriesOfAnyGroup() {
+        assertEquals(Arrays.asList(physics, quantumPhysics, chemistry),
+                index.getMatchingEntries(Arrays.asList(physicsNode, quantumNode), false, false));
+    }
+
+    @Test
+    public void matchingEntriesOfAllGroups() {
+        assertEquals(Collections.singletonList(quantumPhysics),
+                index.getMatchingEntries(Arrays.asList(physicsNode, quantumNode), true, false));
+    }
+
+    @Test
+    public void matchingEntriesInverted() {
+        assertEquals(Collections.singletonList(chemistry),
+                index.getMatchingEntries(Collections.singletonList(physicsNode), false, true));
+    }
+
+    @Test
+    public void matchingGroupsAreTheSameAsOfGroupTreeNode() {
+        assertEquals(root.getMatchingGroups(Collections.singletonList(chemistry)),
+                index.getMatchingGroups(root, Collections.singletonList(chemistry)));
+    }
+
+    @Test
+    public void containingGroupsAreTheSameAsOfGroupTreeNode() {
+        assertEquals(root.getContainingGroups(Arrays.asList(physics, quantumPhysics), true),
+                index.getContainingGroups(root, Arrays.asList(physics, quantumPhysics), true));
+        assertEquals(root.getContainingGroups(Arrays.asList(physics, chemistry), false),
+                index.getContainingGroups(root, Arrays.asList(physics, chemistry), false));
+    }
+
+    @Test
+    public void entryNotInDatabaseIsNotContained() {
+        assertEquals(Collections.emptyList(),
+                index.getContainingGroups(root, Collections.singletonList(new BibEntry()), true));
+    }
+}
@@ -2,6 +2,8 @@ package net.sf.jabref.logic.importer;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -10,13 +12,19 @@ import net.sf.jabref.logic.xmp.XMPPreferences;
 import net.sf.jabref.preferences.JabRefPreferences;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
 public class ImportFormatReaderTestParameterless {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private ImportFormatReader reader;
 
     @Before
@@ -34,6 +42,57 @@ public class ImportFormatReaderTestParameterless {
         assertNull(unknownFormat);
     }
 
+    @Test
+    public void testImportUnknownFormatOfNonExistingFile() {
+        assertNull(reader.importUnknownFormat(Paths.get("asdfasdf.ris")));
+    }
+
+    @Test
+    public void testImportUnknownFormatPrefersRisOverMedlinePlain() throws IOException {
+        // MedlinePlain recognizes the PMC line, RIS the first line
+        Path file = writeFile("TY  - JOUR\n"
+                + "AU  - Smith, John\n"
+                + "TI  - Proteins in the cell\n"
+                + "JO  - Journal of Biology\n"
+                + "PY  - 2016\n"
+                + "N1  - PMC1234567 - free full text\n"
+                + "ER  - \n");
+
+        assertEquals("RIS", reader.importUnknownFormat(file).format);
+    }
+
+    @Test
+    public void testImportUnknownFormatPrefersMedlinePlainOverRis() throws IOException {
+        // RIS recognizes the address line, MedlinePlain the first line
+        Path file = writeFile("PMID- 12345678\n"
+                + "OWN - NLM\n"
+                + "TI  - Proteins in the cell.\n"
+                + "AU  - Smith J\n"
+                + "AD  - Department of Biology, Kansas CITY  - USA.\n"
+                + "TA  - J Biol\n"
+                + "DP  - 2016\n");
+
+        assertEquals("MedlinePlain", reader.importUnknownFormat(file).format);
+    }
+
+    @Test
+    public void testImportUnknownFormatRecognizedAfterLongBeginning() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            content.append("Exported references\n");
+        }
+        content.append("TY  - JOUR\nAU  - Smith, John\nTI  - Proteins in the cell\nER  - \n");
+        Path file = writeFile(content.toString());
+
+        assertEquals("RIS", reader.importUnknownFormat(file).format);
+    }
+
+    private Path writeFile(String content) throws IOException {
+        Path file = temporaryFolder.newFile("references.txt").toPath();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
     @Test(expected = NullPointerException.class)
     public void testNullImportUnknownFormat() {
         reader.importUnknownFormat((Path)null);
@@ -77,6 +77,18 @@ public class BibtexParserTest {
         assertEquals(Collections.singletonList(expected), parsed);
     }
 
+    @Test
+    public void fromStringReturnsAllEntriesInOrder() {
+        List<BibEntry> parsed = BibtexParser.fromString(
+                "@article{b,title={Second}}\n@string{s = {text}}\n@book{a,title={First}}\n@misc{b,title={Third}}",
+                importFormatPreferences);
+
+        assertEquals(3, parsed.size());
+        assertEquals(Optional.of("Second"), parsed.get(0).getFieldOptional("title"));
+        assertEquals(Optional.of("First"), parsed.get(1).getFieldOptional("title"));
+        assertEquals(Optional.of("Third"), parsed.get(2).getFieldOptional("title"));
+    }
+
     @Test
     public void fromStringReturnsEmptyListFromEmptyString() {
         Collection<BibEntry> parsed = BibtexParser.fromString("",
@@ -1777,4 +1789,75 @@ public class BibtexParserTest {
         assertEquals(bibtexEntry, entry.getParsedSerialization());
     }
 
+    @Test
+    public void parseWithListenerReportsAllItemsInOrder() throws IOException {
+        List<String> events = new ArrayList<>();
+        BibtexParserListener listener = new BibtexParserListener() {
+
+            @Override
+            public void entryParsed(BibEntry entry) {
+                events.add("entry " + entry.getCiteKey());
+            }
+
+            @Override
+            public void stringParsed(BibtexString string) {
+                events.add("string " + string.getName() + "=" + string.getContent());
+            }
+
+            @Override
+            public void preambleParsed(String preamble) {
+                events.add("preamble " + preamble);
+            }
+
+            @Override
+            public void commentParsed(String comment) {
+                events.add("comment " + comment);
+            }
+        };
+
+        new BibtexParser(new StringReader("@preamble{some text}" + OS.NEWLINE
+                + "@string{bourdieu = {Bourdieu, Pierre}}" + OS.NEWLINE
+                + "@comment{just a comment}" + OS.NEWLINE
+                + "@article{first,author = bourdieu}" + OS.NEWLINE
+                + "@book{second,title = {Distinction}}"), importFormatPreferences).parse(listener);
+
+        assertEquals(Arrays.asList("preamble some text", "string bourdieu=Bourdieu, Pierre",
+                "comment just a comment", "entry first", "entry second"), events);
+    }
+
+    @Test
+    public void parseWithListenerKeepsSerializationOfEntry() throws IOException {
+        String bibtexEntry = "% some comment" + OS.NEWLINE + "@article{test,author={Ed von Test}}";
+        List<BibEntry> entries = new ArrayList<>();
+
+        new BibtexParser(new StringReader(bibtexEntry), importFormatPreferences).parse(entries::add);
+
+        assertEquals(1, entries.size());
+        assertEquals(bibtexEntry, entries.get(0).getParsedSerialization());
+        assertEquals(BibtexParser.singleFromString(bibtexEntry, importFormatPreferences), entries.get(0));
+    }
+
+    @Test
+    public void parseWithListenerSkipsBrokenEntryAndReportsWarning() throws IOException {
+        List<BibEntry> entries = new ArrayList<>();
+        List<String> warnings = new ArrayList<>();
+        BibtexParserListener listener = new BibtexParserListener() {
+
+            @Override
+            public void entryParsed(BibEntry entry) {
+                entries.add(entry);
+            }
+
+            @Override
+            public void warningIssued(String warning) {
+                warnings.add(warning);
+            }
+        };
+
+        new BibtexParser(new StringReader("@article{test,author={Ed von Test}}" + OS.NEWLINE
+                + "@article{broken,author={Ed von Test}, title = { \\ }"), importFormatPreferences).parse(listener);
+
+        assertEquals(1, entries.size());
+        assertEquals(1, warnings.size());
+    }
 }
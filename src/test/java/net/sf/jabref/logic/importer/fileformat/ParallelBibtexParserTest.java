@@ -0,0 +1,163 @@
+package net.sf.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import net.sf.jabref.BibDatabaseContext;
+import net.sf.jabref.Defaults;
+import net.sf.jabref.Globals;
+import net.sf.jabref.logic.exporter.BibtexDatabaseWriter;
+import net.sf.jabref.logic.exporter.SaveException;
+import net.sf.jabref.logic.exporter.SavePreferences;
+import net.sf.jabref.logic.exporter.StringSaveSession;
+import net.sf.jabref.logic.importer.ImportFormatPreferences;
+import net.sf.jabref.logic.importer.ParserResult;
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.model.entry.BibtexString;
+import net.sf.jabref.preferences.JabRefPreferences;
+
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelBibtexParserTest {
+
+    private static ImportFormatPreferences importFormatPreferences;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+
+    @BeforeClass
+    public static void setUp() {
+        Globals.prefs = JabRefPreferences.getInstance();
+        importFormatPreferences = ImportFormatPreferences.fromPreferences(Globals.prefs);
+    }
+
+    private static String createFile() {
+        StringBuilder file = new StringBuilder();
+        file.append("% This file was created with JabRef 3.6.\n% Encoding: UTF-8\n\n");
+        file.append("@Preamble{some text and \\latex}\n\n");
+        file.append("@String{bourdieu = {Bourdieu, Pierre}}\n\n");
+        for (int i = 0; i < 40; i++) {
+            if ((i % 7) == 3) {
+                file.append("% comment in front of entry ").append(i).append('\n');
+            }
+            file.append("@Article{key").append(i).append(",\n");
+            file.append("  author   = bourdieu,\n");
+            if ((i % 5) == 2) {
+                // looks like the end of an entry
+                file.append("  abstract = {An abstract\n}\n\n@Article{fake,\n  title = {in the abstract}\n},\n");
+            }
+            file.append("  title    = {Title ").append(i).append("},\n");
+            file.append("  year     = {").append(2000 + i).append("}\n");
+            file.append("}\n\n");
+            if ((i % 11) == 5) {
+                file.append("@Comment{a plain comment\n}\n\n");
+            }
+            if (i == 20) {
+                file.append("@String{other = {Other}}\n\n@String{bourdieu = {Duplicate}}\n\n");
+            }
+            if (i == 30) {
+                file.append("@Article{broken,\n  title = {no closing brace,\n}\n\n");
+            }
+        }
+        file.append("@Comment{jabref-meta: databaseType:bibtex;}\n\n");
+        file.append("@Comment{jabref-meta: saveOrderConfig:specified;year;false;title;true;author;false;}\n\n");
+        file.append("Some epilog\n");
+        return file.toString();
+    }
+
+    private static String write(ParserResult result) throws SaveException {
+        BibtexDatabaseWriter<StringSaveSession> databaseWriter = new BibtexDatabaseWriter<>(StringSaveSession::new);
+        return databaseWriter.saveDatabase(
+                new BibDatabaseContext(result.getDatabase(), result.getMetaData(), new Defaults()),
+                new SavePreferences()).getStringValue();
+    }
+
+    private static void assertSameResult(ParserResult expected, ParserResult actual) throws SaveException {
+        assertEquals(expected.getDatabase().getEntries(), actual.getDatabase().getEntries());
+        assertEquals(getSerializations(expected), getSerializations(actual));
+        assertEquals(getStringSerializations(expected), getStringSerializations(actual));
+        assertEquals(expected.getDatabase().getPreamble(), actual.getDatabase().getPreamble());
+        assertEquals(expected.getDatabase().getEpilog(), actual.getDatabase().getEpilog());
+        assertEquals(expected.warnings(), actual.warnings());
+        assertEquals(expected.getDuplicateKeys(), actual.getDuplicateKeys());
+        assertEquals(write(expected), write(actual));
+    }
+
+    private static List<String> getSerializations(ParserResult result) {
+        List<String> serializations = new ArrayList<>();
+        for (BibEntry entry : result.getDatabase().getEntries()) {
+            serializations.add(entry.getParsedSerialization());
+        }
+        return serializations;
+    }
+
+    private static List<String> getStringSerializations(ParserResult result) {
+        return result.getDatabase().getStringValues().stream().map(BibtexString::getParsedSerialization).sorted()
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void parseGivesSameResultAsSequentialParser() throws IOException, SaveException {
+        String file = createFile();
+        ParserResult expected = BibtexParser.parse(new StringReader(file), importFormatPreferences);
+
+        for (int partLength : new int[] {1, 50, 300, 1000, file.length()}) {
+            ParserResult actual = new ParallelBibtexParser(importFormatPreferences, partLength).parse(file);
+            assertSameResult(expected, actual);
+        }
+    }
+
+    @Test
+    public void parseWithWindowsLineBreaksGivesSameResultAsSequentialParser() throws IOException, SaveException {
+        String file = createFile().replace("\n", "\r\n");
+        ParserResult expected = BibtexParser.parse(new StringReader(file), importFormatPreferences);
+
+        assertSameResult(expected, new ParallelBibtexParser(importFormatPreferences, 100).parse(file));
+    }
+
+    @Test
+    public void parseReportsLineNumbersOfWholeFile() throws IOException {
+        String file = createFile() + "@Article{corrupted key\n  title = {Title}\n}\n";
+        ParserResult expected = BibtexParser.parse(new StringReader(file), importFormatPreferences);
+
+        assertEquals(expected.warnings(),
+                new ParallelBibtexParser(importFormatPreferences, 100).parse(file).warnings());
+    }
+
+    @Test
+    public void parseWithUnbalancedBraceNearStartGivesSameResultAsSequentialParser()
+            throws IOException, SaveException {
+        StringBuilder file = new StringBuilder("@Article{unbalanced,\n  title = {no closing brace,\n}\n\n");
+        for (int i = 0; i < 2000; i++) {
+            file.append("@Article{key").append(i).append(",\n  title = {Title ").append(i).append("}\n}\n\n");
+        }
+        ParserResult expected = BibtexParser.parse(new StringReader(file.toString()), importFormatPreferences);
+
+        assertSameResult(expected, new ParallelBibtexParser(importFormatPreferences, 100).parse(file));
+    }
+
+    @Test
+    public void parseFileGivesSameResultAsSequentialParser() throws IOException, SaveException {
+        String file = createFile();
+        ParserResult expected = BibtexParser.parse(new StringReader(file), importFormatPreferences);
+        Path path = temporaryFolder.newFile("test.bib").toPath();
+        Files.write(path, file.getBytes(StandardCharsets.UTF_8));
+
+        assertSameResult(expected,
+                new ParallelBibtexParser(importFormatPreferences, 100).parse(path, StandardCharsets.UTF_8));
+        // the file is not kept open, thus it can be replaced by saving
+        Files.delete(path);
+    }
+}
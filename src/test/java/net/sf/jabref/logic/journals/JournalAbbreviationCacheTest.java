@@ -0,0 +1,94 @@
+package net.sf.jabref.logic.journals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JournalAbbreviationCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private JournalAbbreviationCache cache;
+
+
+    @Before
+    public void setUp() throws IOException {
+        cache = new JournalAbbreviationCache(temporaryFolder.getRoot().toPath().resolve("journals.bin"));
+    }
+
+    @Test
+    public void readWithoutCacheFile() {
+        assertEquals(Optional.empty(), cache.read("signature"));
+    }
+
+    @Test
+    public void readWrittenAbbreviations() {
+        List<Abbreviation> abbreviations = Arrays.asList(new Abbreviation("Long Name", "L. N."),
+                new Abbreviation("Zeitschrift für Physik", "Z. Phys."), new Abbreviation("Long Name", "L. Na."));
+        cache.write("signature", abbreviations);
+
+        List<Abbreviation> read = cache.read("signature").get();
+
+        assertEquals(abbreviations, read);
+        assertEquals("L. Na.", read.get(2).getIsoAbbreviation());
+    }
+
+    @Test
+    public void readWithOtherSignature() {
+        cache.write("signature", Arrays.asList(new Abbreviation("Long Name", "L. N.")));
+
+        assertEquals(Optional.empty(), cache.read("other signature"));
+    }
+
+    @Test
+    public void readDamagedFile() throws IOException {
+        Path cacheFile = temporaryFolder.getRoot().toPath().resolve("journals.bin");
+        cache.write("signature", Arrays.asList(new Abbreviation("Long Name", "L. N.")));
+        byte[] content = Files.readAllBytes(cacheFile);
+        // change a character of the abbreviation
+        content[content.length - 10]++;
+        Files.write(cacheFile, content);
+
+        assertEquals(Optional.empty(), cache.read("signature"));
+    }
+
+    @Test
+    public void writeCreatesDirectory() {
+        JournalAbbreviationCache nestedCache = new JournalAbbreviationCache(
+                temporaryFolder.getRoot().toPath().resolve("cache/journals.bin"));
+        nestedCache.write("signature", Arrays.asList(new Abbreviation("Long Name", "L. N.")));
+
+        assertEquals(1, nestedCache.read("signature").get().size());
+    }
+
+    @Test
+    public void loaderReadsChangedJournalListAgain() throws IOException {
+        Path personalList = temporaryFolder.newFile("personal.txt").toPath();
+        Files.write(personalList, Collections.singletonList("Own Journal = O. J."), StandardCharsets.UTF_8);
+        JournalAbbreviationPreferences preferences = new JournalAbbreviationPreferences(Collections.emptyList(),
+                personalList.toString(), false, StandardCharsets.UTF_8);
+
+        assertTrue(new JournalAbbreviationLoader(cache).getRepository(preferences).isKnownName("O. J."));
+
+        Files.write(personalList, Arrays.asList("Own Journal = O. J.", "Other Journal = Oth. J."),
+                StandardCharsets.UTF_8);
+        JournalAbbreviationRepository repository = new JournalAbbreviationLoader(cache).getRepository(preferences);
+
+        assertTrue(repository.isKnownName("O. J."));
+        assertTrue(repository.isKnownName("Oth. J."));
+    }
+}
@@ -1,5 +1,10 @@
 package net.sf.jabref.logic.journals;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -81,4 +86,67 @@ public class JournalAbbreviationRepositoryTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void lookupIgnoresCaseAndWhitespace() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Long Name", "L. N."));
+
+        assertTrue(repository.isKnownName("  long   NAME "));
+        assertEquals("L. N.", repository.getIsoAbbreviation("long\tname").orElse("WRONG"));
+    }
+
+    @Test
+    public void entriesAddedAfterLookupAreFound() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Long Name", "L. N."));
+        assertFalse(repository.isKnownName("Other Name"));
+
+        repository.addEntry(new Abbreviation("Other Name", "O. N."));
+
+        assertTrue(repository.isKnownName("Other Name"));
+        assertEquals(2, repository.size());
+    }
+
+    @Test
+    public void abbreviationsStartingWith() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository(Arrays.asList(
+                new Abbreviation("Journal of Physics", "J. Phys."),
+                new Abbreviation("Journal of Physical Chemistry", "J. Phys. Chem."),
+                new Abbreviation("Journal of Chemistry", "J. Chem.")));
+
+        assertEquals(Arrays.asList("Journal of Physical Chemistry", "Journal of Physics"),
+                getNames(repository.getAbbreviationsStartingWith("journal of phys")));
+        assertEquals(Arrays.asList("Journal of Physical Chemistry", "Journal of Physics"),
+                getNames(repository.getAbbreviationsStartingWith("J. Phys")));
+        assertEquals(Collections.emptyList(), repository.getAbbreviationsStartingWith("Physics"));
+    }
+
+    @Test
+    public void abbreviationsWithinDistance() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository(Arrays.asList(
+                new Abbreviation("Journal of Physics", "J. Phys."),
+                new Abbreviation("Journal of Physical Chemistry", "J. Phys. Chem."),
+                new Abbreviation("Journal of Chemistry", "J. Chem.")));
+
+        assertEquals(Collections.singletonList("Journal of Physics"),
+                getNames(repository.getAbbreviationsWithinDistance("Jornal of Phisics", 2)));
+        assertEquals(Arrays.asList("Journal of Physics", "Journal of Chemistry", "Journal of Physical Chemistry"),
+                getNames(repository.getAbbreviationsWithinDistance("J Phys", 5)));
+        assertEquals(Collections.emptyList(), repository.getAbbreviationsWithinDistance("Nature", 2));
+    }
+
+    @Test
+    public void abbreviationsWithinDistanceOfAbbreviationIgnoringCase() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository(Arrays.asList(
+                new Abbreviation("Journal of Physics", "J. Phys."),
+                new Abbreviation("Journal of Chemistry", "J. Chem.")));
+
+        assertEquals(Collections.singletonList("Journal of Physics"),
+                getNames(repository.getAbbreviationsWithinDistance("j phis", 1)));
+        assertEquals(Collections.emptyList(), repository.getAbbreviationsWithinDistance("j phis", 0));
+    }
+
+    private static List<String> getNames(List<Abbreviation> abbreviations) {
+        return abbreviations.stream().map(Abbreviation::getName).collect(Collectors.toList());
+    }
+}
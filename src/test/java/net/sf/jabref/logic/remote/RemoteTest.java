@@ -4,6 +4,19 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import net.sf.jabref.logic.remote.client.RemoteListenerClient;
 import net.sf.jabref.logic.remote.server.RemoteListenerServerLifecycle;
@@ -55,6 +68,53 @@ public class RemoteTest {
         }
     }
 
+    @Test
+    public void testNonAsciiMessage() throws InterruptedException {
+        final int port = 34567;
+        final String message = "/home/jörg/Literatur/Übersicht 東京.bib";
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+        try (RemoteListenerServerLifecycle server = new RemoteListenerServerLifecycle()) {
+            server.openAndStart(received::add, port);
+            Assert.assertTrue(RemoteListenerClient.sendToActiveJabRefInstance(new String[] {message}, port));
+            Assert.assertEquals(message, received.poll(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testManyClientsSendingManyMessages() throws InterruptedException, ExecutionException {
+        final int port = 34567;
+        final int numberOfClients = 20;
+        final int messagesPerClient = 100;
+        Set<String> received = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        CountDownLatch allReceived = new CountDownLatch(numberOfClients * messagesPerClient);
+
+        try (RemoteListenerServerLifecycle server = new RemoteListenerServerLifecycle()) {
+            server.openAndStart(msg -> {
+                received.add(msg);
+                allReceived.countDown();
+            }, port);
+
+            ExecutorService clients = Executors.newFixedThreadPool(numberOfClients);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int client = 0; client < numberOfClients; client++) {
+                List<String[]> messages = new ArrayList<>();
+                for (int i = 0; i < messagesPerClient; i++) {
+                    messages.add(new String[] {"-importToOpen", "client" + client + "-file" + i + ".ris"});
+                }
+                results.add(clients.submit(() -> RemoteListenerClient.sendToActiveJabRefInstance(messages, port)));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get());
+            }
+            clients.shutdown();
+
+            Assert.assertTrue(allReceived.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals(numberOfClients * messagesPerClient, received.size());
+            Assert.assertTrue(received.contains("-importToOpen\nclient7-file42.ris"));
+        }
+    }
+
     @Test
     public void testPortAlreadyInUse() throws IOException {
         final int port = 34567;
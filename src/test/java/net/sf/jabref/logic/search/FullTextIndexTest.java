@@ -0,0 +1,97 @@
+package net.sf.jabref.logic.search;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import net.sf.jabref.model.database.BibDatabase;
+import net.sf.jabref.model.entry.BibEntry;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class FullTextIndexTest {
+
+    private BibDatabase database;
+    private FullTextIndex index;
+    private BibEntry first;
+    private BibEntry second;
+
+
+    @Before
+    public void setUp() {
+        database = new BibDatabase();
+        index = new FullTextIndex(database);
+
+        first = new BibEntry();
+        first.setField("author", "M{\\\"u}ller, Hans");
+        first.setField("title", "Marine finfish larviculture in Europe");
+        first.setField("year", "2001");
+        database.insertEntry(first);
+
+        second = new BibEntry();
+        second.setField("author", "Smith, John");
+        second.setField("title", "Fresh-water finfish");
+        second.setField("year", "2010");
+        database.insertEntry(second);
+    }
+
+    private List<BibEntry> scan(SearchQuery query) {
+        return database.getEntries().stream().filter(query::isMatch).collect(Collectors.toList());
+    }
+
+    private void assertSameAsScan(String query, boolean caseSensitive) {
+        SearchQuery searchQuery = new SearchQuery(query, caseSensitive, false);
+        assertEquals(scan(searchQuery), index.getMatches(searchQuery));
+    }
+
+    @Test
+    public void plainWordsMatch() {
+        assertEquals(Collections.singletonList(first), index.getMatches(new SearchQuery("marine 2001", false, false)));
+        assertEquals(Arrays.asList(first, second), index.getMatches(new SearchQuery("finfish", false, false)));
+        assertEquals(Collections.emptyList(), index.getMatches(new SearchQuery("marine smith", false, false)));
+    }
+
+    @Test
+    public void substringsAndPrefixesMatch() {
+        assertEquals(Collections.singletonList(first), index.getMatches(new SearchQuery("larvi", false, false)));
+        assertEquals(Collections.singletonList(first), index.getMatches(new SearchQuery("iculture", false, false)));
+        assertEquals(Arrays.asList(first, second), index.getMatches(new SearchQuery("f", false, false)));
+    }
+
+    @Test
+    public void sameResultsAsScan() {
+        for (String query : Arrays.asList("marine", "MARINE", "müller", "muller", "\"finfish larviculture\"",
+                "fresh-water", "smith, john", "-", "20", "", "europe 2001")) {
+            assertSameAsScan(query, false);
+            assertSameAsScan(query, true);
+        }
+    }
+
+    @Test
+    public void indexFollowsChanges() {
+        assertEquals(Collections.singletonList(second), index.getMatches(new SearchQuery("smith", false, false)));
+
+        second.setField("author", "Jones, John");
+        BibEntry third = new BibEntry();
+        third.setField("author", "Smithson, Anna");
+        database.insertEntry(third);
+        database.removeEntry(first);
+
+        assertEquals(Collections.singletonList(third), index.getMatches(new SearchQuery("smith", false, false)));
+        assertEquals(Collections.singletonList(second), index.getMatches(new SearchQuery("jones", false, false)));
+        assertEquals(Collections.emptyList(), index.getMatches(new SearchQuery("marine", false, false)));
+    }
+
+    @Test
+    public void removedEntryIsNotFoundAfterChange() {
+        index.getMatches(new SearchQuery("smith", false, false));
+        database.removeEntry(second);
+        second.setField("title", "Changed after removal");
+
+        assertEquals(Collections.emptyList(), index.getMatches(new SearchQuery("removal", false, false)));
+    }
+}
@@ -0,0 +1,93 @@
+package net.sf.jabref.logic.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import net.sf.jabref.model.database.BibDatabase;
+import net.sf.jabref.model.entry.BibEntry;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SearchExecutorTest {
+
+    private final List<BibEntry> entries = new ArrayList<>();
+
+
+    @Before
+    public void setUp() {
+        for (int i = 0; i < (5 * SearchExecutor.BATCH_SIZE); i++) {
+            BibEntry entry = new BibEntry();
+            entry.setField("author", (i % 3) == 0 ? "Smith, John" : "Jones, Anna");
+            entry.setField("year", Integer.toString(1990 + (i % 25)));
+            entries.add(entry);
+        }
+    }
+
+    private List<BibEntry> scan(SearchQuery query) {
+        return entries.stream().filter(query::isMatch).collect(Collectors.toList());
+    }
+
+    @Test
+    public void returnsSameHitsInSameOrderAsScan() {
+        SearchQuery query = new SearchQuery("author = smith and year < 2000", false, false);
+        assertEquals(scan(query), new SearchExecutor(query).search(entries));
+    }
+
+    @Test
+    public void batchesContainAllHits() {
+        SearchQuery query = new SearchQuery("smith", false, false);
+        List<BibEntry> published = Collections.synchronizedList(new ArrayList<>());
+
+        List<BibEntry> hits = new SearchExecutor(query).search(entries, published::addAll, () -> false);
+
+        assertEquals(scan(query), hits);
+        assertEquals(hits.size(), published.size());
+        assertTrue(published.containsAll(hits));
+    }
+
+    @Test
+    public void cancelledSearchReturnsNoHits() {
+        SearchQuery query = new SearchQuery("smith", false, false);
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        List<BibEntry> hits = new SearchExecutor(query).search(entries, batch -> cancelled.set(true), cancelled::get);
+
+        assertEquals(Collections.emptyList(), hits);
+    }
+
+    @Test
+    public void plainWordsAreAnsweredByIndex() {
+        BibDatabase database = new BibDatabase();
+        entries.forEach(database::insertEntry);
+        SearchQuery query = new SearchQuery("jones", false, false);
+
+        assertEquals(scan(query), new SearchExecutor(query, new FullTextIndex(database)).search(entries));
+    }
+
+    @Test
+    public void hitsOfIndexAreInOrderOfGivenEntries() {
+        BibDatabase database = new BibDatabase();
+        entries.forEach(database::insertEntry);
+        FullTextIndex index = new FullTextIndex(database);
+        SearchQuery query = new SearchQuery("smith", false, false);
+        // index the entries in database order first
+        new SearchExecutor(query, index).search(entries);
+
+        Collections.reverse(entries);
+
+        assertEquals(scan(query), new SearchExecutor(query, index).search(entries));
+    }
+
+    @Test
+    public void invalidQueryReturnsNoHits() {
+        SearchQuery query = new SearchQuery("author = (smith", false, true);
+        assertEquals(Collections.emptyList(), new SearchExecutor(query).search(entries));
+    }
+}
@@ -0,0 +1,78 @@
+package net.sf.jabref.logic.search.rules;
+
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.model.entry.BibtexEntryTypes;
+import net.sf.jabref.model.entry.IdGenerator;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GrammarBasedSearchRuleTest {
+
+    private static BibEntry makeBibtexEntry() {
+        BibEntry entry = new BibEntry(IdGenerator.next(), BibtexEntryTypes.ARTICLE.getName());
+        entry.setField("author", "Smith, John");
+        entry.setField("title", "Marine finfish larviculture in Europe");
+        entry.setField("year", "2010");
+        return entry;
+    }
+
+    private static boolean matches(String query, boolean caseSensitive, boolean regex) {
+        GrammarBasedSearchRule rule = new GrammarBasedSearchRule(caseSensitive, regex);
+        assertTrue(rule.validateSearchStrings(query));
+        return rule.applyRule(query, makeBibtexEntry());
+    }
+
+    @Test
+    public void andExpressionMatches() {
+        assertTrue(matches("author = smith and year == 2010", false, false));
+        assertFalse(matches("author = smith and year == 201", false, false));
+    }
+
+    @Test
+    public void orAndNotExpressionsMatch() {
+        assertTrue(matches("author = jones or title = marine", false, false));
+        assertFalse(matches("not (author = smith)", false, false));
+    }
+
+    @Test
+    public void caseSensitiveSearchRespectsCase() {
+        assertTrue(matches("author = Smith", true, false));
+        assertFalse(matches("author = smith", true, false));
+        assertFalse(matches("Author = Smith", true, false));
+    }
+
+    @Test
+    public void regularExpressionFieldMatchesSeveralFields() {
+        assertTrue(matches("[at][ui]t[hl].* = fin.*sh", false, true));
+        assertFalse(matches("[ay][ue]\\w+ = fin.*sh", false, true));
+    }
+
+    @Test
+    public void doesNotContainMatchesMissingField() {
+        assertTrue(matches("journal != nature", false, false));
+        assertTrue(matches("author != jones", false, false));
+        assertFalse(matches("author != smith", false, false));
+    }
+
+    @Test
+    public void entryTypeMatches() {
+        assertTrue(matches("entrytype = article", false, false));
+        assertFalse(matches("entrytype = book", false, false));
+    }
+
+    @Test
+    public void compiledRuleCanBeAppliedToSeveralEntries() {
+        GrammarBasedSearchRule rule = new GrammarBasedSearchRule(false, false);
+        String query = "year == 2010";
+        rule.validateSearchStrings(query);
+
+        BibEntry other = makeBibtexEntry();
+        other.setField("year", "2011");
+
+        assertTrue(rule.applyRule(query, makeBibtexEntry()));
+        assertFalse(rule.applyRule(query, other));
+    }
+}
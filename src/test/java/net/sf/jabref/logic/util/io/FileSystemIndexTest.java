@@ -0,0 +1,181 @@
+package net.sf.jabref.logic.util.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import net.sf.jabref.logic.util.io.FileSystemIndex.IndexedDirectory;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FileSystemIndexTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path rootDir;
+    private File root;
+
+
+    @Before
+    public void setUp() throws IOException {
+        rootDir = temporaryFolder.getRoot().toPath();
+        root = rootDir.toFile();
+
+        Path pdfs = Files.createDirectory(rootDir.resolve("pdfs"));
+        Path sub = Files.createDirectory(pdfs.resolve("sub"));
+        Files.createFile(rootDir.resolve("HipKro03.pdf"));
+        Files.createFile(pdfs.resolve("HipKro03 - Hello.pdf"));
+        Files.createFile(pdfs.resolve("Other.PDF"));
+        Files.createFile(sub.resolve("HipKro03-sub.pdf"));
+        Files.createFile(sub.resolve("HipKro03.jpg"));
+    }
+
+    private IndexedDirectory getIndex() {
+        return FileSystemIndex.getInstance().getDirectory(root).get();
+    }
+
+    @Test
+    public void nonExistingDirectoryIsSkipped() {
+        assertEquals(Collections.emptyList(), FileSystemIndex.getInstance()
+                .getDirectories(Collections.singletonList(rootDir.resolve("asdfasdf").toFile())));
+    }
+
+    @Test
+    public void getFilesReturnsAllFiles() {
+        assertEquals(5, getIndex().getFiles().size());
+    }
+
+    @Test
+    public void getFilesWithExtension() {
+        assertEquals(
+                new HashSet<>(Arrays.asList(rootDir.resolve("HipKro03.pdf").toFile(),
+                        rootDir.resolve("pdfs/HipKro03 - Hello.pdf").toFile(),
+                        rootDir.resolve("pdfs/Other.PDF").toFile(),
+                        rootDir.resolve("pdfs/sub/HipKro03-sub.pdf").toFile())),
+                new HashSet<>(getIndex().getFilesWithExtension(Collections.singletonList("pdf"))));
+    }
+
+    @Test
+    public void getSubdirectoriesAndFilesIn() {
+        File pdfs = new File(root, "pdfs");
+
+        assertEquals(Collections.singletonList(pdfs), getIndex().getSubdirectories(root));
+        assertEquals(Arrays.asList(new File(pdfs, "HipKro03 - Hello.pdf"), new File(pdfs, "Other.PDF")),
+                getIndex().getFilesIn(pdfs));
+    }
+
+    @Test
+    public void getFilesBelowIgnoresFilesInDirectoryItself() {
+        assertEquals(
+                new HashSet<>(Arrays.asList(new File(root, "pdfs/HipKro03 - Hello.pdf"),
+                        new File(root, "pdfs/sub/HipKro03-sub.pdf"), new File(root, "pdfs/sub/HipKro03.jpg"))),
+                new HashSet<>(getIndex().getFilesBelow(root, "hipkro03")));
+    }
+
+    @Test
+    public void getFilesBelowSubdirectory() {
+        File pdfs = new File(root, "pdfs");
+
+        assertEquals(Collections.singletonList(new File(pdfs, "sub/HipKro03-sub.pdf")),
+                getIndex().getFilesBelow(pdfs, "-sub"));
+        assertEquals(2, getIndex().getFilesBelow(pdfs, "").size());
+    }
+
+    @Test
+    public void containsFileAndDirectory() {
+        assertTrue(getIndex().containsFile(new File(root, "pdfs/sub/HipKro03.jpg")));
+        assertFalse(getIndex().containsFile(new File(root, "pdfs/sub/HipKro03.png")));
+        assertFalse(getIndex().containsFile(new File(root, "pdfs")));
+        assertTrue(getIndex().containsDirectory(new File(root, "pdfs/sub")));
+        assertFalse(getIndex().containsDirectory(new File(root, "pdfs/sub/HipKro03.jpg")));
+    }
+
+    @Test
+    public void createdFileIsFoundAfterWatchEvent() throws IOException, InterruptedException {
+        assertEquals(5, getIndex().getFiles().size());
+
+        Files.createFile(rootDir.resolve("pdfs/sub/new.pdf"));
+
+        // the watch service reports the change asynchronously
+        for (int i = 0; (i < 100) && (getIndex().getFiles().size() < 6); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(getIndex().containsFile(new File(root, "pdfs/sub/new.pdf")));
+    }
+
+    @Test
+    public void changedDirectoryIsWalkedAgainWithoutWatchEvent() throws IOException {
+        // settled modification times, as on a network mount changed by another machine
+        FileTime lastHour = FileTime.fromMillis(System.currentTimeMillis() - 3600000);
+        for (Path directory : Arrays.asList(rootDir, rootDir.resolve("pdfs"), rootDir.resolve("pdfs/sub"))) {
+            Files.setLastModifiedTime(directory, lastHour);
+        }
+        FileSystemIndex index = new FileSystemIndex() {
+
+            @Override
+            void processWatchEvents() {
+                // the changes are not reported
+            }
+        };
+        assertEquals(5, index.getDirectory(root).get().getFiles().size());
+
+        Files.createFile(rootDir.resolve("pdfs/sub/new.pdf"));
+        Files.setLastModifiedTime(rootDir.resolve("pdfs/sub"), FileTime.fromMillis(lastHour.toMillis() + 1000));
+
+        assertEquals(6, index.getDirectory(root).get().getFiles().size());
+        index.shutdown();
+    }
+
+    @Test
+    public void containsFileLooksUpFilesMissingInIndex() throws IOException {
+        IndexedDirectory index = getIndex();
+
+        Files.createFile(rootDir.resolve("pdfs/sub/new.pdf"));
+
+        assertTrue(index.containsFile(new File(root, "pdfs/sub/new.pdf")));
+        assertFalse(index.containsFile(new File(root, "pdfs/sub")));
+    }
+
+    @Test
+    public void followsLinkToDirectory() throws IOException {
+        Path other = temporaryFolder.newFolder("other").toPath();
+        Files.createFile(other.resolve("linked.pdf"));
+        Files.createSymbolicLink(rootDir.resolve("pdfs/link"), other);
+
+        assertTrue(getIndex().getFilesWithExtension(Collections.singletonList("pdf"))
+                .contains(new File(root, "pdfs/link/linked.pdf")));
+    }
+
+    @Test
+    public void linkToParentIsNotFollowed() throws IOException {
+        Files.createSymbolicLink(rootDir.resolve("pdfs/sub/loop"), rootDir.resolve("pdfs"));
+
+        // the files below pdfs are listed once
+        assertEquals(5, getIndex().getFiles().size());
+        assertFalse(getIndex().containsDirectory(new File(root, "pdfs/sub/loop/sub")));
+    }
+
+    @Test
+    public void directoriesAreWalkedAfterShutdown() throws IOException {
+        FileSystemIndex index = new FileSystemIndex();
+        assertEquals(5, index.getDirectory(root).get().getFiles().size());
+
+        index.shutdown();
+        Files.createFile(rootDir.resolve("pdfs/new.pdf"));
+
+        assertEquals(6, index.getDirectory(root).get().getFiles().size());
+    }
+}
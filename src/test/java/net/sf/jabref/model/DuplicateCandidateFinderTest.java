@@ -0,0 +1,97 @@
+package net.sf.jabref.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import net.sf.jabref.model.database.BibDatabaseMode;
+import net.sf.jabref.model.entry.BibEntry;
+import net.sf.jabref.model.entry.BibtexEntryTypes;
+import net.sf.jabref.model.entry.IdGenerator;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DuplicateCandidateFinderTest {
+
+    private static BibEntry createArticle(String author, String title, String year) {
+        BibEntry entry = new BibEntry(IdGenerator.next(), BibtexEntryTypes.ARTICLE.getName());
+        entry.setField("author", author);
+        entry.setField("title", title);
+        entry.setField("year", year);
+        return entry;
+    }
+
+    @Test
+    public void sameFirstAuthorAndYearIsCandidate() {
+        BibEntry one = createArticle("Billy Bob", "A title", "2005");
+        BibEntry two = createArticle("Bob, Billy and James Joyce", "Something completely different", "2005");
+
+        assertEquals(Collections.singletonList(Arrays.asList(one, two)),
+                new DuplicateCandidateFinder(Arrays.asList(one, two)).getCandidatePairs());
+    }
+
+    @Test
+    public void similarTitleIsCandidate() {
+        BibEntry one = createArticle("Billy Bob", "Efficient duplicate detection in large bibliographies", "2005");
+        BibEntry two = createArticle("James Joyce", "Efficient Duplicate Detection in Large {B}ibliographies",
+                "2006");
+
+        assertEquals(Collections.singletonList(Arrays.asList(one, two)),
+                new DuplicateCandidateFinder(Arrays.asList(one, two)).getCandidatePairs());
+    }
+
+    @Test
+    public void sameDoiIsCandidate() {
+        BibEntry one = new BibEntry(IdGenerator.next(), BibtexEntryTypes.ARTICLE.getName());
+        one.setField("doi", "10.1000/182");
+        one.setField("title", "First");
+        BibEntry two = new BibEntry(IdGenerator.next(), BibtexEntryTypes.ARTICLE.getName());
+        two.setField("doi", "http://dx.doi.org/10.1000/182");
+        two.setField("title", "Second");
+
+        assertEquals(1, new DuplicateCandidateFinder(Arrays.asList(one, two)).getCandidatePairs().size());
+    }
+
+    @Test
+    public void unrelatedEntriesAreNoCandidates() {
+        BibEntry one = createArticle("Billy Bob", "A title", "2005");
+        BibEntry two = createArticle("James Joyce", "Ulysses", "1922");
+
+        assertTrue(new DuplicateCandidateFinder(Arrays.asList(one, two)).getCandidatePairs().isEmpty());
+    }
+
+    @Test
+    public void differentTypesAreNoCandidates() {
+        BibEntry one = createArticle("Billy Bob", "A title", "2005");
+        BibEntry two = createArticle("Billy Bob", "A title", "2005");
+        two.setType(BibtexEntryTypes.BOOK);
+
+        assertTrue(new DuplicateCandidateFinder(Arrays.asList(one, two)).getCandidatePairs().isEmpty());
+    }
+
+    @Test
+    public void findDuplicatesReturnsSameResultAsExhaustiveSearch() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            entries.add(createArticle("Author" + (i % 7) + " Lastname" + (i % 5), "Title number " + (i % 4),
+                    Integer.toString(2000 + (i % 3))));
+        }
+
+        List<List<BibEntry>> exhaustive = new ArrayList<>();
+        for (int i = 0; i < (entries.size() - 1); i++) {
+            for (int j = i + 1; j < entries.size(); j++) {
+                if (DuplicateCheck.isDuplicate(entries.get(i), entries.get(j), BibDatabaseMode.BIBTEX)) {
+                    exhaustive.add(Arrays.asList(entries.get(i), entries.get(j)));
+                }
+            }
+        }
+
+        DuplicateCandidateFinder finder = new DuplicateCandidateFinder(entries);
+        assertEquals(exhaustive, finder.findDuplicates(BibDatabaseMode.BIBTEX, false));
+        assertEquals(exhaustive, finder.findDuplicates(BibDatabaseMode.BIBTEX, true));
+    }
+}
@@ -1,6 +1,8 @@
 package net.sf.jabref.model.database;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import net.sf.jabref.model.entry.BibEntry;
@@ -150,6 +152,29 @@ public class BibDatabaseTest {
         assertEquals(expectedEntry, actualEntry);
     }
 
+    @Test
+    public void insertEntriesPostsAddedEntriesEvent() {
+        List<BibEntry> expectedEntries = Arrays.asList(new BibEntry(), new BibEntry());
+        TestEventListener tel = new TestEventListener();
+        database.registerListener(tel);
+        database.insertEntries(expectedEntries);
+        assertEquals(expectedEntries, tel.getBibEntries());
+        assertEquals(expectedEntries.get(1), tel.getBibEntry());
+        assertEquals(expectedEntries, database.getEntries());
+    }
+
+    @Test
+    public void insertEntriesWithUsedIdInsertsNoEntry() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        thrown.expect(KeyCollisionException.class);
+        try {
+            database.insertEntries(Arrays.asList(new BibEntry(), entry));
+        } finally {
+            assertEquals(Collections.singletonList(entry), database.getEntries());
+        }
+    }
+
     @Test
     public void removeEntryPostsRemovedEntryEvent() {
         BibEntry expectedEntry = new BibEntry();
@@ -248,6 +273,69 @@ public class BibDatabaseTest {
         assertEquals(database.getNumberOfKeyOccurrences("AAA"), 1);
     }
 
+    @Test
+    public void getEntryByKeyFindsInsertedEntry() {
+        BibEntry entry = new BibEntry();
+        entry.setCiteKey("AAA");
+        database.insertEntry(entry);
+        assertEquals(Optional.of(entry), database.getEntryByKey("AAA"));
+        assertEquals(Optional.empty(), database.getEntryByKey("BBB"));
+    }
+
+    @Test
+    public void getEntryByKeyFollowsKeyChange() {
+        BibEntry entry = new BibEntry();
+        entry.setCiteKey("AAA");
+        database.insertEntry(entry);
+        entry.setCiteKey("BBB");
+        assertEquals(Optional.empty(), database.getEntryByKey("AAA"));
+        assertEquals(Optional.of(entry), database.getEntryByKey("BBB"));
+    }
+
+    @Test
+    public void getEntryByKeyIgnoresRemovedEntry() {
+        BibEntry entry = new BibEntry();
+        entry.setCiteKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        entry.setCiteKey("BBB");
+        assertEquals(Optional.empty(), database.getEntryByKey("AAA"));
+        assertEquals(Optional.empty(), database.getEntryByKey("BBB"));
+    }
+
+    @Test
+    public void getEntriesByKeyReturnsAllEntriesWithKey() {
+        BibEntry entry1 = new BibEntry();
+        entry1.setCiteKey("AAA");
+        database.insertEntry(entry1);
+        BibEntry entry2 = new BibEntry();
+        entry2.setCiteKey("BBB");
+        database.insertEntry(entry2);
+        database.setCiteKeyForEntry(entry2, "AAA");
+        assertEquals(Arrays.asList(entry1, entry2), database.getEntriesByKey("AAA"));
+        assertEquals(Collections.emptyList(), database.getEntriesByKey("BBB"));
+    }
+
+    @Test
+    public void getEntryByKeyReturnsFirstEntryOfDatabaseWithDuplicatedKey() {
+        BibEntry entry1 = new BibEntry();
+        entry1.setCiteKey("BBB");
+        database.insertEntry(entry1);
+        BibEntry entry2 = new BibEntry();
+        entry2.setCiteKey("AAA");
+        database.insertEntry(entry2);
+        BibEntry entry3 = new BibEntry();
+        entry3.setCiteKey("CCC");
+        database.insertEntry(entry3);
+
+        // entry1 gets the key after entry2 and entry3, but it comes first in the database
+        database.setCiteKeyForEntry(entry3, "AAA");
+        database.setCiteKeyForEntry(entry1, "AAA");
+
+        assertEquals(Optional.of(entry1), database.getEntryByKey("AAA"));
+        assertEquals(Arrays.asList(entry1, entry2, entry3), database.getEntriesByKey("AAA"));
+    }
+
     @Test
     public void circularStringResolving() {
         BibtexString string = new BibtexString(IdGenerator.next(), "AAA", "#BBB#");
@@ -65,6 +65,30 @@ public class KeyChangeListenerTest {
         assertEquals(Optional.of("Entry1,Entry2,Banana"), entry3.getFieldOptional("related"));
     }
 
+    @Test
+    public void testLinksChangedAfterChangingKeysAtOnce() {
+        db.changeKeys(() -> {
+            entry4.setCiteKey("Banana");
+            entry1.setCiteKey("Apple");
+            assertEquals(Optional.of("Entry4"), entry1.getFieldOptional("crossref"));
+        });
+
+        assertEquals(Optional.of("Banana"), entry1.getFieldOptional("crossref"));
+        assertEquals(Optional.of("Apple,Entry3"), entry2.getFieldOptional("related"));
+        assertEquals(Optional.of("Apple,Entry2,Entry3"), entry3.getFieldOptional("related"));
+    }
+
+    @Test
+    public void testSwappedKeysAtOnce() {
+        db.changeKeys(() -> {
+            entry4.setCiteKey("Entry1");
+            entry1.setCiteKey("Entry4");
+        });
+
+        assertEquals(Optional.of("Entry1"), entry1.getFieldOptional("crossref"));
+        assertEquals(Optional.of("Entry4,Entry3"), entry2.getFieldOptional("related"));
+    }
+
     @Test
     public void testCrossrefRemoved() {
         entry4.clearField(BibEntry.KEY_FIELD);
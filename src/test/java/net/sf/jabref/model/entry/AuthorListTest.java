@@ -1,5 +1,6 @@
 package net.sf.jabref.model.entry;
 
+import com.google.common.cache.CacheStats;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -35,6 +36,18 @@ public class AuthorListTest {
         Assert.assertFalse(al.equals(AuthorList.parse("Smith")));
     }
 
+    @Test
+    public void testParseCountsCacheHitsAndMisses() {
+        CacheStats before = AuthorList.getCacheStats();
+
+        AuthorList authorList = AuthorList.parse("Cache, Tested and Misses, Counted");
+        Assert.assertSame(authorList, AuthorList.parse("Cache, Tested and Misses, Counted"));
+
+        CacheStats stats = AuthorList.getCacheStats().minus(before);
+        Assert.assertEquals(1, stats.missCount());
+        Assert.assertEquals(1, stats.hitCount());
+    }
+
     @SuppressWarnings("unused")
 	@Test
     public void testFixAuthorFirstNameFirstCommas() {
@@ -36,4 +36,26 @@ public class BibEntryTest {
 
         Assert.assertEquals(Optional.of("value"), entry.getFieldOptional("tEsT"));
     }
+
+    @Test
+    public void modificationCountIsIncrementedByChanges() {
+        int initialCount = entry.getModificationCount();
+
+        entry.setField("title", "value");
+        entry.setType("book");
+        entry.clearField("title");
+
+        Assert.assertEquals(initialCount + 3, entry.getModificationCount());
+    }
+
+    @Test
+    public void modificationCountIsNotIncrementedWithoutChange() {
+        entry.setField("title", "value");
+        int count = entry.getModificationCount();
+
+        entry.setField("title", "value");
+        entry.clearField("author");
+
+        Assert.assertEquals(count, entry.getModificationCount());
+    }
 }
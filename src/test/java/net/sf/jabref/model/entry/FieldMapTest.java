@@ -0,0 +1,111 @@
+package net.sf.jabref.model.entry;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class FieldMapTest {
+
+    @Test
+    public void putAndGetManyFields() {
+        FieldMap fields = new FieldMap();
+        for (int i = 0; i < 20; i++) {
+            assertNull(fields.put("field" + i, "value" + i));
+        }
+
+        assertEquals(20, fields.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals("value" + i, fields.get("field" + i));
+        }
+        assertNull(fields.get("field20"));
+    }
+
+    @Test
+    public void putReplacesValue() {
+        FieldMap fields = new FieldMap();
+        fields.put("title", "old");
+
+        assertEquals("old", fields.put("title", "new"));
+        assertEquals("new", fields.get("title"));
+        assertEquals(1, fields.size());
+    }
+
+    @Test
+    public void removeKeepsOtherFields() {
+        FieldMap fields = new FieldMap();
+        fields.put("author", "Author");
+        fields.put("title", "Title");
+        fields.put("year", "2016");
+
+        assertEquals("Title", fields.remove("title"));
+        assertNull(fields.remove("title"));
+
+        assertFalse(fields.containsKey("title"));
+        assertEquals(Arrays.asList("author", "year"), Arrays.asList(fields.keySet().toArray()));
+    }
+
+    @Test
+    public void fieldNamesAreInterned() {
+        FieldMap fields = new FieldMap();
+        fields.put(new String("title"), "Title");
+
+        assertSame(FieldName.TITLE, fields.keySet().iterator().next());
+    }
+
+    @Test
+    public void equalsAndHashCodeAsHashMap() {
+        Map<String, String> expected = new HashMap<>();
+        expected.put("author", "Author");
+        expected.put("title", "Title");
+
+        FieldMap fields = new FieldMap(expected);
+
+        assertEquals(expected, fields);
+        assertEquals(fields, expected);
+        assertEquals(expected.hashCode(), fields.hashCode());
+    }
+
+    @Test
+    public void changeValuesWhileIterating() {
+        FieldMap fields = new FieldMap();
+        fields.put("author", "Author");
+        fields.put("title", "Title");
+
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            fields.put(field.getKey(), field.getValue() + "!");
+        }
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            field.setValue(field.getValue() + "?");
+        }
+
+        assertEquals("Author!?", fields.get("author"));
+        assertEquals("Title!?", fields.get("title"));
+    }
+
+    @Test
+    public void removeWhileIterating() {
+        FieldMap fields = new FieldMap();
+        fields.put("author", "Author");
+        fields.put("title", "Title");
+        fields.put("year", "2016");
+
+        Iterator<Map.Entry<String, String>> iterator = fields.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (!"title".equals(iterator.next().getKey())) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(1, fields.size());
+        assertTrue(fields.containsKey("title"));
+    }
+}
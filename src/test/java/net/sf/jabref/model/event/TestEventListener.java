@@ -1,5 +1,7 @@
 package net.sf.jabref.model.event;
 
+import java.util.List;
+
 import net.sf.jabref.model.entry.BibEntry;
 
 import com.google.common.eventbus.Subscribe;
@@ -7,6 +9,7 @@ import com.google.common.eventbus.Subscribe;
 public class TestEventListener {
 
     private BibEntry bibEntry;
+    private List<BibEntry> bibEntries;
 
 
     @Subscribe
@@ -14,6 +17,11 @@ public class TestEventListener {
         this.bibEntry = event.getBibEntry();
     }
 
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        this.bibEntries = event.getBibEntries();
+    }
+
     @Subscribe
     public void listen(EntryRemovedEvent event) {
         this.bibEntry = event.getBibEntry();
@@ -28,4 +36,8 @@ public class TestEventListener {
         return this.bibEntry;
     }
 
+    public List<BibEntry> getBibEntries() {
+        return this.bibEntries;
+    }
+
 }
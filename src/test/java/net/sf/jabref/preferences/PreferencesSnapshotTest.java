@@ -0,0 +1,79 @@
+package net.sf.jabref.preferences;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PreferencesSnapshotTest {
+
+    private final Map<String, String> storedValues = new HashMap<>();
+    private final Map<String, Object> defaults = new HashMap<>();
+
+
+    @Before
+    public void setUp() {
+        defaults.put("string", "default");
+        defaults.put("boolean", true);
+        defaults.put("int", 42);
+        defaults.put("list", "a;b");
+    }
+
+    @Test
+    public void getReturnsDefaultValueIfNotStored() {
+        PreferencesSnapshot snapshot = new PreferencesSnapshot(storedValues, defaults);
+
+        assertEquals("default", snapshot.get("string"));
+        assertTrue(snapshot.getBoolean("boolean"));
+        assertEquals(42, snapshot.getInt("int"));
+        assertEquals(Arrays.asList("a", "b"), snapshot.getStringList("list"));
+    }
+
+    @Test
+    public void getReturnsStoredValue() {
+        storedValues.put("string", "stored");
+        storedValues.put("boolean", "FALSE");
+        storedValues.put("int", "7");
+        storedValues.put("list", "c\\;d;e");
+        PreferencesSnapshot snapshot = new PreferencesSnapshot(storedValues, defaults);
+
+        assertEquals("stored", snapshot.get("string"));
+        assertFalse(snapshot.getBoolean("boolean"));
+        assertEquals(7, snapshot.getInt("int"));
+        assertEquals(Arrays.asList("c;d", "e"), snapshot.getStringList("list"));
+    }
+
+    @Test
+    public void invalidStoredValueFallsBackToDefaultValue() {
+        storedValues.put("boolean", "yes");
+        storedValues.put("int", "many");
+        PreferencesSnapshot snapshot = new PreferencesSnapshot(storedValues, defaults);
+
+        assertTrue(snapshot.getBoolean("boolean"));
+        assertEquals(42, snapshot.getInt("int"));
+    }
+
+    @Test
+    public void getStringListOfMissingKeyIsEmpty() {
+        assertEquals(Collections.emptyList(),
+                new PreferencesSnapshot(storedValues, defaults).getStringList("missing"));
+    }
+
+    @Test
+    public void laterChangesAreNotVisible() {
+        PreferencesSnapshot snapshot = new PreferencesSnapshot(storedValues, defaults);
+
+        storedValues.put("string", "stored");
+        defaults.put("int", 0);
+
+        assertEquals("default", snapshot.get("string"));
+        assertEquals(42, snapshot.getInt("int"));
+    }
+}